@@ -1,5 +1,6 @@
 package store.onuljang.shared.auth.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -15,6 +16,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import store.onuljang.shared.config.ConcurrencyLimitConfigDto;
+import store.onuljang.shared.limiter.ConcurrencyLimitFilter;
+import store.onuljang.shared.limiter.ConcurrencyLimiterRegistry;
 import store.onuljang.shared.user.event.UserLogFilter;
 
 @Configuration
@@ -23,15 +27,19 @@ import store.onuljang.shared.user.event.UserLogFilter;
 public class UserSecurityConfig {
     JwtUtil jwtUtil;
     ApplicationEventPublisher eventPublisher;
+    ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    ConcurrencyLimitConfigDto concurrencyLimitConfig;
+    ObjectMapper objectMapper;
 
     @Bean
     @Order(2)
     SecurityFilterChain apiChain(HttpSecurity http) throws Exception {
         http
-            .securityMatcher("/api/auth/**", "/api/store/auth/**", "/api/login", "/api/refresh", "/api/health", "/api/time")
+            .securityMatcher("/api/auth/**", "/api/store/auth/**", "/api/store/products/stream", "/api/login", "/api/refresh",
+                "/api/health", "/api/time")
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(
-                    "/api/health", "/api/time", "/api/login", "/api/refresh"
+                    "/api/health", "/api/time", "/api/login", "/api/refresh", "/api/store/products/stream"
                 ).permitAll()
                 .anyRequest().authenticated()
             )
@@ -41,6 +49,8 @@ public class UserSecurityConfig {
             )
             .addFilterBefore(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
             .addFilterAfter(new UserLogFilter(eventPublisher, jwtUtil), JwtFilter.class)
+            .addFilterAfter(new ConcurrencyLimitFilter(concurrencyLimiterRegistry, concurrencyLimitConfig, objectMapper),
+                UserLogFilter.class)
             .headers(headers -> headers
                 .frameOptions(frame -> frame.deny())
                 .contentTypeOptions(contentType -> {})
@@ -0,0 +1,75 @@
+package store.onuljang.shared.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import store.onuljang.shared.config.BulkheadConfigDto;
+import store.onuljang.shared.util.OverloadResponseUtil;
+
+import java.io.IOException;
+
+/**
+ * 경로 묶음(고객/관리자/결제 콜백)별로 톰캣 스레드를 동시에 쓸 수 있는 수를 제한한다.
+ *
+ * 필터 체인(인증 포함)과 컨트롤러는 그대로 톰캣 스레드에서 실행하고, 묶음 한도를 넘는 요청만 바로 503 + Retry-After 로 돌려보낸다.
+ * 고객 요청이 몰려도 고객 묶음 한도만큼만 톰캣 스레드를 차지하므로 관리자와 결제 콜백은 남은 스레드로 처리된다.
+ * 연결을 오래 붙잡는 SSE 경로와 헬스체크/로그인은 제한하지 않는다. SSE 는 Accept 헤더가 아니라 경로로만 가린다.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class BulkheadFilter extends OncePerRequestFilter {
+    Bulkheads bulkheads;
+    BulkheadConfigDto bulkheadConfig;
+    ObjectMapper objectMapper;
+    AntPathMatcher matcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!bulkheadConfig.isEnabled()) {
+            return true;
+        }
+
+        return groupOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws IOException, ServletException {
+        BulkheadGroup group = groupOf(req.getRequestURI());
+        if (!bulkheads.tryAcquire(group)) {
+            OverloadResponseUtil.reject(res, objectMapper, bulkheadConfig.getRetryAfterSeconds());
+            return;
+        }
+
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            bulkheads.release(group);
+        }
+    }
+
+    private BulkheadGroup groupOf(String uri) {
+        if (matcher.match("/api/admin/**/stream", uri) || matcher.match("/api/store/products/stream", uri)) {
+            return null;
+        }
+        if (matcher.match("/api/store/auth/deliveries/approve", uri)
+                || matcher.match("/api/store/auth/deliveries/cancel", uri)
+                || matcher.match("/api/store/auth/deliveries/fail", uri)) {
+            return BulkheadGroup.PAYMENT_CALLBACK;
+        }
+        if (matcher.match("/api/admin/**", uri)) {
+            return BulkheadGroup.ADMIN;
+        }
+        if (matcher.match("/api/store/**", uri) || matcher.match("/api/auth/**", uri)) {
+            return BulkheadGroup.CUSTOMER;
+        }
+        return null;
+    }
+}
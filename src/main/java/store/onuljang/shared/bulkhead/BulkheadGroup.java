@@ -0,0 +1,15 @@
+package store.onuljang.shared.bulkhead;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public enum BulkheadGroup {
+    CUSTOMER("customer"),
+    ADMIN("admin"),
+    PAYMENT_CALLBACK("payment-callback");
+
+    private final String tag;
+}
@@ -0,0 +1,66 @@
+package store.onuljang.shared.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import store.onuljang.shared.config.BulkheadConfigDto;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 경로 묶음별 동시 처리 한도.
+ *
+ * 묶음마다 톰캣 스레드를 쓸 수 있는 수를 따로 두어, 한 묶음이 몰려 한도에 닿아도 나머지 톰캣 스레드로 다른 묶음의 요청을 바로 처리한다.
+ * 한도를 넘는 요청은 톰캣 스레드를 붙잡고 기다리지 않도록 바로 거절한다.
+ * 묶음 한도의 합은 톰캣 최대 스레드 수(server.tomcat.threads.max, 기본 200)보다 작게 둔다.
+ *
+ *   - bulkhead.limit{group} : 동시 처리 한도
+ *   - bulkhead.active{group} : 처리 중인 요청 수
+ *   - bulkhead.rejected{group} : 한도를 넘어 거절한 요청 수
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class Bulkheads {
+    Map<BulkheadGroup, Semaphore> permits = new EnumMap<>(BulkheadGroup.class);
+    Map<BulkheadGroup, Counter> rejectedCounters = new EnumMap<>(BulkheadGroup.class);
+
+    public Bulkheads(BulkheadConfigDto bulkheadConfig, MeterRegistry meterRegistry) {
+        register(BulkheadGroup.CUSTOMER, bulkheadConfig.getCustomerMaxConcurrent(), meterRegistry);
+        register(BulkheadGroup.ADMIN, bulkheadConfig.getAdminMaxConcurrent(), meterRegistry);
+        register(BulkheadGroup.PAYMENT_CALLBACK, bulkheadConfig.getPaymentCallbackMaxConcurrent(), meterRegistry);
+    }
+
+    private void register(BulkheadGroup group, int limit, MeterRegistry meterRegistry) {
+        Semaphore semaphore = new Semaphore(limit);
+        permits.put(group, semaphore);
+
+        Gauge.builder("bulkhead.limit", () -> limit)
+            .tag("group", group.getTag())
+            .register(meterRegistry);
+        Gauge.builder("bulkhead.active", semaphore, s -> limit - s.availablePermits())
+            .tag("group", group.getTag())
+            .register(meterRegistry);
+        rejectedCounters.put(group, meterRegistry.counter("bulkhead.rejected", "group", group.getTag()));
+    }
+
+    /**
+     * 한도 안이면 자리를 잡고 true, 한도에 닿았으면 기다리지 않고 false.
+     * true 를 받으면 처리가 끝난 뒤 {@link #release(BulkheadGroup)} 를 반드시 호출한다.
+     */
+    public boolean tryAcquire(BulkheadGroup group) {
+        if (permits.get(group).tryAcquire()) {
+            return true;
+        }
+        rejectedCounters.get(group).increment();
+        return false;
+    }
+
+    public void release(BulkheadGroup group) {
+        permits.get(group).release();
+    }
+}
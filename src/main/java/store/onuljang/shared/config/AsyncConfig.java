@@ -4,6 +4,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import store.onuljang.shop.reservation.config.AggregationConfigDto;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -41,4 +42,19 @@ public class AsyncConfig {
 
         return ex;
     }
+
+    // 집계 재구성: 날짜별 작업을 동시에 PARALLELISM 개까지만 실행 (작업 하나가 DB 커넥션 하나를 쓴다)
+    @Bean(name = "aggRebuildExecutor")
+    public Executor aggRebuildExecutor(AggregationConfigDto aggregationConfig) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setCorePoolSize(aggregationConfig.getRebuildParallelism());
+        ex.setMaxPoolSize(aggregationConfig.getRebuildParallelism());
+        ex.setQueueCapacity(aggregationConfig.getRebuildMaxDays());
+        ex.setThreadNamePrefix("agg-rebuild-");
+        ex.setWaitForTasksToCompleteOnShutdown(true);
+        ex.setAwaitTerminationSeconds(30);
+        ex.initialize();
+
+        return ex;
+    }
 }
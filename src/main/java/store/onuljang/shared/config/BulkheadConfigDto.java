@@ -0,0 +1,25 @@
+package store.onuljang.shared.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class BulkheadConfigDto {
+    @Value("${BULKHEAD.ENABLED:true}")
+    boolean enabled;
+
+    // 묶음 한도의 합은 톰캣 최대 스레드 수보다 작아야 포화된 묶음이 다른 묶음의 스레드를 뺏지 않는다
+    @Value("${BULKHEAD.CUSTOMER.MAX_CONCURRENT:150}")
+    int customerMaxConcurrent;
+
+    @Value("${BULKHEAD.ADMIN.MAX_CONCURRENT:30}")
+    int adminMaxConcurrent;
+
+    @Value("${BULKHEAD.PAYMENT_CALLBACK.MAX_CONCURRENT:10}")
+    int paymentCallbackMaxConcurrent;
+
+    @Value("${BULKHEAD.RETRY_AFTER_SECONDS:1}")
+    int retryAfterSeconds;
+}
@@ -0,0 +1,24 @@
+package store.onuljang.shared.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import store.onuljang.shared.bulkhead.BulkheadFilter;
+import store.onuljang.shared.bulkhead.Bulkheads;
+
+@Configuration
+public class BulkheadFilterConfig {
+
+    // 인증 필터 체인(-100)보다 먼저 자리를 잡아야 인증에 쓰는 스레드까지 묶음 한도에 들어간다
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(Bulkheads bulkheads,
+            BulkheadConfigDto bulkheadConfig, ObjectMapper objectMapper) {
+        FilterRegistrationBean<BulkheadFilter> registration =
+            new FilterRegistrationBean<>(new BulkheadFilter(bulkheads, bulkheadConfig, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
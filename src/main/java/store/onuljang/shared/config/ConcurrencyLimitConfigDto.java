@@ -0,0 +1,40 @@
+package store.onuljang.shared.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class ConcurrencyLimitConfigDto {
+    @Value("${CONCURRENCY_LIMIT.ENABLED:true}")
+    boolean enabled;
+
+    @Value("${CONCURRENCY_LIMIT.INITIAL_LIMIT:20}")
+    int initialLimit;
+
+    @Value("${CONCURRENCY_LIMIT.MIN_LIMIT:4}")
+    int minLimit;
+
+    // 커넥션 풀보다 훨씬 크게 두면 줄어들기 전까지 락 대기가 그대로 쌓인다
+    @Value("${CONCURRENCY_LIMIT.MAX_LIMIT:100}")
+    int maxLimit;
+
+    // 짧은 구간 응답시간이 긴 구간의 몇 배까지 늘어나도 한도를 줄이지 않을지
+    @Value("${CONCURRENCY_LIMIT.TOLERANCE:1.5}")
+    double tolerance;
+
+    // 새 한도를 얼마나 빨리 반영할지 (0 ~ 1)
+    @Value("${CONCURRENCY_LIMIT.SMOOTHING:0.2}")
+    double smoothing;
+
+    // 응답시간 이동평균에 쓰는 표본 수
+    @Value("${CONCURRENCY_LIMIT.SHORT_WINDOW:10}")
+    int shortWindow;
+
+    @Value("${CONCURRENCY_LIMIT.LONG_WINDOW:600}")
+    int longWindow;
+
+    @Value("${CONCURRENCY_LIMIT.RETRY_AFTER_SECONDS:1}")
+    int retryAfterSeconds;
+}
@@ -0,0 +1,20 @@
+package store.onuljang.shared.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import store.onuljang.shared.util.DisplayCodeGenerator;
+
+/**
+ * 표시 코드 노드 id 설정. 여러 인스턴스를 띄울 때는 인스턴스마다 다른 값(0 ~ 30)을 지정해야 한다.
+ */
+@Configuration
+public class DisplayCodeConfig {
+    @Value("${DISPLAY_CODE.NODE_ID:0}")
+    int nodeId;
+
+    @PostConstruct
+    void configure() {
+        DisplayCodeGenerator.configureNodeId(nodeId);
+    }
+}
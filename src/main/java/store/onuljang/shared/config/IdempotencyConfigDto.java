@@ -0,0 +1,22 @@
+package store.onuljang.shared.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class IdempotencyConfigDto {
+    @Value("${IDEMPOTENCY.TTL_HOURS:24}")
+    long ttlHours;
+
+    // 처리 중 상태로 남은 키를 버려진 것으로 보고 다시 받아들이기까지의 시간
+    @Value("${IDEMPOTENCY.PENDING_TIMEOUT_SECONDS:60}")
+    long pendingTimeoutSeconds;
+
+    @Value("${IDEMPOTENCY.HOT_MAX_ENTRIES:10000}")
+    int hotMaxEntries;
+
+    @Value("${IDEMPOTENCY.SWEEP_CHUNK_SIZE:1000}")
+    int sweepChunkSize;
+}
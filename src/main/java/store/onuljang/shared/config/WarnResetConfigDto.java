@@ -0,0 +1,17 @@
+package store.onuljang.shared.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class WarnResetConfigDto {
+    // 한 트랜잭션에서 경고 횟수를 되돌릴 유저 수
+    @Value("${WARN_RESET.CHUNK_SIZE:1000}")
+    int chunkSize;
+
+    // 청크 사이에 쉬는 시간 (새벽 예약의 유저 잠금과 겹치지 않도록)
+    @Value("${WARN_RESET.PAUSE_MS:50}")
+    long pauseMs;
+}
@@ -0,0 +1,5 @@
+package store.onuljang.shared.entity.enums;
+
+public enum AggCheckpointStatus {
+    RUNNING, COMPLETED
+}
@@ -0,0 +1,28 @@
+package store.onuljang.shared.entity.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 매출 집계 단위. 주는 월요일, 월은 1일에 시작한다.
+ */
+public enum AggPeriod {
+    DAY, WEEK, MONTH;
+
+    public LocalDate startOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate endOf(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> startOf(date).plusDays(6);
+            case MONTH -> date.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+}
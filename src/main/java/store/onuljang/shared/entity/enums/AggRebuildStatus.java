@@ -0,0 +1,5 @@
+package store.onuljang.shared.entity.enums;
+
+public enum AggRebuildStatus {
+    RUNNING, SWAPPING, COMPLETED, FAILED
+}
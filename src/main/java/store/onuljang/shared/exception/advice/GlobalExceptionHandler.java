@@ -2,6 +2,7 @@ package store.onuljang.shared.exception.advice;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -16,9 +17,14 @@ import org.springframework.web.servlet.NoHandlerFoundException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import store.onuljang.shared.exception.ErrorResponse;
 import store.onuljang.shared.exception.*;
+import store.onuljang.shop.admin.exception.AggregationRebuildRunningException;
 import store.onuljang.shop.admin.exception.ExistAdminException;
+import store.onuljang.shop.reservation.exception.ReservationConflictException;
+import store.onuljang.shop.admin.dto.AdminReservationConflictResponse;
 import store.onuljang.shop.product.exception.ProductExceedException;
 import store.onuljang.shop.product.exception.ProductUnavailableException;
+import store.onuljang.shop.reservation.exception.ReservationAdmissionException;
+import store.onuljang.shared.idempotency.exception.IdempotencyKeyException;
 import store.onuljang.shared.auth.exception.InvalidRefreshTokenException;
 import store.onuljang.shared.auth.exception.RefreshTokenNotFoundException;
 import store.onuljang.shared.user.exception.ExistUserNameException;
@@ -112,6 +118,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(new ErrorResponse("CONFLICT", ex.getMessage()));
     }
 
+    @ExceptionHandler(AggregationRebuildRunningException.class)
+    public ResponseEntity<ErrorResponse> handleAggregationRebuildRunning(AggregationRebuildRunningException ex) {
+        log.info("AggregationRebuildRunningException: {}", ex.getMessage());
+        return ResponseEntity.status(ex.getStatus()).body(new ErrorResponse("CONFLICT", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ReservationConflictException.class)
+    public ResponseEntity<AdminReservationConflictResponse> handleReservationConflict(
+            ReservationConflictException ex) {
+        log.info("ReservationConflictException: {}", ex.getMessage());
+        return ResponseEntity.status(ex.getStatus())
+                .body(AdminReservationConflictResponse.of(ex.getMessage(), ex.getCurrent()));
+    }
+
     @ExceptionHandler(InvalidRefreshTokenException.class)
     public ResponseEntity<ErrorResponse> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
         log.info("InvalidRefreshTokenException: {}", ex.getMessage());
@@ -172,6 +192,28 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getStatus()).body(new ErrorResponse("UserNoContentException", ex.getMessage()));
     }
 
+    @ExceptionHandler(ReservationAdmissionException.class)
+    public ResponseEntity<ErrorResponse> handleReservationAdmission(ReservationAdmissionException ex) {
+        log.info("ReservationAdmissionException: {}", ex.getMessage());
+        return ResponseEntity.status(ex.getStatus())
+                .body(new ErrorResponse("ReservationAdmissionException", ex.getMessage()));
+    }
+
+    @ExceptionHandler(IdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKey(IdempotencyKeyException ex) {
+        log.info("IdempotencyKeyException: {}", ex.getMessage());
+        return ResponseEntity.status(ex.getStatus())
+                .body(new ErrorResponse("IdempotencyKeyException", ex.getMessage()));
+    }
+
+    // 락 충돌 재시도를 모두 소진한 경우
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handlePessimisticLockingFailure(PessimisticLockingFailureException ex) {
+        log.warn("PessimisticLockingFailureException: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("LOCK_CONFLICT", "요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     // SSE 클라이언트 연결 끊김 — 응답 불필요
     @ExceptionHandler(AsyncRequestNotUsableException.class)
     public void handleAsyncNotUsable(AsyncRequestNotUsableException ex) {
@@ -0,0 +1,145 @@
+package store.onuljang.shared.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import store.onuljang.shared.idempotency.entity.IdempotencyRecord;
+import store.onuljang.shared.idempotency.exception.IdempotencyKeyException;
+import store.onuljang.shared.idempotency.service.IdempotencyKeyService;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * {@link Idempotent} 메서드 처리.
+ *
+ * 같은 (유저, Idempotency-Key) 요청은 한 번만 실행하고, 이후 요청에는 저장한 상태 코드와 바디를 그대로 돌려준다.
+ * 락 충돌 재시도(@Retryable)보다 바깥에서 실행되도록 가장 높은 우선순위로 둔다.
+ * 헤더가 없으면 기존처럼 그대로 실행한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IdempotencyAspect {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 64;
+
+    IdempotencyKeyService idempotencyKeyService;
+    ObjectMapper objectMapper;
+
+    @Around("@annotation(store.onuljang.shared.idempotency.Idempotent)")
+    public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = currentRequest();
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String key = request == null ? null : request.getHeader(HEADER);
+        if (key == null || key.isBlank() || auth == null) {
+            return joinPoint.proceed();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String uid = auth.getName();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String requestHash = requestHash(request, method, joinPoint.getArgs());
+
+        Optional<IdempotencyRecord> replay = idempotencyKeyService.findCached(uid, key, requestHash);
+        if (replay.isEmpty()) {
+            try {
+                replay = idempotencyKeyService.claim(uid, key, requestHash);
+            } catch (DataIntegrityViolationException e) {
+                throw new IdempotencyKeyException("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        if (replay.isPresent()) {
+            return toResponse(replay.get(), method);
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable t) {
+            idempotencyKeyService.release(uid, key);
+            throw t;
+        }
+
+        ResponseEntity<?> response = (ResponseEntity<?>) result;
+        try {
+            String body = response.getBody() == null ? null : objectMapper.writeValueAsString(response.getBody());
+            idempotencyKeyService.complete(uid, key, response.getStatusCode().value(), body);
+        } catch (Exception e) {
+            // 응답 저장에 실패해도 요청 자체는 성공했으므로 그대로 응답한다. 키는 처리 중 시간 초과 후 다시 선점된다.
+            log.warn("[Idempotency] failed to store response. uid={}, key={}: {}", uid, key, e.getMessage());
+        }
+        return result;
+    }
+
+    private ResponseEntity<Object> toResponse(IdempotencyRecord record, Method method) throws JsonProcessingException {
+        Object body = null;
+        if (record.responseBody() != null) {
+            JavaType bodyType = objectMapper.getTypeFactory()
+                .constructType(ResolvableType.forMethodReturnType(method).getGeneric(0).getType());
+            body = objectMapper.readValue(record.responseBody(), bodyType);
+        }
+        return ResponseEntity.status(record.statusCode())
+            .header(REPLAYED_HEADER, "true")
+            .body(body);
+    }
+
+    // 같은 키를 다른 요청에 재사용했는지 확인하기 위한 지문 (메서드, 경로, 쿼리, 요청 바디)
+    private String requestHash(HttpServletRequest request, Method method, Object[] args)
+            throws JsonProcessingException, NoSuchAlgorithmException {
+        StringBuilder fingerprint = new StringBuilder()
+            .append(request.getMethod()).append(' ')
+            .append(request.getRequestURI()).append('?')
+            .append(request.getQueryString() == null ? "" : request.getQueryString());
+
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < args.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof RequestBody) {
+                    fingerprint.append('\n').append(objectMapper.writeValueAsString(args[i]));
+                }
+            }
+        }
+
+        byte[] digest = MessageDigest.getInstance("MD5").digest(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private HttpServletRequest currentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+package store.onuljang.shared.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더가 있으면 (유저, 키) 당 한 번만 실행하고, 같은 키로 다시 오면 저장한 응답을 돌려준다.
+ * ResponseEntity 를 반환하는 인증된 컨트롤러 메서드에 붙인다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,64 @@
+package store.onuljang.shared.idempotency.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import store.onuljang.shared.entity.base.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * (유저, 멱등 키) 별 요청 처리 결과.
+ * statusCode 가 null 이면 아직 처리 중인 요청이다.
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    name = "idempotency_keys",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_idempotency_keys__user_key",
+        columnNames = {"user_uid", "idem_key"}
+    ),
+    indexes = @Index(name = "idx_idempotency_keys__expires_at", columnList = "expires_at")
+)
+public class IdempotencyKey extends BaseEntity {
+    @Getter
+    @Column(name = "user_uid", nullable = false, length = 36)
+    private String userUid;
+
+    @Getter
+    @Column(name = "idem_key", nullable = false, length = 64)
+    private String idemKey;
+
+    @Getter
+    @Column(name = "request_hash", nullable = false, length = 32)
+    private String requestHash;
+
+    @Getter
+    @Column(name = "status_code")
+    private Integer statusCode;
+
+    @Getter
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Getter
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public IdempotencyKey(String userUid, String idemKey, String requestHash, LocalDateTime expiresAt) {
+        this.userUid = userUid;
+        this.idemKey = idemKey;
+        this.requestHash = requestHash;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isCompleted() {
+        return statusCode != null;
+    }
+
+    public void complete(int statusCode, String responseBody) {
+        this.statusCode = statusCode;
+        this.responseBody = responseBody;
+    }
+}
@@ -0,0 +1,18 @@
+package store.onuljang.shared.idempotency.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료된 멱등 요청의 응답. 메모리 캐시에 보관하고 재요청 시 그대로 돌려준다.
+ */
+public record IdempotencyRecord(String requestHash, int statusCode, String responseBody, LocalDateTime expiresAt) {
+
+    public static IdempotencyRecord from(IdempotencyKey key) {
+        return new IdempotencyRecord(key.getRequestHash(), key.getStatusCode(), key.getResponseBody(),
+            key.getExpiresAt());
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
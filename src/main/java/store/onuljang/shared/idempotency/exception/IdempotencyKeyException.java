@@ -0,0 +1,12 @@
+package store.onuljang.shared.idempotency.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import store.onuljang.shared.exception.CustomRuntimeException;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class IdempotencyKeyException extends CustomRuntimeException {
+    public IdempotencyKeyException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
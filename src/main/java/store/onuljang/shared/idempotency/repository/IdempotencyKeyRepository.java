@@ -0,0 +1,28 @@
+package store.onuljang.shared.idempotency.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.onuljang.shared.idempotency.entity.IdempotencyKey;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    Optional<IdempotencyKey> findByUserUidAndIdemKey(String userUid, String idemKey);
+
+    @Query("""
+        select k.id
+        from IdempotencyKey k
+        where k.expiresAt < :now
+        order by k.id
+    """)
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.id in :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
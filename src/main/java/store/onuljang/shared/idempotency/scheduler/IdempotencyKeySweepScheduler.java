@@ -0,0 +1,43 @@
+package store.onuljang.shared.idempotency.scheduler;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.onuljang.shared.config.IdempotencyConfigDto;
+import store.onuljang.shared.idempotency.service.IdempotencyKeyService;
+import store.onuljang.shared.util.TimeUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 멱등 키 정리.
+ * 한 번에 큰 DELETE 를 날리지 않도록 청크 단위로 나눠 각각 커밋한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IdempotencyKeySweepScheduler {
+    IdempotencyKeyService idempotencyKeyService;
+    IdempotencyConfigDto idempotencyConfig;
+
+    @Scheduled(fixedDelay = 600_000)
+    public void sweepExpired() {
+        LocalDateTime now = TimeUtil.nowDateTime();
+        idempotencyKeyService.evictExpiredHotEntries(now);
+
+        int total = 0;
+        int deleted;
+        do {
+            deleted = idempotencyKeyService.deleteExpiredChunk(now);
+            total += deleted;
+        } while (deleted == idempotencyConfig.getSweepChunkSize());
+
+        if (total > 0) {
+            log.info("[IdempotencyKeySweepScheduler] deleted {} expired keys", total);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package store.onuljang.shared.idempotency.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.config.IdempotencyConfigDto;
+import store.onuljang.shared.idempotency.entity.IdempotencyKey;
+import store.onuljang.shared.idempotency.entity.IdempotencyRecord;
+import store.onuljang.shared.idempotency.exception.IdempotencyKeyException;
+import store.onuljang.shared.idempotency.repository.IdempotencyKeyRepository;
+import store.onuljang.shared.util.TimeUtil;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 멱등 키 저장소.
+ *
+ * 완료된 응답은 메모리(hot tier)에 먼저 두고, 메모리에 없으면 idempotency_keys 테이블에서 찾는다.
+ * 키 선점/완료/해제는 비즈니스 트랜잭션과 별개로 커밋해야 다른 요청이 바로 볼 수 있으므로 REQUIRES_NEW 로 처리한다.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKeyService {
+    IdempotencyKeyRepository idempotencyKeyRepository;
+    IdempotencyConfigDto idempotencyConfig;
+    Map<String, IdempotencyRecord> hotTier = new ConcurrentHashMap<>();
+
+    /**
+     * 메모리에 있는 완료 응답만 확인한다. DB 를 조회하지 않는다.
+     */
+    public Optional<IdempotencyRecord> findCached(String uid, String key, String requestHash) {
+        IdempotencyRecord cached = hotTier.get(hotKey(uid, key));
+        if (cached == null || cached.isExpired(TimeUtil.nowDateTime())) {
+            return Optional.empty();
+        }
+        return Optional.of(verified(cached, requestHash));
+    }
+
+    /**
+     * 키를 선점한다. 이미 완료된 키면 저장된 응답을 돌려주고, 다른 요청이 처리 중이면 예외를 던진다.
+     * 동시에 같은 키를 선점하면 유니크 제약 위반(DataIntegrityViolationException)이 그대로 전파된다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<IdempotencyRecord> claim(String uid, String key, String requestHash) {
+        LocalDateTime now = TimeUtil.nowDateTime();
+        Optional<IdempotencyKey> existing = idempotencyKeyRepository.findByUserUidAndIdemKey(uid, key);
+        if (existing.isPresent()) {
+            IdempotencyKey row = existing.get();
+            if (row.getExpiresAt().isAfter(now)) {
+                if (row.isCompleted()) {
+                    IdempotencyRecord record = IdempotencyRecord.from(row);
+                    cache(uid, key, record, now);
+                    return Optional.of(verified(record, requestHash));
+                }
+                LocalDateTime claimedAt = row.getExpiresAt().minusHours(idempotencyConfig.getTtlHours());
+                if (claimedAt.plusSeconds(idempotencyConfig.getPendingTimeoutSeconds()).isAfter(now)) {
+                    throw new IdempotencyKeyException("같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+                }
+            }
+            // 만료되었거나 처리 중에 버려진 키는 지우고 새로 선점한다
+            idempotencyKeyRepository.delete(row);
+            idempotencyKeyRepository.flush();
+        }
+
+        idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+            .userUid(uid)
+            .idemKey(key)
+            .requestHash(requestHash)
+            .expiresAt(now.plusHours(idempotencyConfig.getTtlHours()))
+            .build());
+        return Optional.empty();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(String uid, String key, int statusCode, String responseBody) {
+        idempotencyKeyRepository.findByUserUidAndIdemKey(uid, key).ifPresent(row -> {
+            row.complete(statusCode, responseBody);
+            cache(uid, key, IdempotencyRecord.from(row), TimeUtil.nowDateTime());
+        });
+    }
+
+    /**
+     * 처리에 실패한 요청은 키를 풀어 같은 키로 다시 시도할 수 있게 한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String uid, String key) {
+        idempotencyKeyRepository.findByUserUidAndIdemKey(uid, key)
+            .filter(row -> !row.isCompleted())
+            .ifPresent(idempotencyKeyRepository::delete);
+    }
+
+    /**
+     * 만료된 키를 최대 sweepChunkSize 개 지우고 지운 개수를 돌려준다.
+     */
+    @Transactional
+    public int deleteExpiredChunk(LocalDateTime now) {
+        List<Long> ids = idempotencyKeyRepository.findExpiredIds(now,
+            PageRequest.of(0, idempotencyConfig.getSweepChunkSize()));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return idempotencyKeyRepository.deleteAllByIdIn(ids);
+    }
+
+    public void evictExpiredHotEntries(LocalDateTime now) {
+        hotTier.values().removeIf(record -> record.isExpired(now));
+    }
+
+    private IdempotencyRecord verified(IdempotencyRecord record, String requestHash) {
+        if (!record.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyException("같은 멱등 키로 다른 요청을 보낼 수 없습니다.");
+        }
+        return record;
+    }
+
+    private void cache(String uid, String key, IdempotencyRecord record, LocalDateTime now) {
+        if (hotTier.size() >= idempotencyConfig.getHotMaxEntries()) {
+            evictExpiredHotEntries(now);
+            if (hotTier.size() >= idempotencyConfig.getHotMaxEntries()) {
+                return;
+            }
+        }
+        hotTier.put(hotKey(uid, key), record);
+    }
+
+    private static String hotKey(String uid, String key) {
+        return uid + ':' + key;
+    }
+}
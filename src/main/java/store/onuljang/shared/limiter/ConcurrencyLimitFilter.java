@@ -0,0 +1,76 @@
+package store.onuljang.shared.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import store.onuljang.shared.config.ConcurrencyLimitConfigDto;
+import store.onuljang.shared.util.OverloadResponseUtil;
+
+import java.io.IOException;
+
+/**
+ * 상품/유저 행 락을 잡는 변경 API 의 동시 처리 수를 제한한다.
+ *
+ * DB 가 느려지면 락 대기 요청이 톰캣 스레드를 모두 차지해 관리자 API 와 헬스체크까지 멈추므로,
+ * 한도를 넘는 요청은 줄 세우지 않고 바로 503 + Retry-After 로 돌려보낸다.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    static final String RESERVATION_ROUTE = "reservations";
+    static final String DELIVERY_READY_ROUTE = "deliveries_ready";
+
+    ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    ConcurrencyLimitConfigDto concurrencyLimitConfig;
+    ObjectMapper objectMapper;
+    AntPathMatcher matcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!concurrencyLimitConfig.isEnabled()) {
+            return true;
+        }
+
+        // 조회는 행 락을 잡지 않는다
+        String method = request.getMethod();
+        if ("GET".equalsIgnoreCase(method) || "OPTIONS".equalsIgnoreCase(method)) {
+            return true;
+        }
+
+        return routeOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws IOException, ServletException {
+        GradientConcurrencyLimiter limiter = concurrencyLimiterRegistry.limiter(routeOf(req.getRequestURI()));
+        if (!limiter.tryAcquire()) {
+            OverloadResponseUtil.reject(res, objectMapper, concurrencyLimitConfig.getRetryAfterSeconds());
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    private String routeOf(String uri) {
+        if (matcher.match("/api/store/auth/reservations/**", uri)) {
+            return RESERVATION_ROUTE;
+        }
+        if (matcher.match("/api/store/auth/deliveries/ready", uri)) {
+            return DELIVERY_READY_ROUTE;
+        }
+        return null;
+    }
+}
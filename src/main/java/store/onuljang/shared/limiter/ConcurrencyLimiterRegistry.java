@@ -0,0 +1,55 @@
+package store.onuljang.shared.limiter;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import store.onuljang.shared.config.ConcurrencyLimitConfigDto;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로 묶음별 동시 처리 리미터.
+ *
+ *   - http.concurrency.limit{route} : 현재 동시 처리 한도
+ *   - http.concurrency.inflight{route} : 처리 중인 요청 수
+ *   - http.concurrency.rejected{route} : 한도를 넘어 503 으로 거절한 요청 수
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor
+public class ConcurrencyLimiterRegistry {
+    ConcurrencyLimitConfigDto concurrencyLimitConfig;
+    MeterRegistry meterRegistry;
+    Map<String, GradientConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public GradientConcurrencyLimiter limiter(String route) {
+        return limiters.computeIfAbsent(route, this::create);
+    }
+
+    private GradientConcurrencyLimiter create(String route) {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+            concurrencyLimitConfig.getInitialLimit(),
+            concurrencyLimitConfig.getMinLimit(),
+            concurrencyLimitConfig.getMaxLimit(),
+            concurrencyLimitConfig.getTolerance(),
+            concurrencyLimitConfig.getSmoothing(),
+            concurrencyLimitConfig.getShortWindow(),
+            concurrencyLimitConfig.getLongWindow());
+
+        Gauge.builder("http.concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+            .tag("route", route)
+            .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", limiter, GradientConcurrencyLimiter::getInflight)
+            .tag("route", route)
+            .register(meterRegistry);
+        FunctionCounter.builder("http.concurrency.rejected", limiter, GradientConcurrencyLimiter::getRejected)
+            .tag("route", route)
+            .register(meterRegistry);
+        return limiter;
+    }
+}
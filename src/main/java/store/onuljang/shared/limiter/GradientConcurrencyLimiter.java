@@ -0,0 +1,109 @@
+package store.onuljang.shared.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답시간 기울기로 동시 처리 한도를 조절하는 리미터 (concurrency-limits 의 Gradient2 방식).
+ *
+ * 짧은 구간 평균 응답시간이 긴 구간 평균보다 허용치 이상 늘어나면 락 대기가 쌓이는 것으로 보고 한도를 줄이고,
+ * 평소 수준이면 sqrt(limit) 만큼씩 다시 늘린다. 한도를 넘는 요청은 줄 세우지 않고 바로 거절한다.
+ */
+public class GradientConcurrencyLimiter {
+    // 긴 구간 평균이 짧은 구간의 이 배수를 넘으면 부하가 끝난 것으로 보고 빠르게 따라 내려온다
+    private static final double LONG_RTT_DRIFT_RATIO = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double shortAlpha;
+    private final double longAlpha;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile double limit;
+
+    // onSample 안에서만 읽고 쓴다
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+            double smoothing, int shortWindow, int longWindow) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("동시 처리 한도 범위가 올바르지 않습니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.shortAlpha = 2.0 / (shortWindow + 1);
+        this.longAlpha = 2.0 / (longWindow + 1);
+        this.limit = clamp(initialLimit);
+    }
+
+    /**
+     * 한도 안이면 자리를 잡고 true. 한도를 넘으면 기다리지 않고 false.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= getLimit()) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반납하고 이번 요청의 처리 시간으로 한도를 조정한다.
+     */
+    public void release(long rttNanos) {
+        int inflightAtRelease = inflight.getAndDecrement();
+        onSample(Math.max(rttNanos, 1), inflightAtRelease);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtRelease) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+
+        shortRttNanos += shortAlpha * (rttNanos - shortRttNanos);
+        longRttNanos += longAlpha * (rttNanos - longRttNanos);
+        if (longRttNanos / shortRttNanos > LONG_RTT_DRIFT_RATIO) {
+            longRttNanos *= LONG_RTT_DECAY;
+        }
+
+        // 한도의 절반도 쓰지 않는 동안의 응답시간은 동시성과 무관하므로 한도를 건드리지 않는다
+        if (inflightAtRelease < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - smoothing) + target * smoothing);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,15 @@
+package store.onuljang.shared.user.entity;
+
+public record WarnResetChunk(
+    long lastUserId,
+    int scanned,
+    int updated
+) {
+    public static WarnResetChunk empty(long afterId) {
+        return new WarnResetChunk(afterId, 0, 0);
+    }
+
+    public boolean isEmpty() {
+        return scanned == 0;
+    }
+}
@@ -0,0 +1,15 @@
+package store.onuljang.shared.user.event;
+
+import lombok.Builder;
+import store.onuljang.shared.entity.enums.MessageType;
+
+import java.util.List;
+
+@Builder
+public record UserMessageBatchEvent(
+    List<String> userUids,
+    MessageType type
+)
+{
+
+}
@@ -40,4 +40,17 @@ public class UserMessageEventListener {
 
         userMessageQueueService.save(message);
     }
+
+    @Async("messageEventExecutor")
+    @Retryable(
+        retryFor = { Exception.class },
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 500)
+    )
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(UserMessageBatchEvent event) {
+        MessageTemplate template = messageTemplateService.findByMessageType(event.type());
+
+        userMessageQueueService.enqueueAll(event.userUids(), template);
+    }
 }
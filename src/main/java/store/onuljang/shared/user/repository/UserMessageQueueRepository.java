@@ -1,12 +1,14 @@
 package store.onuljang.shared.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import store.onuljang.shared.user.entity.UserMessageQueue;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +24,15 @@ public interface UserMessageQueueRepository extends JpaRepository<UserMessageQue
     order by t.priority desc limit 1
     """,nativeQuery = true)
     Optional<UserMessageQueue> findFirstPendingByUidWithMessageTemplate(@Param("uid") String uid, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = """
+    insert into user_message_queue (user_uid, message_template_id, status, created_at)
+    select u.uid, t.id, 'PENDING', cast(:now as datetime)
+    from users u
+    join message_template t on t.id = :templateId
+    where u.uid in (:uids)
+    """, nativeQuery = true)
+    int insertAllPending(@Param("uids") Collection<String> uids, @Param("templateId") long templateId,
+        @Param("now") LocalDateTime now);
 }
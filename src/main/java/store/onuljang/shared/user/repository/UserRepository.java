@@ -1,6 +1,7 @@
 package store.onuljang.shared.user.repository;
 
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -10,6 +11,7 @@ import store.onuljang.shop.admin.dto.AdminCustomerSortKey;
 import store.onuljang.shop.admin.dto.SortOrder;
 import store.onuljang.shared.user.entity.Users;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,14 +26,71 @@ public interface UserRepository extends JpaRepository<Users, Long> {
         "where u.uid = :uid"
     )
     Optional<Users> findByUidWithLock(String uid);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select u " +
+        "from Users u " +
+        "where u.uid in :uids " +
+        "order by u.uid asc"
+    )
+    List<Users> findAllByUidInWithLock(@Param("uids") Collection<String> uids);
     Optional<Users> findByName(String name);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select u " +
+        "from Users u " +
+        "where u.uid in :uids " +
+        "and u.monthlyWarnCount >= :minWarnCount " +
+        "order by u.uid asc"
+    )
+    List<Users> findAllByUidInAndMonthlyWarnCountAtLeastWithLock(@Param("uids") Collection<String> uids,
+            @Param("minWarnCount") int minWarnCount);
+
+    // 노쇼 처리된 예약을 유저별로 합산해 주문/매출을 되돌리고 예약 건수만큼 경고를 더한다.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+            update users u
+            set total_orders = greatest(total_orders - coalesce((
+                    select sum(r.quantity) from reservations r
+                    where r.user_uid = u.uid and r.id in (:reservationIds) and r.status = :status
+                ), 0), 0),
+                total_revenue = greatest(total_revenue - coalesce((
+                    select sum(r.amount) from reservations r
+                    where r.user_uid = u.uid and r.id in (:reservationIds) and r.status = :status
+                ), 0), 0),
+                total_warn_count = total_warn_count + (
+                    select count(*) from reservations r
+                    where r.user_uid = u.uid and r.id in (:reservationIds) and r.status = :status
+                ),
+                monthly_warn_count = coalesce(monthly_warn_count, 0) + (
+                    select count(*) from reservations r
+                    where r.user_uid = u.uid and r.id in (:reservationIds) and r.status = :status
+                )
+            where u.uid in (
+                select r.user_uid from reservations r
+                where r.id in (:reservationIds) and r.status = :status
+            )
+            """, nativeQuery = true)
+    int rollbackSalesAndWarnByReservations(@Param("reservationIds") Collection<Long> reservationIds,
+            @Param("status") String status);
+
+    @Query(
+        "select u.id " +
+        "from Users u " +
+        "where u.id > :afterId and u.monthlyWarnCount > 0 " +
+        "order by u.id"
+    )
+    List<Long> findMonthlyWarnedIdsAfter(@Param("afterId") long afterId, Pageable pageable);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(
         "update Users u " +
-        "set u.monthlyWarnCount = 0"
+        "set u.monthlyWarnCount = 0 " +
+        "where u.id in :ids and u.monthlyWarnCount > 0"
     )
-    int resetAllUsersWarnCounts();
+    int resetMonthlyWarnCountsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query(value = """
             select
@@ -1,13 +1,30 @@
 package store.onuljang.shared.user.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import store.onuljang.shared.user.entity.UserWarn;
 import store.onuljang.shared.user.entity.Users;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserWarnRepository extends JpaRepository<UserWarn, Long> {
     List<UserWarn> findAllByUserOrderByCreatedAtDesc(Users user);
+
+    // 노쇼 예약 한 건당 노쇼 경고 한 건
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        insert into user_warn (user_uid, reason, created_at)
+        select r.user_uid, 'NO_SHOW', cast(:now as datetime)
+        from reservations r
+        where r.id in (:reservationIds)
+        and r.status = :status
+        """, nativeQuery = true)
+    int insertNoShowsByReservations(@Param("reservationIds") Collection<Long> reservationIds,
+            @Param("status") String status, @Param("now") LocalDateTime now);
 }
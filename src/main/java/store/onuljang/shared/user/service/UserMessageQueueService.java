@@ -7,10 +7,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shared.exception.NotFoundException;
+import store.onuljang.shared.repository.entity.MessageTemplate;
 import store.onuljang.shared.user.repository.UserMessageQueueRepository;
 import store.onuljang.shared.user.entity.UserMessageQueue;
 import store.onuljang.shared.util.TimeUtil;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -19,6 +22,8 @@ import java.util.Optional;
 @Slf4j
 @Transactional(readOnly = true)
 public class UserMessageQueueService {
+    private static final int ENQUEUE_CHUNK_SIZE = 1_000;
+
     UserMessageQueueRepository userMessageQueueRepository;
 
     @Transactional
@@ -32,6 +37,20 @@ public class UserMessageQueueService {
         return userMessageQueueRepository.save(messageQueue);
     }
 
+    /**
+     * 같은 템플릿 메시지를 여러 유저에게 INSERT ... SELECT 로 한 번에 넣는다. IN 목록이 길어지지 않게 나눠서 실행한다.
+     */
+    @Transactional
+    public int enqueueAll(List<String> uids, MessageTemplate template) {
+        LocalDateTime now = TimeUtil.nowDateTime();
+        int inserted = 0;
+        for (int from = 0; from < uids.size(); from += ENQUEUE_CHUNK_SIZE) {
+            List<String> chunk = uids.subList(from, Math.min(from + ENQUEUE_CHUNK_SIZE, uids.size()));
+            inserted += userMessageQueueRepository.insertAllPending(chunk, template.getId(), now);
+        }
+        return inserted;
+    }
+
     @Transactional(readOnly = true)
     public Optional<UserMessageQueue> findFirstPendingByUid(String uid) {
         return userMessageQueueRepository.findFirstPendingByUidWithMessageTemplate(uid, TimeUtil.nowDateTime());
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shop.admin.dto.AdminCustomerSortKey;
@@ -13,8 +14,11 @@ import store.onuljang.shared.user.exception.UserNotFoundException;
 import store.onuljang.shared.user.repository.UserQueryRepository;
 import store.onuljang.shared.user.repository.UserRepository;
 import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.user.entity.WarnResetChunk;
+import store.onuljang.shared.entity.enums.ReservationStatus;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,6 +42,39 @@ public class UserService {
             .orElseThrow(() -> new NotFoundException("존재하지 않는 유저"));
     }
 
+    @Transactional
+    public List<Users> findAllByUidInWithLock(Collection<String> uids) {
+        return userRepository.findAllByUidInWithLock(uids);
+    }
+
+    @Transactional
+    public List<Users> findAllByUidInAndMonthlyWarnCountAtLeastWithLock(Collection<String> uids, int minWarnCount) {
+        return userRepository.findAllByUidInAndMonthlyWarnCountAtLeastWithLock(uids, minWarnCount);
+    }
+
+    /**
+     * afterId 다음부터 이번 달 경고가 있는 유저를 최대 chunkSize 명 골라 0으로 되돌린다.
+     * 유저 행 잠금을 짧게 잡도록 청크마다 따로 커밋한다.
+     */
+    @Transactional
+    public WarnResetChunk resetMonthlyWarnCountChunk(long afterId, int chunkSize) {
+        List<Long> ids = userRepository.findMonthlyWarnedIdsAfter(afterId, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return WarnResetChunk.empty(afterId);
+        }
+        int updated = userRepository.resetMonthlyWarnCountsByIdIn(ids);
+        return new WarnResetChunk(ids.get(ids.size() - 1), ids.size(), updated);
+    }
+
+    /**
+     * 예약 id 묶음 기준으로 유저 주문/매출 롤백과 경고 누적을 한 번에 반영한다.
+     * 영속성 컨텍스트를 비우므로 이후에는 유저를 다시 조회해야 한다.
+     */
+    @Transactional
+    public int rollbackSalesAndWarnByReservations(Collection<Long> reservationIds, ReservationStatus status) {
+        return userRepository.rollbackSalesAndWarnByReservations(reservationIds, status.name());
+    }
+
     @Transactional(readOnly = true)
     public Optional<Users> findOptionalBySocialId(String socialId) {
         return userRepository.findBySocialId(socialId);
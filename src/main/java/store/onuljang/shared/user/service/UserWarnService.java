@@ -9,9 +9,12 @@ import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shared.user.repository.UserWarnRepository;
 import store.onuljang.shared.user.entity.UserWarn;
 import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.entity.enums.ReservationStatus;
 import store.onuljang.shared.entity.enums.UserWarnReason;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -41,6 +44,11 @@ public class UserWarnService {
         userWarnRepository.saveAll(warnArrayList);
     }
 
+    @Transactional
+    public int noShowsByReservations(Collection<Long> reservationIds, ReservationStatus status, LocalDateTime now) {
+        return userWarnRepository.insertNoShowsByReservations(reservationIds, status.name(), now);
+    }
+
     @Transactional
     public void warnByAdmin(Users user) {
         userWarnRepository.save(new UserWarn(user, UserWarnReason.ADMIN));
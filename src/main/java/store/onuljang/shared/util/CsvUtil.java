@@ -0,0 +1,22 @@
+package store.onuljang.shared.util;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CsvUtil {
+    // 엑셀이 UTF-8 로 열도록 파일 맨 앞에 붙인다
+    public static final String UTF8_BOM = "\uFEFF";
+
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        boolean needsQuote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+            || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -2,7 +2,12 @@ package store.onuljang.shared.util;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.function.Predicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
 public class DisplayCodeGenerator {
@@ -10,7 +15,18 @@ public class DisplayCodeGenerator {
     private static final char[] SAFE_CHARS = "23456789ABCDEFGHJKMNPQRSTUVWXYZ".toCharArray();
     private static final int SAFE_CHARS_LENGTH = SAFE_CHARS.length;
     private static final SecureRandom RANDOM = new SecureRandom();
-    private static final int MAX_RETRY = 3;
+
+    // 일(1) + 노드(1) 뒤에 붙는 시퀀스 자릿수별 용량
+    private static final int SEQUENCE_CAPACITY = SAFE_CHARS_LENGTH * SAFE_CHARS_LENGTH * SAFE_CHARS_LENGTH;
+    private static final int EXTENDED_SEQUENCE_CAPACITY = SEQUENCE_CAPACITY * SAFE_CHARS_LENGTH;
+    private static final long BOOT_MINUTE_KEY = minuteKey(TimeUtil.nowDateTime());
+    private static final int BOOT_SEQUENCE_OFFSET = RANDOM.nextInt(EXTENDED_SEQUENCE_CAPACITY);
+    // 시계가 잠시 되돌아가도 같은 분의 시퀀스를 이어 쓰도록 최근 발급한 분들의 시퀀스를 보관한다
+    private static final int MAX_TRACKED_MINUTES = 60;
+    private static final ConcurrentSkipListMap<Long, AtomicInteger> SEQUENCES = new ConcurrentSkipListMap<>();
+    // 보관에서 밀려난 가장 늦은 분. 이 분까지는 시퀀스를 모르므로 다시 발급하지 않는다
+    private static final AtomicLong EVICTED_MINUTE_KEY = new AtomicLong(Long.MIN_VALUE);
+    private static volatile int nodeId = 0;
 
     private static final Pattern CODE_PATTERN = Pattern.compile("^[RD]-\\d{8}-[23456789ABCDEFGHJKMNPQRSTUVWXYZ]{5,6}$");
     private static final Pattern BACKFILL_PATTERN = Pattern.compile("^[RD]-\\d+$");
@@ -19,30 +35,49 @@ public class DisplayCodeGenerator {
     private DisplayCodeGenerator() {
     }
 
-    public static String generate(String prefix, LocalDateTime dateTime) {
-        String dateTimePart = String.format("%02d%02d%02d%02d",
-                dateTime.getYear() % 100, dateTime.getMonthValue(), dateTime.getHour(), dateTime.getMinute());
-        String randomPart = randomString(5);
-        return prefix + "-" + dateTimePart + "-" + randomPart;
+    /**
+     * DB 조회 없이 구성만으로 고유한 코드를 발급한다. 형식은 기존과 같은 {prefix}-yyMMHHmm-XXXXX 이다.
+     *
+     * 5자리 = 일(1) + 노드(1) + 분 단위 시퀀스(3, 분당 29,791개).
+     * 시퀀스가 소진된 분과, 재시작 직후 이전 프로세스가 같은 분에 발급했을 수 있는 부팅 분에는
+     * 길이가 다른 6자리 확장 형식(일 + 노드 + 시퀀스 4자리)을 써서 5자리 코드와 겹치지 않게 한다.
+     * 노드 id 는 인스턴스마다 달라야 한다. ({@link #configureNodeId})
+     *
+     * 시퀀스는 최근 발급한 MAX_TRACKED_MINUTES 개 분만 보관한다. 시계가 그보다 더 되돌아가 보관에서 밀려난 분이
+     * 다시 오면 같은 코드를 또 발급할 수 있으므로 발급하지 않고 IllegalStateException 을 던진다.
+     */
+    public static String next(String prefix, LocalDateTime dateTime) {
+        long minuteKey = minuteKey(dateTime);
+        AtomicInteger sequence = SEQUENCES.get(minuteKey);
+        if (sequence == null) {
+            sequence = SEQUENCES.computeIfAbsent(minuteKey, key -> new AtomicInteger());
+            while (SEQUENCES.size() > MAX_TRACKED_MINUTES) {
+                Map.Entry<Long, AtomicInteger> evicted = SEQUENCES.pollFirstEntry();
+                if (evicted != null) {
+                    EVICTED_MINUTE_KEY.accumulateAndGet(evicted.getKey(), Math::max);
+                }
+            }
+            // 새로 만든 시퀀스가 밀려난 분이면 그 분에 이미 발급한 코드와 겹칠 수 있다
+            if (minuteKey <= EVICTED_MINUTE_KEY.get()) {
+                throw new IllegalStateException("시계가 되돌아가 이미 발급했을 수 있는 분의 표시 코드는 발급할 수 없습니다.");
+            }
+        }
+        return encode(prefix, dateTime, minuteKey == BOOT_MINUTE_KEY, sequence.getAndIncrement());
     }
 
-    public static String generateFallback(String prefix, LocalDateTime dateTime) {
-        String dateTimePart = String.format("%02d%02d%02d%02d",
-                dateTime.getYear() % 100, dateTime.getMonthValue(), dateTime.getHour(), dateTime.getMinute());
-        String randomPart = randomString(6);
-        return prefix + "-" + dateTimePart + "-" + randomPart;
+    public static List<String> next(String prefix, LocalDateTime dateTime, int count) {
+        List<String> codes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            codes.add(next(prefix, dateTime));
+        }
+        return codes;
     }
 
-    public static String generateUnique(String prefix, LocalDateTime dateTime, Predicate<String> existsCheck) {
-        for (int attempt = 0; attempt < MAX_RETRY; attempt++) {
-            String code = (attempt < MAX_RETRY - 1)
-                    ? generate(prefix, dateTime)
-                    : generateFallback(prefix, dateTime);
-            if (!existsCheck.test(code)) {
-                return code;
-            }
+    public static void configureNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId >= SAFE_CHARS_LENGTH) {
+            throw new IllegalArgumentException("표시 코드 노드 id 는 0 ~ " + (SAFE_CHARS_LENGTH - 1) + " 사이여야 합니다.");
         }
-        throw new IllegalStateException("고유 표시 코드 생성에 실패했습니다.");
+        DisplayCodeGenerator.nodeId = nodeId;
     }
 
     public static String resolveCode(String prefix, String identifier) {
@@ -62,11 +97,44 @@ public class DisplayCodeGenerator {
         }
     }
 
-    private static String randomString(int length) {
-        char[] result = new char[length];
-        for (int i = 0; i < length; i++) {
-            result[i] = SAFE_CHARS[RANDOM.nextInt(SAFE_CHARS_LENGTH)];
+    private static String encode(String prefix, LocalDateTime dateTime, boolean bootMinute, int sequence) {
+        char[] chars;
+        if (!bootMinute && sequence < SEQUENCE_CAPACITY) {
+            chars = new char[5];
+            fillSequence(chars, sequence);
+        } else {
+            int extended = bootMinute ? sequence : sequence - SEQUENCE_CAPACITY;
+            if (extended >= EXTENDED_SEQUENCE_CAPACITY) {
+                throw new IllegalStateException("분당 표시 코드 발급 한도를 초과했습니다.");
+            }
+            // 부팅 분은 무작위 위치에서 시작해, 같은 분에 여러 번 재시작해도 겹칠 확률을 낮춘다
+            chars = new char[6];
+            fillSequence(chars, bootMinute ? (BOOT_SEQUENCE_OFFSET + extended) % EXTENDED_SEQUENCE_CAPACITY : extended);
         }
-        return new String(result);
+        chars[0] = SAFE_CHARS[dateTime.getDayOfMonth() - 1];
+        chars[1] = SAFE_CHARS[nodeId];
+
+        StringBuilder code = new StringBuilder(prefix.length() + 16).append(prefix).append('-');
+        appendTwoDigits(code, dateTime.getYear() % 100);
+        appendTwoDigits(code, dateTime.getMonthValue());
+        appendTwoDigits(code, dateTime.getHour());
+        appendTwoDigits(code, dateTime.getMinute());
+        return code.append('-').append(chars).toString();
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void fillSequence(char[] chars, int value) {
+        for (int i = chars.length - 1; i >= 2; i--) {
+            chars[i] = SAFE_CHARS[value % SAFE_CHARS_LENGTH];
+            value /= SAFE_CHARS_LENGTH;
+        }
+    }
+
+    private static long minuteKey(LocalDateTime dateTime) {
+        return ((((long) dateTime.getYear() * 100 + dateTime.getMonthValue()) * 100 + dateTime.getDayOfMonth()) * 100
+                + dateTime.getHour()) * 100 + dateTime.getMinute();
     }
 }
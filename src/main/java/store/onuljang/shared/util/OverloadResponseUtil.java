@@ -0,0 +1,25 @@
+package store.onuljang.shared.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import store.onuljang.shared.exception.ErrorResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@UtilityClass
+public class OverloadResponseUtil {
+    // 동시 처리 한도를 넘은 요청을 줄 세우지 않고 503 + Retry-After 로 돌려보낸다
+    public static void reject(HttpServletResponse res, ObjectMapper objectMapper, int retryAfterSeconds)
+            throws IOException {
+        res.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        res.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        res.getWriter().write(objectMapper.writeValueAsString(
+            new ErrorResponse("OVERLOADED", "요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.")));
+    }
+}
@@ -5,11 +5,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shop.admin.dto.AdminReservationDetailsResponse;
 import store.onuljang.shop.admin.dto.AdminReservationSummaryResponse;
+import store.onuljang.shop.admin.dto.AdminSalesRollupResponse;
+import store.onuljang.shop.product.entity.AggCheckpoint;
+import store.onuljang.shop.product.entity.AggChunkResult;
 import store.onuljang.shop.product.entity.ProductDailyAgg;
 import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.entity.SalesExportRow;
+import store.onuljang.shop.product.entity.SalesSummaryRow;
+import store.onuljang.shared.entity.enums.AggPeriod;
 import store.onuljang.shared.user.service.*;
 import store.onuljang.shop.product.service.*;
 import store.onuljang.shop.reservation.service.*;
@@ -17,11 +24,20 @@ import store.onuljang.shop.delivery.service.*;
 import store.onuljang.shop.admin.service.*;
 import store.onuljang.shared.auth.service.*;
 import store.onuljang.shared.service.*;
+import store.onuljang.shared.exception.AdminValidateException;
+import store.onuljang.shared.util.CsvUtil;
 import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.reservation.config.AggregationConfigDto;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -31,32 +47,136 @@ import java.util.UUID;
 public class AdminAggregationAppService {
     AggAppliedService aggAppliedService;
     ProductDailyAggService productDailyAggService;
+    ProductPeriodAggService productPeriodAggService;
+    AggregationChunkService aggregationChunkService;
+    AggregationConfigDto aggregationConfig;
+    ReservationSalesEngine reservationSalesEngine;
 
-    @Transactional
-    public void aggregateReservation() {
-        String batchUid = UUID.randomUUID().toString();
+    static final String EXPORT_HEADER = "sell_date,product_id,product_name,quantity,amount\n";
+    static final int EXPORT_BUFFER_SIZE = 64 * 1024;
 
+    /**
+     * 미처리 agg_applied 를 reservation_id 범위 청크로 나눠 청크마다 따로 커밋한다.
+     * 호출한 쪽에 트랜잭션이 없으면(스케줄러) 청크별 트랜잭션으로, 있으면 그 트랜잭션 안에서 실행된다.
+     * 체크포인트보다 작은 reservation_id 로 뒤늦게 생긴 행(노쇼 차감 등)은 다음 실행에서 처리한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void aggregateReservation() {
         int newlyMarked = aggAppliedService.markForDay(TimeUtil.yesterdayDate());
-        int claimed = aggAppliedService.claimUnprocessed(batchUid);
 
-        productDailyAggService.upsertForBatch(batchUid);
+        long cursor = aggregationChunkService.startOrResume(TimeUtil.nowDateTime());
+        long begin = System.nanoTime();
 
-        int finished = aggAppliedService.finishBatch(batchUid, TimeUtil.nowDateTime());
+        while (true) {
+            Optional<Long> upperBound = aggAppliedService.findChunkUpperBound(cursor,
+                aggregationConfig.getChunkSize());
+            if (upperBound.isEmpty()) {
+                break;
+            }
 
-        if (finished != claimed) {
-            throw new IllegalStateException("finished != claimed: " + finished + " vs " + claimed);
+            AggChunkResult chunk = aggregationChunkService.processChunk(cursor, upperBound.get(),
+                TimeUtil.nowDateTime());
+            log.info("[Aggregation] chunk reservationId=({}, {}], claimed={}, elapsedMs={}",
+                chunk.fromExclusive(), chunk.toInclusive(), chunk.claimed(), chunk.elapsedMs());
+            cursor = chunk.toInclusive();
         }
 
-        log.info("[Aggregation] newlyMarked={}, claimed={}, finished={}", newlyMarked, claimed, finished);
+        AggCheckpoint checkpoint = aggregationChunkService.complete(TimeUtil.nowDateTime());
+        log.info("[Aggregation] run={}, newlyMarked={}, chunks={}, processed={}, elapsedMs={}",
+            checkpoint.getRunUid(), newlyMarked, checkpoint.getChunkCount(), checkpoint.getProcessedCount(),
+            (System.nanoTime() - begin) / 1_000_000L);
     }
 
     @Transactional(readOnly = true)
     public AdminReservationSummaryResponse getAggregationSummary(LocalDate from, LocalDate to) {
-        List<ProductDailyAggRow> rows = productDailyAggService.findAggBetween(from, to);
+        if (!reservationSalesEngine.isServing()) {
+            return AdminReservationSummaryResponse.from(productDailyAggService.findAggBetween(from, to));
+        }
+
+        // 실시간 집계 보관 범위는 메모리 집계값, 그 이전은 일별 집계 테이블에서 읽는다
+        LocalDate windowStart = reservationSalesEngine.windowStart();
+        List<ProductDailyAggRow> rows = new ArrayList<>();
+        if (from.isBefore(windowStart)) {
+            LocalDate aggTo = to.isBefore(windowStart) ? to : windowStart.minusDays(1);
+            rows.addAll(productDailyAggService.findAggBetween(from, aggTo));
+        }
+        if (!to.isBefore(windowStart)) {
+            rows.addAll(reservationSalesEngine.findSettledBetween(from.isAfter(windowStart) ? from : windowStart, to));
+        }
+        rows.sort(Comparator.comparing(ProductDailyAggRow::getSellDate));
 
         return AdminReservationSummaryResponse.from(rows);
     }
 
+    /**
+     * 기간 매출을 월/주/일 구간으로 묶어 조회한다. 일별 요약({@link #getAggregationSummary})과 달리 긴 기간은 구간 행으로 내려간다.
+     */
+    @Transactional(readOnly = true)
+    public AdminSalesRollupResponse getSalesRollup(LocalDate from, LocalDate to) {
+        if (!reservationSalesEngine.isServing()) {
+            return AdminSalesRollupResponse.from(productPeriodAggService.findSummary(from, to));
+        }
+
+        // 실시간 집계 보관 범위는 메모리 집계값(일 단위), 그 이전은 월/주/일 롤업 테이블에서 읽는다
+        LocalDate windowStart = reservationSalesEngine.windowStart();
+        List<SalesSummaryRow> rows = new ArrayList<>();
+        if (from.isBefore(windowStart)) {
+            LocalDate aggTo = to.isBefore(windowStart) ? to : windowStart.minusDays(1);
+            rows.addAll(productPeriodAggService.findSummary(from, aggTo));
+        }
+        if (!to.isBefore(windowStart)) {
+            reservationSalesEngine.findSettledBetween(from.isAfter(windowStart) ? from : windowStart, to)
+                .forEach(row -> rows.add(SalesSummaryRow.of(AggPeriod.DAY, row)));
+        }
+        rows.sort(Comparator.comparing(SalesSummaryRow::from));
+
+        return AdminSalesRollupResponse.from(rows);
+    }
+
+    public void validateExportRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new AdminValidateException("시작일이 종료일보다 늦습니다.");
+        }
+    }
+
+    /**
+     * 일별 매출을 CSV 로 out 에 바로 쓴다. 기간 전체를 메모리에 올리지 않도록 커서로 한 행씩 읽어 내보내고,
+     * out 은 닫지 않는다(압축 여부와 닫기는 호출한 쪽 책임).
+     */
+    @Transactional(readOnly = true)
+    public long exportSales(LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        validateExportRange(from, to);
+
+        long begin = System.nanoTime();
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        writer.write(CsvUtil.UTF8_BOM);
+        writer.write(EXPORT_HEADER);
+
+        try (Stream<SalesExportRow> rows = productDailyAggService.streamExportBetween(from, to)) {
+            Iterator<SalesExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                SalesExportRow row = iterator.next();
+                writer.write(row.getSellDate().toString());
+                writer.write(',');
+                writer.write(String.valueOf(row.getProductId()));
+                writer.write(',');
+                writer.write(CsvUtil.escape(row.getProductName()));
+                writer.write(',');
+                writer.write(String.valueOf(row.getQuantity()));
+                writer.write(',');
+                writer.write(row.getAmount().toPlainString());
+                writer.write('\n');
+                count++;
+            }
+        }
+        writer.flush();
+
+        log.info("[SalesExport] from={}, to={}, rows={}, elapsedMs={}", from, to, count,
+            (System.nanoTime() - begin) / 1_000_000L);
+        return count;
+    }
+
     @Transactional(readOnly = true)
     public AdminReservationDetailsResponse getDetail(LocalDate date) {
         List<ProductDailyAgg> details = productDailyAggService.findDetailBySellDateWithProduct(date);
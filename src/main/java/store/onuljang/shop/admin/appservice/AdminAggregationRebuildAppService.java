@@ -0,0 +1,118 @@
+package store.onuljang.shop.admin.appservice;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import store.onuljang.shared.exception.NotFoundException;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.admin.dto.AdminAggRebuildResponse;
+import store.onuljang.shop.admin.exception.AggregationRebuildRunningException;
+import store.onuljang.shop.product.entity.AggRebuildProgress;
+import store.onuljang.shop.product.service.AggregationRebuildService;
+import store.onuljang.shop.reservation.config.AggregationConfigDto;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * product_daily_agg 재구성 작업 실행/조회.
+ *
+ * 기간을 날짜별 작업으로 나눠 aggRebuildExecutor 에서 병렬로(각자 트랜잭션) shadow 테이블을 채우고,
+ * 모든 날짜가 검증을 통과하면 한 번에 본 테이블과 바꾼다. 하루라도 실패하면 본 테이블은 건드리지 않는다.
+ * 작업은 인스턴스당 하나만 실행하고, 진행 상황은 마지막 작업 것만 보관한다.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AdminAggregationRebuildAppService {
+    AggregationRebuildService aggregationRebuildService;
+    AggregationConfigDto aggregationConfig;
+    Executor aggRebuildExecutor;
+    AtomicReference<AggRebuildProgress> current = new AtomicReference<>();
+
+    public AdminAggregationRebuildAppService(AggregationRebuildService aggregationRebuildService,
+            AggregationConfigDto aggregationConfig, @Qualifier("aggRebuildExecutor") Executor aggRebuildExecutor) {
+        this.aggregationRebuildService = aggregationRebuildService;
+        this.aggregationConfig = aggregationConfig;
+        this.aggRebuildExecutor = aggRebuildExecutor;
+    }
+
+    public AdminAggRebuildResponse start(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (!to.isBefore(TimeUtil.nowDate())) {
+            throw new IllegalArgumentException("집계 재구성은 어제 날짜까지만 가능합니다.");
+        }
+        List<LocalDate> dates = from.datesUntil(to.plusDays(1)).toList();
+        if (dates.size() > aggregationConfig.getRebuildMaxDays()) {
+            throw new IllegalArgumentException("한 번에 " + aggregationConfig.getRebuildMaxDays()
+                + "일까지만 재구성할 수 있습니다.");
+        }
+
+        AggRebuildProgress progress = new AggRebuildProgress(UUID.randomUUID().toString(), from, to, dates.size(),
+            TimeUtil.nowDateTime());
+        AggRebuildProgress previous = current.getAndUpdate(
+            prev -> prev != null && !prev.isFinished() ? prev : progress);
+        if (previous != null && !previous.isFinished()) {
+            throw new AggregationRebuildRunningException("이미 집계 재구성이 진행 중입니다. job=" + previous.getJobId());
+        }
+
+        log.info("[AggRebuild] job={} started {} ~ {} ({} days)", progress.getJobId(), from, to, dates.size());
+        CompletableFuture<?>[] tasks = dates.stream()
+            .map(date -> CompletableFuture.runAsync(() -> buildDay(progress, date), aggRebuildExecutor))
+            .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).whenComplete((ignored, e) -> finish(progress));
+
+        return AdminAggRebuildResponse.from(progress);
+    }
+
+    public AdminAggRebuildResponse getProgress() {
+        AggRebuildProgress progress = current.get();
+        if (progress == null) {
+            throw new NotFoundException("실행한 집계 재구성 작업이 없습니다.");
+        }
+        return AdminAggRebuildResponse.from(progress);
+    }
+
+    private void buildDay(AggRebuildProgress progress, LocalDate date) {
+        // 이미 실패한 날짜가 있으면 반영하지 않으므로 남은 날짜는 건너뛴다
+        if (progress.hasFailedDay()) {
+            return;
+        }
+        try {
+            progress.dayCompleted(aggregationRebuildService.buildDay(date));
+        } catch (Exception e) {
+            log.warn("[AggRebuild] job={} date={} failed: {}", progress.getJobId(), date, e.getMessage());
+            progress.dayFailed(date, e.getMessage());
+        }
+    }
+
+    private void finish(AggRebuildProgress progress) {
+        if (progress.hasFailedDay()) {
+            progress.fail(null, TimeUtil.nowDateTime());
+            log.warn("[AggRebuild] job={} aborted: {}", progress.getJobId(), progress.getError());
+            return;
+        }
+
+        try {
+            progress.swapping();
+            aggregationRebuildService.swap(progress.getFrom(), progress.getTo(), progress.getAggAppliedMaxIds(),
+                TimeUtil.nowDateTime());
+            progress.complete(TimeUtil.nowDateTime());
+            AdminAggRebuildResponse summary = AdminAggRebuildResponse.from(progress);
+            log.info("[AggRebuild] job={} completed days={}, rows={}, elapsedMs={}, days/s={}",
+                progress.getJobId(), summary.completedDays(), summary.rows(), summary.elapsedMs(),
+                String.format("%.2f", summary.daysPerSecond()));
+        } catch (Exception e) {
+            log.error("[AggRebuild] job={} swap failed: {}", progress.getJobId(), e.getMessage(), e);
+            progress.fail(e.getMessage(), TimeUtil.nowDateTime());
+        }
+    }
+}
@@ -13,6 +13,7 @@ import store.onuljang.shop.reservation.dto.*;
 import store.onuljang.shared.auth.dto.*;
 import store.onuljang.shop.product.dto.ProductCategoryResponse;
 import store.onuljang.shop.product.event.AdminProductLogEvent;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
 import store.onuljang.shop.product.entity.ProductCategory;
 import store.onuljang.shop.product.entity.ProductOrder;
 import store.onuljang.shared.entity.base.BaseEntity;
@@ -41,6 +42,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class AdminProductAppService {
     ProductsService productsService;
+    ProductStockService productStockService;
+    ProductSnapshotCache productSnapshotCache;
     ProductCategoryService productCategoryService;
     ProductOrderService productOrderService;
     AdminUploadService adminUploadService;
@@ -54,6 +57,7 @@ public class AdminProductAppService {
         long productId = productsService.save(AdminCreateProductRequest.toEntity(request, admin));
 
         saveProductLog(productId, request.stock(), AdminProductAction.CREATE);
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
 
         return productId;
     }
@@ -66,8 +70,10 @@ public class AdminProductAppService {
             product.setName(request.name());
         if (request.price() != null)
             product.setPrice(request.price());
+        if (request.stockSlots() != null)
+            productStockService.configureSlots(product, request.stockSlots());
         if (request.stock() != null)
-            product.setStock(request.stock());
+            productStockService.changeStock(product, request.stock());
         if (request.sellDate() != null && !request.sellDate().isEmpty()) {
             product.setSellDate(LocalDate.parse(request.sellDate()));
         }
@@ -91,12 +97,16 @@ public class AdminProductAppService {
             adminUploadService.softDeleteAllImages(removeKey);
         }
 
+        productSnapshotCache.evictAfterCommit(productId);
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
         saveProductLog(productId, request.stock(), AdminProductAction.UPDATE);
     }
 
     @Transactional
     public void delete(long productId) {
         productsService.findById(productId).delete();
+        productSnapshotCache.evictAfterCommit(productId);
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
 
         saveProductLog(productId, -1, AdminProductAction.DELETE);
     }
@@ -104,6 +114,8 @@ public class AdminProductAppService {
     @Transactional
     public void toggleVisible(long productId) {
         productsService.findByIdWithLock(productId).toggleVisible();
+        productSnapshotCache.evictAfterCommit(productId);
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
 
         saveProductLog(productId, -2, AdminProductAction.UPDATE);
     }
@@ -112,6 +124,7 @@ public class AdminProductAppService {
     @Deprecated
     public void toggleSelfPick(long productId) {
         productsService.findByIdWithLock(productId).toggleSelfPick();
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
 
         saveProductLog(productId, -3, AdminProductAction.UPDATE);
     }
@@ -119,6 +132,7 @@ public class AdminProductAppService {
     @Transactional
     public void toggleDeliveryAvailable(long productId) {
         productsService.findByIdWithLock(productId).toggleDeliveryAvailable();
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
 
         saveProductLog(productId, -4, AdminProductAction.UPDATE);
     }
@@ -130,9 +144,10 @@ public class AdminProductAppService {
             throw new IllegalArgumentException("선택한 제품이 존재하지 않습니다.");
         }
 
-        int rows = productsService.bulkUpdateSellDateIdIn(
-            products.stream().map(BaseEntity::getId).toList(), request.sellDate()
-        );
+        List<Long> productIds = products.stream().map(BaseEntity::getId).toList();
+        int rows = productsService.bulkUpdateSellDateIdIn(productIds, request.sellDate());
+        productSnapshotCache.evictAfterCommit(productIds);
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(productIds));
 
         if (rows != products.size()) {
             throw new RuntimeException("제품 판매일 bulk update row 불일치");
@@ -174,6 +189,7 @@ public class AdminProductAppService {
 
             orders.add(productOrder);
         }
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(request.productIds()));
 
         return productOrderService.saveAll(orders);
     }
@@ -186,6 +202,7 @@ public class AdminProductAppService {
 
         productCategoryService
                 .save(ProductCategory.builder().name(request.name()).imageUrl(request.imageUrl()).build());
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(List.of()));
     }
 
     @Transactional
@@ -199,11 +216,13 @@ public class AdminProductAppService {
         if (request.imageUrl() != null) {
             category.setImageUrl(request.imageUrl());
         }
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(List.of()));
     }
 
     @Transactional
     public void deleteCategory(String categoryName) {
         productCategoryService.delete(categoryName);
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(List.of()));
     }
 
     @Transactional
@@ -213,11 +232,13 @@ public class AdminProductAppService {
 
         category.getProducts().clear();
         category.getProducts().addAll(productsService.findAllByIdIn(request.productIds()));
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(request.productIds()));
     }
 
     @Transactional(readOnly = true)
     public AdminProductListItems getAll() {
         List<Product> entities = productsService.findAllOrderBySellDateDesc();
+        productsService.fillSlotTotals(entities);
 
         return AdminProductListItems.from(entities);
     }
@@ -225,6 +246,7 @@ public class AdminProductAppService {
     @Transactional(readOnly = true)
     public AdminProductDetailResponse getDetail(long productId) {
         Product product = productsService.findByIdWithDetailImages(productId);
+        productsService.fillSlotTotals(List.of(product));
 
         return AdminProductDetailResponse.from(product);
     }
@@ -244,6 +266,7 @@ public class AdminProductAppService {
 
         // 카테고리(주인) 쪽 컬렉션에 추가해야 DB에 반영됨
         category.getProducts().add(product);
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
     }
 
     @Transactional
@@ -253,6 +276,7 @@ public class AdminProductAppService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 카테고리"));
 
         category.getProducts().remove(product);
+        eventPublisher.publishEvent(ProductCatalogChangedEvent.of(productId));
     }
 
 
@@ -268,6 +292,7 @@ public class AdminProductAppService {
                 category.setSortOrder(i);
             }
         }
+        eventPublisher.publishEvent(new ProductCatalogChangedEvent(List.of()));
     }
 
     private void saveProductLog(long productId, Integer quantity, AdminProductAction action) {
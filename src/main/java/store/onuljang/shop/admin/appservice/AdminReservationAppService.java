@@ -10,8 +10,12 @@ import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shop.admin.dto.AdminUpdateReservationsRequest;
 import store.onuljang.shop.admin.dto.AdminReservationListResponse;
 import store.onuljang.shop.admin.dto.AdminReservationsTodayResponse;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsRequest;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsResponse;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsResponse.AdminTransitionResult;
 import store.onuljang.shop.admin.exception.AlreadyNoShowAdminException;
 import store.onuljang.shared.exception.UserValidateException;
+import store.onuljang.shared.user.event.UserMessageBatchEvent;
 import store.onuljang.shared.user.event.UserMessageEvent;
 import store.onuljang.shared.user.entity.*;
 import store.onuljang.shop.product.entity.*;
@@ -36,7 +40,13 @@ import store.onuljang.shared.util.TimeUtil;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -46,16 +56,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
 public class AdminReservationAppService {
+    private static final int NO_SHOW_CHUNK_SIZE = 1_000;
+
     ReservationService reservationService;
     UserService userService;
     ProductsService productService;
+    ProductStockService productStockService;
     AggAppliedService aggAppliedService;
     UserWarnService userWarnService;
     ApplicationEventPublisher eventPublisher;
-
+    ReservationLockService reservationLockService;
+    ReservationSalesEngine reservationSalesEngine;
+    ReservationRestrictionService reservationRestrictionService;
+    ReservationVersionGuard reservationVersionGuard;
+
+    /**
+     * 예약을 잠그지 않고 읽어 상태를 바꾼다. 화면이 본 버전(expectedVersion)과 다르거나
+     * 그 사이 고객이 먼저 바꿨으면 기다리지 않고 최신 상태를 담은 409 를 돌려준다.
+     */
     @Transactional
-    public void updateReservationStatus(long id, ReservationStatus status) {
-        Reservation reservation = reservationService.findByIdWithLock(id);
+    public void updateReservationStatus(long id, ReservationStatus status, Long expectedVersion) {
+        Reservation reservation = reservationService.findById(id);
+        reservationVersionGuard.verify(reservation, expectedVersion);
         if (status == ReservationStatus.NO_SHOW) {
             throw new IllegalArgumentException("노쇼 경고로만 노쇼 상태로 변경할 수 있습니다.");
         }
@@ -63,25 +85,32 @@ public class AdminReservationAppService {
             throw new IllegalArgumentException("노쇼 예약은 변경할 수 없습니다.");
         }
         reservation.setStatus(status);
+        reservationVersionGuard.flush(id);
     }
 
+    /**
+     * 재고와 유저 카운터를 함께 바꾸므로 상품 → 유저는 잠그고, 예약은 락 없이 읽어 버전으로 충돌을 검사한다.
+     */
     @Transactional
-    public void handleNoShow(long id) {
-        Reservation reservation = reservationService.findByIdWithLock(id);
+    public void handleNoShow(long id, Long expectedVersion) {
+        ReservationLocks locks = reservationLockService.lockForVersionedEdit(id);
+        Reservation reservation = locks.reservation();
+        reservationVersionGuard.verify(reservation, expectedVersion);
         if (reservation.isNoShow()) {
             throw new AlreadyNoShowAdminException("이미 노쇼 처리된 예약입니다;");
         }
 
-        Product product = productService.findByIdWithLock(reservation.getProduct().getId());
-        Users user = userService.findByUidWithLock(reservation.getUser().getUid());
+        Product product = locks.product();
+        Users user = locks.user();
 
         validateUserReservation(user, reservation);
 
         reservation.noShow();
-        product.cancel(reservation.getQuantity());
+        productStockService.cancel(product, reservation.getQuantity());
         user.noShow(reservation.getQuantity(), reservation.getAmount());
 
         userWarnService.noShow(user);
+        reservationVersionGuard.flush(id);
 
         publishUserNoShowMessage(user.getUid());
         aggAppliedService.markSingle(reservation.getId(), AggPhase.NO_SHOW_MINUS);
@@ -102,10 +131,78 @@ public class AdminReservationAppService {
 
         validateBulkReservationsUpdate(reservationList, request.status());
 
+        // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 실시간 매출 집계에 직접 반영
+        for (Reservation reservation : reservationList) {
+            ReservationSales sales = reservation.currentSales();
+            reservationSalesEngine.applyAfterCommit(sales, sales.withStatus(request.status()));
+        }
+
         return reservationService.bulkUpdateReservationsStatus(request.reservationIds(), request.status(),
                 TimeUtil.nowDateTime());
     }
 
+    /**
+     * 여러 유저의 예약을 항목마다 검증해 상태를 바꾸고 항목별 결과를 돌려준다.
+     * 유저는 잠그지 않고 예약 행만 id 순서로 잠근 뒤, (변경 전 → 변경 후) 상태 묶음마다 UPDATE 한 번으로 반영한다.
+     * 지난 픽업일 예약은 야간 집계 표시가 이미 지나갔으므로 정산 전 → 정산 상태로 바뀐 예약만 agg_applied 를 함께 남긴다.
+     * 정산 상태끼리의 변경은 이미 한 번 더해졌으므로 표시하지 않고, 정산 → 정산 전으로 되돌리는 변경은 빼는 표시가 없어 거절한다.
+     */
+    @Transactional
+    public AdminTransitionReservationsResponse transitionReservations(AdminTransitionReservationsRequest request) {
+        Set<Long> ids = request.items().stream()
+            .map(AdminTransitionReservationsRequest.Item::reservationId)
+            .collect(Collectors.toSet());
+        Map<Long, ReservationTransitionRow> rows = reservationService.findTransitionRowsByIdInWithLock(ids).stream()
+            .collect(Collectors.toMap(ReservationTransitionRow::getId, row -> row));
+
+        LocalDate today = TimeUtil.nowDate();
+        List<AdminTransitionResult> results = new ArrayList<>(request.items().size());
+        Map<ReservationStatus, Map<ReservationStatus, List<ReservationTransitionRow>>> groups =
+            new EnumMap<>(ReservationStatus.class);
+        Set<Long> seen = new HashSet<>();
+        for (AdminTransitionReservationsRequest.Item item : request.items()) {
+            ReservationTransitionRow row = rows.get(item.reservationId());
+            ReservationStatus from = row == null ? null : ReservationStatus.valueOf(row.getStatus());
+            String error = validateTransition(row, from, item.status(), seen.add(item.reservationId()), today);
+            if (error != null) {
+                results.add(AdminTransitionResult.fail(item.reservationId(), from, item.status(), error));
+                continue;
+            }
+
+            groups.computeIfAbsent(from, key -> new EnumMap<>(ReservationStatus.class))
+                .computeIfAbsent(item.status(), key -> new ArrayList<>())
+                .add(row);
+            results.add(AdminTransitionResult.success(item.reservationId(), from, item.status()));
+        }
+
+        LocalDateTime now = TimeUtil.nowDateTime();
+        Map<AggPhase, Set<Long>> aggMarkers = new EnumMap<>(AggPhase.class);
+        groups.forEach((from, byTo) -> byTo.forEach((to, group) -> {
+            List<Long> groupIds = group.stream().map(ReservationTransitionRow::getId).toList();
+            int updated = reservationService.updateStatusWhereIdInAndStatus(groupIds, from, to, now);
+            if (updated != groupIds.size()) {
+                throw new IllegalStateException("동시에 변경된 예약이 있습니다.");
+            }
+
+            // 정산 상태에서 온 변경은 이미 집계 표시가 있으므로 다시 남기지 않는다
+            AggPhase phase = aggPhaseOf(from) == null ? aggPhaseOf(to) : null;
+            for (ReservationTransitionRow row : group) {
+                // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 실시간 매출 집계에 직접 반영
+                ReservationSales sales = new ReservationSales(row.getPickupDate(), row.getProductId(), from,
+                    row.getQuantity(), row.getAmount());
+                reservationSalesEngine.applyAfterCommit(sales, sales.withStatus(to));
+
+                if (phase != null && row.getPickupDate().isBefore(today)) {
+                    aggMarkers.computeIfAbsent(phase, key -> new HashSet<>()).add(row.getId());
+                }
+            }
+            log.info("[ReservationTransition] {} -> {}, updated={}", from, to, updated);
+        }));
+        aggMarkers.forEach((phase, markerIds) -> aggAppliedService.markMany(markerIds, phase));
+
+        return AdminTransitionReservationsResponse.from(results);
+    }
+
     // batch
     @Transactional
     public long processNoShowBatch(LocalDate today, LocalDateTime now) {
@@ -121,6 +218,25 @@ public class AdminReservationAppService {
         Set<Long> targetIds = targets.stream()
             .map(ReservationWarnTarget::reservationId)
             .collect(Collectors.toSet());
+        Set<String> targetUids = targets.stream()
+            .map(ReservationWarnTarget::userUid)
+            .collect(Collectors.toSet());
+
+        // 1. 전역 락 순서(상품 → 유저 → 예약)대로 락 선점
+        //    재고 복원 대상 상품과, 이용제한 시 취소될 수 있는 미래 예약의 상품까지 먼저 잠근다.
+        List<ProductRestockTarget> restockTargets = reservationService
+            .findAllByIdInAndStatusGroupByProductIdOrderByProductId(targetIds, before);
+        Set<Long> restockProductIds = restockTargets.stream()
+            .map(ProductRestockTarget::productId)
+            .collect(Collectors.toSet());
+        Set<Long> futureProductIds = new HashSet<>(reservationRestrictionService.findCancelableProductIds(targetUids,
+            today));
+
+        Set<Long> productIds = new HashSet<>(restockProductIds);
+        productIds.addAll(futureProductIds);
+
+        Map<Long, Product> lockedProducts = reservationLockService.lockProducts(productIds);
+        reservationLockService.lockUsers(targetUids);
 
         // 2. 예약 상태 일괄 변경
         long updateReservationRows = reservationService.updateAllReservationsWhereIdIn(targetIds, today, before, after,
@@ -128,38 +244,43 @@ public class AdminReservationAppService {
         if (updateReservationRows != targetIds.size()) {
             throw new IllegalStateException("동시에 변경된 예약이 있어 취소/재고복원이 일치하지 않습니다.");
         }
+        for (ReservationSales sales : reservationService.findSalesByIdIn(targetIds)) {
+            reservationSalesEngine.applyAfterCommit(sales.withStatus(before), sales);
+        }
 
-        // 3. 변경된 예약 상태 기반 재고 복원 (또는 노쇼-마이너스 등)
-        List<ProductRestockTarget> restockTargets = reservationService
-                .findAllByIdInAndStatusGroupByProductIdOrderByProductId(targetIds, after);
-
+        // 3. 슬롯 분할 상품은 슬롯을 다시 나눠야 하므로 행 단위로 재고 복원
         for (ProductRestockTarget restockTarget : restockTargets) {
-            Product product = productService.findByIdWithLock(restockTarget.productId());
-
-            product.addStock(restockTarget.quantity());
+            Product product = lockedProduct(lockedProducts, restockTarget.productId());
+            if (product.isStockStriped()) {
+                productStockService.addStock(product, restockTarget.quantity());
+            }
         }
 
-        // 4. 유저 warn(노쇼 row만큼) + 메시지(1회)
-        List<UserSalesRollbackTarget> userSalesRollbackTargets = reservationService
-                .findUserSalesRollbackTargets(targetIds, after);
-
-        for (UserSalesRollbackTarget target : userSalesRollbackTargets) {
-            Users user = userService.findByUidWithLock(target.userUid());
-            user.cancelReserve(target.totalQuantity(), target.totalAmount());
+        // 4. 나머지 상품 재고 복원 + 유저 주문/매출 롤백 + warn(노쇼 row만큼) 누적 + 경고 이력을 집합 단위로 처리
+        //    아래 UPDATE 들은 영속성 컨텍스트를 비우므로 이후에는 엔티티를 다시 조회한다.
+        for (List<Long> chunk : chunks(targetIds)) {
+            productStockService.restockAll(chunk, after, restockProductIds);
+            userService.rollbackSalesAndWarnByReservations(chunk, after);
+            userWarnService.noShowsByReservations(chunk, after, now);
+        }
 
-            user.warn(target.rows());
-            userWarnService.noShows(user, target.rows());
-            publishUserNoShowMessage(user.getUid());
+        // 5. 노쇼 안내 메시지(유저당 1회)는 커밋 후 한 번에 적재
+        publishUserNoShowMessages(targetUids);
 
-            // 5. 이용제한 부여
-            applyRestriction(user, today);
-        }
+        // 6. 이용제한 부여 (월 경고 2회 이상인 유저만) + 제한 기간 내 미래 예약을 상품/유저 단위로 합쳐 한 번에 취소
+        Map<Long, Product> futureProducts = reservationLockService.lockProducts(futureProductIds);
+        reservationRestrictionService.restrictAll(
+            userService.findAllByUidInAndMonthlyWarnCountAtLeastWithLock(targetUids, 2), today, futureProducts);
 
         return updateReservationRows;
     }
 
     @Transactional(readOnly = true)
     public AdminReservationsTodayResponse getTodaySales() {
+        if (reservationSalesEngine.isServing()) {
+            return AdminReservationsTodayResponse.from(liveTodaySales());
+        }
+
         List<ReservationSalesRow> salesRows = reservationService.findPickupDateSales(
             Set.of(ReservationStatus.PENDING, ReservationStatus.PICKED, ReservationStatus.SELF_PICK, ReservationStatus.SELF_PICK_READY),
             TimeUtil.nowDate()
@@ -175,6 +296,59 @@ public class AdminReservationAppService {
         return AdminReservationListResponse.from(entities);
     }
 
+    private List<ReservationSalesRow> liveTodaySales() {
+        List<ProductLiveAggRow> liveRows = reservationSalesEngine.findActiveByDate(TimeUtil.nowDate());
+        Map<Long, String> productNames = productService.findAllByIdIn(liveRows.stream()
+                .map(ProductLiveAggRow::productId)
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Product::getName));
+
+        return liveRows.stream()
+            .map(row -> (ReservationSalesRow) new LiveSalesRow(row.productId(), productNames.get(row.productId()),
+                Math.toIntExact(row.activeQuantity()), row.activeAmount()))
+            .sorted(Comparator.comparing(ReservationSalesRow::getProductName,
+                Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+    }
+
+    private static String validateTransition(ReservationTransitionRow row, ReservationStatus from,
+            ReservationStatus to, boolean firstOccurrence, LocalDate today) {
+        if (!firstOccurrence) {
+            return "같은 예약이 중복되었습니다.";
+        }
+        if (row == null) {
+            return "존재하지 않는 예약입니다.";
+        }
+        if (to == ReservationStatus.NO_SHOW) {
+            return "노쇼 경고로만 노쇼 상태로 변경할 수 있습니다.";
+        }
+        if (to == ReservationStatus.CANCELED) {
+            return "예약 취소는 한번에 변경이 불가능합니다.";
+        }
+        if (from == ReservationStatus.NO_SHOW) {
+            return "노쇼 예약은 변경할 수 없습니다.";
+        }
+        if (from == ReservationStatus.CANCELED) {
+            return "취소된 예약은 변경할 수 없습니다.";
+        }
+        if (from == to) {
+            return "변경하려는 예약의 상태가 동일합니다.";
+        }
+        if (aggPhaseOf(from) != null && aggPhaseOf(to) == null && row.getPickupDate().isBefore(today)) {
+            return "집계된 지난 픽업일 예약은 수령 전 상태로 되돌릴 수 없습니다.";
+        }
+        return null;
+    }
+
+    private static AggPhase aggPhaseOf(ReservationStatus status) {
+        return switch (status) {
+            case PICKED -> AggPhase.PICKED_PLUS;
+            case SELF_PICK_READY -> AggPhase.SELF_PICKUP_READY_PLUS;
+            default -> null;
+        };
+    }
+
     private void validateBulkReservationsUpdate(List<Reservation> reservationSet, ReservationStatus beforeStatus) {
         if (reservationSet == null || reservationSet.isEmpty()) {
             throw new IllegalArgumentException("예약이 없습니다.");
@@ -207,36 +381,9 @@ public class AdminReservationAppService {
         }
     }
 
-    private void applyRestriction(Users user, LocalDate today) {
-        int monthlyWarnCount = user.getMonthlyWarnCount();
-        if (monthlyWarnCount < 2) {
-            return;
-        }
-
-        LocalDate restrictedUntil = (monthlyWarnCount == 2)
-                ? today.plusDays(2)
-                : today.plusDays(5);
-
-        user.restrict(restrictedUntil);
-
-        // 6. 제한 기간 내 미래 PENDING 예약 취소
-        cancelFutureReservations(user, today, restrictedUntil);
-    }
-
-    private void cancelFutureReservations(Users user, LocalDate today, LocalDate restrictedUntil) {
-        List<Reservation> futureReservations = reservationService
-                .findFutureReservationsByUserAndPeriod(
-                        user.getUid(), ReservationStatus.PENDING,
-                        today.plusDays(1), restrictedUntil);
-
-        for (Reservation reservation : futureReservations) {
-            reservation.changeStatus(ReservationStatus.CANCELED);
-
-            Product product = productService.findByIdWithLock(reservation.getProduct().getId());
-            product.addStock(reservation.getQuantity());
-
-            user.cancelReserve(reservation.getQuantity(), reservation.getAmount());
-        }
+    // 선점 이후 새로 생긴 예약의 상품만 뒤늦게 잠근다. 순서가 어긋나 데드락이 나면 스케줄러 재시도로 복구된다.
+    private Product lockedProduct(Map<Long, Product> lockedProducts, long productId) {
+        return lockedProducts.computeIfAbsent(productId, productService::findByIdWithLock);
     }
 
     private void validateUserReservation(Users user, Reservation reservation) {
@@ -245,6 +392,23 @@ public class AdminReservationAppService {
         }
     }
 
+    private void publishUserNoShowMessages(Collection<String> uids) {
+        eventPublisher.publishEvent(UserMessageBatchEvent.builder()
+            .userUids(List.copyOf(uids))
+            .type(MessageType.USER_NO_SHOW)
+            .build());
+    }
+
+    // 예약 id 를 IN 목록 크기 제한에 맞춰 나눈다
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> sorted = ids.stream().sorted().toList();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += NO_SHOW_CHUNK_SIZE) {
+            chunks.add(sorted.subList(from, Math.min(from + NO_SHOW_CHUNK_SIZE, sorted.size())));
+        }
+        return chunks;
+    }
+
     private void publishUserNoShowMessage(String uid) {
         eventPublisher.publishEvent(UserMessageEvent.builder()
             .userUid(uid)
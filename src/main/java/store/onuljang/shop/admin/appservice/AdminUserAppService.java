@@ -12,11 +12,9 @@ import store.onuljang.shop.admin.dto.AdminCustomerScrollResponse;
 import store.onuljang.shop.admin.dto.AdminCustomerWarnResponse;
 import store.onuljang.shared.user.event.UserMessageEvent;
 import store.onuljang.shop.product.entity.Product;
-import store.onuljang.shop.reservation.entity.Reservation;
 import store.onuljang.shared.user.entity.UserWarn;
 import store.onuljang.shared.user.entity.Users;
 import store.onuljang.shared.entity.enums.MessageType;
-import store.onuljang.shared.entity.enums.ReservationStatus;
 import store.onuljang.shared.user.service.*;
 import store.onuljang.shop.product.service.*;
 import store.onuljang.shop.reservation.service.*;
@@ -30,6 +28,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import store.onuljang.shared.util.TimeUtil;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -41,8 +40,8 @@ public class AdminUserAppService {
     UserService userService;
     UserWarnService userWarnService;
     ApplicationEventPublisher eventPublisher;
-    ReservationService reservationService;
-    ProductsService productsService;
+    ReservationLockService reservationLockService;
+    ReservationRestrictionService reservationRestrictionService;
 
     @Transactional(readOnly = true)
     public AdminCustomerScrollResponse getUsers(AdminCustomerScrollRequest request) {
@@ -85,13 +84,17 @@ public class AdminUserAppService {
 
     @Transactional
     public void warn(UUID uid) {
+        LocalDate today = TimeUtil.nowDate();
+
+        // 전역 락 순서(상품 → 유저)를 지키기 위해 이용제한 시 취소될 수 있는 예약의 상품을 먼저 잠근다.
+        Map<Long, Product> lockedProducts = reservationLockService.lockProducts(
+                reservationRestrictionService.findCancelableProductIds(List.of(uid.toString()), today));
         Users user = userService.findByUidWithLock(uid.toString());
 
         user.warn();
         userWarnService.warnByAdmin(user);
 
-        LocalDate today = TimeUtil.nowDate();
-        applyRestriction(user, today);
+        reservationRestrictionService.restrictAll(List.of(user), today, lockedProducts);
 
         publishUserNoShowMessage(uid);
     }
@@ -110,37 +113,6 @@ public class AdminUserAppService {
         user.liftRestriction();
     }
 
-    private void applyRestriction(Users user, LocalDate today) {
-        int warnCount = user.getMonthlyWarnCount();
-        if (warnCount < 2) {
-            return;
-        }
-
-        LocalDate restrictedUntil = (warnCount == 2)
-                ? today.plusDays(2)
-                : today.plusDays(5);
-
-        user.restrict(restrictedUntil);
-
-        cancelFutureReservations(user, today, restrictedUntil);
-    }
-
-    private void cancelFutureReservations(Users user, LocalDate today, LocalDate restrictedUntil) {
-        List<Reservation> futureReservations = reservationService
-                .findFutureReservationsByUserAndPeriod(
-                        user.getUid(), ReservationStatus.PENDING,
-                        today.plusDays(1), restrictedUntil);
-
-        for (Reservation reservation : futureReservations) {
-            reservation.changeStatus(ReservationStatus.CANCELED);
-
-            Product product = productsService.findByIdWithLock(reservation.getProduct().getId());
-            product.addStock(reservation.getQuantity());
-
-            user.cancelReserve(reservation.getQuantity(), reservation.getAmount());
-        }
-    }
-
     private void publishUserNoShowMessage(UUID uid) {
         eventPublisher.publishEvent(UserMessageEvent.builder()
             .userUid(uid.toString())
@@ -1,5 +1,6 @@
 package store.onuljang.shop.admin.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.PastOrPresent;
@@ -7,14 +8,21 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import store.onuljang.shop.admin.appservice.AdminAggregationAppService;
+import store.onuljang.shop.admin.appservice.AdminAggregationRebuildAppService;
+import store.onuljang.shop.admin.dto.AdminAggRebuildResponse;
 import store.onuljang.shop.admin.dto.AdminReservationDetailsResponse;
 import store.onuljang.shop.admin.dto.AdminReservationSummaryResponse;
+import store.onuljang.shop.admin.dto.AdminSalesRollupResponse;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/admin/shop/agg/")
@@ -23,6 +31,7 @@ import java.time.LocalDate;
 @Validated
 public class AdminAggregationController {
     AdminAggregationAppService adminAggregationAppService;
+    AdminAggregationRebuildAppService adminAggregationRebuildAppService;
 
     @GetMapping("/summary")
     public ResponseEntity<AdminReservationSummaryResponse> getSummary(
@@ -31,9 +40,52 @@ public class AdminAggregationController {
         return ResponseEntity.ok(adminAggregationAppService.getAggregationSummary(from, to));
     }
 
+    @GetMapping("/summary/rollup")
+    public ResponseEntity<AdminSalesRollupResponse> getSummaryRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull @PastOrPresent LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull @PastOrPresent LocalDate to) {
+        return ResponseEntity.ok(adminAggregationAppService.getSalesRollup(from, to));
+    }
+
     @GetMapping("/sales")
     public ResponseEntity<AdminReservationDetailsResponse> getDetails(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull @Past LocalDate date) {
         return ResponseEntity.ok(adminAggregationAppService.getDetail(date));
     }
+
+    @GetMapping("/export")
+    public void exportSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull @PastOrPresent LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull @PastOrPresent LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        adminAggregationAppService.validateExportRange(from, to);
+
+        String filename = "sales_" + from + "_" + to + (gzip ? ".csv.gz" : ".csv");
+        response.setContentType(gzip ? "application/gzip" : "text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(filename)
+            .build()
+            .toString());
+
+        if (!gzip) {
+            adminAggregationAppService.exportSales(from, to, response.getOutputStream());
+            return;
+        }
+        GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 64 * 1024);
+        adminAggregationAppService.exportSales(from, to, out);
+        out.finish();
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<AdminAggRebuildResponse> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull @Past LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @NotNull @Past LocalDate to) {
+        return ResponseEntity.accepted().body(adminAggregationRebuildAppService.start(from, to));
+    }
+
+    @GetMapping("/rebuild")
+    public ResponseEntity<AdminAggRebuildResponse> getRebuildProgress() {
+        return ResponseEntity.ok(adminAggregationRebuildAppService.getProgress());
+    }
 }
@@ -3,6 +3,7 @@ package store.onuljang.shop.admin.controller;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -14,6 +15,8 @@ import store.onuljang.shop.admin.appservice.AdminReservationAppService;
 import store.onuljang.shop.admin.dto.AdminUpdateReservationsRequest;
 import store.onuljang.shop.admin.dto.AdminReservationListResponse;
 import store.onuljang.shop.admin.dto.AdminReservationsTodayResponse;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsRequest;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsResponse;
 import store.onuljang.shared.entity.enums.ReservationStatus;
 
 import java.time.LocalDate;
@@ -33,8 +36,11 @@ public class AdminReservationController {
     }
 
     @PatchMapping("/{id}/no-show")
-    public ResponseEntity<Void> handleNoShow(@PathVariable @Positive @NotNull Long id) {
-        adminReservationAppService.handleNoShow(id);
+    public ResponseEntity<Void> handleNoShow(
+        @PathVariable @Positive @NotNull Long id,
+        @RequestParam(required = false) @PositiveOrZero Long version)
+    {
+        adminReservationAppService.handleNoShow(id, version);
 
         return ResponseEntity.ok().build();
     }
@@ -42,9 +48,10 @@ public class AdminReservationController {
     @PatchMapping("/{id}/{status}")
     public ResponseEntity<Void> updateReservationStatus(
         @PathVariable @Positive @NotNull Long id,
-        @PathVariable @NotNull ReservationStatus status)
+        @PathVariable @NotNull ReservationStatus status,
+        @RequestParam(required = false) @PositiveOrZero Long version)
     {
-        adminReservationAppService.updateReservationStatus(id, status);
+        adminReservationAppService.updateReservationStatus(id, status, version);
 
         return ResponseEntity.ok().build();
     }
@@ -55,6 +62,12 @@ public class AdminReservationController {
         return ResponseEntity.ok(adminReservationAppService.bulkUpdateReservationsStatus(request));
     }
 
+    @PatchMapping("/status/transitions")
+    public ResponseEntity<AdminTransitionReservationsResponse> transitionReservations(
+            @Valid @NotNull @RequestBody AdminTransitionReservationsRequest request) {
+        return ResponseEntity.ok(adminReservationAppService.transitionReservations(request));
+    }
+
     @GetMapping("/sales/today")
     public ResponseEntity<AdminReservationsTodayResponse> getTodaySails() {
         return ResponseEntity.ok(adminReservationAppService.getTodaySales());
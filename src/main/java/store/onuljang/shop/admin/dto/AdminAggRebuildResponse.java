@@ -0,0 +1,50 @@
+package store.onuljang.shop.admin.dto;
+
+import lombok.Builder;
+import store.onuljang.shared.entity.enums.AggRebuildStatus;
+import store.onuljang.shop.product.entity.AggRebuildProgress;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+public record AdminAggRebuildResponse(
+    String jobId,
+    AggRebuildStatus status,
+    LocalDate from,
+    LocalDate to,
+    int totalDays,
+    int completedDays,
+    int failedDays,
+    long rows,
+    long elapsedMs,
+    double daysPerSecond,
+    double rowsPerSecond,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String error
+) {
+    public static AdminAggRebuildResponse from(AggRebuildProgress progress) {
+        long elapsedMs = progress.elapsedMs();
+        double seconds = Math.max(elapsedMs, 1) / 1000.0;
+        int completedDays = progress.getCompletedDays().get();
+        long rows = progress.getRows().get();
+
+        return AdminAggRebuildResponse.builder()
+            .jobId(progress.getJobId())
+            .status(progress.getStatus())
+            .from(progress.getFrom())
+            .to(progress.getTo())
+            .totalDays(progress.getTotalDays())
+            .completedDays(completedDays)
+            .failedDays(progress.getFailedDays().get())
+            .rows(rows)
+            .elapsedMs(elapsedMs)
+            .daysPerSecond(completedDays / seconds)
+            .rowsPerSecond(rows / seconds)
+            .startedAt(progress.getStartedAt())
+            .finishedAt(progress.getFinishedAt())
+            .error(progress.getError())
+            .build();
+    }
+}
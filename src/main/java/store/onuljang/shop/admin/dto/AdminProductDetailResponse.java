@@ -14,6 +14,7 @@ public record AdminProductDetailResponse (
     String name,
     BigDecimal price,
     int stock,
+    int stockSlots,
     long totalSold,
     String productUrl,
     List<String> detailUrls,
@@ -28,6 +29,7 @@ public record AdminProductDetailResponse (
             .name(product.getName())
             .price(product.getPrice())
             .stock(product.getStock())
+            .stockSlots(product.getStockSlotCount())
             .description(product.getDescription())
             .productUrl(product.getProductUrl())
             .detailUrls(product.getDetailImages())
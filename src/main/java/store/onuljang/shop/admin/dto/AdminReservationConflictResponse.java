@@ -0,0 +1,21 @@
+package store.onuljang.shop.admin.dto;
+
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shop.reservation.entity.ReservationVersionState;
+
+/**
+ * 버전 충돌 응답. 화면은 최신 상태와 버전으로 갱신한 뒤 다시 시도한다.
+ */
+public record AdminReservationConflictResponse(
+    String state,
+    String message,
+    long reservationId,
+    ReservationStatus status,
+    int quantity,
+    long version
+) {
+    public static AdminReservationConflictResponse of(String message, ReservationVersionState current) {
+        return new AdminReservationConflictResponse("RESERVATION_CONFLICT", message, current.reservationId(),
+            current.status(), current.quantity(), current.version());
+    }
+}
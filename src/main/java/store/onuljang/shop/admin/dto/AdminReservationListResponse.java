@@ -23,7 +23,8 @@ public record AdminReservationListResponse(
         int quantity,
         BigDecimal amount,
         ReservationStatus status,
-        LocalDateTime createdAt)
+        LocalDateTime createdAt,
+        Long version)
     {
         public static AdminReservationResponse from(Reservation entity) {
             return AdminReservationResponse.builder()
@@ -36,6 +37,7 @@ public record AdminReservationListResponse(
                 .amount(entity.getAmount())
                 .status(entity.getStatus())
                 .createdAt(entity.getCreatedAt())
+                .version(entity.getVersion())
                 .build();
         }
     }
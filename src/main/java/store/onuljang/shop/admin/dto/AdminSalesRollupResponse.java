@@ -0,0 +1,35 @@
+package store.onuljang.shop.admin.dto;
+
+import lombok.Builder;
+import store.onuljang.shared.entity.enums.AggPeriod;
+import store.onuljang.shop.product.entity.SalesSummaryRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record AdminSalesRollupResponse(
+    List<AdminRollupResponse> summary
+) {
+    // date ~ endDate 구간 합계. 긴 기간은 월/주 단위 행으로 묶여 내려간다 (period)
+    @Builder
+    public record AdminRollupResponse(LocalDate date, LocalDate endDate, AggPeriod period, BigDecimal amount,
+            int quantity) {
+        public static AdminRollupResponse from(SalesSummaryRow row) {
+            return AdminRollupResponse.builder()
+                .date(row.from())
+                .endDate(row.to())
+                .period(row.period())
+                .amount(row.amount())
+                .quantity(row.quantity())
+            .build();
+        }
+    }
+
+    public static AdminSalesRollupResponse from(List<SalesSummaryRow> rows) {
+        return AdminSalesRollupResponse.builder()
+            .summary(rows.stream().map(AdminRollupResponse::from).toList())
+            .build();
+    }
+}
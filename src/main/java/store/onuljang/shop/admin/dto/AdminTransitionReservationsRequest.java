@@ -0,0 +1,23 @@
+package store.onuljang.shop.admin.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+
+import java.util.List;
+
+public record AdminTransitionReservationsRequest(
+    @NotEmpty
+    @Size(max = 1000, message = "한 번에 1000건까지 변경할 수 있습니다.")
+    List<@Valid @NotNull Item> items
+) {
+    public record Item(
+        @NotNull @Positive Long reservationId,
+        @NotNull ReservationStatus status
+    ) {
+
+    }
+}
@@ -0,0 +1,39 @@
+package store.onuljang.shop.admin.dto;
+
+import lombok.Builder;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+
+import java.util.List;
+
+@Builder
+public record AdminTransitionReservationsResponse(
+    int requested,
+    int updated,
+    List<AdminTransitionResult> results
+) {
+    @Builder
+    public record AdminTransitionResult(
+        long reservationId,
+        ReservationStatus from,
+        ReservationStatus to,
+        boolean success,
+        String message
+    ) {
+        public static AdminTransitionResult success(long reservationId, ReservationStatus from, ReservationStatus to) {
+            return new AdminTransitionResult(reservationId, from, to, true, null);
+        }
+
+        public static AdminTransitionResult fail(long reservationId, ReservationStatus from, ReservationStatus to,
+                String message) {
+            return new AdminTransitionResult(reservationId, from, to, false, message);
+        }
+    }
+
+    public static AdminTransitionReservationsResponse from(List<AdminTransitionResult> results) {
+        return AdminTransitionReservationsResponse.builder()
+            .requested(results.size())
+            .updated((int) results.stream().filter(AdminTransitionResult::success).count())
+            .results(results)
+            .build();
+    }
+}
@@ -41,5 +41,9 @@ public record AdminUpdateProductDetailsRequest(
     sellTime,
 
     Boolean
-    updateSellTime
+    updateSellTime,
+
+    @Min(value = 0, message = "재고 슬롯 개수는 0 이상이어야 합니다")
+    @Max(value = 32, message = "재고 슬롯 개수는 32 이하여야 합니다")
+    Integer stockSlots
 ) {}
@@ -0,0 +1,12 @@
+package store.onuljang.shop.admin.exception;
+
+import store.onuljang.shared.exception.CustomRuntimeException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class AggregationRebuildRunningException extends CustomRuntimeException {
+    public AggregationRebuildRunningException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
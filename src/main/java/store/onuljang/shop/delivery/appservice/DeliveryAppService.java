@@ -215,8 +215,7 @@ public class DeliveryAppService {
     // 배달 주문 생성 및 저장
     private DeliveryOrder createDeliveryOrder(Users user, DeliveryReadyRequest request, List<Reservation> reservations,
                   DeliveryFeeCalculator.FeeResult feeResult) {
-        String displayCode = DisplayCodeGenerator.generateUnique("D", TimeUtil.nowDateTime(),
-                deliveryOrderService::existsByDisplayCode);
+        String displayCode = DisplayCodeGenerator.next("D", TimeUtil.nowDateTime());
 
         return deliveryOrderService.save(DeliveryOrder.builder()
                 .user(user)
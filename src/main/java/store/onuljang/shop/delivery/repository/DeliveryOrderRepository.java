@@ -24,6 +24,4 @@ public interface DeliveryOrderRepository extends JpaRepository<DeliveryOrder, Lo
 
     List<DeliveryOrder> findByStatusAndKakaoTidIsNotNullAndCreatedAtBefore(
         DeliveryStatus status, LocalDateTime before);
-
-    boolean existsByDisplayCode(String displayCode);
 }
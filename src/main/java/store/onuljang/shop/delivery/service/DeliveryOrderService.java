@@ -94,10 +94,6 @@ public class DeliveryOrderService {
         return deliveryOrderRepository.findByUserAndStatus(user, DeliveryStatus.PENDING_PAYMENT);
     }
 
-    public boolean existsByDisplayCode(String displayCode) {
-        return deliveryOrderRepository.existsByDisplayCode(displayCode);
-    }
-
     public List<DeliveryOrder> findOutForDeliveryBefore(LocalDateTime cutoff) {
         return deliveryOrderRepository.findByStatusAndAcceptedAtBefore(DeliveryStatus.OUT_FOR_DELIVERY, cutoff);
     }
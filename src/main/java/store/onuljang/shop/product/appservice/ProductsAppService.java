@@ -4,13 +4,18 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shop.product.dto.ProductCategoryResponse;
 import store.onuljang.shop.product.dto.ProductDetailResponse;
 import store.onuljang.shop.product.dto.ProductListResponse;
 import store.onuljang.shop.product.entity.Product;
 import store.onuljang.shop.product.entity.ProductCategory;
+import store.onuljang.shop.product.service.ProductCatalogVersion;
 import store.onuljang.shop.product.service.ProductCategoryService;
+import store.onuljang.shop.product.service.ProductListCache;
+import store.onuljang.shop.product.service.ProductSingleFlight;
+import store.onuljang.shop.product.service.ProductStockBoard;
 import store.onuljang.shop.product.service.ProductsService;
 
 import java.time.LocalDate;
@@ -23,6 +28,10 @@ import java.util.List;
 public class ProductsAppService {
     ProductsService productsService;
     ProductCategoryService productCategoryService;
+    ProductListCache productListCache;
+    ProductSingleFlight productSingleFlight;
+    ProductCatalogVersion productCatalogVersion;
+    ProductStockBoard productStockBoard;
 
     @Transactional(readOnly = true)
     public ProductCategoryResponse getProductCategories() {
@@ -30,20 +39,46 @@ public class ProductsAppService {
         return ProductCategoryResponse.of(categories);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 같은 조건의 동시 요청은 조회 하나를 함께 기다린다.
+     * 기다리는 요청이 커넥션을 잡고 있지 않도록 트랜잭션 없이 시작하고, 조회마다 ProductsService 의 읽기 트랜잭션을 쓴다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ProductListResponse getProducts(LocalDate from, LocalDate to, Long categoryId) {
-        List<Product> products;
-        if (categoryId != null) {
-            products = productsService.findAllVisibleBetweenByCategory(from, to, true, categoryId);
-        } else {
-            products = productsService.findAllVisibleBetween(from, to, true);
-        }
-        return ProductListResponse.from(products);
+        String key = "products:" + from + ":" + to + ":" + categoryId + ":" + version();
+        return productSingleFlight.load(key, () -> loadProducts(from, to, categoryId));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ProductDetailResponse getDetail(long id) {
-        Product products = productsService.findByIdWithDetailImages(id);
-        return ProductDetailResponse.from(products);
+        return productSingleFlight.load("detail:" + id + ":" + version(),
+            () -> ProductDetailResponse.from(productsService.findByIdWithDetailImages(id)));
+    }
+
+    private ProductListResponse loadProducts(LocalDate from, LocalDate to, Long categoryId) {
+        ProductListResponse cached = productListCache.get(from, to, categoryId, () -> {
+            List<Product> products = findVisibleProducts(from, to, categoryId);
+            productsService.fillSlotTotals(products);
+            return ProductListResponse.from(products);
+        });
+        if (cached.response().isEmpty()) {
+            return cached;
+        }
+
+        // 재고/판매량은 예약마다 바뀌므로 목록 캐시와 별개로 커밋 후 고쳐 두는 메모리 사본에서 덮어쓴다
+        List<Long> productIds = cached.response().stream().map(ProductListResponse.ProductResponse::id).toList();
+        return cached.withStocks(productStockBoard.getAll(productIds));
+    }
+
+    // 변경 뒤에 온 요청이 변경 전에 시작한 조회를 받지 않도록 키에 넣는다
+    private String version() {
+        return productCatalogVersion.getCatalog() + ":" + productCatalogVersion.getStock();
+    }
+
+    private List<Product> findVisibleProducts(LocalDate from, LocalDate to, Long categoryId) {
+        if (categoryId != null) {
+            return productsService.findAllVisibleBetweenByCategory(from, to, true, categoryId);
+        }
+        return productsService.findAllVisibleBetween(from, to, true);
     }
 }
@@ -0,0 +1,29 @@
+package store.onuljang.shop.product.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class ProductListCacheConfigDto {
+    // 관리자 수정은 커밋 후 바로 비우고, 다른 인스턴스의 수정은 TTL 이 지나야 반영
+    @Value("${PRODUCT_LIST_CACHE.TTL_MS:60000}")
+    long ttlMs;
+
+    // 조회 기간이 요청마다 달라질 수 있어 키 수를 제한한다
+    @Value("${PRODUCT_LIST_CACHE.MAX_ENTRIES:256}")
+    int maxEntries;
+
+    // 목록에 덮어쓰는 재고/판매량 사본. 이 인스턴스의 변경은 커밋 후 바로, 다른 인스턴스의 변경은 이 시간이 지나야 반영
+    @Value("${PRODUCT_LIST_CACHE.STOCK_TTL_MS:5000}")
+    long stockTtlMs;
+
+    // 버전은 인스턴스마다 따로 세므로 다른 인스턴스의 재고 변경은 이 구간이 바뀌어야 ETag 에 반영
+    @Value("${PRODUCT_LIST_CACHE.ETAG_WINDOW_MS:5000}")
+    long etagWindowMs;
+
+    // 같은 조회가 진행 중이면 그 결과를 기다리는 최대 시간. 넘으면 직접 조회한다. 0 이면 합치지 않는다
+    @Value("${PRODUCT_LIST_CACHE.SINGLE_FLIGHT_MAX_WAIT_MS:3000}")
+    long singleFlightMaxWaitMs;
+}
@@ -0,0 +1,34 @@
+package store.onuljang.shop.product.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class ProductStockStreamConfigDto {
+    @Value("${STOCK_STREAM.ENABLED:true}")
+    boolean enabled;
+
+    // 동시에 유지하는 구독 수 상한. 넘으면 503
+    @Value("${STOCK_STREAM.MAX_CONNECTIONS:5000}")
+    int maxConnections;
+
+    // 이 간격 동안 바뀐 상품을 모아 한 번에 보낸다 (@Scheduled 에서 직접 읽는다)
+    @Value("${STOCK_STREAM.COALESCE_MS:500}")
+    long coalesceMs;
+
+    // 구독자마다 보내지 못한 상품 수 상한. 넘치면 쌓인 변경을 버리고 목록을 다시 받으라고 알린다
+    @Value("${STOCK_STREAM.BUFFER_SIZE:64}")
+    int bufferSize;
+
+    @Value("${STOCK_STREAM.SENDER_THREADS:4}")
+    int senderThreads;
+
+    // 이벤트 하나를 쓰는 데 이보다 오래 걸리는 구독은 더 보내지 않고 끊는다. 쓰기 자체의 상한은 server.tomcat.connection-timeout
+    @Value("${STOCK_STREAM.SEND_TIMEOUT_MS:5000}")
+    long sendTimeoutMs;
+
+    @Value("${STOCK_STREAM.TIMEOUT_MS:1800000}")
+    long timeoutMs;
+}
@@ -0,0 +1,35 @@
+package store.onuljang.shop.product.controller;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import store.onuljang.shop.product.service.ProductStockStreamService;
+
+// EventSource 는 Authorization 헤더를 보낼 수 없고 재고는 목록에 이미 공개된 값이라 로그인 없이 구독한다
+@RestController
+@RequestMapping("/api/store/products")
+@RequiredArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ProductStockStreamController {
+    ProductStockStreamService productStockStreamService;
+
+    // 구독 수 상한에 닿으면 503. 클라이언트는 목록 재조회로 돌아간다
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        SseEmitter emitter = productStockStreamService.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,5 +1,7 @@
 package store.onuljang.shop.product.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -7,14 +9,14 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import store.onuljang.shop.product.appservice.ProductsAppService;
-import store.onuljang.shop.product.dto.ProductCategoryResponse;
-import store.onuljang.shop.product.dto.ProductDetailResponse;
-import store.onuljang.shop.product.dto.ProductListResponse;
+import store.onuljang.shop.product.service.ProductCatalogVersion;
+import store.onuljang.shop.product.service.ProductConditionalResponder;
+import store.onuljang.shop.product.service.ProductResponseBodyCache;
 
+import java.io.IOException;
 import java.time.LocalDate;
 
 @RestController
@@ -24,22 +26,34 @@ import java.time.LocalDate;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class ProductsController {
     ProductsAppService productsAppService;
+    ProductResponseBodyCache productResponseBodyCache;
+    ProductCatalogVersion productCatalogVersion;
+    ProductConditionalResponder productConditionalResponder;
 
+    // 재고가 바뀌는 목록은 보관하지 않고 바이트로 직렬화해 출력 스트림에 바로 쓰고, ETag 가 같으면 304 로 끝낸다
     @GetMapping
-    public ResponseEntity<ProductListResponse> getProducts(
+    public void getProducts(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @FutureOrPresent @NotNull LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) @FutureOrPresent @NotNull LocalDate to,
-            @RequestParam(required = false) Long categoryId) {
-        return ResponseEntity.ok(productsAppService.getProducts(from, to, categoryId));
+            @RequestParam(required = false) Long categoryId,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = "products:" + from + ":" + to + ":" + categoryId;
+        productConditionalResponder.respond("list", key, productCatalogVersion.stockTag(), request, response,
+            () -> productResponseBodyCache.serialize(productsAppService.getProducts(from, to, categoryId)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDetailResponse> detail(@PathVariable @PositiveOrZero Long id) {
-        return ResponseEntity.ok(productsAppService.getDetail(id));
+    public void detail(@PathVariable @PositiveOrZero Long id,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = "detail:" + id;
+        productConditionalResponder.respond("detail", key, productCatalogVersion.catalogTag(), request, response,
+            () -> productResponseBodyCache.getOrLoad(key, () -> productsAppService.getDetail(id)));
     }
 
     @GetMapping("/categories")
-    public ResponseEntity<ProductCategoryResponse> categories() {
-        return ResponseEntity.ok(productsAppService.getProductCategories());
+    public void categories(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = "categories";
+        productConditionalResponder.respond("categories", key, productCatalogVersion.catalogTag(), request, response,
+            () -> productResponseBodyCache.getOrLoad(key, productsAppService::getProductCategories));
     }
 }
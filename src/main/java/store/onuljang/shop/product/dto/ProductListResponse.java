@@ -7,6 +7,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 @Builder
 public record ProductListResponse(
@@ -43,6 +44,11 @@ public record ProductListResponse(
                 .totalSold(product.getTotalSold())
                 .build();
         }
+
+        public ProductResponse withStock(ProductStockChange stock) {
+            return new ProductResponse(id, name, imageUrl, stock.stock(), price, sellDate, sellTime, visible,
+                selfPick, deliveryAvailable, orderIndex, stock.totalSold());
+        }
     }
 
     public static ProductListResponse from(List<Product> productList) {
@@ -50,4 +56,18 @@ public record ProductListResponse(
             .response(productList.stream().map(ProductResponse::from).toList())
             .build();
     }
+
+    /**
+     * 재고/판매량만 최신 값으로 바꾼 목록. 값이 없는 상품은 그대로 둔다.
+     */
+    public ProductListResponse withStocks(Map<Long, ProductStockChange> stocks) {
+        return ProductListResponse.builder()
+            .response(response.stream()
+                .map(product -> {
+                    ProductStockChange stock = stocks.get(product.id());
+                    return stock == null ? product : product.withStock(stock);
+                })
+                .toList())
+            .build();
+    }
 }
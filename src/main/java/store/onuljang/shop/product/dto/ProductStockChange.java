@@ -0,0 +1,22 @@
+package store.onuljang.shop.product.dto;
+
+import store.onuljang.shop.product.entity.ProductStockRow;
+
+/**
+ * 재고 스트림으로 보내는 상품 하나의 현재 재고. 삭제된 상품은 재고 0, 비노출로 보낸다.
+ */
+public record ProductStockChange(
+    Long productId,
+    int stock,
+    long totalSold,
+    boolean visible
+) {
+    public static ProductStockChange from(ProductStockRow row) {
+        return new ProductStockChange(row.getProductId(), row.getStock(), row.getTotalSold(),
+            Boolean.TRUE.equals(row.getVisible()));
+    }
+
+    public static ProductStockChange removed(Long productId) {
+        return new ProductStockChange(productId, 0, 0, false);
+    }
+}
@@ -0,0 +1,76 @@
+package store.onuljang.shop.product.dto;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화해 둔 JSON 응답 본문. gzip 본문은 gzip 을 받는 요청이 처음 올 때 만들어 둔다.
+ * 메시지 컨버터를 거치지 않고 서블릿 출력 스트림에 그대로 쓴다.
+ */
+public final class SerializedBody {
+    private final byte[] json;
+    private volatile byte[] gzip;
+
+    public SerializedBody(byte[] json) {
+        this.json = json;
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    // 처음 요청이 동시에 몰리면 여러 번 압축할 수 있지만 결과는 같다
+    public byte[] gzip() {
+        byte[] compressed = gzip;
+        if (compressed == null) {
+            compressed = compress(json);
+            gzip = compressed;
+        }
+        return compressed;
+    }
+
+    public void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzipped = acceptsGzip(request);
+        byte[] body = gzipped ? gzip() : json;
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzipped) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            // gzip;q=0 은 거부 표시
+            return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(json.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "agg_applied")
+@Table(name = "agg_applied",
+    uniqueConstraints = @UniqueConstraint(name = "uq_res_phase", columnNames = {"reservation_id", "phase"}))
 public class AggApplied extends BaseLogEntity {
     @Column(name = "batch_uid", nullable = true, length = 36)
     private String batchUid;
@@ -0,0 +1,77 @@
+package store.onuljang.shop.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import store.onuljang.shared.entity.base.BaseEntity;
+import store.onuljang.shared.entity.enums.AggCheckpointStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크 단위 집계 배치의 진행 위치.
+ *
+ * 청크 하나를 처리하는 트랜잭션 안에서 lastReservationId 를 함께 올리므로,
+ * 중간에 죽으면 커밋된 청크 다음부터 다시 시작한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "agg_checkpoint")
+public class AggCheckpoint extends BaseEntity {
+    @Column(name = "job_name", nullable = false, unique = true, length = 50)
+    private String jobName;
+
+    @Column(name = "run_uid", nullable = false, length = 36)
+    private String runUid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private AggCheckpointStatus status;
+
+    @Column(name = "last_reservation_id", nullable = false)
+    private Long lastReservationId;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public AggCheckpoint(String jobName, String runUid, LocalDateTime now) {
+        this.jobName = jobName;
+        start(runUid, now);
+    }
+
+    public boolean isRunning() {
+        return status == AggCheckpointStatus.RUNNING;
+    }
+
+    public void start(String runUid, LocalDateTime now) {
+        this.runUid = runUid;
+        this.status = AggCheckpointStatus.RUNNING;
+        this.lastReservationId = 0L;
+        this.chunkCount = 0;
+        this.processedCount = 0L;
+        this.startedAt = now;
+        this.finishedAt = null;
+    }
+
+    public void advance(long lastReservationId, int processed) {
+        this.lastReservationId = lastReservationId;
+        this.chunkCount++;
+        this.processedCount += processed;
+    }
+
+    public void complete(LocalDateTime now) {
+        this.status = AggCheckpointStatus.COMPLETED;
+        this.finishedAt = now;
+    }
+}
@@ -0,0 +1,10 @@
+package store.onuljang.shop.product.entity;
+
+public record AggChunkResult(
+    long fromExclusive,
+    long toInclusive,
+    int claimed,
+    long elapsedMs
+) {
+
+}
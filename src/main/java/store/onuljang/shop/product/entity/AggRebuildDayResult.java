@@ -0,0 +1,15 @@
+package store.onuljang.shop.product.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record AggRebuildDayResult(
+    LocalDate sellDate,
+    int rows,
+    long quantity,
+    BigDecimal amount,
+    long aggAppliedMaxId,
+    long elapsedMs
+) {
+
+}
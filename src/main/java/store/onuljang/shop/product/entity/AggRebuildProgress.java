@@ -0,0 +1,87 @@
+package store.onuljang.shop.product.entity;
+
+import lombok.Getter;
+import store.onuljang.shared.entity.enums.AggRebuildStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 집계 재구성 작업 진행 상황. 날짜별 작업 스레드들이 함께 갱신한다.
+ */
+@Getter
+public class AggRebuildProgress {
+    private final String jobId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final int totalDays;
+    private final LocalDateTime startedAt;
+    private final long beginNanos = System.nanoTime();
+    private final AtomicInteger completedDays = new AtomicInteger();
+    private final AtomicInteger failedDays = new AtomicInteger();
+    private final AtomicLong rows = new AtomicLong();
+    // 날짜별 재구성 때의 agg_applied 최대 id. 반영할 때 이 id 까지만 닫는다
+    private final Map<LocalDate, Long> aggAppliedMaxIds = new ConcurrentHashMap<>();
+    private volatile AggRebuildStatus status = AggRebuildStatus.RUNNING;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+    private volatile long finishedNanos;
+
+    public AggRebuildProgress(String jobId, LocalDate from, LocalDate to, int totalDays, LocalDateTime startedAt) {
+        this.jobId = jobId;
+        this.from = from;
+        this.to = to;
+        this.totalDays = totalDays;
+        this.startedAt = startedAt;
+    }
+
+    public void dayCompleted(AggRebuildDayResult result) {
+        rows.addAndGet(result.rows());
+        aggAppliedMaxIds.put(result.sellDate(), result.aggAppliedMaxId());
+        completedDays.incrementAndGet();
+    }
+
+    public void dayFailed(LocalDate date, String message) {
+        if (failedDays.getAndIncrement() == 0) {
+            this.error = date + ": " + message;
+        }
+    }
+
+    public boolean hasFailedDay() {
+        return failedDays.get() > 0;
+    }
+
+    public void swapping() {
+        this.status = AggRebuildStatus.SWAPPING;
+    }
+
+    public void complete(LocalDateTime now) {
+        finish(AggRebuildStatus.COMPLETED, now);
+    }
+
+    public void fail(String message, LocalDateTime now) {
+        if (this.error == null) {
+            this.error = message;
+        }
+        finish(AggRebuildStatus.FAILED, now);
+    }
+
+    public boolean isFinished() {
+        return status == AggRebuildStatus.COMPLETED || status == AggRebuildStatus.FAILED;
+    }
+
+    public long elapsedMs() {
+        long end = isFinished() ? finishedNanos : System.nanoTime();
+        return (end - beginNanos) / 1_000_000L;
+    }
+
+    private void finish(AggRebuildStatus status, LocalDateTime now) {
+        this.finishedNanos = System.nanoTime();
+        this.finishedAt = now;
+        this.status = status;
+    }
+}
@@ -0,0 +1,13 @@
+package store.onuljang.shop.product.entity;
+
+import store.onuljang.shared.entity.enums.AggPeriod;
+
+import java.time.LocalDate;
+
+public record AggSegment(
+    AggPeriod period,
+    LocalDate from,
+    LocalDate to
+) {
+
+}
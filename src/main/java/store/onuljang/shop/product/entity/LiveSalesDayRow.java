@@ -0,0 +1,26 @@
+package store.onuljang.shop.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 실시간 집계기에서 만든 픽업일별 정산 매출 합계.
+ */
+@Getter
+@AllArgsConstructor
+public class LiveSalesDayRow implements ProductDailyAggRow {
+    private final LocalDate sellDate;
+    private final Integer quantity;
+    private final BigDecimal amount;
+
+    public LiveSalesDayRow(LocalDate sellDate, long quantity, BigDecimal amount) {
+        this(sellDate, Math.toIntExact(quantity), amount);
+    }
+
+    public LiveSalesDayRow plus(LiveSalesDayRow other) {
+        return new LiveSalesDayRow(sellDate, quantity + other.quantity, amount.add(other.amount));
+    }
+}
@@ -35,7 +35,6 @@ public class Product extends BaseEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
-    @Getter
     @Column(name = "stock", nullable = false)
     @Builder.Default
     private Integer stock = 0;
@@ -69,11 +68,23 @@ public class Product extends BaseEntity {
     @Builder.Default
     private Boolean deliveryAvailable = true;
 
-    @Getter
     @Column(name = "total_sold", nullable = false)
     @Builder.Default
     private Long totalSold = 0L;
 
+    // 0 이면 products.stock 을 그대로 사용, 1 이상이면 product_stock_slot 에 재고를 나눠 보관
+    @Getter
+    @Column(name = "stock_slot_count", nullable = false)
+    @Builder.Default
+    private Integer stockSlotCount = 0;
+
+    // 슬롯 분할 상품의 슬롯 합계. 필요한 곳에서 ProductsService.fillSlotTotals 로 채운다
+    @Transient
+    private Integer slotStock;
+
+    @Transient
+    private Long slotSold;
+
     @Getter
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "registered_admin", nullable = false)
@@ -111,6 +122,61 @@ public class Product extends BaseEntity {
             .toList();
     }
 
+    public Integer getStock() {
+        if (isStockStriped()) {
+            assertSlotTotalsLoaded();
+            return slotStock;
+        }
+        return stock;
+    }
+
+    public Long getTotalSold() {
+        if (isStockStriped()) {
+            assertSlotTotalsLoaded();
+            return totalSold + slotSold;
+        }
+        return totalSold;
+    }
+
+    public boolean isStockStriped() {
+        return stockSlotCount != null && stockSlotCount > 0;
+    }
+
+    public void enableStockSlots(int slotCount) {
+        this.stockSlotCount = slotCount;
+        this.stock = 0;
+    }
+
+    public void disableStockSlots(int stock) {
+        this.stockSlotCount = 0;
+        this.stock = stock;
+        this.slotStock = null;
+        this.slotSold = null;
+    }
+
+    public void absorbSlotSold(long sold) {
+        this.totalSold = Math.max(this.totalSold + sold, 0);
+    }
+
+    public void applySlotTotals(int slotStock, long slotSold) {
+        this.slotStock = slotStock;
+        this.slotSold = slotSold;
+    }
+
+    // 슬롯 조건부 UPDATE 는 엔티티를 거치지 않으므로 읽어 둔 합계를 직접 맞춘다
+    public void takeFromSlots(int quantity) {
+        if (slotStock != null) {
+            this.slotStock -= quantity;
+            this.slotSold += quantity;
+        }
+    }
+
+    private void assertSlotTotalsLoaded() {
+        if (slotStock == null || slotSold == null) {
+            throw new IllegalStateException("슬롯 재고 합계를 읽지 않았습니다. productId=" + id);
+        }
+    }
+
     public void addStock(int quantity) {
         this.stock = Math.max(this.stock + quantity, 0);
     }
@@ -189,13 +255,17 @@ public class Product extends BaseEntity {
         this.productDetailImages.forEach(ProductDetailImage::delete);
     }
 
-    public void assertPurchasable(int quantity) {
+    public void assertAvailable(int quantity) {
         if (Boolean.FALSE.equals(visible)) {
             throw new ProductUnavailableException("판매가 중단된 상품입니다.");
         }
         if (quantity <= 0) {
             throw new ProductUnavailableException("구매 수량은 1개 이상이어야 합니다.");
         }
+    }
+
+    public void assertPurchasable(int quantity) {
+        assertAvailable(quantity);
         if (this.stock < quantity) {
             throw new ProductExceedException("상품의 재고가 부족합니다.");
         }
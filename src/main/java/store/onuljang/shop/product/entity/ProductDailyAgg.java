@@ -11,7 +11,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "product_daily_agg")
+@Table(name = "product_daily_agg",
+    uniqueConstraints = @UniqueConstraint(name = "uq_sell_product", columnNames = {"sell_date", "product_id"}))
 public class ProductDailyAgg extends BaseEntity {
     @Getter
     @Setter
@@ -30,6 +31,10 @@ public class ProductDailyAgg extends BaseEntity {
     @Column(name = "amount", nullable = false)
     private BigDecimal amount;
 
+    public Long getProductId() {
+        return product.getId();
+    }
+
     public String getProductName() {
         return product.getName();
     }
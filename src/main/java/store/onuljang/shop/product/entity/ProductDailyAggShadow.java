@@ -0,0 +1,30 @@
+package store.onuljang.shop.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import store.onuljang.shared.entity.base.BaseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * product_daily_agg 재구성용 작업 테이블. 날짜별로 다시 계산해 검증한 뒤 한 번에 본 테이블과 바꿔 넣는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "product_daily_agg_shadow",
+    uniqueConstraints = @UniqueConstraint(name = "uq_shadow_sell_product", columnNames = {"sell_date", "product_id"}))
+public class ProductDailyAggShadow extends BaseEntity {
+    @Column(name = "sell_date", nullable = false)
+    private LocalDate sellDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+}
@@ -0,0 +1,37 @@
+package store.onuljang.shop.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import store.onuljang.shared.entity.base.BaseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 실시간 매출 집계 스냅샷. 메모리 집계기를 주기적으로 덮어쓴다.
+ * active: 진행 중 예약(PENDING, PICKED, SELF_PICK, SELF_PICK_READY), settled: 정산 대상(PICKED, SELF_PICK_READY)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "product_live_agg",
+    uniqueConstraints = @UniqueConstraint(name = "uq_live_sell_product", columnNames = {"sell_date", "product_id"}))
+public class ProductLiveAgg extends BaseEntity {
+    @Column(name = "sell_date", nullable = false)
+    private LocalDate sellDate;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "active_quantity", nullable = false)
+    private Long activeQuantity;
+
+    @Column(name = "active_amount", nullable = false)
+    private BigDecimal activeAmount;
+
+    @Column(name = "settled_quantity", nullable = false)
+    private Long settledQuantity;
+
+    @Column(name = "settled_amount", nullable = false)
+    private BigDecimal settledAmount;
+}
@@ -0,0 +1,15 @@
+package store.onuljang.shop.product.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ProductLiveAggRow(
+    LocalDate sellDate,
+    long productId,
+    long activeQuantity,
+    BigDecimal activeAmount,
+    long settledQuantity,
+    BigDecimal settledAmount
+) {
+
+}
@@ -0,0 +1,36 @@
+package store.onuljang.shop.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import store.onuljang.shared.entity.base.BaseEntity;
+import store.onuljang.shared.entity.enums.AggPeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * product_daily_agg 의 주/월 단위 롤업. 집계 배치가 일별 upsert 와 같은 트랜잭션에서 다시 계산한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "product_period_agg",
+    uniqueConstraints = @UniqueConstraint(name = "uq_period_start_product",
+        columnNames = {"period", "period_start", "product_id"}))
+public class ProductPeriodAgg extends BaseEntity {
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period", nullable = false, length = 8)
+    private AggPeriod period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    private Long quantity;
+
+    @Column(name = "amount", nullable = false)
+    private BigDecimal amount;
+}
@@ -0,0 +1,9 @@
+package store.onuljang.shop.product.entity;
+
+import java.math.BigDecimal;
+
+public interface ProductSalesTotalsRow {
+    Long getProductId();
+    Long getQuantity();
+    BigDecimal getAmount();
+}
@@ -0,0 +1,19 @@
+package store.onuljang.shop.product.entity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 락 없이 예약 가능 여부를 미리 판단하기 위한 상품 상태 스냅샷
+ */
+public record ProductSnapshot(LocalDate sellDate, LocalTime sellTime, boolean visible, int stock, long loadedAt) {
+
+    public static ProductSnapshot from(Product product, long loadedAt) {
+        return new ProductSnapshot(product.getSellDate(), product.getSellTime(),
+            !Boolean.FALSE.equals(product.getVisible()), product.getStock(), loadedAt);
+    }
+
+    public ProductSnapshot withStock(int stock) {
+        return new ProductSnapshot(sellDate, sellTime, visible, stock, loadedAt);
+    }
+}
@@ -0,0 +1,8 @@
+package store.onuljang.shop.product.entity;
+
+public interface ProductStockRow {
+    Long getProductId();
+    Integer getStock();
+    Long getTotalSold();
+    Boolean getVisible();
+}
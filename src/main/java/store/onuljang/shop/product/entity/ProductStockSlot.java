@@ -0,0 +1,65 @@
+package store.onuljang.shop.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import store.onuljang.shared.entity.base.BaseEntity;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+    name = "product_stock_slot",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_product_stock_slot__product_slot",
+        columnNames = {"product_id", "slot_no"}
+    )
+)
+public class ProductStockSlot extends BaseEntity {
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(
+        name = "product_id",
+        nullable = false,
+        foreignKey = @ForeignKey(name = "fk_product_stock_slot__product")
+    )
+    private Product product;
+
+    @Getter
+    @Column(name = "slot_no", nullable = false)
+    private Integer slotNo;
+
+    @Getter
+    @Column(name = "stock", nullable = false)
+    private Integer stock;
+
+    @Getter
+    @Column(name = "sold", nullable = false)
+    private Long sold;
+
+    @Builder
+    public ProductStockSlot(Product product, Integer slotNo, Integer stock) {
+        this.product = product;
+        this.slotNo = slotNo;
+        this.stock = stock == null ? 0 : stock;
+        this.sold = 0L;
+    }
+
+    public void changeStock(int stock) {
+        this.stock = Math.max(stock, 0);
+    }
+
+    public int take(int quantity) {
+        int taken = Math.min(this.stock, quantity);
+        this.stock -= taken;
+        this.sold += taken;
+        return taken;
+    }
+
+    public long removeSold(long quantity) {
+        long removed = Math.min(this.sold, quantity);
+        this.sold -= removed;
+        return removed;
+    }
+
+    public void resetSold() {
+        this.sold = 0L;
+    }
+}
@@ -0,0 +1,8 @@
+package store.onuljang.shop.product.entity;
+
+public record ProductStockSlotRow(
+    Integer slotNo,
+    Integer stock
+) {
+
+}
@@ -0,0 +1,9 @@
+package store.onuljang.shop.product.entity;
+
+public record ProductStockSlotTotalRow(
+    Long productId,
+    Long stock,
+    Long sold
+) {
+
+}
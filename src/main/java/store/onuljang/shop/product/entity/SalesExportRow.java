@@ -0,0 +1,12 @@
+package store.onuljang.shop.product.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface SalesExportRow {
+    LocalDate getSellDate();
+    Long getProductId();
+    String getProductName();
+    Integer getQuantity();
+    BigDecimal getAmount();
+}
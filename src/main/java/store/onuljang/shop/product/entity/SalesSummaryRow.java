@@ -0,0 +1,22 @@
+package store.onuljang.shop.product.entity;
+
+import store.onuljang.shared.entity.enums.AggPeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 매출 요약 한 구간 (일/주/월).
+ */
+public record SalesSummaryRow(
+    AggPeriod period,
+    LocalDate from,
+    LocalDate to,
+    Integer quantity,
+    BigDecimal amount
+) {
+    public static SalesSummaryRow of(AggPeriod period, ProductDailyAggRow row) {
+        return new SalesSummaryRow(period, row.getSellDate(), period.endOf(row.getSellDate()), row.getQuantity(),
+            row.getAmount());
+    }
+}
@@ -0,0 +1,15 @@
+package store.onuljang.shop.product.event;
+
+import java.util.List;
+
+/**
+ * 관리자가 상품 목록에 보이는 정보(판매일, 노출, 순서, 카테고리 등)를 바꿨을 때 발행.
+ * 커밋된 뒤 상품 목록 캐시와 응답 본문 캐시를 비운다.
+ */
+public record ProductCatalogChangedEvent(
+    List<Long> productIds
+) {
+    public static ProductCatalogChangedEvent of(Long productId) {
+        return new ProductCatalogChangedEvent(List.of(productId));
+    }
+}
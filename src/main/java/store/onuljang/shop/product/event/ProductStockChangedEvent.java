@@ -0,0 +1,12 @@
+package store.onuljang.shop.product.event;
+
+import java.util.List;
+
+/**
+ * 상품 재고가 바뀌었을 때 발행. 커밋된 뒤 재고 스트림이 해당 상품의 현재 재고를 구독자에게 보낸다.
+ */
+public record ProductStockChangedEvent(
+    List<Long> productIds
+) {
+
+}
@@ -0,0 +1,25 @@
+package store.onuljang.shop.product.event;
+
+import lombok.Builder;
+import store.onuljang.shared.entity.enums.UserProductAction;
+import store.onuljang.shared.user.entity.log.UserReservationLog;
+
+import java.util.List;
+
+@Builder
+public record UserReservationLogBatchEvent(
+    String userUid,
+    List<Long> reservationIds,
+    UserProductAction action
+)
+{
+    public static List<UserReservationLog> from(UserReservationLogBatchEvent event) {
+        return event.reservationIds().stream()
+            .map(reservationId -> UserReservationLog.builder()
+                .userUid(event.userUid())
+                .reservationId(reservationId)
+                .action(event.action())
+                .build())
+            .toList();
+    }
+}
@@ -25,4 +25,14 @@ public class UserReservationLogEventListener {
             log.warn("user reservation log save failed", e);
         }
     }
+
+    @Async("logExecutor")
+    @EventListener
+    public void handle(UserReservationLogBatchEvent event) {
+        try {
+            userReservationLogRepository.saveAll(UserReservationLogBatchEvent.from(event));
+        } catch (Exception e) {
+            log.warn("user reservation batch log save failed", e);
+        }
+    }
 }
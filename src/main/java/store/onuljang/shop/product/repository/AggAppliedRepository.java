@@ -5,9 +5,12 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import store.onuljang.shop.product.entity.AggApplied;
+import store.onuljang.shop.product.entity.ProductSalesTotalsRow;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 public interface AggAppliedRepository extends JpaRepository<AggApplied, Long> {
@@ -47,7 +50,31 @@ public interface AggAppliedRepository extends JpaRepository<AggApplied, Long> {
             """, nativeQuery = true)
     int markBatchForDay(@Param("date") LocalDate date);
 
-    // 2. 배치 마킹(매출 정산 + 노쇼분 차감)
+    // 2-1. 청크 경계: cursor 이후 미처리 행 중 offset 번째 reservation_id
+    @Query(value = """
+                select a.reservation_id
+                from agg_applied a
+                where a.processed = 0
+                    and a.batch_uid is null
+                    and a.phase in ('PICKED_PLUS','SELF_PICKUP_READY_PLUS','NO_SHOW_MINUS')
+                    and a.reservation_id > :cursor
+                order by a.reservation_id
+                limit 1 offset :offset
+            """, nativeQuery = true)
+    Optional<Long> findUnprocessedReservationIdAt(@Param("cursor") long cursor, @Param("offset") int offset);
+
+    // 2-2. 남은 행이 청크 크기보다 적을 때의 마지막 경계
+    @Query(value = """
+                select max(a.reservation_id)
+                from agg_applied a
+                where a.processed = 0
+                    and a.batch_uid is null
+                    and a.phase in ('PICKED_PLUS','SELF_PICKUP_READY_PLUS','NO_SHOW_MINUS')
+                    and a.reservation_id > :cursor
+            """, nativeQuery = true)
+    Optional<Long> findMaxUnprocessedReservationId(@Param("cursor") long cursor);
+
+    // 2-3. 배치 마킹(매출 정산 + 노쇼분 차감) - reservation_id 범위 (from, to]
     @Modifying(flushAutomatically = true)
     @Query(value = """
                 update agg_applied
@@ -55,8 +82,11 @@ public interface AggAppliedRepository extends JpaRepository<AggApplied, Long> {
                 where processed = 0
                     and batch_uid is null
                     and phase in ('PICKED_PLUS','SELF_PICKUP_READY_PLUS','NO_SHOW_MINUS')
+                    and reservation_id > :fromExclusive
+                    and reservation_id <= :toInclusive
             """, nativeQuery = true)
-    int claimUnprocessed(@Param("batchUid") String batchUid);
+    int claimUnprocessedInRange(@Param("batchUid") String batchUid, @Param("fromExclusive") long fromExclusive,
+            @Param("toInclusive") long toInclusive);
 
     // 3. 배치 종료
     @Modifying
@@ -69,4 +99,72 @@ public interface AggAppliedRepository extends JpaRepository<AggApplied, Long> {
                 AND processed = 0
             """, nativeQuery = true)
     int finishBatch(@Param("batchUid") String batchUid, @Param("now") LocalDateTime now);
+
+    // 배치에 포함된 예약의 픽업일 (주/월 롤업 갱신 대상)
+    @Query("""
+                select distinct r.pickupDate
+                from AggApplied a, ReservationAll r
+                where r.id = a.reservationId
+                and a.batchUid = :batchUid
+            """)
+    List<LocalDate> findSellDatesByBatchUid(@Param("batchUid") String batchUid);
+
+    @Query(value = "select coalesce(max(a.id), 0) from agg_applied a", nativeQuery = true)
+    long findMaxId();
+
+    // agg_applied 기준 하루치 정산 매출: 더하기 표시가 있고 노쇼 차감 표시가 없는 예약
+    @Query(value = """
+                select
+                    r.product_id as productId,
+                    sum(r.quantity) as quantity,
+                    sum(r.amount) as amount
+                from reservations r
+                where r.pickup_date = :date
+                and exists (
+                    select 1 from agg_applied a
+                    where a.reservation_id = r.id
+                    and a.phase in ('PICKED_PLUS','SELF_PICKUP_READY_PLUS')
+                )
+                and not exists (
+                    select 1 from agg_applied a
+                    where a.reservation_id = r.id
+                    and a.phase = 'NO_SHOW_MINUS'
+                )
+                group by r.product_id
+            """, nativeQuery = true)
+    List<ProductSalesTotalsRow> sumSettledByProductForPickupDate(@Param("date") LocalDate date);
+
+    // 재구성한 날짜의 미처리 행 중 재구성 때 있던 것(id <= maxId)만 이미 반영된 것으로 닫는다
+    @Modifying
+    @Query(value = """
+                update agg_applied
+                set processed = 1,
+                    processed_at = :now
+                where processed = 0
+                    and batch_uid is null
+                    and id <= :maxId
+                    and reservation_id in (
+                        select r.id from reservations r where r.pickup_date = :date
+                    )
+            """, nativeQuery = true)
+    int closeUnprocessedForPickupDateUpTo(@Param("date") LocalDate date, @Param("maxId") long maxId,
+            @Param("now") LocalDateTime now);
+
+    // 재구성에 포함됐지만 아직 배치 대상으로 표시되지 않은 예약을 처리 완료로 남긴다
+    @Modifying
+    @Query(value = """
+                insert ignore into agg_applied (reservation_id, phase, processed, processed_at)
+                    select r.id,
+                    case r.status
+                        when 'PICKED'          then 'PICKED_PLUS'
+                        when 'SELF_PICK_READY' then 'SELF_PICKUP_READY_PLUS'
+                    end as phase,
+                    true,
+                    cast(:now as datetime)
+                from reservations r
+                where r.pickup_date between :from and :to
+                and r.status in ('PICKED', 'SELF_PICK_READY')
+            """, nativeQuery = true)
+    int insertProcessedForPickupDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to,
+            @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,20 @@
+package store.onuljang.shop.product.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.onuljang.shop.product.entity.AggCheckpoint;
+
+import java.util.Optional;
+
+public interface AggCheckpointRepository extends JpaRepository<AggCheckpoint, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select c " +
+        "from AggCheckpoint c " +
+        "where c.jobName = :jobName"
+    )
+    Optional<AggCheckpoint> findByJobNameWithLock(@Param("jobName") String jobName);
+}
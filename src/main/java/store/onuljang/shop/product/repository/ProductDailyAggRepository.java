@@ -1,15 +1,21 @@
 package store.onuljang.shop.product.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import store.onuljang.shop.product.entity.ProductDailyAgg;
 import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.entity.SalesExportRow;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ProductDailyAggRepository extends JpaRepository<ProductDailyAgg, Long> {
     @Modifying(flushAutomatically = true)
@@ -42,6 +48,49 @@ public interface ProductDailyAggRepository extends JpaRepository<ProductDailyAgg
             """, nativeQuery = true)
     List<ProductDailyAggRow> findAggBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 
+    @Query(value = """
+                SELECT
+                    a.sell_date AS sellDate,
+                    sum(a.quantity) AS quantity,
+                    SUM(a.amount) AS amount
+                FROM product_daily_agg a
+                WHERE a.sell_date IN (:dates)
+                GROUP BY a.sell_date
+            """, nativeQuery = true)
+    List<ProductDailyAggRow> findAggBySellDateIn(@Param("dates") Collection<LocalDate> dates);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM product_daily_agg WHERE sell_date BETWEEN :from AND :to", nativeQuery = true)
+    int deleteAllBySellDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO product_daily_agg (sell_date, product_id, quantity, amount)
+                    SELECT s.sell_date, s.product_id, s.quantity, s.amount
+                    FROM product_daily_agg_shadow s
+                    WHERE s.sell_date BETWEEN :from AND :to
+            """, nativeQuery = true)
+    int insertFromShadow(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 엔티티를 만들지 않고 커서로 fetch size 만큼씩 읽는다 (MySQL 커서 조회는 application.yml 의 useCursorFetch)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = """
+                SELECT
+                    a.sell_date AS sellDate,
+                    a.product_id AS productId,
+                    p.name AS productName,
+                    a.quantity AS quantity,
+                    a.amount AS amount
+                FROM product_daily_agg a
+                    JOIN products p ON p.id = a.product_id
+                WHERE a.sell_date BETWEEN :from AND :to
+                ORDER BY a.sell_date, a.product_id
+            """, nativeQuery = true)
+    Stream<SalesExportRow> streamExportBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
     @EntityGraph(attributePaths = {"product"})
     List<ProductDailyAgg> findAllBySellDate(LocalDate sellDate);
 }
@@ -0,0 +1,39 @@
+package store.onuljang.shop.product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.onuljang.shop.product.entity.ProductDailyAggShadow;
+import store.onuljang.shop.product.entity.ProductSalesTotalsRow;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ProductDailyAggShadowRepository extends JpaRepository<ProductDailyAggShadow, Long> {
+    @Modifying
+    @Query(value = "DELETE FROM product_daily_agg_shadow WHERE sell_date BETWEEN :from AND :to", nativeQuery = true)
+    int deleteAllBySellDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 예약의 현재 상태 기준으로 하루치 정산 매출을 다시 계산
+    @Modifying
+    @Query(value = """
+                INSERT INTO product_daily_agg_shadow (sell_date, product_id, quantity, amount)
+                    SELECT r.pickup_date, r.product_id, SUM(r.quantity), SUM(r.amount)
+                    FROM reservations r
+                    WHERE r.pickup_date = :date
+                    AND r.status IN ('PICKED', 'SELF_PICK_READY')
+                    GROUP BY r.pickup_date, r.product_id
+            """, nativeQuery = true)
+    int insertFromReservations(@Param("date") LocalDate date);
+
+    @Query(value = """
+                SELECT
+                    s.product_id AS productId,
+                    s.quantity AS quantity,
+                    s.amount AS amount
+                FROM product_daily_agg_shadow s
+                WHERE s.sell_date = :date
+            """, nativeQuery = true)
+    List<ProductSalesTotalsRow> findTotalsBySellDate(@Param("date") LocalDate date);
+}
@@ -0,0 +1,38 @@
+package store.onuljang.shop.product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.onuljang.shop.product.entity.ProductLiveAgg;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProductLiveAggRepository extends JpaRepository<ProductLiveAgg, Long> {
+    List<ProductLiveAgg> findAllBySellDate(LocalDate sellDate);
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO product_live_agg (sell_date, product_id, active_quantity, active_amount,
+                    settled_quantity, settled_amount, created_at, updated_at)
+                VALUES (:sellDate, :productId, :activeQuantity, :activeAmount,
+                    :settledQuantity, :settledAmount, :now, :now)
+                ON DUPLICATE KEY UPDATE
+                active_quantity  = VALUES(active_quantity),
+                active_amount    = VALUES(active_amount),
+                settled_quantity = VALUES(settled_quantity),
+                settled_amount   = VALUES(settled_amount),
+                updated_at       = VALUES(updated_at)
+            """, nativeQuery = true)
+    int upsert(@Param("sellDate") LocalDate sellDate, @Param("productId") long productId,
+            @Param("activeQuantity") long activeQuantity, @Param("activeAmount") BigDecimal activeAmount,
+            @Param("settledQuantity") long settledQuantity, @Param("settledAmount") BigDecimal settledAmount,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM product_live_agg WHERE sell_date < :before", nativeQuery = true)
+    int deleteAllBySellDateBefore(@Param("before") LocalDate before);
+}
@@ -0,0 +1,64 @@
+package store.onuljang.shop.product.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.entity.ProductPeriodAgg;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductPeriodAggRepository extends JpaRepository<ProductPeriodAgg, Long> {
+    // 다시 합산하기 전에 지운다. 일별 집계가 모두 빠진 상품의 롤업 행은 덮어쓰기로는 남기 때문이다
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                DELETE FROM product_period_agg
+                WHERE period = :period
+                AND period_start IN (:periodStarts)
+            """, nativeQuery = true)
+    int deleteAllByPeriodStartIn(@Param("period") String period,
+            @Param("periodStarts") Collection<LocalDate> periodStarts);
+
+    // 기간 안의 일별 집계를 다시 합산해 덮어쓴다 (여러 번 실행해도 같은 결과)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                INSERT INTO product_period_agg (period, period_start, product_id, quantity, amount)
+                    SELECT 'WEEK', cast(:periodStart as date), d.product_id, SUM(d.quantity), SUM(d.amount)
+                    FROM product_daily_agg d
+                    WHERE d.sell_date BETWEEN :periodStart AND :periodEnd
+                    GROUP BY d.product_id
+                ON DUPLICATE KEY UPDATE
+                quantity = VALUES(quantity),
+                amount   = VALUES(amount)
+            """, nativeQuery = true)
+    int refreshWeek(@Param("periodStart") LocalDate periodStart, @Param("periodEnd") LocalDate periodEnd);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+                INSERT INTO product_period_agg (period, period_start, product_id, quantity, amount)
+                    SELECT 'MONTH', cast(:periodStart as date), d.product_id, SUM(d.quantity), SUM(d.amount)
+                    FROM product_daily_agg d
+                    WHERE d.sell_date BETWEEN :periodStart AND :periodEnd
+                    GROUP BY d.product_id
+                ON DUPLICATE KEY UPDATE
+                quantity = VALUES(quantity),
+                amount   = VALUES(amount)
+            """, nativeQuery = true)
+    int refreshMonth(@Param("periodStart") LocalDate periodStart, @Param("periodEnd") LocalDate periodEnd);
+
+    @Query(value = """
+                SELECT
+                    a.period_start AS sellDate,
+                    SUM(a.quantity) AS quantity,
+                    SUM(a.amount) AS amount
+                FROM product_period_agg a
+                WHERE a.period = :period
+                AND a.period_start IN (:periodStarts)
+                GROUP BY a.period_start
+            """, nativeQuery = true)
+    List<ProductDailyAggRow> findAggByPeriodStartIn(@Param("period") String period,
+            @Param("periodStarts") Collection<LocalDate> periodStarts);
+}
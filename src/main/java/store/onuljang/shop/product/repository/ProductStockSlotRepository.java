@@ -0,0 +1,50 @@
+package store.onuljang.shop.product.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import store.onuljang.shop.product.entity.ProductStockSlot;
+import store.onuljang.shop.product.entity.ProductStockSlotRow;
+import store.onuljang.shop.product.entity.ProductStockSlotTotalRow;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductStockSlotRepository extends JpaRepository<ProductStockSlot, Long> {
+    @Query("""
+        select new store.onuljang.shop.product.entity.ProductStockSlotRow(s.slotNo, s.stock)
+        from ProductStockSlot s
+        where s.product.id = :productId
+        order by s.slotNo
+    """)
+    List<ProductStockSlotRow> findAllRowsByProductId(@Param("productId") Long productId);
+
+    @Query("""
+        select new store.onuljang.shop.product.entity.ProductStockSlotTotalRow(s.product.id, sum(s.stock), sum(s.sold))
+        from ProductStockSlot s
+        where s.product.id in :productIds
+        group by s.product.id
+    """)
+    List<ProductStockSlotTotalRow> sumByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select s
+        from ProductStockSlot s
+        where s.product.id = :productId
+        order by s.slotNo
+    """)
+    List<ProductStockSlot> findAllByProductIdWithLock(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("""
+        update ProductStockSlot s
+        set s.stock = s.stock - :quantity,
+            s.sold = s.sold + :quantity
+        where s.product.id = :productId
+        and s.slotNo = :slotNo
+        and s.stock >= :quantity
+    """)
+    int decreaseStockIfAvailable(@Param("productId") Long productId, @Param("slotNo") int slotNo,
+        @Param("quantity") int quantity);
+}
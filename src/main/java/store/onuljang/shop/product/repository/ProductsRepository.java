@@ -4,6 +4,7 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductStockRow;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -28,6 +29,15 @@ public interface ProductsRepository extends JpaRepository<Product, Long> {
     )
     Optional<Product> findByIdWithLock(@Param("id") Long id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(
+        "select p " +
+        "from Product p " +
+        "where p.id in :ids " +
+        "order by p.id asc"
+    )
+    List<Product> findAllByIdInWithLock(@Param("ids") Collection<Long> ids);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query(
         "select p " +
@@ -45,6 +55,41 @@ public interface ProductsRepository extends JpaRepository<Product, Long> {
     """)
     int bulkUpdateSellDateIdIn(@Param("ids") List<Long> ids, @Param("sellDate") LocalDate sellDate);
 
+    // 벌크 UPDATE 라 영속성 컨텍스트를 거치지 않으므로, 앞선 변경을 먼저 내보내고 이후 조회가 갱신된 재고를 읽도록 비운다.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update Product p
+        set p.stock = p.stock - :quantity,
+            p.totalSold = p.totalSold + :quantity
+        where p.id = :id
+        and p.stock >= :quantity
+        and p.visible = true
+        and p.deletedAt is null
+    """)
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+
+    // 예약 id 묶음의 수량을 상품별로 합산해 한 번에 되돌린다. 슬롯 분할 상품은 제외한다.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+        update products p
+        set stock = stock + (
+            select coalesce(sum(r.quantity), 0)
+            from reservations r
+            where r.product_id = p.id
+            and r.id in (:reservationIds)
+            and r.status = :status
+        )
+        where p.stock_slot_count = 0
+        and p.id in (
+            select r.product_id
+            from reservations r
+            where r.id in (:reservationIds)
+            and r.status = :status
+        )
+    """, nativeQuery = true)
+    int restockFromReservations(@Param("reservationIds") Collection<Long> reservationIds,
+            @Param("status") String status);
+
 
     @EntityGraph(attributePaths = {"productOrder"})
     @Query("""
@@ -57,6 +102,24 @@ public interface ProductsRepository extends JpaRepository<Product, Long> {
     List<Product> findAllBySellDateBetweenAndVisibleAndCategoryId(@Param("from") LocalDate from,
             @Param("to") LocalDate to, @Param("visible") boolean visible, @Param("categoryId") Long categoryId);
 
+    // 상품 목록 캐시에 덮어쓸 재고/판매량과 재고 스트림에 보낼 값. 슬롯 분할 상품은 슬롯 합계를 더한다
+    @Query(value = """
+        select p.id as productId,
+            case when p.stock_slot_count > 0
+                then (select coalesce(sum(s.stock), 0) from product_stock_slot s where s.product_id = p.id)
+                else p.stock
+            end as stock,
+            p.total_sold + case when p.stock_slot_count > 0
+                then (select coalesce(sum(s.sold), 0) from product_stock_slot s where s.product_id = p.id)
+                else 0
+            end as totalSold,
+            p.visible as visible
+        from products p
+        where p.id in (:ids)
+        and p.deleted_at is null
+    """, nativeQuery = true)
+    List<ProductStockRow> findStockRowsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("select p from Product p join p.productCategories c where c.id = :categoryId")
     List<Product> findAllByCategoryId(@Param("categoryId") Long categoryId);
 }
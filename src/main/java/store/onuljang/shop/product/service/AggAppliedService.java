@@ -6,11 +6,15 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.product.entity.ProductSalesTotalsRow;
 import store.onuljang.shop.product.repository.AggAppliedRepository;
 import store.onuljang.shared.entity.enums.AggPhase;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 @Service
@@ -36,13 +40,51 @@ public class AggAppliedService {
         return aggAppliedRepository.bulkInsertAppliedIgnoreDuplicate(reservationIds, phase.name());
     }
 
+    /**
+     * cursor 다음부터 미처리 행을 chunkSize 개 담는 reservation_id 상한을 찾는다. 남은 행이 없으면 비어 있다.
+     * 같은 예약의 여러 phase 는 한 청크에 함께 들어가므로 청크가 chunkSize 보다 조금 클 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findChunkUpperBound(long cursor, int chunkSize) {
+        return aggAppliedRepository.findUnprocessedReservationIdAt(cursor, chunkSize - 1)
+            .or(() -> aggAppliedRepository.findMaxUnprocessedReservationId(cursor));
+    }
+
     @Transactional
-    public int claimUnprocessed(String batchUid) {
-        return aggAppliedRepository.claimUnprocessed(batchUid);
+    public int claimUnprocessedInRange(String batchUid, long fromExclusive, long toInclusive) {
+        return aggAppliedRepository.claimUnprocessedInRange(batchUid, fromExclusive, toInclusive);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LocalDate> findSellDatesByBatchUid(String batchUid) {
+        return aggAppliedRepository.findSellDatesByBatchUid(batchUid);
     }
 
     @Transactional
     public int finishBatch(String batchUid, LocalDateTime now) {
         return aggAppliedRepository.finishBatch(batchUid, now);
     }
+
+    @Transactional(readOnly = true)
+    public long findMaxId() {
+        return aggAppliedRepository.findMaxId();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProductSalesTotalsRow> sumSettledByProduct(LocalDate pickupDate) {
+        return aggAppliedRepository.sumSettledByProductForPickupDate(pickupDate);
+    }
+
+    /**
+     * 재구성한 기간의 agg_applied 를 처리 완료로 맞춘다.
+     * 날짜마다 재구성 때 있던 행(maxIds)만 닫고, 그 뒤에 생긴 행은 다음 배치가 더하도록 남긴다.
+     */
+    @Transactional
+    public int closeForRebuild(LocalDate from, LocalDate to, Map<LocalDate, Long> maxIds, LocalDateTime now) {
+        int closed = 0;
+        for (Map.Entry<LocalDate, Long> entry : maxIds.entrySet()) {
+            closed += aggAppliedRepository.closeUnprocessedForPickupDateUpTo(entry.getKey(), entry.getValue(), now);
+        }
+        return closed + aggAppliedRepository.insertProcessedForPickupDateBetween(from, to, now);
+    }
 }
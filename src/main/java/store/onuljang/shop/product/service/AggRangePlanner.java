@@ -0,0 +1,53 @@
+package store.onuljang.shop.product.service;
+
+import lombok.experimental.UtilityClass;
+import store.onuljang.shared.entity.enums.AggPeriod;
+import store.onuljang.shop.product.entity.AggSegment;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 기간을 월 → 주 → 일 구간으로 나눠 읽어야 할 집계 행 수를 줄인다.
+ *
+ * 기간 안에 통째로 들어가는 달은 월 롤업으로 읽고, 그 앞뒤 자투리는 월요일 시작 주 롤업과 일별 집계로 채운다.
+ */
+@UtilityClass
+public class AggRangePlanner {
+
+    public static List<AggSegment> plan(LocalDate from, LocalDate to) {
+        List<AggSegment> segments = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return segments;
+        }
+
+        LocalDate firstMonth = from.getDayOfMonth() == 1 ? from : AggPeriod.MONTH.endOf(from).plusDays(1);
+        LocalDate lastMonthEnd = to.equals(AggPeriod.MONTH.endOf(to)) ? to : AggPeriod.MONTH.startOf(to).minusDays(1);
+        if (firstMonth.isAfter(lastMonthEnd)) {
+            planWeeksAndDays(from, to, segments);
+            return segments;
+        }
+
+        planWeeksAndDays(from, firstMonth.minusDays(1), segments);
+        for (LocalDate month = firstMonth; !month.isAfter(lastMonthEnd); month = month.plusMonths(1)) {
+            segments.add(new AggSegment(AggPeriod.MONTH, month, AggPeriod.MONTH.endOf(month)));
+        }
+        planWeeksAndDays(lastMonthEnd.plusDays(1), to, segments);
+        return segments;
+    }
+
+    private static void planWeeksAndDays(LocalDate from, LocalDate to, List<AggSegment> segments) {
+        LocalDate cursor = from;
+        while (!cursor.isAfter(to)) {
+            if (cursor.getDayOfWeek() == DayOfWeek.MONDAY && !AggPeriod.WEEK.endOf(cursor).isAfter(to)) {
+                segments.add(new AggSegment(AggPeriod.WEEK, cursor, AggPeriod.WEEK.endOf(cursor)));
+                cursor = cursor.plusWeeks(1);
+            } else {
+                segments.add(new AggSegment(AggPeriod.DAY, cursor, cursor));
+                cursor = cursor.plusDays(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package store.onuljang.shop.product.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.product.entity.AggCheckpoint;
+import store.onuljang.shop.product.entity.AggChunkResult;
+import store.onuljang.shop.product.repository.AggCheckpointRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 예약 집계를 reservation_id 범위 청크로 나눠 처리한다.
+ *
+ * 청크 하나의 claim → product_daily_agg upsert → 주/월 롤업 갱신 → finish → 체크포인트 이동이 한 트랜잭션이라,
+ * 실패한 청크는 통째로 롤백되고 다시 실행해도 이미 반영된 청크를 두 번 더하지 않는다.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Slf4j
+@Transactional(readOnly = true)
+public class AggregationChunkService {
+    public static final String RESERVATION_AGG_JOB = "RESERVATION_DAILY_AGG";
+
+    AggAppliedService aggAppliedService;
+    ProductDailyAggService productDailyAggService;
+    ProductPeriodAggService productPeriodAggService;
+    AggCheckpointRepository aggCheckpointRepository;
+
+    /**
+     * 이전 실행이 끝나지 않았으면 그 위치를 이어받고, 아니면 처음부터 새로 시작한다.
+     *
+     * @return 이번 실행의 시작 cursor (이 reservation_id 이하는 처리 완료)
+     */
+    @Transactional
+    public long startOrResume(LocalDateTime now) {
+        Optional<AggCheckpoint> found = aggCheckpointRepository.findByJobNameWithLock(RESERVATION_AGG_JOB);
+        if (found.isEmpty()) {
+            aggCheckpointRepository.save(new AggCheckpoint(RESERVATION_AGG_JOB, UUID.randomUUID().toString(), now));
+            return 0L;
+        }
+
+        AggCheckpoint checkpoint = found.get();
+        if (checkpoint.isRunning()) {
+            log.warn("[Aggregation] resume run={} from reservationId={} (chunks={}, processed={})",
+                checkpoint.getRunUid(), checkpoint.getLastReservationId(), checkpoint.getChunkCount(),
+                checkpoint.getProcessedCount());
+            return checkpoint.getLastReservationId();
+        }
+
+        checkpoint.start(UUID.randomUUID().toString(), now);
+        return checkpoint.getLastReservationId();
+    }
+
+    @Transactional
+    public AggChunkResult processChunk(long fromExclusive, long toInclusive, LocalDateTime now) {
+        long begin = System.nanoTime();
+        AggCheckpoint checkpoint = checkpoint();
+        if (checkpoint.getLastReservationId() != fromExclusive) {
+            throw new IllegalStateException("checkpoint moved: expected " + fromExclusive + " but was "
+                + checkpoint.getLastReservationId());
+        }
+
+        String batchUid = UUID.randomUUID().toString();
+        int claimed = aggAppliedService.claimUnprocessedInRange(batchUid, fromExclusive, toInclusive);
+
+        productDailyAggService.upsertForBatch(batchUid);
+        productPeriodAggService.refreshCovering(aggAppliedService.findSellDatesByBatchUid(batchUid));
+
+        int finished = aggAppliedService.finishBatch(batchUid, now);
+        if (finished != claimed) {
+            throw new IllegalStateException("finished != claimed: " + finished + " vs " + claimed
+                + " in (" + fromExclusive + ", " + toInclusive + "]");
+        }
+
+        checkpoint.advance(toInclusive, claimed);
+        return new AggChunkResult(fromExclusive, toInclusive, claimed,
+            (System.nanoTime() - begin) / 1_000_000L);
+    }
+
+    @Transactional
+    public AggCheckpoint complete(LocalDateTime now) {
+        AggCheckpoint checkpoint = checkpoint();
+        checkpoint.complete(now);
+        return checkpoint;
+    }
+
+    private AggCheckpoint checkpoint() {
+        return aggCheckpointRepository.findByJobNameWithLock(RESERVATION_AGG_JOB)
+            .orElseThrow(() -> new IllegalStateException("집계 체크포인트가 시작되지 않았습니다."));
+    }
+}
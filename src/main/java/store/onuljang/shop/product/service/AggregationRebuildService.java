@@ -0,0 +1,113 @@
+package store.onuljang.shop.product.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.product.entity.AggCheckpoint;
+import store.onuljang.shop.product.entity.AggRebuildDayResult;
+import store.onuljang.shop.product.entity.ProductSalesTotalsRow;
+import store.onuljang.shop.product.repository.AggCheckpointRepository;
+import store.onuljang.shop.product.repository.ProductDailyAggRepository;
+import store.onuljang.shop.product.repository.ProductDailyAggShadowRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * product_daily_agg 재구성.
+ *
+ * 날짜별로 예약 상태에서 shadow 테이블을 다시 채우고, agg_applied 표시로 따로 계산한 상품별 값과 대조한 뒤(buildDay),
+ * 모든 날짜가 끝나면 한 트랜잭션에서 기간 전체를 본 테이블과 바꾼다(swap).
+ *   - 예약 상태와 agg_applied 표시가 어긋난 상품이 있으면 그 날짜를 실패시켜 본 테이블을 건드리지 않는다.
+ *   - swap 은 날짜마다 재구성 때 있던 agg_applied 행만 닫는다. 그 뒤에 생긴 행은 shadow 에 없으므로 다음 배치가 더한다.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Slf4j
+@Transactional(readOnly = true)
+public class AggregationRebuildService {
+    ProductDailyAggShadowRepository productDailyAggShadowRepository;
+    ProductDailyAggRepository productDailyAggRepository;
+    ProductPeriodAggService productPeriodAggService;
+    AggAppliedService aggAppliedService;
+    AggCheckpointRepository aggCheckpointRepository;
+
+    @Transactional
+    public AggRebuildDayResult buildDay(LocalDate date) {
+        long begin = System.nanoTime();
+        productDailyAggShadowRepository.deleteAllBySellDateBetween(date, date);
+        int rows = productDailyAggShadowRepository.insertFromReservations(date);
+        // 예약을 읽은 뒤에 잡아야 이 id 이하의 표시가 모두 shadow 에 반영된 상태 변경이다
+        long aggAppliedMaxId = aggAppliedService.findMaxId();
+
+        List<ProductSalesTotalsRow> shadow = productDailyAggShadowRepository.findTotalsBySellDate(date);
+        List<Long> mismatched = findMismatchedProductIds(shadow, aggAppliedService.sumSettledByProduct(date));
+        if (!mismatched.isEmpty()) {
+            throw new IllegalStateException("재구성 값이 agg_applied 기록과 다릅니다. date=" + date
+                + ", productIds=" + mismatched);
+        }
+
+        long quantity = shadow.stream().mapToLong(ProductSalesTotalsRow::getQuantity).sum();
+        BigDecimal amount = shadow.stream()
+            .map(ProductSalesTotalsRow::getAmount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new AggRebuildDayResult(date, rows, quantity, amount, aggAppliedMaxId,
+            (System.nanoTime() - begin) / 1_000_000L);
+    }
+
+    /**
+     * 기간의 일별 집계를 shadow 값으로 바꾸고 주/월 롤업, agg_applied 를 함께 맞춘다.
+     * 야간 집계가 진행 중이면 체크포인트를 잠근 채로 거절한다.
+     */
+    @Transactional
+    public int swap(LocalDate from, LocalDate to, Map<LocalDate, Long> aggAppliedMaxIds, LocalDateTime now) {
+        aggCheckpointRepository.findByJobNameWithLock(AggregationChunkService.RESERVATION_AGG_JOB)
+            .filter(AggCheckpoint::isRunning)
+            .ifPresent(checkpoint -> {
+                throw new IllegalStateException("예약 집계가 진행 중이라 재구성 결과를 반영할 수 없습니다. run="
+                    + checkpoint.getRunUid());
+            });
+
+        int deleted = productDailyAggRepository.deleteAllBySellDateBetween(from, to);
+        int inserted = productDailyAggRepository.insertFromShadow(from, to);
+        int closed = aggAppliedService.closeForRebuild(from, to, aggAppliedMaxIds, now);
+        productPeriodAggService.refreshCovering(from.datesUntil(to.plusDays(1)).toList());
+        productDailyAggShadowRepository.deleteAllBySellDateBetween(from, to);
+
+        log.info("[AggRebuild] swapped {} ~ {}: deleted={}, inserted={}, aggAppliedClosed={}",
+            from, to, deleted, inserted, closed);
+        return inserted;
+    }
+
+    private static List<Long> findMismatchedProductIds(List<ProductSalesTotalsRow> shadow,
+            List<ProductSalesTotalsRow> applied) {
+        Map<Long, ProductSalesTotalsRow> shadowByProduct = shadow.stream()
+            .collect(Collectors.toMap(ProductSalesTotalsRow::getProductId, Function.identity()));
+        Map<Long, ProductSalesTotalsRow> appliedByProduct = applied.stream()
+            .collect(Collectors.toMap(ProductSalesTotalsRow::getProductId, Function.identity()));
+
+        TreeSet<Long> productIds = new TreeSet<>(shadowByProduct.keySet());
+        productIds.addAll(appliedByProduct.keySet());
+        return productIds.stream()
+            .filter(productId -> !sameTotals(shadowByProduct.get(productId), appliedByProduct.get(productId)))
+            .toList();
+    }
+
+    private static boolean sameTotals(ProductSalesTotalsRow a, ProductSalesTotalsRow b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return Objects.equals(a.getQuantity(), b.getQuantity()) && a.getAmount().compareTo(b.getAmount()) == 0;
+    }
+}
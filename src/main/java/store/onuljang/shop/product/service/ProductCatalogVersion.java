@@ -0,0 +1,67 @@
+package store.onuljang.shop.product.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매장 상품 조회 응답의 버전. 커밋된 변경마다 단조 증가한다.
+ *
+ *   - 카탈로그 버전: 관리자 상품/카테고리 변경({@link ProductCatalogChangedEvent})
+ *   - 재고 버전: 예약, 취소, 재고 복원 등 재고 변경 (상품 스냅샷을 비울 때 함께 올린다)
+ * 버전은 인스턴스 안에서만 세므로 ETag 에 기동 id 와 시간 구간을 함께 넣어
+ * 다른 인스턴스가 만든 ETag 와 섞이지 않고, 다른 인스턴스의 변경도 구간이 바뀌면 반영되게 한다.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor
+public class ProductCatalogVersion {
+    ProductListCacheConfigDto config;
+    String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    AtomicLong catalog = new AtomicLong();
+    AtomicLong stock = new AtomicLong();
+
+    public long getCatalog() {
+        return catalog.get();
+    }
+
+    public long getStock() {
+        return stock.get();
+    }
+
+    public void bumpStock() {
+        stock.incrementAndGet();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCatalogChangedEvent event) {
+        catalog.incrementAndGet();
+    }
+
+    /**
+     * 카탈로그 변경으로만 바뀌는 응답(상세, 카테고리)의 ETag 값.
+     */
+    public String catalogTag() {
+        return instanceId + "-" + window() + "-c" + catalog.get();
+    }
+
+    /**
+     * 재고가 들어간 응답(목록)의 ETag 값.
+     */
+    public String stockTag() {
+        return catalogTag() + "-s" + stock.get();
+    }
+
+    private long window() {
+        long windowMs = config.getEtagWindowMs();
+        return windowMs > 0 ? System.currentTimeMillis() / windowMs : 0;
+    }
+}
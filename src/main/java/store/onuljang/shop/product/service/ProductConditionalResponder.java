@@ -0,0 +1,107 @@
+package store.onuljang.shop.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.SerializedBody;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 매장 상품 조회 응답의 ETag / 조건부 GET 처리.
+ *
+ * ETag 는 {@link ProductCatalogVersion} 의 버전으로 만들고, If-None-Match 가 같으면
+ * DB 조회나 직렬화 없이 304 로 응답한다. gzip 본문과 JSON 본문은 다른 표현이므로 ETag 도 구분한다.
+ * 호출하는 쪽은 응답을 만들기 전에 버전을 읽어야 한다. 그래야 그 사이 커밋된 변경이 다음 요청에서 본문으로 내려간다.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductConditionalResponder {
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    ProductListCacheConfigDto config;
+    MeterRegistry meterRegistry;
+    // 304 로 아낀 바이트를 세기 위한 마지막 본문 크기
+    Map<String, Integer> lastBodySizes = new ConcurrentHashMap<>();
+
+    Counter notModifiedCounter;
+    Counter modifiedCounter;
+
+    public ProductConditionalResponder(ProductListCacheConfigDto config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.notModifiedCounter = meterRegistry.counter("product.conditional", "result", "not_modified");
+        this.modifiedCounter = meterRegistry.counter("product.conditional", "result", "modified");
+        Gauge.builder("product.conditional.not_modified.ratio", this, ProductConditionalResponder::notModifiedRatio)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param endpoint 지표 태그 (list, detail, categories)
+     * @param key 요청 파라미터로 만든 키
+     * @param tag 응답을 만들기 전에 읽은 버전 값
+     * @param body If-None-Match 가 다를 때만 호출
+     */
+    public void respond(String endpoint, String key, String tag, HttpServletRequest request,
+            HttpServletResponse response, Supplier<SerializedBody> body) throws IOException {
+        boolean gzip = SerializedBody.acceptsGzip(request);
+        String etag = "\"" + tag + (gzip ? "-gzip" : "") + "\"";
+        String sizeKey = key + (gzip ? ":gzip" : "");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            notModifiedCounter.increment();
+            Integer saved = lastBodySizes.get(sizeKey);
+            if (saved != null) {
+                meterRegistry.counter("product.conditional.saved.bytes", "endpoint", endpoint).increment(saved);
+            }
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        modifiedCounter.increment();
+        // 조회가 실패하면(없는 상품 등) 오류 응답에 ETag 가 남지 않도록 본문을 만든 뒤에 붙인다
+        SerializedBody serialized = body.get();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (lastBodySizes.size() >= config.getMaxEntries() && !lastBodySizes.containsKey(sizeKey)) {
+            lastBodySizes.clear();
+        }
+        lastBodySizes.put(sizeKey, (gzip ? serialized.gzip() : serialized.json()).length);
+        serialized.writeTo(request, response);
+    }
+
+    // If-None-Match 는 약한 비교를 한다. "*" 는 대상이 있는지 조회해야 알 수 있으므로 본문으로 응답한다
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double notModifiedRatio() {
+        double total = notModifiedCounter.count() + modifiedCounter.count();
+        return total == 0 ? 0 : notModifiedCounter.count() / total;
+    }
+}
@@ -9,9 +9,12 @@ import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shop.product.repository.ProductDailyAggRepository;
 import store.onuljang.shop.product.entity.ProductDailyAgg;
 import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.entity.SalesExportRow;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -31,6 +34,19 @@ public class ProductDailyAggService {
         return productDailyAggRepository.findAggBetween(from, to);
     }
 
+    @Transactional(readOnly = true)
+    public List<ProductDailyAggRow> findAggBySellDateIn(Collection<LocalDate> dates) {
+        return productDailyAggRepository.findAggBySellDateIn(dates);
+    }
+
+    /**
+     * 호출한 쪽 트랜잭션 안에서 끝까지 읽고 닫아야 한다.
+     */
+    @Transactional(readOnly = true)
+    public Stream<SalesExportRow> streamExportBetween(LocalDate from, LocalDate to) {
+        return productDailyAggRepository.streamExportBetween(from, to);
+    }
+
     @Transactional(readOnly = true)
     public List<ProductDailyAgg> findDetailBySellDateWithProduct(LocalDate date) {
         return productDailyAggRepository.findAllBySellDate(date);
@@ -0,0 +1,101 @@
+package store.onuljang.shop.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.ProductListResponse;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 매장 상품 목록 read-through 캐시.
+ *
+ * (from, to, categoryId) 별로 매핑된 목록을 보관한다.
+ *   - 관리자 상품/카테고리 변경이 커밋되면 {@link ProductCatalogChangedEvent} 로 전체를 비운다.
+ *     판매일이나 카테고리가 바뀌면 상품이 다른 키로 옮겨가므로 키 단위로 비우지 않는다.
+ *   - 로딩 중에 비우기가 일어나면 읽은 값을 캐시에 넣지 않는다.
+ *   - 재고/판매량은 예약마다 바뀌므로 여기 값을 쓰지 않고 조회할 때마다 따로 덮어쓴다.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Slf4j
+public class ProductListCache {
+    ProductListCacheConfigDto config;
+    Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    AtomicLong generation = new AtomicLong();
+
+    Counter hitCounter;
+    Counter missCounter;
+    Timer loadTimer;
+
+    public ProductListCache(ProductListCacheConfigDto config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.hitCounter = meterRegistry.counter("product.list.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("product.list.cache", "result", "miss");
+        this.loadTimer = meterRegistry.timer("product.list.cache.load");
+        Gauge.builder("product.list.cache.hit.ratio", this, ProductListCache::hitRatio)
+            .register(meterRegistry);
+        Gauge.builder("product.list.cache.size", entries, Map::size)
+            .register(meterRegistry);
+    }
+
+    public ProductListResponse get(LocalDate from, LocalDate to, Long categoryId,
+            Supplier<ProductListResponse> loader) {
+        Key key = new Key(from, to, categoryId);
+        Entry cached = entries.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.loadedAt() < config.getTtlMs()) {
+            hitCounter.increment();
+            return cached.response();
+        }
+
+        missCounter.increment();
+        long loadingGeneration = generation.get();
+        ProductListResponse loaded = loadTimer.record(loader);
+        if (config.getTtlMs() > 0 && generation.get() == loadingGeneration) {
+            if (entries.size() >= config.getMaxEntries() && !entries.containsKey(key)) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(loaded, now));
+        }
+        return loaded;
+    }
+
+    /**
+     * 트랜잭션 밖에서 발행된 이벤트는 바로 비운다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCatalogChangedEvent event) {
+        invalidateAll();
+        log.debug("[ProductListCache] invalidated by products={}", event.productIds());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + missCounter.count();
+        return total == 0 ? 0 : hitCounter.count() / total;
+    }
+
+    private record Key(LocalDate from, LocalDate to, Long categoryId) {
+    }
+
+    private record Entry(ProductListResponse response, long loadedAt) {
+    }
+}
@@ -0,0 +1,44 @@
+package store.onuljang.shop.product.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.product.entity.ProductLiveAgg;
+import store.onuljang.shop.product.entity.ProductLiveAggRow;
+import store.onuljang.shop.product.repository.ProductLiveAggRepository;
+import store.onuljang.shared.util.TimeUtil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Slf4j
+@Transactional(readOnly = true)
+public class ProductLiveAggService {
+    ProductLiveAggRepository productLiveAggRepository;
+
+    public List<ProductLiveAgg> findAllBySellDate(LocalDate sellDate) {
+        return productLiveAggRepository.findAllBySellDate(sellDate);
+    }
+
+    @Transactional
+    public void upsertAll(Collection<ProductLiveAggRow> rows) {
+        LocalDateTime now = TimeUtil.nowDateTime();
+        for (ProductLiveAggRow row : rows) {
+            productLiveAggRepository.upsert(row.sellDate(), row.productId(), row.activeQuantity(),
+                row.activeAmount(), row.settledQuantity(), row.settledAmount(), now);
+        }
+    }
+
+    @Transactional
+    public int deleteAllBefore(LocalDate before) {
+        return productLiveAggRepository.deleteAllBySellDateBefore(before);
+    }
+}
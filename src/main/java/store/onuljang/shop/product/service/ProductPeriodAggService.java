@@ -0,0 +1,82 @@
+package store.onuljang.shop.product.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.entity.enums.AggPeriod;
+import store.onuljang.shop.product.entity.AggSegment;
+import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.entity.SalesSummaryRow;
+import store.onuljang.shop.product.repository.ProductPeriodAggRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Slf4j
+@Transactional(readOnly = true)
+public class ProductPeriodAggService {
+    ProductPeriodAggRepository productPeriodAggRepository;
+    ProductDailyAggService productDailyAggService;
+
+    /**
+     * 일별 집계가 바뀐 날짜가 속한 주/월 롤업을 지우고 다시 계산한다.
+     */
+    @Transactional
+    public int refreshCovering(Collection<LocalDate> sellDates) {
+        Set<LocalDate> weeks = new TreeSet<>();
+        Set<LocalDate> months = new TreeSet<>();
+        for (LocalDate sellDate : sellDates) {
+            weeks.add(AggPeriod.WEEK.startOf(sellDate));
+            months.add(AggPeriod.MONTH.startOf(sellDate));
+        }
+
+        if (!weeks.isEmpty()) {
+            productPeriodAggRepository.deleteAllByPeriodStartIn(AggPeriod.WEEK.name(), weeks);
+            productPeriodAggRepository.deleteAllByPeriodStartIn(AggPeriod.MONTH.name(), months);
+        }
+
+        int rows = 0;
+        for (LocalDate week : weeks) {
+            rows += productPeriodAggRepository.refreshWeek(week, AggPeriod.WEEK.endOf(week));
+        }
+        for (LocalDate month : months) {
+            rows += productPeriodAggRepository.refreshMonth(month, AggPeriod.MONTH.endOf(month));
+        }
+        return rows;
+    }
+
+    /**
+     * 기간 매출을 월/주/일 구간 합계로 조회한다. 매출이 없는 구간은 빠진다.
+     */
+    @Transactional(readOnly = true)
+    public List<SalesSummaryRow> findSummary(LocalDate from, LocalDate to) {
+        Map<AggPeriod, List<LocalDate>> starts = new EnumMap<>(AggPeriod.class);
+        for (AggSegment segment : AggRangePlanner.plan(from, to)) {
+            starts.computeIfAbsent(segment.period(), period -> new ArrayList<>()).add(segment.from());
+        }
+
+        List<SalesSummaryRow> rows = new ArrayList<>();
+        starts.forEach((period, periodStarts) -> {
+            List<ProductDailyAggRow> found = switch (period) {
+                case DAY -> productDailyAggService.findAggBySellDateIn(periodStarts);
+                case WEEK, MONTH -> productPeriodAggRepository.findAggByPeriodStartIn(period.name(), periodStarts);
+            };
+            found.forEach(row -> rows.add(SalesSummaryRow.of(period, row)));
+        });
+        rows.sort(Comparator.comparing(SalesSummaryRow::from));
+        return rows;
+    }
+}
@@ -0,0 +1,108 @@
+package store.onuljang.shop.product.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.SerializedBody;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 매장 상품 조회 응답의 직렬화 결과 캐시.
+ *
+ * 같은 응답을 요청마다 다시 직렬화하지 않도록 (요청 키, 카탈로그 버전) 별로 바이트를 보관한다.
+ * gzip 본문은 보관한 뒤 gzip 을 받는 요청이 처음 올 때 한 번만 만든다.
+ *   - 관리자 상품/카테고리 변경이 커밋되면 {@link ProductCatalogVersion} 의 카탈로그 버전이 오르고 전체를 비운다.
+ *   - {@link #getOrLoad(String, Supplier)} 는 카탈로그 변경으로만 바뀌는 응답용이다. 적중하면 조회도 하지 않는다.
+ *   - {@link #serialize(Object)} 는 재고처럼 요청마다 바뀔 수 있는 응답용이다. 보관한 응답과 비교하는 비용이
+ *     직렬화와 비슷해 보관하지 않고 직렬화만 한다.
+ * TTL 과 최대 키 수는 상품 목록 캐시 설정을 따른다.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductResponseBodyCache {
+    ObjectMapper objectMapper;
+    ProductListCacheConfigDto config;
+    ProductCatalogVersion productCatalogVersion;
+    Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    Counter hitCounter;
+    Counter missCounter;
+    Timer serializeTimer;
+
+    public ProductResponseBodyCache(ObjectMapper objectMapper, ProductListCacheConfigDto config,
+            ProductCatalogVersion productCatalogVersion, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.productCatalogVersion = productCatalogVersion;
+        this.hitCounter = meterRegistry.counter("product.body.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("product.body.cache", "result", "miss");
+        this.serializeTimer = meterRegistry.timer("product.body.cache.serialize");
+    }
+
+    /**
+     * 보관하지 않고 직렬화만 한다. gzip 본문은 gzip 을 받는 요청에 쓸 때 만든다.
+     */
+    public SerializedBody serialize(Object response) {
+        return serializeTimer.record(() -> toJson(response));
+    }
+
+    /**
+     * 카탈로그 버전이 같은 동안에는 loader 를 부르지 않고 보관한 바이트를 돌려준다.
+     */
+    public SerializedBody getOrLoad(String key, Supplier<?> loader) {
+        long version = productCatalogVersion.getCatalog();
+        Entry cached = entries.get(key);
+        if (isFresh(cached, version)) {
+            hitCounter.increment();
+            return cached.body();
+        }
+
+        missCounter.increment();
+        return store(key, version, loader.get());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCatalogChangedEvent event) {
+        entries.clear();
+    }
+
+    private boolean isFresh(Entry cached, long version) {
+        return cached != null && cached.version() == version
+            && System.currentTimeMillis() - cached.serializedAt() < config.getTtlMs();
+    }
+
+    private SerializedBody store(String key, long version, Object response) {
+        SerializedBody body = serialize(response);
+        // 직렬화하는 사이 버전이 바뀌었으면 보관하지 않는다
+        if (config.getTtlMs() > 0 && productCatalogVersion.getCatalog() == version) {
+            if (entries.size() >= config.getMaxEntries() && !entries.containsKey(key)) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(version, body, System.currentTimeMillis()));
+        }
+        return body;
+    }
+
+    private SerializedBody toJson(Object response) {
+        try {
+            return new SerializedBody(objectMapper.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        }
+    }
+
+    private record Entry(long version, SerializedBody body, long serializedAt) {
+    }
+}
@@ -0,0 +1,96 @@
+package store.onuljang.shop.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합친다 (single-flight).
+ *
+ * 먼저 온 요청이 조회하는 동안 같은 키로 들어온 요청은 그 결과(예외 포함)를 함께 받는다.
+ * 조회가 끝나면 바로 키를 지우므로 결과를 보관하지는 않는다. 보관은 {@link ProductListCache} 가 맡는다.
+ *   - SINGLE_FLIGHT_MAX_WAIT_MS 안에 끝나지 않으면 기다리던 요청은 직접 조회한다.
+ *   - 키에 카탈로그/재고 버전을 넣어야 변경 뒤에 온 요청이 변경 전에 시작한 조회를 받지 않는다.
+ *
+ *   - product.singleflight.saved : 기다려서 아낀 조회 수
+ *   - product.singleflight.timeout : 기다리다 직접 조회한 수
+ *   - product.singleflight.in_flight : 진행 중인 조회 수
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductSingleFlight {
+    ProductListCacheConfigDto config;
+    Map<String, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+
+    Counter savedCounter;
+    Counter timeoutCounter;
+
+    public ProductSingleFlight(ProductListCacheConfigDto config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.savedCounter = meterRegistry.counter("product.singleflight.saved");
+        this.timeoutCounter = meterRegistry.counter("product.singleflight.timeout");
+        Gauge.builder("product.singleflight.in_flight", flights, Map::size)
+            .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        long maxWaitMs = config.getSingleFlightMaxWaitMs();
+        if (maxWaitMs <= 0) {
+            return loader.get();
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = flights.putIfAbsent(key, mine);
+        if (inFlight == null) {
+            return lead(key, mine, loader);
+        }
+
+        try {
+            T shared = (T) inFlight.get(maxWaitMs, TimeUnit.MILLISECONDS);
+            savedCounter.increment();
+            return shared;
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        } catch (ExecutionException e) {
+            // 같은 조회의 실패(없는 상품 등)는 그대로 함께 받는다
+            savedCounter.increment();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T lead(String key, CompletableFuture<Object> mine, Supplier<T> loader) {
+        try {
+            T loaded = loader.get();
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, mine);
+        }
+    }
+}
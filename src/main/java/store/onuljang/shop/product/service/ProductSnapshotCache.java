@@ -0,0 +1,127 @@
+package store.onuljang.shop.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.onuljang.shop.product.entity.ProductSnapshot;
+import store.onuljang.shop.reservation.config.ReservationConfigDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 스냅샷 read-through 캐시.
+ *
+ * 예약 요청이 상품 행 락을 기다리기 전에 판매 시간, 노출 여부, 재고 힌트로 불가능한 요청을 걸러내는 용도이다.
+ *   - 예약/취소처럼 재고 증감을 아는 변경은 커밋 후 스냅샷 재고를 그 만큼 바로 고쳐, 판매 중에도 다시 읽지 않는다.
+ *   - 그 밖의 재고 변경, 관리자 수정이 커밋되면 해당 상품 스냅샷을 비우고 다음 조회 때 다시 읽는다.
+ *   - 상품마다 버전을 두어, 로딩 중에 그 상품의 변경이 커밋되면 읽은 값을 캐시에 넣지 않는다.
+ *   - 다른 인스턴스의 변경은 TTL 이 지나야 반영된다.
+ *   - 바꿀 때마다 상품 조회 응답의 재고 버전도 올린다.
+ * 스냅샷은 힌트일 뿐이며 최종 검증은 락을 잡은 트랜잭션 안에서 한다.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductSnapshotCache {
+    ProductsService productsService;
+    ReservationConfigDto reservationConfig;
+    ProductCatalogVersion productCatalogVersion;
+    // 비운 뒤에도 버전을 이어 가도록 항목은 지우지 않고 스냅샷만 비운다
+    Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    Counter passedCounter;
+    Counter rejectedCounter;
+
+    public ProductSnapshotCache(ProductsService productsService, ReservationConfigDto reservationConfig,
+            ProductCatalogVersion productCatalogVersion, MeterRegistry meterRegistry) {
+        this.productsService = productsService;
+        this.reservationConfig = reservationConfig;
+        this.productCatalogVersion = productCatalogVersion;
+        this.passedCounter = meterRegistry.counter("reservation.precheck", "result", "passed");
+        this.rejectedCounter = meterRegistry.counter("reservation.precheck", "result", "rejected");
+        Gauge.builder("reservation.precheck.rejected.ratio", this, ProductSnapshotCache::rejectedRatio)
+            .register(meterRegistry);
+    }
+
+    public ProductSnapshot get(long productId) {
+        Entry cached = entries.get(productId);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.snapshot() != null
+                && now - cached.snapshot().loadedAt() < reservationConfig.getSnapshotTtlMs()) {
+            return cached.snapshot();
+        }
+
+        long loadingVersion = cached == null ? 0 : cached.version();
+        ProductSnapshot loaded = ProductSnapshot.from(productsService.findByIdWithSlotTotals(productId), now);
+        entries.compute(productId, (id, current) -> {
+            long version = current == null ? 0 : current.version();
+            return version == loadingVersion ? new Entry(version, loaded) : current;
+        });
+        return loaded;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 스냅샷 재고를 delta 만큼 고친다. 트랜잭션 밖이면 바로 고친다.
+     */
+    public void applyStockDeltaAfterCommit(long productId, int delta) {
+        afterCommit(() -> {
+            entries.compute(productId, (id, current) -> current == null ? new Entry(1, null) : current.addStock(delta));
+            productCatalogVersion.bumpStock();
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 스냅샷을 비운다. 트랜잭션 밖이면 바로 비운다.
+     */
+    public void evictAfterCommit(long productId) {
+        evictAfterCommit(List.of(productId));
+    }
+
+    public void evictAfterCommit(Collection<Long> productIds) {
+        List<Long> targets = List.copyOf(productIds);
+        afterCommit(() -> evict(targets));
+    }
+
+    public void recordPrecheck(boolean rejected) {
+        (rejected ? rejectedCounter : passedCounter).increment();
+    }
+
+    private void evict(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            entries.compute(productId, (id, current) -> new Entry(current == null ? 1 : current.version() + 1, null));
+        }
+        productCatalogVersion.bumpStock();
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private double rejectedRatio() {
+        double total = passedCounter.count() + rejectedCounter.count();
+        return total == 0 ? 0 : rejectedCounter.count() / total;
+    }
+
+    private record Entry(long version, ProductSnapshot snapshot) {
+        Entry addStock(int delta) {
+            return new Entry(version + 1, snapshot == null ? null : snapshot.withStock(snapshot.stock() + delta));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package store.onuljang.shop.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.ProductStockChange;
+import store.onuljang.shop.product.entity.ProductStockRow;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 목록에 덮어쓸 재고/판매량의 메모리 사본.
+ *
+ * 목록 요청마다 DB 를 읽지 않도록 처음 보는 상품만 한 번에 읽어 두고, 이 인스턴스의 변경은 커밋 후 바로 반영한다.
+ *   - 예약/취소처럼 재고 증감을 아는 변경은 커밋 후 재고와 판매량을 그 만큼 고친다.
+ *   - 그 밖의 재고 변경과 관리자 상품 변경은 커밋 후 해당 상품을 비우고 다음 조회 때 다시 읽는다.
+ *   - 변경마다 순번을 붙여, 읽기를 시작한 뒤 그 상품이 바뀌었으면 읽은 값을 넣지 않는다.
+ *   - 재고 증감은 커밋 직전부터 반영까지 상품을 "반영 대기"로 두어, 그 사이 읽은(이미 증감이 들어간) 값을 넣지 않는다.
+ *     그래서 증감은 커밋 전에 읽어 둔 값에만 더해지고 두 번 들어가지 않는다.
+ *   - 다른 인스턴스의 변경은 STOCK_TTL_MS 가 지나야 반영된다.
+ *   - TTL 이 지난 항목과 비운 항목은 TTL 마다 한 번 정리한다.
+ *
+ *   - product.stock.board{result=hit|miss} : 메모리에서 찾은/DB 에서 읽은 상품 수
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductStockBoard {
+    ProductsService productsService;
+    ProductListCacheConfigDto config;
+    Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    // 모든 변경에 붙이는 순번
+    AtomicLong sequence = new AtomicLong();
+    // 마지막 정리 때의 순번. 그보다 먼저 시작한 읽기는 항목이 없어도 넣지 않는다
+    AtomicLong sweptSequence = new AtomicLong();
+    AtomicLong lastSweptAt = new AtomicLong(System.currentTimeMillis());
+
+    Counter hitCounter;
+    Counter missCounter;
+
+    public ProductStockBoard(ProductsService productsService, ProductListCacheConfigDto config,
+            MeterRegistry meterRegistry) {
+        this.productsService = productsService;
+        this.config = config;
+        this.hitCounter = meterRegistry.counter("product.stock.board", "result", "hit");
+        this.missCounter = meterRegistry.counter("product.stock.board", "result", "miss");
+    }
+
+    /**
+     * 상품별 현재 재고/판매량. 삭제된 상품은 빠진다.
+     */
+    public Map<Long, ProductStockChange> getAll(Collection<Long> productIds) {
+        long now = System.currentTimeMillis();
+        sweepIfDue(now);
+
+        long loadingSequence = sequence.get();
+        Map<Long, ProductStockChange> stocks = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long productId : productIds) {
+            Entry cached = entries.get(productId);
+            if (cached != null && cached.isFresh(now, config.getStockTtlMs())) {
+                stocks.put(productId, cached.stock());
+            } else {
+                misses.add(productId);
+            }
+        }
+        hitCounter.increment(stocks.size());
+        if (misses.isEmpty()) {
+            return stocks;
+        }
+
+        missCounter.increment(misses.size());
+        for (ProductStockRow row : productsService.findStockRowsByIdIn(misses)) {
+            ProductStockChange loaded = ProductStockChange.from(row);
+            entries.compute(row.getProductId(), (id, current) -> {
+                if (current == null) {
+                    return loadingSequence >= sweptSequence.get() ? new Entry(loadingSequence, loaded, now, 0) : null;
+                }
+                return current.pending() == 0 && current.version() <= loadingSequence
+                    ? new Entry(current.version(), loaded, now, 0) : current;
+            });
+            stocks.put(row.getProductId(), loaded);
+        }
+        return stocks;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 재고를 delta 만큼, 판매량을 그 반대로 고친다. 트랜잭션 밖이면 바로 고친다.
+     */
+    public void applyStockDeltaAfterCommit(long productId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.compute(productId, (id, current) -> applied(current, delta, 0));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            boolean pending;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                entries.compute(productId, (id, current) -> current == null
+                    ? new Entry(sequence.incrementAndGet(), null, 0, 1)
+                    : new Entry(sequence.incrementAndGet(), current.stock(), current.loadedAt(), current.pending() + 1));
+                pending = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!pending) {
+                    return;
+                }
+                int committedDelta = status == STATUS_COMMITTED ? delta : 0;
+                entries.compute(productId, (id, current) -> applied(current, committedDelta, 1));
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 상품을 비운다. 트랜잭션 밖이면 바로 비운다.
+     */
+    public void evictAfterCommit(Collection<Long> productIds) {
+        List<Long> targets = List.copyOf(productIds);
+        afterCommit(() -> evict(targets));
+    }
+
+    // 노출 여부나 삭제가 바뀐 상품은 다시 읽는다. 카테고리 변경처럼 상품 id 가 없는 이벤트는 재고와 무관하다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCatalogChangedEvent event) {
+        evict(event.productIds());
+    }
+
+    private void evict(Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            entries.compute(productId, (id, current) ->
+                new Entry(sequence.incrementAndGet(), null, 0, current == null ? 0 : current.pending()));
+        }
+    }
+
+    // 정리한 항목은 없던 것과 같아지므로, 정리 전에 시작한 읽기가 지운 변경 이전 값을 넣지 못하게 순번을 남긴다
+    private void sweepIfDue(long now) {
+        long last = lastSweptAt.get();
+        if (now - last < config.getStockTtlMs() || !lastSweptAt.compareAndSet(last, now)) {
+            return;
+        }
+        long swept = sequence.incrementAndGet();
+        sweptSequence.set(swept);
+        entries.values().removeIf(entry -> entry.version() <= swept && entry.pending() == 0
+            && !entry.isFresh(now, config.getStockTtlMs()));
+    }
+
+    private Entry applied(Entry current, int delta, int settled) {
+        long version = sequence.incrementAndGet();
+        if (current == null) {
+            return new Entry(version, null, 0, 0);
+        }
+        return current.addStock(delta, version, settled);
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    // pending: 커밋 중이라 아직 증감이 반영되지 않은 트랜잭션 수
+    private record Entry(long version, ProductStockChange stock, long loadedAt, int pending) {
+        boolean isFresh(long now, long ttlMs) {
+            return stock != null && now - loadedAt < ttlMs;
+        }
+
+        Entry addStock(int delta, long newVersion, int settled) {
+            int remaining = Math.max(pending - settled, 0);
+            if (stock == null || delta == 0) {
+                return new Entry(newVersion, stock, loadedAt, remaining);
+            }
+            ProductStockChange changed = new ProductStockChange(stock.productId(), stock.stock() + delta,
+                Math.max(stock.totalSold() - delta, 0), stock.visible());
+            return new Entry(newVersion, changed, loadedAt, remaining);
+        }
+    }
+}
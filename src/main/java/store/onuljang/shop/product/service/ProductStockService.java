@@ -0,0 +1,241 @@
+package store.onuljang.shop.product.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductStockSlot;
+import store.onuljang.shop.product.entity.ProductStockSlotRow;
+import store.onuljang.shop.product.event.ProductStockChangedEvent;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.repository.ProductStockSlotRepository;
+import store.onuljang.shop.reservation.config.ReserveMode;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 재고 변경 진입점.
+ *
+ * 슬롯 분할(stockSlotCount > 0) 상품은 재고를 product_stock_slot 여러 행에 나눠 보관하고,
+ * 예약은 임의의 슬롯 하나에서 조건부 UPDATE 로 차감해 products 행 하나에 몰리는 경합을 분산한다.
+ * 슬롯 분할 상품은 products 행을 잠그지 않는 CONDITIONAL_UPDATE 모드에서 효과가 있다.
+ * 재고가 바뀌면 커밋 후 상품 스냅샷 캐시와 목록 재고 사본을 고치거나 비우고 재고 스트림에 알린다.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Transactional(readOnly = true)
+public class ProductStockService {
+    public static final int MAX_STOCK_SLOTS = 32;
+
+    ProductsService productsService;
+    ProductStockSlotRepository productStockSlotRepository;
+    ProductSnapshotCache productSnapshotCache;
+    ProductStockBoard productStockBoard;
+    ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 재고 부족(ProductExceedException)은 아무것도 바꾸기 전에 던지므로 트랜잭션을 롤백 전용으로 표시하지 않는다.
+     * 일괄 예약이 그 항목만 실패로 돌리고 나머지를 커밋할 수 있게 하기 위함이다.
+     */
+    @Transactional(noRollbackFor = ProductExceedException.class)
+    public void reserve(Product product, int quantity, ReserveMode mode) {
+        if (product.isStockStriped()) {
+            product.assertAvailable(quantity);
+            reserveFromSlots(product, quantity);
+        } else if (mode == ReserveMode.CONDITIONAL_UPDATE) {
+            product.assertAvailable(quantity);
+            if (!productsService.decreaseStockIfAvailable(product.getId(), quantity)) {
+                throw new ProductExceedException("상품의 재고가 부족합니다.");
+            }
+        } else {
+            product.reserve(quantity);
+        }
+
+        stockChanged(product.getId(), -quantity);
+    }
+
+    @Transactional
+    public void cancel(Product product, int quantity) {
+        stockChanged(product.getId(), quantity);
+
+        if (!product.isStockStriped()) {
+            product.cancel(quantity);
+            return;
+        }
+
+        List<ProductStockSlot> slots = productStockSlotRepository.findAllByProductIdWithLock(product.getId());
+        long remaining = quantity;
+        for (ProductStockSlot slot : slots) {
+            remaining -= slot.removeSold(remaining);
+            if (remaining == 0) {
+                break;
+            }
+        }
+        if (remaining > 0) {
+            product.absorbSlotSold(-remaining);
+        }
+
+        rebalance(product, slots, sumStock(slots) + quantity);
+    }
+
+    /**
+     * 예약 id 묶음만큼 재고를 한 번의 UPDATE 로 되돌린다. 슬롯 분할 상품은 대상에서 빠지므로 addStock 으로 따로 처리한다.
+     * 영속성 컨텍스트를 비우므로 이후에는 엔티티를 다시 조회해야 한다.
+     */
+    @Transactional
+    public int restockAll(Collection<Long> reservationIds, ReservationStatus status, Collection<Long> productIds) {
+        stockChanged(productIds);
+        return productsService.restockFromReservations(reservationIds, status);
+    }
+
+    @Transactional
+    public void addStock(Product product, int quantity) {
+        stockChanged(List.of(product.getId()));
+
+        if (!product.isStockStriped()) {
+            product.addStock(quantity);
+            return;
+        }
+
+        List<ProductStockSlot> slots = productStockSlotRepository.findAllByProductIdWithLock(product.getId());
+        rebalance(product, slots, Math.max(sumStock(slots) + quantity, 0));
+    }
+
+    @Transactional
+    public void changeStock(Product product, int stock) {
+        stockChanged(List.of(product.getId()));
+
+        if (!product.isStockStriped()) {
+            product.setStock(stock);
+            return;
+        }
+
+        List<ProductStockSlot> slots = productStockSlotRepository.findAllByProductIdWithLock(product.getId());
+        rebalance(product, slots, stock);
+    }
+
+    /**
+     * 슬롯 개수를 변경한다. 0 이면 슬롯 분할을 끄고 남은 재고를 products.stock 으로 되돌린다.
+     * 슬롯에 쌓인 판매 수량은 products.total_sold 로 옮긴 뒤 슬롯을 다시 나눈다.
+     */
+    @Transactional
+    public void configureSlots(Product product, int slotCount) {
+        if (slotCount < 0 || slotCount > MAX_STOCK_SLOTS) {
+            throw new IllegalArgumentException("재고 슬롯 개수는 0 ~ " + MAX_STOCK_SLOTS + " 사이여야 합니다.");
+        }
+        if (slotCount == product.getStockSlotCount()) {
+            return;
+        }
+        stockChanged(List.of(product.getId()));
+
+        List<ProductStockSlot> slots = productStockSlotRepository.findAllByProductIdWithLock(product.getId());
+        int stock = product.isStockStriped() ? sumStock(slots) : product.getStock();
+        product.absorbSlotSold(sumSold(slots));
+
+        if (slotCount == 0) {
+            productStockSlotRepository.deleteAllInBatch(slots);
+            product.disableStockSlots(stock);
+            return;
+        }
+
+        List<ProductStockSlot> kept = new ArrayList<>();
+        List<ProductStockSlot> removed = new ArrayList<>();
+        for (ProductStockSlot slot : slots) {
+            (slot.getSlotNo() < slotCount ? kept : removed).add(slot);
+        }
+        if (!removed.isEmpty()) {
+            productStockSlotRepository.deleteAllInBatch(removed);
+        }
+        kept.forEach(ProductStockSlot::resetSold);
+        for (int slotNo = kept.size(); slotNo < slotCount; slotNo++) {
+            kept.add(productStockSlotRepository.save(ProductStockSlot.builder()
+                .product(product)
+                .slotNo(slotNo)
+                .stock(0)
+                .build()));
+        }
+
+        product.enableStockSlots(slotCount);
+        rebalance(product, kept, stock);
+    }
+
+    private void stockChanged(Collection<Long> productIds) {
+        productSnapshotCache.evictAfterCommit(productIds);
+        productStockBoard.evictAfterCommit(productIds);
+        eventPublisher.publishEvent(new ProductStockChangedEvent(List.copyOf(productIds)));
+    }
+
+    // 증감을 아는 변경은 스냅샷을 비우지 않고 커밋 후 재고만 고친다
+    private void stockChanged(long productId, int delta) {
+        productSnapshotCache.applyStockDeltaAfterCommit(productId, delta);
+        productStockBoard.applyStockDeltaAfterCommit(productId, delta);
+        eventPublisher.publishEvent(new ProductStockChangedEvent(List.of(productId)));
+    }
+
+    private void reserveFromSlots(Product product, int quantity) {
+        List<ProductStockSlotRow> rows = productStockSlotRepository.findAllRowsByProductId(product.getId());
+        int total = rows.stream().mapToInt(ProductStockSlotRow::stock).sum();
+        if (total < quantity) {
+            throw new ProductExceedException("상품의 재고가 부족합니다.");
+        }
+
+        List<Integer> candidates = rows.stream()
+            .filter(row -> row.stock() >= quantity)
+            .map(ProductStockSlotRow::slotNo)
+            .toList();
+        if (!candidates.isEmpty()) {
+            int start = ThreadLocalRandom.current().nextInt(candidates.size());
+            for (int i = 0; i < candidates.size(); i++) {
+                int slotNo = candidates.get((start + i) % candidates.size());
+                if (productStockSlotRepository.decreaseStockIfAvailable(product.getId(), slotNo, quantity) > 0) {
+                    product.takeFromSlots(quantity);
+                    return;
+                }
+            }
+        }
+
+        // 한 슬롯으로 채울 수 없으면 슬롯 전체를 잠그고 여러 슬롯에서 나눠 차감
+        List<ProductStockSlot> slots = productStockSlotRepository.findAllByProductIdWithLock(product.getId());
+        if (sumStock(slots) < quantity) {
+            throw new ProductExceedException("상품의 재고가 부족합니다.");
+        }
+        int remaining = quantity;
+        for (ProductStockSlot slot : slots) {
+            remaining -= slot.take(remaining);
+            if (remaining == 0) {
+                break;
+            }
+        }
+        product.applySlotTotals(sumStock(slots), sumSold(slots));
+    }
+
+    private void rebalance(Product product, List<ProductStockSlot> slots, int total) {
+        if (slots.isEmpty()) {
+            throw new IllegalStateException("재고 슬롯이 없습니다. productId=" + product.getId());
+        }
+
+        int base = total / slots.size();
+        int remainder = total % slots.size();
+        for (int i = 0; i < slots.size(); i++) {
+            slots.get(i).changeStock(base + (i < remainder ? 1 : 0));
+        }
+
+        product.applySlotTotals(total, sumSold(slots));
+    }
+
+    private int sumStock(List<ProductStockSlot> slots) {
+        return slots.stream().mapToInt(ProductStockSlot::getStock).sum();
+    }
+
+    private long sumSold(List<ProductStockSlot> slots) {
+        return slots.stream().mapToLong(ProductStockSlot::getSold).sum();
+    }
+}
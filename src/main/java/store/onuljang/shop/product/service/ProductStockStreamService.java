@@ -0,0 +1,335 @@
+package store.onuljang.shop.product.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import store.onuljang.shop.product.config.ProductStockStreamConfigDto;
+import store.onuljang.shop.product.dto.ProductStockChange;
+import store.onuljang.shop.product.entity.ProductStockRow;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+import store.onuljang.shop.product.event.ProductStockChangedEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매장 재고 변경 SSE 스트림.
+ *
+ * 재고 변경/관리자 상품 변경이 커밋되면 상품 id 만 모아 두고, COALESCE_MS 마다 바뀐 상품의 현재 값을 한 번에 읽어 보낸다.
+ * 같은 구간 안에서 여러 번 바뀐 상품은 한 번만 보낸다.
+ *   - 구독자마다 보내지 못한 변경을 상품별 최신 값 하나로만 쌓는다(BUFFER_SIZE 개까지).
+ *     느린 구독자는 중간 값을 건너뛰고 최신 값만 받으며, 상품 수가 넘치면 쌓인 변경을 버리고 resync 이벤트를 보낸다.
+ *   - 전송은 별도 스레드에서 구독자별로 하나씩만 돌아 느린 구독자가 다른 구독자나 스케줄러를 막지 않는다.
+ *   - 쓰기 하나는 톰캣 쓰기 제한 시간(server.tomcat.connection-timeout)을 넘기면 실패하고, 전송 스레드가 그 응답을 닫는다.
+ *     SEND_TIMEOUT_MS 를 넘긴 구독은 그 전에 목록에서 빼 더 보내지 않는다. 이 점검은 공용 스케줄러가 아닌 자체 스레드에서 돈다.
+ *   - 구독 수가 MAX_CONNECTIONS 에 닿으면 새 구독을 받지 않는다.
+ * 바뀐 상품은 이 인스턴스에서 커밋된 변경 이벤트로만 모은다. 다른 인스턴스의 변경은 이 스트림으로 오지 않으므로
+ * 클라이언트는 resync 나 재연결 때 목록을 다시 받고, 그 사이 목록 응답의 재고 사본 TTL 과 ETag 구간으로 따라잡는다.
+ *
+ *   - product.stock.stream.connections : 현재 구독 수
+ *   - product.stock.stream.rejected : 상한으로 거절한 구독 수
+ *   - product.stock.stream.resync : 버퍼가 넘쳐 resync 를 보낸 횟수
+ *   - product.stock.stream.send_timeout : 쓰기가 늦어 끊은 구독 수
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductStockStreamService {
+    private static final String STOCK_EVENT = "stock";
+    private static final String RESYNC_EVENT = "resync";
+
+    ProductsService productsService;
+    ProductStockStreamConfigDto config;
+    Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    Set<Long> dirtyProductIds = ConcurrentHashMap.newKeySet();
+    AtomicInteger connections = new AtomicInteger();
+    AtomicInteger sequence = new AtomicInteger();
+    ExecutorService sender;
+    ScheduledExecutorService watchdog;
+
+    Counter rejectedCounter;
+    Counter resyncCounter;
+    Counter sendTimeoutCounter;
+
+    public ProductStockStreamService(ProductsService productsService, ProductStockStreamConfigDto config,
+            MeterRegistry meterRegistry) {
+        this.productsService = productsService;
+        this.config = config;
+        // 구독자마다 대기 작업이 최대 하나라 대기열은 구독 수를 넘지 않는다
+        this.sender = new ThreadPoolExecutor(config.getSenderThreads(), config.getSenderThreads(), 0L,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new CustomizableThreadFactory("stock-stream-"));
+        this.rejectedCounter = meterRegistry.counter("product.stock.stream.rejected");
+        this.resyncCounter = meterRegistry.counter("product.stock.stream.resync");
+        this.sendTimeoutCounter = meterRegistry.counter("product.stock.stream.send_timeout");
+        Gauge.builder("product.stock.stream.connections", connections, AtomicInteger::get)
+            .register(meterRegistry);
+        // 막힌 구독을 살피는 일이 배치/집계 같은 @Scheduled 작업과 스레드를 나눠 쓰지 않도록 따로 돌린다
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("stock-stream-watchdog-"));
+        this.watchdog.scheduleWithFixedDelay(this::expireSlowSenders, 1_000, 1_000, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return 구독 수 상한에 닿았거나 꺼져 있으면 null
+     */
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(config.getTimeoutMs()));
+    }
+
+    public SseEmitter register(SseEmitter emitter) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        if (connections.incrementAndGet() > config.getMaxConnections()) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            return null;
+        }
+
+        long id = sequence.incrementAndGet();
+        Subscriber subscriber = new Subscriber(id, emitter);
+        subscribers.put(id, subscriber);
+        emitter.onCompletion(() -> remove(id));
+        emitter.onTimeout(() -> remove(id));
+        emitter.onError(e -> remove(id));
+
+        try {
+            emitter.send(SseEmitter.event().name("connect").data("connected"));
+        } catch (Exception e) {
+            remove(id);
+        }
+        return emitter;
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductStockChangedEvent event) {
+        markDirty(event.productIds());
+    }
+
+    // 노출 여부나 삭제도 보낸다. 카테고리 변경처럼 상품 id 가 없는 이벤트는 재고와 무관하다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ProductCatalogChangedEvent event) {
+        markDirty(event.productIds());
+    }
+
+    @Scheduled(fixedDelayString = "${STOCK_STREAM.COALESCE_MS:500}")
+    public void flush() {
+        if (dirtyProductIds.isEmpty()) {
+            return;
+        }
+        List<Long> productIds = new ArrayList<>();
+        for (Iterator<Long> it = dirtyProductIds.iterator(); it.hasNext(); ) {
+            productIds.add(it.next());
+            it.remove();
+        }
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ProductStockRow> rows = productsService.findStockRowsByIdIn(productIds).stream()
+            .collect(Collectors.toMap(ProductStockRow::getProductId, Function.identity()));
+        List<ProductStockChange> changes = productIds.stream()
+            .map(productId -> rows.containsKey(productId)
+                ? ProductStockChange.from(rows.get(productId))
+                : ProductStockChange.removed(productId))
+            .toList();
+        publish(changes);
+    }
+
+    /**
+     * 모든 구독자 버퍼에 넣고 전송을 예약한다.
+     */
+    public void publish(List<ProductStockChange> changes) {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.offer(changes);
+        }
+    }
+
+    @Scheduled(fixedRate = 30_000)
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.heartbeat();
+        }
+    }
+
+    /**
+     * 쓰기가 SEND_TIMEOUT_MS 를 넘긴 구독을 목록에서 뺀다.
+     * emitter 를 닫으려면 막힌 쓰기가 쥔 잠금을 기다려야 하므로 여기서는 닫지 않는다.
+     * 막힌 쓰기는 톰캣 쓰기 제한 시간에 실패하고, 그 전에 끝나더라도 전송 스레드가 다음 이벤트 대신 응답을 닫는다.
+     */
+    public void expireSlowSenders() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers.values()) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > config.getSendTimeoutMs() && remove(subscriber.id)) {
+                log.debug("[ProductStockStream] 전송 지연, 구독 제거 id={}", subscriber.id);
+                subscriber.expired = true;
+                sendTimeoutCounter.increment();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        sender.shutdownNow();
+        subscribers.values().forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void markDirty(Collection<Long> productIds) {
+        if (connections.get() == 0) {
+            return;
+        }
+        dirtyProductIds.addAll(productIds);
+    }
+
+    private boolean remove(long id) {
+        if (subscribers.remove(id) == null) {
+            return false;
+        }
+        connections.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * 구독자 하나의 보내지 못한 변경. 버퍼는 처음 변경이 들어올 때 만든다.
+     */
+    private class Subscriber {
+        final long id;
+        final SseEmitter emitter;
+        final AtomicBoolean draining = new AtomicBoolean();
+        // 쓰기를 시작한 시각. 쓰고 있지 않으면 0
+        volatile long sendStartedAt;
+        // 쓰기가 늦어 목록에서 빠졌으면 true. 전송 스레드가 응답을 닫는다
+        volatile boolean expired;
+        Map<Long, ProductStockChange> pending;
+        boolean resync;
+        boolean heartbeat;
+
+        Subscriber(long id, SseEmitter emitter) {
+            this.id = id;
+            this.emitter = emitter;
+        }
+
+        void offer(List<ProductStockChange> changes) {
+            synchronized (this) {
+                if (pending == null) {
+                    pending = new LinkedHashMap<>();
+                }
+                for (ProductStockChange change : changes) {
+                    pending.put(change.productId(), change);
+                }
+                if (pending.size() > config.getBufferSize()) {
+                    pending.clear();
+                    if (!resync) {
+                        resync = true;
+                        resyncCounter.increment();
+                    }
+                }
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            synchronized (this) {
+                heartbeat = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    if (expired) {
+                        throw new IOException("stock stream send timeout");
+                    }
+                    List<ProductStockChange> batch;
+                    boolean sendResync;
+                    boolean sendHeartbeat;
+                    synchronized (this) {
+                        batch = pending == null || pending.isEmpty() ? List.of() : List.copyOf(pending.values());
+                        sendResync = resync;
+                        sendHeartbeat = heartbeat && batch.isEmpty() && !sendResync;
+                        // 다 보낸 버퍼는 버려 유휴 구독자가 메모리를 잡고 있지 않게 한다
+                        pending = null;
+                        resync = false;
+                        heartbeat = false;
+                    }
+                    if (batch.isEmpty() && !sendResync && !sendHeartbeat) {
+                        return;
+                    }
+
+                    if (sendResync) {
+                        send(SseEmitter.event().name(RESYNC_EVENT).data("resync"));
+                    }
+                    if (!batch.isEmpty()) {
+                        send(SseEmitter.event().name(STOCK_EVENT).data(batch));
+                    }
+                    if (sendHeartbeat) {
+                        send(SseEmitter.event().comment("heartbeat"));
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("[ProductStockStream] 전송 실패, 구독 제거 id={}: {}", id, e.getMessage());
+                remove(id);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+                if (hasPending()) {
+                    schedule();
+                }
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) throws IOException {
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                emitter.send(event);
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+
+        private synchronized boolean hasPending() {
+            return subscribers.containsKey(id)
+                && ((pending != null && !pending.isEmpty()) || resync || heartbeat);
+        }
+    }
+}
@@ -7,11 +7,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shared.exception.NotFoundException;
+import store.onuljang.shop.product.repository.ProductStockSlotRepository;
 import store.onuljang.shop.product.repository.ProductsRepository;
 import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductStockRow;
+import store.onuljang.shop.product.entity.ProductStockSlotTotalRow;
+import store.onuljang.shared.entity.enums.ReservationStatus;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
@@ -20,6 +26,7 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class ProductsService {
     ProductsRepository productsRepository;
+    ProductStockSlotRepository productStockSlotRepository;
 
     @Transactional
     public Product findByIdWithDetailImagesWithLock(long id) {
@@ -38,11 +45,26 @@ public class ProductsService {
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 제품"));
     }
 
+    @Transactional
+    public List<Product> findAllByIdInWithLock(Collection<Long> ids) {
+        return productsRepository.findAllByIdInWithLock(ids);
+    }
+
     @Transactional
     public int bulkUpdateSellDateIdIn(List<Long> ids, LocalDate sellDate) {
         return productsRepository.bulkUpdateSellDateIdIn(ids, sellDate);
     }
 
+    @Transactional
+    public boolean decreaseStockIfAvailable(long id, int quantity) {
+        return productsRepository.decreaseStockIfAvailable(id, quantity) > 0;
+    }
+
+    @Transactional
+    public int restockFromReservations(Collection<Long> reservationIds, ReservationStatus status) {
+        return productsRepository.restockFromReservations(reservationIds, status.name());
+    }
+
     @Transactional(readOnly = true)
     public List<Product> findAllOrderBySellDateDesc() {
         return productsRepository.findAllByOrderBySellDateDesc();
@@ -54,6 +76,34 @@ public class ProductsService {
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 제품"));
     }
 
+    @Transactional(readOnly = true)
+    public Product findByIdWithSlotTotals(long id) {
+        Product product = findById(id);
+        fillSlotTotals(List.of(product));
+        return product;
+    }
+
+    /**
+     * 슬롯 분할 상품의 재고/판매량 합계를 읽어 채운다. 슬롯 분할 상품이 없으면 조회하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public void fillSlotTotals(Collection<Product> products) {
+        List<Long> stripedIds = products.stream().filter(Product::isStockStriped).map(Product::getId).toList();
+        if (stripedIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ProductStockSlotTotalRow> totals = productStockSlotRepository.sumByProductIdIn(stripedIds).stream()
+            .collect(Collectors.toMap(ProductStockSlotTotalRow::productId, Function.identity()));
+        for (Product product : products) {
+            if (!product.isStockStriped()) {
+                continue;
+            }
+            ProductStockSlotTotalRow total = totals.get(product.getId());
+            product.applySlotTotals(total == null ? 0 : total.stock().intValue(), total == null ? 0 : total.sold());
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<Product> findAllVisibleBetween(LocalDate from, LocalDate to, boolean visible) {
         return productsRepository.findAllBySellDateBetweenAndVisible(from, to, visible);
@@ -80,4 +130,9 @@ public class ProductsService {
     public List<Product> findAllByCategoryId(Long categoryId) {
         return productsRepository.findAllByCategoryId(categoryId);
     }
+
+    @Transactional(readOnly = true)
+    public List<ProductStockRow> findStockRowsByIdIn(Collection<Long> ids) {
+        return productsRepository.findStockRowsByIdIn(ids);
+    }
 }
@@ -5,17 +5,32 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.reservation.config.ReservationConfigDto;
+import store.onuljang.shop.reservation.config.ReserveMode;
+import store.onuljang.shop.reservation.dto.ReservationBatchRequest;
+import store.onuljang.shop.reservation.dto.ReservationBatchResponse;
 import store.onuljang.shop.reservation.dto.ReservationRequest;
 import store.onuljang.shop.reservation.dto.ReservationListResponse;
+import store.onuljang.shared.exception.CustomRuntimeException;
+import store.onuljang.shared.exception.NotFoundException;
 import store.onuljang.shared.exception.UserValidateException;
+import store.onuljang.shop.product.event.UserReservationLogBatchEvent;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.exception.ProductUnavailableException;
 import store.onuljang.shop.product.event.UserReservationLogEvent;
 import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductSnapshot;
 import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.entity.ReservationLocks;
 import store.onuljang.shared.user.entity.Users;
 import store.onuljang.shared.entity.enums.DeliveryStatus;
 import store.onuljang.shared.entity.enums.UserProductAction;
+import store.onuljang.shop.product.service.ProductSnapshotCache;
+import store.onuljang.shop.product.service.ProductStockService;
 import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.service.ReservationLockService;
 import store.onuljang.shop.reservation.service.ReservationService;
 import store.onuljang.shared.user.service.UserService;
 import store.onuljang.shop.delivery.service.DeliveryOrderService;
@@ -27,7 +42,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static store.onuljang.shared.util.TimeUtil.*;
 
@@ -39,16 +57,62 @@ public class ReservationAppService {
     ReservationService reservationService;
     UserService userService;
     ProductsService productsService;
+    ProductStockService productStockService;
+    ProductSnapshotCache productSnapshotCache;
+    ReservationLockService reservationLockService;
     DeliveryOrderService deliveryOrderService;
     ApplicationEventPublisher eventPublisher;
+    ReservationConfigDto reservationConfig;
+
+    /**
+     * 상품 락을 기다리기 전에 상품 스냅샷으로 판매 시간, 노출 여부, 재고를 확인해 불가능한 요청을 바로 거절한다.
+     * 스냅샷은 힌트이므로 통과한 요청도 reserve 에서 락을 잡은 뒤 다시 검증한다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void precheck(ReservationRequest request) {
+        try {
+            ProductSnapshot snapshot = productSnapshotCache.get(request.productId());
+            validateReserveTime(snapshot.sellDate(), snapshot.sellTime());
+            if (!snapshot.visible()) {
+                throw new ProductUnavailableException("판매가 중단된 상품입니다.");
+            }
+            if (snapshot.stock() < request.quantity()) {
+                throw new ProductExceedException("상품의 재고가 부족합니다.");
+            }
+        } catch (CustomRuntimeException e) {
+            productSnapshotCache.recordPrecheck(true);
+            throw e;
+        }
+        productSnapshotCache.recordPrecheck(false);
+    }
 
     @Transactional
     public String reserve(String uId, ReservationRequest request) {
-        Product product = productsService.findByIdWithLock(request.productId());
+        return reserve(uId, request, reservationConfig.getReserveMode());
+    }
+
+    /**
+     * 전역 락 순서(상품 → 유저 → 예약 → 재고 슬롯)를 지킨다.
+     * 조건부 UPDATE 모드에서 일반 상품은 차감 UPDATE 가 상품 행을 잠그므로 차감 뒤 유저를 잠그고,
+     * 슬롯 분할 상품은 상품 행 대신 슬롯 행을 잠그므로 유저를 먼저 잠근 뒤 차감한다.
+     */
+    @Transactional
+    public String reserve(String uId, ReservationRequest request, ReserveMode mode) {
+        Product product = mode == ReserveMode.CONDITIONAL_UPDATE
+            ? productsService.findById(request.productId())
+            : productsService.findByIdWithLock(request.productId());
         validateReserveTime(product.getSellDate(), product.getSellTime());
 
-        Users user = userService.findByUidWithLock(uId);
-        validateNotRestricted(user);
+        Users user;
+        if (product.isStockStriped()) {
+            user = userService.findByUidWithLock(uId);
+            validateNotRestricted(user);
+            productStockService.reserve(product, request.quantity(), mode);
+        } else {
+            productStockService.reserve(product, request.quantity(), mode);
+            user = userService.findByUidWithLock(uId);
+            validateNotRestricted(user);
+        }
         Reservation reservation = Reservation.builder()
             .user(user)
             .product(product)
@@ -58,10 +122,8 @@ public class ReservationAppService {
             .sellPrice(product.getPrice())
             .build();
 
-        reservation.setDisplayCode(
-                DisplayCodeGenerator.generateUnique("R", TimeUtil.nowDateTime(), reservationService::existsByDisplayCode));
+        reservation.setDisplayCode(DisplayCodeGenerator.next("R", TimeUtil.nowDateTime()));
 
-        product.reserve(request.quantity());
         reservationService.save(reservation);
         user.reserve(request.quantity(), reservation.getAmount(), TimeUtil.nowDate());
 
@@ -70,17 +132,107 @@ public class ReservationAppService {
         return reservation.getDisplayCode();
     }
 
+    /**
+     * 장바구니 일괄 예약.
+     * 상품을 id 순서로 한 번에 잠그고, 유저 락/집계 갱신과 예약 저장, 표시 코드 생성을 한 번씩만 수행한다.
+     * allOrNothing 이 false 면 잠근 상품 기준으로 예약할 수 없는 항목만 실패로 돌려준다.
+     * 상품 행을 잠그지 않는 조건부 차감(슬롯 분할)과 경합해 검증 뒤 재고를 빼앗긴 항목도 실패로 돌려준다.
+     */
     @Transactional
-    public void minusQuantity(String uId, String displayCode, int minusQuantity) {
-        Reservation reservation = reservationService
-                .findByDisplayCodeWithLock(DisplayCodeGenerator.resolveCode("R", displayCode));
-        Product product = productsService.findByIdWithLock(reservation.getProduct().getId());
+    public ReservationBatchResponse reserveAll(String uId, ReservationBatchRequest request) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        request.items().forEach(item -> quantities.merge(item.productId(), item.quantity(), Integer::sum));
+
+        Map<Long, Product> products = reservationLockService.lockProducts(quantities.keySet());
+        productsService.fillSlotTotals(products.values());
+
+        List<ReservationBatchResponse.FailedItem> failures = new ArrayList<>();
+        Map<Product, Integer> reservable = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            try {
+                validateReservable(product, entry.getValue());
+            } catch (CustomRuntimeException e) {
+                if (request.isAllOrNothing()) {
+                    throw e;
+                }
+                failures.add(new ReservationBatchResponse.FailedItem(entry.getKey(), e.getMessage()));
+                continue;
+            }
+            reservable.put(product, entry.getValue());
+        }
+
+        if (reservable.isEmpty()) {
+            return new ReservationBatchResponse(List.of(), failures);
+        }
+
         Users user = userService.findByUidWithLock(uId);
+        validateNotRestricted(user);
 
-        validateUserReservation(user, reservation);
+        List<String> displayCodes = DisplayCodeGenerator.next("R", TimeUtil.nowDateTime(), reservable.size());
+
+        List<Reservation> reservations = new ArrayList<>();
+        List<ReservationBatchResponse.ReservedItem> reserved = new ArrayList<>();
+        int totalQuantity = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (Map.Entry<Product, Integer> entry : reservable.entrySet()) {
+            Product product = entry.getKey();
+            int quantity = entry.getValue();
+            try {
+                productStockService.reserve(product, quantity, ReserveMode.PESSIMISTIC_LOCK);
+            } catch (ProductExceedException e) {
+                if (request.isAllOrNothing()) {
+                    throw e;
+                }
+                failures.add(new ReservationBatchResponse.FailedItem(product.getId(), e.getMessage()));
+                continue;
+            }
+
+            Reservation reservation = Reservation.builder()
+                .user(user)
+                .product(product)
+                .quantity(quantity)
+                .amount(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                .pickupDate(product.getSellDate())
+                .sellPrice(product.getPrice())
+                .build();
+            reservation.setDisplayCode(displayCodes.get(reservations.size()));
+            reservations.add(reservation);
+            reserved.add(new ReservationBatchResponse.ReservedItem(product.getId(), reservation.getDisplayCode()));
+
+            totalQuantity += quantity;
+            totalAmount = totalAmount.add(reservation.getAmount());
+        }
+
+        if (reservations.isEmpty()) {
+            return new ReservationBatchResponse(List.of(), failures);
+        }
+
+        reservationService.saveAll(reservations);
+        user.reserve(totalQuantity, totalAmount, TimeUtil.nowDate());
+
+        eventPublisher.publishEvent(
+            UserReservationLogBatchEvent.builder()
+                .userUid(user.getUid())
+                .reservationIds(reservations.stream().map(Reservation::getId).toList())
+                .action(UserProductAction.CREATE)
+                .build());
+
+        return new ReservationBatchResponse(reserved, failures);
+    }
+
+    @Transactional
+    public void minusQuantity(String uId, String displayCode, int minusQuantity) {
+        ReservationLocks locks = reservationLockService
+                .lockByDisplayCode(DisplayCodeGenerator.resolveCode("R", displayCode));
+        Reservation reservation = locks.reservation();
+        Product product = locks.product();
+        Users user = locks.user();
+
+        validateUserReservation(uId, reservation);
 
         reservation.minusQuantityByUser(minusQuantity);
-        product.addStock(minusQuantity);
+        productStockService.addStock(product, minusQuantity);
 
         BigDecimal diff = reservation.getSellPrice().multiply(BigDecimal.valueOf(minusQuantity));
         user.cancelReserve(minusQuantity, diff);
@@ -90,12 +242,13 @@ public class ReservationAppService {
 
     @Transactional
     public void cancel(String uId, String displayCode) {
-        Reservation reservation = reservationService
-                .findByDisplayCodeWithLock(DisplayCodeGenerator.resolveCode("R", displayCode));
-        Product product = productsService.findByIdWithLock(reservation.getProduct().getId());
-        Users user = userService.findByUidWithLock(uId);
+        ReservationLocks locks = reservationLockService
+                .lockByDisplayCode(DisplayCodeGenerator.resolveCode("R", displayCode));
+        Reservation reservation = locks.reservation();
+        Product product = locks.product();
+        Users user = locks.user();
 
-        validateUserReservation(user, reservation);
+        validateUserReservation(uId, reservation);
         deliveryOrderService.findByReservation(reservation).ifPresent(order -> {
             if (order.getStatus() == DeliveryStatus.PAID
                 || order.getStatus() == DeliveryStatus.OUT_FOR_DELIVERY
@@ -105,7 +258,7 @@ public class ReservationAppService {
         });
 
         reservation.cancelByUser();
-        product.cancel(reservation.getQuantity());
+        productStockService.cancel(product, reservation.getQuantity());
         user.cancelReserve(reservation.getQuantity(), reservation.getAmount());
 
         saveReservationLog(user.getUid(), reservation.getId(), UserProductAction.DELETE);
@@ -120,6 +273,17 @@ public class ReservationAppService {
         return ReservationListResponse.from(entities);
     }
 
+    private void validateReservable(Product product, int quantity) {
+        if (product == null) {
+            throw new NotFoundException("존재하지 않는 제품");
+        }
+        validateReserveTime(product.getSellDate(), product.getSellTime());
+        product.assertAvailable(quantity);
+        if (product.getStock() < quantity) {
+            throw new ProductExceedException("상품의 재고가 부족합니다.");
+        }
+    }
+
     private void validateNotRestricted(Users user) {
         if (user.isRestricted()) {
             LocalDate until = user.getRestrictedUntil().plusDays(1);
@@ -129,8 +293,8 @@ public class ReservationAppService {
         }
     }
 
-    private void validateUserReservation(Users user, Reservation reservation) {
-        if (!user.getUid().equals(reservation.getUser().getUid())) {
+    private void validateUserReservation(String uId, Reservation reservation) {
+        if (!uId.equals(reservation.getUser().getUid())) {
             throw new UserValidateException("다른 유저가 예약한 상품입니다.");
         }
     }
@@ -0,0 +1,37 @@
+package store.onuljang.shop.reservation.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class AggregationConfigDto {
+    // 한 트랜잭션에서 집계할 agg_applied 행 수 (reservation_id 범위 단위로 끊는다)
+    @Value("${AGGREGATION.CHUNK_SIZE:5000}")
+    int chunkSize;
+
+    // 예약 변경을 커밋 시점에 메모리 집계기에 바로 반영할지 여부 (끄면 기존 DB 조회로 동작)
+    @Value("${AGGREGATION.LIVE.ENABLED:true}")
+    boolean liveEnabled;
+
+    // 메모리 집계값을 product_live_agg 로 내려쓰는 주기
+    @Value("${AGGREGATION.LIVE.FLUSH_INTERVAL_MS:10000}")
+    long liveFlushIntervalMs;
+
+    // 메모리에 유지할 픽업일 범위 (오늘 기준 과거 일수)
+    @Value("${AGGREGATION.LIVE.WINDOW_DAYS:62}")
+    int liveWindowDays;
+
+    // 오늘 픽업일 카운터를 예약 테이블과 대조하는 주기
+    @Value("${AGGREGATION.LIVE.VERIFY_INTERVAL_MS:600000}")
+    long liveVerifyIntervalMs;
+
+    // 재구성 작업에서 동시에 처리할 날짜 수
+    @Value("${AGGREGATION.REBUILD.PARALLELISM:4}")
+    int rebuildParallelism;
+
+    // 한 번에 재구성할 수 있는 최대 일수
+    @Value("${AGGREGATION.REBUILD.MAX_DAYS:400}")
+    int rebuildMaxDays;
+}
@@ -0,0 +1,24 @@
+package store.onuljang.shop.reservation.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+public class ReservationConfigDto {
+    @Value("${RESERVATION.RESERVE_MODE:PESSIMISTIC_LOCK}")
+    ReserveMode reserveMode;
+
+    // 상품별 예약 대기열
+    @Value("${RESERVATION.ADMISSION.ENABLED:true}")
+    boolean admissionEnabled;
+    @Value("${RESERVATION.ADMISSION.CONCURRENCY:8}")
+    int admissionConcurrency;
+    @Value("${RESERVATION.ADMISSION.WAIT_TIMEOUT_MS:3000}")
+    long admissionWaitTimeoutMs;
+
+    // 락 전 사전 검증용 상품 스냅샷
+    @Value("${RESERVATION.SNAPSHOT.TTL_MS:1000}")
+    long snapshotTtlMs;
+}
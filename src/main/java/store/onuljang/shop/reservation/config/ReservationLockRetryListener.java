@@ -0,0 +1,90 @@
+package store.onuljang.shop.reservation.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * 예약 API 락 충돌 재시도 리스너.
+ *
+ *   - reservation.lock.failure{cause=deadlock|lock_wait} : 락 충돌로 실패한 시도 수
+ *   - reservation.lock.retry.recovered : 재시도 끝에 성공한 요청 수
+ *   - reservation.lock.retry.exhausted : 재시도를 모두 소진하고 실패한 요청 수
+ */
+@Slf4j
+@Component(ReservationLockRetryListener.BEAN_NAME)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReservationLockRetryListener implements RetryListener {
+    public static final String BEAN_NAME = "reservationLockRetryListener";
+
+    // MySQL ER_LOCK_DEADLOCK / ANSI serialization failure
+    private static final int MYSQL_DEADLOCK_ERROR_CODE = 1213;
+    private static final String DEADLOCK_SQL_STATE = "40001";
+
+    Counter deadlockCounter;
+    Counter lockWaitCounter;
+    Counter recoveredCounter;
+    Counter exhaustedCounter;
+
+    public ReservationLockRetryListener(MeterRegistry meterRegistry) {
+        this.deadlockCounter = meterRegistry.counter("reservation.lock.failure", "cause", "deadlock");
+        this.lockWaitCounter = meterRegistry.counter("reservation.lock.failure", "cause", "lock_wait");
+        this.recoveredCounter = meterRegistry.counter("reservation.lock.retry.recovered");
+        this.exhaustedCounter = meterRegistry.counter("reservation.lock.retry.exhausted");
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+            Throwable throwable) {
+        if (!isLockFailure(throwable)) {
+            return;
+        }
+
+        if (isDeadlock(throwable)) {
+            deadlockCounter.increment();
+        } else {
+            lockWaitCounter.increment();
+        }
+        log.info("[ReservationLockRetry] attempt={} failed: {}", context.getRetryCount(), throwable.getMessage());
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback,
+            Throwable throwable) {
+        if (context.getRetryCount() == 0) {
+            return;
+        }
+
+        if (throwable == null) {
+            recoveredCounter.increment();
+        } else if (isLockFailure(throwable)) {
+            exhaustedCounter.increment();
+            log.warn("[ReservationLockRetry] exhausted after {} attempts: {}", context.getRetryCount(),
+                    throwable.getMessage());
+        }
+    }
+
+    static boolean isLockFailure(Throwable throwable) {
+        return throwable instanceof PessimisticLockingFailureException;
+    }
+
+    static boolean isDeadlock(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && (sqlException.getErrorCode() == MYSQL_DEADLOCK_ERROR_CODE
+                    || DEADLOCK_SQL_STATE.equals(sqlException.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package store.onuljang.shop.reservation.config;
+
+/**
+ * 예약 시 상품 재고 차감 방식
+ */
+public enum ReserveMode {
+    /** 상품 행을 PESSIMISTIC_WRITE 로 잠근 뒤 엔티티에서 재고를 차감 */
+    PESSIMISTIC_LOCK,
+    /** 조건부 UPDATE 한 번으로 재고를 차감하고, 영향받은 행이 없으면 품절로 처리 */
+    CONDITIONAL_UPDATE
+}
@@ -6,17 +6,32 @@ import jakarta.validation.constraints.Positive;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import store.onuljang.shared.idempotency.Idempotent;
 import store.onuljang.shop.reservation.appservice.ReservationAppService;
+import store.onuljang.shop.reservation.config.ReservationLockRetryListener;
+import store.onuljang.shop.reservation.dto.ReservationBatchRequest;
+import store.onuljang.shop.reservation.dto.ReservationBatchResponse;
 import store.onuljang.shop.reservation.dto.ReservationRequest;
 import store.onuljang.shop.reservation.dto.ReservationListResponse;
+import store.onuljang.shop.reservation.service.ReservationAdmissionGate;
 
 import java.time.LocalDate;
 
+/**
+ * 예약 생성(단건/일괄)/취소/수량 변경은 락 충돌(데드락, 락 대기 타임아웃) 시 트랜잭션 전체를 지터를 둔 백오프로 재시도합니다.
+ * 재시도 횟수와 데드락 발생 수는 {@link ReservationLockRetryListener} 에서 집계합니다.
+ * 단건 예약은 {@link ReservationAdmissionGate} 대기열을 거쳐 상품 락 경합 전에 재고 초과 요청을 걸러냅니다.
+ * 변경 API 는 Idempotency-Key 헤더를 주면 같은 키의 재요청에 처음 응답을 그대로 돌려줍니다.
+ */
 @RestController
 @RequestMapping("/api/store/auth/reservations")
 @RequiredArgsConstructor
@@ -24,14 +39,46 @@ import java.time.LocalDate;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class ReservationController {
     ReservationAppService reservationAppService;
+    ReservationAdmissionGate reservationAdmissionGate;
 
+    @Retryable(
+        retryFor = {CannotAcquireLockException.class, PessimisticLockingFailureException.class},
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 50, maxDelay = 400, multiplier = 2, random = true),
+        listeners = ReservationLockRetryListener.BEAN_NAME
+    )
+    @Idempotent
     @PostMapping("/")
     public ResponseEntity<String> create(Authentication auth, @RequestBody @Valid ReservationRequest request) {
         String uid = auth.getName();
+        reservationAppService.precheck(request);
 
-        return ResponseEntity.ok(reservationAppService.reserve(uid, request));
+        return ResponseEntity.ok(reservationAdmissionGate.execute(request.productId(), request.quantity(),
+            () -> reservationAppService.reserve(uid, request)));
     }
 
+    @Retryable(
+        retryFor = {CannotAcquireLockException.class, PessimisticLockingFailureException.class},
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 50, maxDelay = 400, multiplier = 2, random = true),
+        listeners = ReservationLockRetryListener.BEAN_NAME
+    )
+    @Idempotent
+    @PostMapping("/batch")
+    public ResponseEntity<ReservationBatchResponse> createAll(Authentication auth,
+            @RequestBody @Valid ReservationBatchRequest request) {
+        String uid = auth.getName();
+
+        return ResponseEntity.ok(reservationAppService.reserveAll(uid, request));
+    }
+
+    @Retryable(
+        retryFor = {CannotAcquireLockException.class, PessimisticLockingFailureException.class},
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 50, maxDelay = 400, multiplier = 2, random = true),
+        listeners = ReservationLockRetryListener.BEAN_NAME
+    )
+    @Idempotent
     @PatchMapping("/cancel/{displayCode}")
     public ResponseEntity<Void> cancel(Authentication auth,
             @PathVariable("displayCode") String displayCode) {
@@ -42,6 +89,13 @@ public class ReservationController {
         return ResponseEntity.ok().build();
     }
 
+    @Retryable(
+        retryFor = {CannotAcquireLockException.class, PessimisticLockingFailureException.class},
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 50, maxDelay = 400, multiplier = 2, random = true),
+        listeners = ReservationLockRetryListener.BEAN_NAME
+    )
+    @Idempotent
     @PatchMapping("/{displayCode}/quantity")
     public ResponseEntity<Void> removeMinusQuantity(Authentication auth,
             @PathVariable("displayCode") String displayCode,
@@ -0,0 +1,23 @@
+package store.onuljang.shop.reservation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 장바구니 일괄 예약 요청
+ *
+ * allOrNothing 이 false 면 재고 부족/판매 중단 등으로 예약할 수 없는 상품만 건너뛰고 나머지를 예약합니다.
+ * 값을 보내지 않으면 전부 성공하거나 전부 실패합니다.
+ */
+public record ReservationBatchRequest(
+    @NotEmpty @Size(max = 30) List<@Valid @NotNull ReservationRequest> items,
+    Boolean allOrNothing
+) {
+    public boolean isAllOrNothing() {
+        return allOrNothing == null || allOrNothing;
+    }
+}
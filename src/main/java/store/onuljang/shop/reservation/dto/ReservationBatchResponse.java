@@ -0,0 +1,22 @@
+package store.onuljang.shop.reservation.dto;
+
+import java.util.List;
+
+public record ReservationBatchResponse(
+    List<ReservedItem> reserved,
+    List<FailedItem> failures
+) {
+    public record ReservedItem(
+        Long productId,
+        String displayCode
+    ) {
+
+    }
+
+    public record FailedItem(
+        Long productId,
+        String message
+    ) {
+
+    }
+}
@@ -0,0 +1,18 @@
+package store.onuljang.shop.reservation.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 실시간 집계기에서 만든 상품별 당일 매출.
+ */
+@Getter
+@AllArgsConstructor
+public class LiveSalesRow implements ReservationSalesRow {
+    private final Long productId;
+    private final String productName;
+    private final Integer quantity;
+    private final BigDecimal amount;
+}
@@ -23,8 +23,9 @@ import java.util.List;
 @AllArgsConstructor
 @Entity
 @Table(name = "reservations")
+@EntityListeners(ReservationSalesListener.class)
 @SQLRestriction("deleted_at IS NULL")
-@SQLDelete(sql = "UPDATE reservations SET deleted_at = NOW() WHERE id = ?")
+@SQLDelete(sql = "UPDATE reservations SET deleted_at = NOW(), version = version + 1 WHERE id = ? AND version = ?")
 public class Reservation extends BaseEntity {
 
     @Getter
@@ -72,6 +73,12 @@ public class Reservation extends BaseEntity {
     @Column(name = "status", nullable = false, length = 16)
     private ReservationStatus status = ReservationStatus.PENDING;
 
+    // 관리자 단건 수정은 락 없이 읽고 이 버전으로 충돌을 검사한다. 벌크 UPDATE 도 함께 올려야 한다.
+    @Getter
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @Column(name = "status_changed_at", nullable = false)
     private LocalDateTime statusChangedAt = TimeUtil.nowDateTime();
 
@@ -83,6 +90,11 @@ public class Reservation extends BaseEntity {
     @Column(name = "display_code", nullable = false, length = 18)
     private String displayCode;
 
+    // 마지막으로 로딩/반영된 시점의 매출 기여분. 변경 전후 차이를 실시간 집계에 반영할 때 쓴다.
+    @Getter
+    @Transient
+    private ReservationSales salesBaseline;
+
     @Builder
     public Reservation(Users user, Product product, Integer quantity, BigDecimal amount, BigDecimal sellPrice,
             LocalDate pickupDate, String displayCode) {
@@ -216,6 +228,14 @@ public class Reservation extends BaseEntity {
         this.status = status;
     }
 
+    public ReservationSales currentSales() {
+        return new ReservationSales(pickupDate, product.getId(), status, quantity, amount);
+    }
+
+    public void markSalesBaseline() {
+        this.salesBaseline = currentSales();
+    }
+
     private void minusQuantity(int quantity) {
         this.quantity = Math.max(1, this.quantity - quantity);
     }
@@ -0,0 +1,9 @@
+package store.onuljang.shop.reservation.entity;
+
+public record ReservationLockTarget(
+    Long reservationId,
+    Long productId,
+    String userUid
+) {
+
+}
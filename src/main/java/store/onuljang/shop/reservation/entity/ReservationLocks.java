@@ -0,0 +1,12 @@
+package store.onuljang.shop.reservation.entity;
+
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shop.product.entity.Product;
+
+public record ReservationLocks(
+    Reservation reservation,
+    Product product,
+    Users user
+) {
+
+}
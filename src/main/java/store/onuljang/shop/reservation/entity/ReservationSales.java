@@ -0,0 +1,21 @@
+package store.onuljang.shop.reservation.entity;
+
+import store.onuljang.shared.entity.enums.ReservationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 예약 한 건(또는 같은 날짜/상품/상태로 묶은 여러 건)의 매출 기여분.
+ */
+public record ReservationSales(
+    LocalDate pickupDate,
+    Long productId,
+    ReservationStatus status,
+    Integer quantity,
+    BigDecimal amount
+) {
+    public ReservationSales withStatus(ReservationStatus status) {
+        return new ReservationSales(pickupDate, productId, status, quantity, amount);
+    }
+}
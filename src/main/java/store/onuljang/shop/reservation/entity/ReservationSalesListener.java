@@ -0,0 +1,46 @@
+package store.onuljang.shop.reservation.entity;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import store.onuljang.shop.reservation.event.ReservationSalesChangedEvent;
+
+/**
+ * 예약 엔티티의 매출 기여분 변경을 {@link ReservationSalesChangedEvent} 로 발행한다.
+ * 벌크 UPDATE 는 엔티티를 거치지 않으므로 호출한 쪽에서 직접 실시간 매출 집계기에 반영해야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReservationSalesListener {
+    ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Reservation reservation) {
+        reservation.markSalesBaseline();
+    }
+
+    @PostPersist
+    public void onPersist(Reservation reservation) {
+        eventPublisher.publishEvent(new ReservationSalesChangedEvent(null, reservation.currentSales()));
+        reservation.markSalesBaseline();
+    }
+
+    @PostUpdate
+    public void onUpdate(Reservation reservation) {
+        ReservationSales current = reservation.currentSales();
+        eventPublisher.publishEvent(new ReservationSalesChangedEvent(reservation.getSalesBaseline(), current));
+        reservation.markSalesBaseline();
+    }
+
+    @PostRemove
+    public void onRemove(Reservation reservation) {
+        eventPublisher.publishEvent(new ReservationSalesChangedEvent(reservation.getSalesBaseline(), null));
+    }
+}
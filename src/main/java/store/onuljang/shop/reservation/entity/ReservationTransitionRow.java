@@ -0,0 +1,13 @@
+package store.onuljang.shop.reservation.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ReservationTransitionRow {
+    Long getId();
+    String getStatus();
+    LocalDate getPickupDate();
+    Long getProductId();
+    Integer getQuantity();
+    BigDecimal getAmount();
+}
@@ -0,0 +1,18 @@
+package store.onuljang.shop.reservation.entity;
+
+import store.onuljang.shared.entity.enums.ReservationStatus;
+
+/**
+ * 버전 충돌 시 관리자 화면에 돌려주는 예약의 최신 상태.
+ */
+public record ReservationVersionState(
+    Long reservationId,
+    ReservationStatus status,
+    Integer quantity,
+    Long version
+) {
+    public static ReservationVersionState from(Reservation reservation) {
+        return new ReservationVersionState(reservation.getId(), reservation.getStatus(), reservation.getQuantity(),
+            reservation.getVersion());
+    }
+}
@@ -0,0 +1,22 @@
+package store.onuljang.shop.reservation.entity;
+
+import store.onuljang.shared.entity.enums.ReservationStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 이용제한으로 취소될 미래 PENDING 예약 한 건. 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 값만 읽는다.
+ */
+public record RestrictionCancelTarget(
+    Long reservationId,
+    String userUid,
+    Long productId,
+    LocalDate pickupDate,
+    Integer quantity,
+    BigDecimal amount
+) {
+    public ReservationSales toSales(ReservationStatus status) {
+        return new ReservationSales(pickupDate, productId, status, quantity, amount);
+    }
+}
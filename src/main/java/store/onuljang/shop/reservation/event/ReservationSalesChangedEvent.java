@@ -0,0 +1,14 @@
+package store.onuljang.shop.reservation.event;
+
+import store.onuljang.shop.reservation.entity.ReservationSales;
+
+/**
+ * 예약 엔티티의 매출 기여분이 바뀌었을 때 발행. before/after 가 null 이면 각각 새로 생긴 예약, 삭제된 예약이다.
+ * 트랜잭션 안에서 동기로 받아 커밋 후 실시간 매출 집계에 반영한다.
+ */
+public record ReservationSalesChangedEvent(
+    ReservationSales before,
+    ReservationSales after
+) {
+
+}
@@ -0,0 +1,12 @@
+package store.onuljang.shop.reservation.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import store.onuljang.shared.exception.CustomRuntimeException;
+
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+public class ReservationAdmissionException extends CustomRuntimeException {
+    public ReservationAdmissionException(String message) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+}
@@ -0,0 +1,18 @@
+package store.onuljang.shop.reservation.exception;
+
+import lombok.Getter;
+import store.onuljang.shared.exception.CustomRuntimeException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import store.onuljang.shop.reservation.entity.ReservationVersionState;
+
+@Getter
+@ResponseStatus(value = HttpStatus.CONFLICT)
+public class ReservationConflictException extends CustomRuntimeException {
+    private final ReservationVersionState current;
+
+    public ReservationConflictException(String message, ReservationVersionState current) {
+        super(HttpStatus.CONFLICT, message);
+        this.current = current;
+    }
+}
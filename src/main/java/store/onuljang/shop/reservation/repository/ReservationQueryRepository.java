@@ -1,5 +1,6 @@
 package store.onuljang.shop.reservation.repository;
 
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.LockModeType;
@@ -18,6 +19,7 @@ import store.onuljang.shared.entity.enums.ReservationStatus;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -90,6 +92,42 @@ public class ReservationQueryRepository {
             .fetch();
     }
 
+    public List<ReservationSales> findSalesByIdIn(Collection<Long> ids) {
+        return queryFactory
+            .select(salesProjection())
+            .from(reservation)
+            .where(reservation.id.in(ids))
+            .groupBy(reservation.pickupDate, reservation.product.id, reservation.status)
+            .fetch();
+    }
+
+    public List<ReservationSales> findSalesByPickupDateBetweenAndStatusIn(
+        LocalDate from
+        , LocalDate to
+        , Collection<ReservationStatus> statuses
+    ) {
+        return queryFactory
+            .select(salesProjection())
+            .from(reservation)
+            .where(
+                reservation.pickupDate.between(from, to),
+                reservation.status.in(statuses)
+            )
+            .groupBy(reservation.pickupDate, reservation.product.id, reservation.status)
+            .fetch();
+    }
+
+    private ConstructorExpression<ReservationSales> salesProjection() {
+        return Projections.constructor(
+            ReservationSales.class,
+            reservation.pickupDate,
+            reservation.product.id,
+            reservation.status,
+            reservation.quantity.sum(),
+            reservation.amount.sum()
+        );
+    }
+
     public List<Reservation> findAllByIdInWithUserWithLock(Set<Long> ids) {
         return queryFactory
             .selectFrom(reservation)
@@ -132,10 +170,37 @@ public class ReservationQueryRepository {
             .update(reservation)
             .set(reservation.status, status)
             .set(reservation.statusChangedAt, now)
+            .set(reservation.version, reservation.version.add(1))
             .where(reservation.id.in(ids))
             .execute();
     }
 
+    public List<RestrictionCancelTarget> findRestrictionCancelTargets(
+        Collection<String> uids,
+        ReservationStatus status,
+        LocalDate from,
+        LocalDate to
+    ) {
+        return queryFactory
+            .select(Projections.constructor(
+                RestrictionCancelTarget.class,
+                reservation.id,
+                reservation.user.uid,
+                reservation.product.id,
+                reservation.pickupDate,
+                reservation.quantity,
+                reservation.amount
+            ))
+            .from(reservation)
+            .where(
+                reservation.user.uid.in(uids),
+                reservation.status.eq(status),
+                reservation.pickupDate.between(from, to)
+            )
+            .orderBy(reservation.id.asc())
+            .fetch();
+    }
+
     public long updateAllReservationStatus(
         Set<Long> ids,
         LocalDate today,
@@ -147,6 +212,7 @@ public class ReservationQueryRepository {
             .update(reservation)
             .set(reservation.status, after)
             .set(reservation.statusChangedAt, now)
+            .set(reservation.version, reservation.version.add(1))
             .where(
                 reservation.id.in(ids),
                 reservation.status.eq(before),
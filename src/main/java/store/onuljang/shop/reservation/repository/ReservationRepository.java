@@ -4,9 +4,13 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.entity.ReservationLockTarget;
+import store.onuljang.shop.reservation.entity.ReservationTransitionRow;
+import store.onuljang.shop.reservation.entity.ReservationVersionState;
 import store.onuljang.shared.entity.enums.ReservationStatus;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -20,16 +24,68 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     @EntityGraph(attributePaths = {"user"})
     List<Reservation> findAllByIdIn(Set<Long> ids);
 
-    @EntityGraph(attributePaths = {"product"})
-    List<Reservation> findByUserUidAndStatusAndPickupDateBetween(
-            String uid, ReservationStatus status, LocalDate from, LocalDate to);
-
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM Reservation r WHERE r.displayCode = :displayCode")
     Optional<Reservation> findByDisplayCodeWithLock(@Param("displayCode") String displayCode);
 
+    @Query("""
+        select new store.onuljang.shop.reservation.entity.ReservationLockTarget(r.id, r.product.id, r.user.uid)
+        from Reservation r
+        where r.displayCode = :displayCode
+    """)
+    Optional<ReservationLockTarget> findLockTargetByDisplayCode(@Param("displayCode") String displayCode);
+
+    @Query("""
+        select new store.onuljang.shop.reservation.entity.ReservationLockTarget(r.id, r.product.id, r.user.uid)
+        from Reservation r
+        where r.id = :id
+    """)
+    Optional<ReservationLockTarget> findLockTargetById(@Param("id") Long id);
+
+    @Query("""
+        select new store.onuljang.shop.reservation.entity.ReservationVersionState(r.id, r.status, r.quantity, r.version)
+        from Reservation r
+        where r.id = :id
+    """)
+    Optional<ReservationVersionState> findVersionStateById(@Param("id") Long id);
+
+    // 유저까지 함께 잠그지 않도록 예약 행만 id 순서로 잠근다
+    @Query(value = """
+        select
+            r.id AS id,
+            r.status AS status,
+            r.pickup_date AS pickupDate,
+            r.product_id AS productId,
+            r.quantity AS quantity,
+            r.amount AS amount
+        from reservations r
+        where r.id in (:ids)
+        and r.deleted_at is null
+        order by r.id
+        for update
+    """, nativeQuery = true)
+    List<ReservationTransitionRow> findTransitionRowsByIdInWithLock(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update Reservation r
+        set r.status = :after, r.statusChangedAt = :now, r.version = r.version + 1
+        where r.id in :ids
+        and r.status = :before
+    """)
+    int updateStatusByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("before") ReservationStatus before,
+            @Param("after") ReservationStatus after, @Param("now") LocalDateTime now);
+
+    @Query("""
+        select distinct r.product.id
+        from Reservation r
+        where r.user.uid in :uids
+        and r.status = :status
+        and r.pickupDate between :from and :to
+    """)
+    List<Long> findProductIdsByUserUidInAndStatusAndPickupDateBetween(@Param("uids") Collection<String> uids,
+            @Param("status") ReservationStatus status, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
     @EntityGraph(attributePaths = {"user"})
     List<Reservation> findAllByDisplayCodeIn(Collection<String> displayCodes);
-
-    boolean existsByDisplayCode(String displayCode);
 }
@@ -0,0 +1,62 @@
+package store.onuljang.shop.reservation.scheduler;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.reservation.config.AggregationConfigDto;
+import store.onuljang.shop.reservation.service.ReservationSalesEngine;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class LiveSalesScheduler {
+    ReservationSalesEngine reservationSalesEngine;
+    AggregationConfigDto aggregationConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!aggregationConfig.isLiveEnabled()) {
+            return;
+        }
+        reservationSalesEngine.rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${AGGREGATION.LIVE.FLUSH_INTERVAL_MS:10000}")
+    public void flush() {
+        try {
+            reservationSalesEngine.flush();
+        } catch (Exception e) {
+            // 다음 주기에 변경분이 다시 내려쓰이므로 실패만 남긴다
+            log.warn("[LiveSales] flush failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${AGGREGATION.LIVE.VERIFY_INTERVAL_MS:600000}")
+    public void verifyToday() {
+        try {
+            int mismatches = reservationSalesEngine.verifyToday();
+            if (mismatches > 0) {
+                log.info("[LiveSales] verify today mismatches={}", mismatches);
+            }
+        } catch (Exception e) {
+            // 다음 주기에 다시 대조하므로 실패만 남긴다
+            log.warn("[LiveSales] verify today failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 매일 00:30(KST) 실행. 00:10 일별 집계가 끝난 뒤 전날 값을 대조한다.
+     */
+    @Scheduled(cron = "0 30 0 * * *", zone = "Asia/Seoul")
+    public void verify() {
+        int mismatches = reservationSalesEngine.verify(TimeUtil.yesterdayDate());
+        log.info("[LiveSales] verify date={}, mismatches={}", TimeUtil.yesterdayDate(), mismatches);
+    }
+}
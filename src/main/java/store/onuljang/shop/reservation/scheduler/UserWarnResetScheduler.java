@@ -1,26 +1,68 @@
 package store.onuljang.shop.reservation.scheduler;
 
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import store.onuljang.shared.user.repository.UserRepository;
+import store.onuljang.shared.config.WarnResetConfigDto;
+import store.onuljang.shared.user.entity.WarnResetChunk;
+import store.onuljang.shared.user.service.UserService;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class UserWarnResetScheduler {
-
-    private final UserRepository usersRepository;
+    UserService userService;
+    WarnResetConfigDto warnResetConfig;
 
     /**
-     * 매달 1일 00:00 KST에 warn_count를 0으로 초기화
+     * 매달 1일 00:00 KST에 monthly_warn_count를 0으로 초기화.
+     * 경고가 있는 유저만 id 순서로 청크씩 나눠 청크마다 커밋하고, 청크 사이에는 잠깐 쉰다.
+     * 중간에 멈춰도 다시 실행하면 아직 남은 유저만 처리한다.
      */
-    @Transactional
     @Scheduled(cron = "0 0 0 1 * *", zone = "Asia/Seoul")
     public void resetMonthlyWarnCount() {
-        int updated = usersRepository.resetAllUsersWarnCounts();
-        log.info("[WarnCountResetScheduler] reset done. updated rows = {}", updated);
+        long begin = System.nanoTime();
+        long cursor = 0L;
+        long total = 0L;
+        int chunks = 0;
+
+        while (true) {
+            WarnResetChunk chunk = userService.resetMonthlyWarnCountChunk(cursor, warnResetConfig.getChunkSize());
+            if (chunk.isEmpty()) {
+                break;
+            }
+            cursor = chunk.lastUserId();
+            total += chunk.updated();
+            chunks++;
+            log.info("[WarnCountResetScheduler] chunk={}, lastUserId={}, updated={}, total={}",
+                chunks, cursor, chunk.updated(), total);
+
+            if (chunk.scanned() < warnResetConfig.getChunkSize() || !pause()) {
+                break;
+            }
+        }
+
+        long elapsedMs = (System.nanoTime() - begin) / 1_000_000L;
+        log.info("[WarnCountResetScheduler] reset done. updated rows = {}, chunks = {}, lastUserId = {}, "
+                + "elapsedMs = {}, rowsPerSec = {}",
+            total, chunks, cursor, elapsedMs, elapsedMs == 0 ? total : total * 1000 / elapsedMs);
+    }
+
+    private boolean pause() {
+        if (warnResetConfig.getPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(warnResetConfig.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[WarnCountResetScheduler] interrupted, stopping");
+            return false;
+        }
     }
 }
@@ -0,0 +1,191 @@
+package store.onuljang.shop.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import store.onuljang.shop.product.entity.ProductSnapshot;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.service.ProductSnapshotCache;
+import store.onuljang.shop.reservation.config.ReservationConfigDto;
+import store.onuljang.shop.reservation.exception.ReservationAdmissionException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 상품별 예약 대기열.
+ *
+ * sellTime 오픈 직후처럼 한 상품에 요청이 몰릴 때 상품 행 락 앞에서 요청을 먼저 걸러낸다.
+ *   - 남은 재고(상품 스냅샷의 재고 힌트)만큼만 입장 토큰을 발급하고,
+ *     진행 중인 토큰 수량이 남은 재고를 넘으면 락을 기다리지 않고 바로 거절한다.
+ *   - 입장한 요청도 상품당 동시 실행 수를 제한하는 공정(FIFO) 세마포어에서 순서대로 기다린다.
+ * 최종 재고 검증은 기존처럼 락을 잡은 트랜잭션 안에서 한다.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReservationAdmissionGate {
+    private static final int MAX_IDLE_GATES = 1_000;
+
+    ProductSnapshotCache productSnapshotCache;
+    ReservationConfigDto reservationConfig;
+    Map<Long, ProductGate> gates = new ConcurrentHashMap<>();
+
+    Timer waitTimer;
+    Counter admittedCounter;
+    Counter soldOutRejectedCounter;
+    Counter timeoutRejectedCounter;
+
+    public ReservationAdmissionGate(ProductSnapshotCache productSnapshotCache, ReservationConfigDto reservationConfig,
+            MeterRegistry meterRegistry) {
+        this.productSnapshotCache = productSnapshotCache;
+        this.reservationConfig = reservationConfig;
+        this.waitTimer = Timer.builder("reservation.admission.wait")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.admittedCounter = meterRegistry.counter("reservation.admission.admitted");
+        this.soldOutRejectedCounter = meterRegistry.counter("reservation.admission.rejected", "reason", "sold_out");
+        this.timeoutRejectedCounter = meterRegistry.counter("reservation.admission.rejected", "reason", "timeout");
+        Gauge.builder("reservation.admission.queue.depth", gates,
+                map -> map.values().stream().mapToInt(ProductGate::queueLength).sum())
+            .register(meterRegistry);
+        Gauge.builder("reservation.admission.outstanding", gates,
+                map -> map.values().stream().mapToInt(ProductGate::outstanding).sum())
+            .register(meterRegistry);
+    }
+
+    /**
+     * 입장 토큰을 받은 뒤 action 을 실행한다. action 이 정상 종료되면 예약이 확정된 것으로 보고 재고 힌트를 차감한다.
+     */
+    public <T> T execute(long productId, int quantity, Supplier<T> action) {
+        if (!reservationConfig.isAdmissionEnabled()) {
+            return action.get();
+        }
+
+        ProductGate gate;
+        Admission admission;
+        do {
+            // 닫힌 대기열을 받았다면 정리된 것이므로 새 대기열로 다시 시도한다
+            gate = gate(productId);
+            gate.sync(productSnapshotCache.get(productId));
+            admission = gate.tryAdmit(quantity);
+        } while (admission == Admission.CLOSED);
+        if (admission == Admission.REJECTED) {
+            soldOutRejectedCounter.increment();
+            throw new ProductExceedException(gate.remaining.get() > 0
+                ? "남은 재고가 모두 예약 진행 중입니다. 잠시 후 다시 시도해주세요."
+                : "상품의 재고가 부족합니다.");
+        }
+
+        boolean acquired = false;
+        boolean reserved = false;
+        try {
+            long start = System.nanoTime();
+            acquired = gate.permits.tryAcquire(reservationConfig.getAdmissionWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                timeoutRejectedCounter.increment();
+                throw new ReservationAdmissionException("주문이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+
+            admittedCounter.increment();
+            T result = action.get();
+            reserved = true;
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReservationAdmissionException("주문이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        } finally {
+            if (acquired) {
+                gate.permits.release();
+            }
+            gate.release(quantity, reserved);
+        }
+    }
+
+    private ProductGate gate(long productId) {
+        if (gates.size() > MAX_IDLE_GATES) {
+            // 닫은 대기열만 지운다. 지우는 사이 새로 받은 쪽은 닫힌 것을 보고 다시 시도한다
+            gates.forEach((id, gate) -> {
+                if (gate.close()) {
+                    gates.remove(id, gate);
+                }
+            });
+        }
+        return gates.computeIfAbsent(productId, id -> new ProductGate(reservationConfig.getAdmissionConcurrency()));
+    }
+
+    enum Admission {
+        ADMITTED, REJECTED, CLOSED
+    }
+
+    static final class ProductGate {
+        // 정리된 대기열의 outstanding 값. 더는 입장시키지 않는다
+        private static final int CLOSED = Integer.MIN_VALUE;
+
+        final Semaphore permits;
+        final AtomicInteger outstanding = new AtomicInteger();
+        final AtomicInteger remaining = new AtomicInteger();
+        volatile ProductSnapshot snapshot;
+
+        ProductGate(int concurrency) {
+            this.permits = new Semaphore(concurrency, true);
+        }
+
+        // 스냅샷이 바뀌면(재고 변경 커밋, TTL 만료) 남은 재고를 다시 맞춘다.
+        // 그 사이에는 이 노드에서 성공한 예약만큼 직접 차감한 값을 쓴다.
+        void sync(ProductSnapshot latest) {
+            if (snapshot == latest) {
+                return;
+            }
+            synchronized (this) {
+                if (snapshot != latest) {
+                    remaining.set(latest.stock());
+                    snapshot = latest;
+                }
+            }
+        }
+
+        Admission tryAdmit(int quantity) {
+            while (true) {
+                int current = outstanding.get();
+                if (current == CLOSED) {
+                    return Admission.CLOSED;
+                }
+                if (current + quantity > remaining.get()) {
+                    return Admission.REJECTED;
+                }
+                if (outstanding.compareAndSet(current, current + quantity)) {
+                    return Admission.ADMITTED;
+                }
+            }
+        }
+
+        void release(int quantity, boolean reserved) {
+            if (reserved) {
+                remaining.addAndGet(-quantity);
+            }
+            outstanding.addAndGet(-quantity);
+        }
+
+        int queueLength() {
+            return permits.getQueueLength();
+        }
+
+        int outstanding() {
+            return Math.max(outstanding.get(), 0);
+        }
+
+        // 진행 중인 토큰이 없을 때만 닫는다. 입장도 outstanding 을 CAS 로 바꾸므로 닫힌 뒤에는 아무도 들어오지 못한다
+        synchronized boolean close() {
+            return outstanding.compareAndSet(0, CLOSED);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package store.onuljang.shop.reservation.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.user.service.UserService;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.entity.ReservationLockTarget;
+import store.onuljang.shop.reservation.entity.ReservationLocks;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 관련 비관적 락을 전역 순서로 획득합니다.
+ *
+ * 모든 트랜잭션이 상품(id 오름차순) → 유저(uid 오름차순) → 예약 순서로만 락을 잡도록 해서
+ * 서로 다른 순서로 락을 기다리며 생기는 데드락을 막습니다.
+ * 락을 잡기 전에는 엔티티를 영속성 컨텍스트에 올리지 않고 id 만 조회합니다.
+ * (이미 로딩된 엔티티는 락 조회 후에도 갱신되지 않아 오래된 값을 보게 됩니다)
+ *
+ *   - reservation.lock.wait{mode=pessimistic} : 상품/유저/예약을 모두 잠그는 데 걸린 시간
+ *   - reservation.lock.wait{mode=versioned} : 예약은 버전으로 검사하고 상품/유저만 잠그는 데 걸린 시간
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@Transactional
+public class ReservationLockService {
+    ProductsService productsService;
+    UserService userService;
+    ReservationService reservationService;
+    Timer pessimisticWaitTimer;
+    Timer versionedWaitTimer;
+
+    public ReservationLockService(ProductsService productsService, UserService userService,
+            ReservationService reservationService, MeterRegistry meterRegistry) {
+        this.productsService = productsService;
+        this.userService = userService;
+        this.reservationService = reservationService;
+        this.pessimisticWaitTimer = Timer.builder("reservation.lock.wait")
+            .tag("mode", "pessimistic")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.versionedWaitTimer = Timer.builder("reservation.lock.wait")
+            .tag("mode", "versioned")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    public ReservationLocks lockByDisplayCode(String displayCode) {
+        return lock(reservationService.findLockTargetByDisplayCode(displayCode));
+    }
+
+    public ReservationLocks lockById(long reservationId) {
+        return lock(reservationService.findLockTargetById(reservationId));
+    }
+
+    /**
+     * 상품 → 유저만 잠그고 예약은 락 없이 읽는다. 예약 변경은 {@link ReservationVersionGuard} 로 버전을 검사해야 한다.
+     */
+    public ReservationLocks lockForVersionedEdit(long reservationId) {
+        ReservationLockTarget target = reservationService.findLockTargetById(reservationId);
+
+        long start = System.nanoTime();
+        Product product = productsService.findByIdWithLock(target.productId());
+        Users user = userService.findByUidWithLock(target.userUid());
+        versionedWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return new ReservationLocks(reservationService.findById(target.reservationId()), product, user);
+    }
+
+    public Map<Long, Product> lockProducts(Collection<Long> productIds) {
+        Map<Long, Product> locked = new LinkedHashMap<>();
+        if (productIds.isEmpty()) {
+            return locked;
+        }
+
+        for (Product product : productsService.findAllByIdInWithLock(new TreeSet<>(productIds))) {
+            locked.put(product.getId(), product);
+        }
+        return locked;
+    }
+
+    public Map<String, Users> lockUsers(Collection<String> uids) {
+        Map<String, Users> locked = new LinkedHashMap<>();
+        if (uids.isEmpty()) {
+            return locked;
+        }
+
+        for (Users user : userService.findAllByUidInWithLock(new TreeSet<>(uids))) {
+            locked.put(user.getUid(), user);
+        }
+        return locked;
+    }
+
+    private ReservationLocks lock(ReservationLockTarget target) {
+        long start = System.nanoTime();
+        Product product = productsService.findByIdWithLock(target.productId());
+        Users user = userService.findByUidWithLock(target.userUid());
+        Reservation reservation = reservationService.findByIdWithLock(target.reservationId());
+        pessimisticWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return new ReservationLocks(reservation, product, user);
+    }
+}
@@ -0,0 +1,156 @@
+package store.onuljang.shop.reservation.service;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.service.ProductStockService;
+import store.onuljang.shop.reservation.entity.RestrictionCancelTarget;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 월 경고 누적에 따른 이용제한과, 제한 기간 안의 미래 PENDING 예약 일괄 취소.
+ *
+ * 여러 유저를 한 번에 처리하며 예약 건마다가 아니라 상품/유저 단위로 합쳐서 반영합니다.
+ * 호출하는 쪽은 전역 락 순서(상품 → 유저)를 지키도록 {@link #findCancelableProductIds} 의 상품을 먼저 잠그고
+ * 대상 유저를 잠근 뒤 {@link #restrictAll} 을 호출해야 합니다.
+ */
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@Slf4j
+@Transactional
+public class ReservationRestrictionService {
+    public static final int MAX_RESTRICTION_DAYS = 5;
+    private static final int RESTRICTION_WARN_COUNT = 2;
+    private static final int IN_CHUNK_SIZE = 1_000;
+
+    ReservationService reservationService;
+    ReservationLockService reservationLockService;
+    ProductStockService productStockService;
+    ReservationSalesEngine reservationSalesEngine;
+
+    /**
+     * 이용제한이 걸리면 취소될 수 있는 미래 예약의 상품 id. 유저 락보다 먼저 잠그는 용도.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findCancelableProductIds(Collection<String> uids, LocalDate today) {
+        if (uids.isEmpty()) {
+            return List.of();
+        }
+        return reservationService.findFutureReservationProductIds(uids, ReservationStatus.PENDING,
+            today.plusDays(1), today.plusDays(MAX_RESTRICTION_DAYS));
+    }
+
+    /**
+     * 월 경고 2회 이상인 유저에게 이용제한을 걸고 제한 기간 안의 미래 PENDING 예약을 취소한다.
+     * 재고는 상품별 합계로 한 번씩, 유저 주문/매출은 유저별 합계로 한 번씩 되돌리고 예약 상태는 한 번의 UPDATE 로 바꾼다.
+     * 예약을 취소하면 영속성 컨텍스트를 비우므로 이후에는 엔티티를 다시 조회해야 한다.
+     *
+     * @param users 이미 잠근 유저
+     * @param lockedProducts 이미 잠근 상품 (선점 이후 새로 생긴 예약의 상품은 id 순서로 추가로 잠근다)
+     * @return 취소한 예약 수
+     */
+    public int restrictAll(Collection<Users> users, LocalDate today, Map<Long, Product> lockedProducts) {
+        Map<String, Users> restrictedUsers = new HashMap<>();
+        Map<String, LocalDate> restrictedUntil = new HashMap<>();
+        for (Users user : users) {
+            int monthlyWarnCount = user.getMonthlyWarnCount();
+            if (monthlyWarnCount < RESTRICTION_WARN_COUNT) {
+                continue;
+            }
+
+            LocalDate until = (monthlyWarnCount == RESTRICTION_WARN_COUNT)
+                ? today.plusDays(2)
+                : today.plusDays(MAX_RESTRICTION_DAYS);
+            user.restrict(until);
+            restrictedUsers.put(user.getUid(), user);
+            restrictedUntil.put(user.getUid(), until);
+        }
+        if (restrictedUsers.isEmpty()) {
+            return 0;
+        }
+
+        // 유저마다 제한 기간이 달라 최대 기간으로 읽은 뒤 걸러낸다
+        List<RestrictionCancelTarget> targets = new ArrayList<>();
+        for (List<String> uids : partition(new ArrayList<>(restrictedUsers.keySet()))) {
+            reservationService.findRestrictionCancelTargets(uids, ReservationStatus.PENDING, today.plusDays(1),
+                    today.plusDays(MAX_RESTRICTION_DAYS))
+                .stream()
+                .filter(target -> !target.pickupDate().isAfter(restrictedUntil.get(target.userUid())))
+                .forEach(targets::add);
+        }
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        cancelAll(targets, restrictedUsers, lockedProducts);
+
+        return targets.size();
+    }
+
+    private void cancelAll(List<RestrictionCancelTarget> targets, Map<String, Users> restrictedUsers,
+            Map<Long, Product> lockedProducts) {
+        Map<Long, Integer> quantityByProduct = new TreeMap<>();
+        Map<String, Long> quantityByUser = new HashMap<>();
+        Map<String, BigDecimal> amountByUser = new HashMap<>();
+        for (RestrictionCancelTarget target : targets) {
+            quantityByProduct.merge(target.productId(), target.quantity(), Integer::sum);
+            quantityByUser.merge(target.userUid(), (long) target.quantity(), Long::sum);
+            amountByUser.merge(target.userUid(), target.amount(), BigDecimal::add);
+        }
+
+        // 1. 상품별 합계만큼 재고 복원. 선점 이후 새로 생긴 예약의 상품만 id 순서로 한 번에 추가로 잠근다
+        List<Long> missing = quantityByProduct.keySet().stream()
+            .filter(productId -> !lockedProducts.containsKey(productId))
+            .toList();
+        if (!missing.isEmpty()) {
+            lockedProducts.putAll(reservationLockService.lockProducts(missing));
+        }
+        quantityByProduct.forEach((productId, quantity) ->
+            productStockService.addStock(lockedProducts.get(productId), quantity));
+
+        // 2. 유저별 합계만큼 주문/매출 롤백
+        quantityByUser.forEach((uid, quantity) ->
+            restrictedUsers.get(uid).cancelReserve(quantity, amountByUser.get(uid)));
+
+        // 3. 예약 상태 일괄 변경. 위 변경을 먼저 반영한 뒤 영속성 컨텍스트를 비운다.
+        //    상품과 유저를 잡고 있으므로 그 사이 바뀐 예약이 있으면 재고가 어긋난 것이라 롤백한다
+        List<Long> reservationIds = targets.stream().map(RestrictionCancelTarget::reservationId).toList();
+        LocalDateTime now = TimeUtil.nowDateTime();
+        long updated = 0;
+        for (List<Long> chunk : partition(reservationIds)) {
+            updated += reservationService.updateStatusWhereIdInAndStatus(chunk, ReservationStatus.PENDING,
+                ReservationStatus.CANCELED, now);
+        }
+        if (updated != reservationIds.size()) {
+            throw new IllegalStateException("동시에 변경된 예약이 있어 취소/재고복원이 일치하지 않습니다.");
+        }
+        // 벌크 UPDATE 는 엔티티 리스너를 거치지 않으므로 실시간 매출 집계에 직접 반영
+        for (RestrictionCancelTarget target : targets) {
+            reservationSalesEngine.applyAfterCommit(target.toSales(ReservationStatus.PENDING),
+                target.toSales(ReservationStatus.CANCELED));
+        }
+
+        log.info("[ReservationRestriction] users={}, canceledReservations={}, products={}",
+            quantityByUser.size(), reservationIds.size(), quantityByProduct.size());
+    }
+
+    private static <T> List<List<T>> partition(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + IN_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+}
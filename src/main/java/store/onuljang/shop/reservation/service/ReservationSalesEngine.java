@@ -0,0 +1,476 @@
+package store.onuljang.shop.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.product.entity.LiveSalesDayRow;
+import store.onuljang.shop.product.entity.ProductDailyAgg;
+import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.entity.ProductLiveAgg;
+import store.onuljang.shop.product.entity.ProductLiveAggRow;
+import store.onuljang.shop.product.service.ProductDailyAggService;
+import store.onuljang.shop.product.service.ProductLiveAggService;
+import store.onuljang.shop.reservation.config.AggregationConfigDto;
+import store.onuljang.shop.reservation.entity.ReservationSales;
+import store.onuljang.shop.reservation.event.ReservationSalesChangedEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 픽업일/상품별 매출 실시간 집계기.
+ *
+ * 예약 변경이 커밋될 때 변경 전후 매출 기여분의 차이만 메모리 카운터에 더한다.
+ *   - active: 당일 매출 화면 기준 (PENDING, PICKED, SELF_PICK, SELF_PICK_READY)
+ *   - settled: 일별 집계(product_daily_agg) 기준 (PICKED, SELF_PICK_READY)
+ * 기동 시 예약 테이블에서 다시 만들고, 주기적으로 product_live_agg 에 내려쓴다.
+ *
+ * 예약을 바꾼 트랜잭션은 커밋 직전 commitGate 의 읽기 잠금을 잡고 카운터 반영까지 마친 뒤 놓는다.
+ * 재구성과 대조는 쓰기 잠금을 잡고 예약 테이블을 읽으므로, 읽는 사이 커밋되어 두 번 더해지거나 빠지는 변경이 없다.
+ * 다른 인스턴스의 변경은 빠지므로 오늘 카운터는 주기적으로 예약 테이블과, 전날 값은 매일 일별 집계와 대조해 다시 맞춘다.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReservationSalesEngine implements TransactionExecutionListener {
+    static final Set<ReservationStatus> ACTIVE = EnumSet.of(ReservationStatus.PENDING, ReservationStatus.PICKED,
+        ReservationStatus.SELF_PICK, ReservationStatus.SELF_PICK_READY);
+    static final Set<ReservationStatus> SETTLED = EnumSet.of(ReservationStatus.PICKED,
+        ReservationStatus.SELF_PICK_READY);
+
+    ReservationService reservationService;
+    ProductLiveAggService productLiveAggService;
+    ProductDailyAggService productDailyAggService;
+    AggregationConfigDto aggregationConfig;
+    Map<SalesKey, SalesCounter> counters = new ConcurrentHashMap<>();
+    AtomicBoolean ready = new AtomicBoolean();
+    // 읽기: 예약 변경 커밋과 카운터 반영, 쓰기: 예약 테이블을 읽어 카운터를 교체하는 재구성과 대조
+    ReentrantReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    Counter mismatchCounter;
+    Counter todayMismatchCounter;
+
+    public ReservationSalesEngine(ReservationService reservationService, ProductLiveAggService productLiveAggService,
+            ProductDailyAggService productDailyAggService, AggregationConfigDto aggregationConfig,
+            MeterRegistry meterRegistry) {
+        this.reservationService = reservationService;
+        this.productLiveAggService = productLiveAggService;
+        this.productDailyAggService = productDailyAggService;
+        this.aggregationConfig = aggregationConfig;
+        this.mismatchCounter = meterRegistry.counter("sales.live.verify.mismatch");
+        this.todayMismatchCounter = meterRegistry.counter("sales.live.verify.today_mismatch");
+    }
+
+    /**
+     * 집계값을 읽어도 되는 상태인지. 꺼져 있거나 아직 재구성 전이면 호출한 쪽이 DB 를 조회한다.
+     */
+    public boolean isServing() {
+        return aggregationConfig.isLiveEnabled() && ready.get();
+    }
+
+    public LocalDate windowStart() {
+        return TimeUtil.nowDate().minusDays(aggregationConfig.getLiveWindowDays());
+    }
+
+    @EventListener
+    public void handle(ReservationSalesChangedEvent event) {
+        applyAfterCommit(event.before(), event.after());
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 변경 전후 차이를 반영한다. 트랜잭션 밖이면 바로 반영한다.
+     * before/after 가 null 이면 각각 새로 생긴 예약, 삭제된 예약으로 본다.
+     */
+    public void applyAfterCommit(ReservationSales before, ReservationSales after) {
+        if (!aggregationConfig.isLiveEnabled() || Objects.equals(before, after)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commitGate.readLock().lock();
+            try {
+                apply(before, after);
+            } finally {
+                commitGate.readLock().unlock();
+            }
+            return;
+        }
+
+        currentBatch().changes.add(new SalesChange(before, after));
+    }
+
+    /**
+     * 예약을 바꾼 트랜잭션이 DB 커밋에 들어가기 직전에 불린다.
+     * 먼저 flush 해 커밋 중에 나올 엔티티 변경까지 지금 모으고 행 잠금을 기다릴 일을 없앤 뒤 게이트를 잡는다.
+     * 잡은 게이트는 카운터 반영이 끝난 afterCompletion 에서 놓는다.
+     */
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (!aggregationConfig.isLiveEnabled() || transaction.isReadOnly()) {
+            return;
+        }
+        if (transaction instanceof TransactionStatus status) {
+            status.flush();
+        }
+        if (TransactionSynchronizationManager.getResource(this) instanceof CommitBatch batch) {
+            batch.enterGate();
+        }
+    }
+
+    /**
+     * 예약 테이블에서 보관 범위 전체를 다시 읽어 카운터를 교체한다.
+     * 읽는 동안에는 예약 변경 커밋을 막으므로, 읽은 값과 이후 반영되는 변경이 겹치거나 비지 않는다.
+     * 막힌 커밋이 커넥션을 다 잡아 읽기가 커넥션을 얻지 못하면 풀 대기 시간 뒤 실패하고 잠금을 놓는다.
+     */
+    public void rebuild() {
+        LocalDate from = windowStart();
+        Map<SalesKey, SalesCounter> loaded;
+        commitGate.writeLock().lock();
+        try {
+            loaded = load(from, TimeUtil.nowDate().plusYears(1));
+            counters.clear();
+            counters.putAll(loaded);
+            ready.set(true);
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+        log.info("[LiveSales] rebuilt from={}, keys={}", from, loaded.size());
+    }
+
+    /**
+     * 변경된 카운터만 product_live_agg 에 덮어쓰고, 보관 범위를 벗어난 픽업일은 정리한다.
+     */
+    public int flush() {
+        if (!isServing()) {
+            return 0;
+        }
+
+        LocalDate windowStart = windowStart();
+        counters.keySet().removeIf(key -> key.sellDate().isBefore(windowStart));
+
+        Map<SalesCounter, Long> versions = new HashMap<>();
+        List<ProductLiveAggRow> rows = new ArrayList<>();
+        counters.forEach((key, counter) -> {
+            synchronized (counter) {
+                if (counter.isDirty()) {
+                    versions.put(counter, counter.version);
+                    rows.add(counter.toRow(key));
+                }
+            }
+        });
+
+        if (!rows.isEmpty()) {
+            productLiveAggService.upsertAll(rows);
+            versions.forEach(SalesCounter::markFlushed);
+        }
+        productLiveAggService.deleteAllBefore(windowStart);
+        return rows.size();
+    }
+
+    /**
+     * 전날 정산 매출을 내려쓴 product_live_agg 와 일별 집계 사이에서 대조한다.
+     * 어긋난 상품은 로그와 지표로 남기고 그날 카운터를 예약 테이블 기준으로 다시 맞춰 다시 내려쓴다.
+     */
+    public int verify(LocalDate date) {
+        if (!isServing()) {
+            return 0;
+        }
+        flush();
+
+        Map<Long, ProductLiveAgg> live = new HashMap<>();
+        for (ProductLiveAgg row : productLiveAggService.findAllBySellDate(date)) {
+            live.put(row.getProductId(), row);
+        }
+        Map<Long, ProductDailyAgg> expected = new HashMap<>();
+        for (ProductDailyAgg agg : productDailyAggService.findDetailBySellDateWithProduct(date)) {
+            expected.put(agg.getProductId(), agg);
+        }
+
+        Set<Long> productIds = new HashSet<>(expected.keySet());
+        productIds.addAll(live.keySet());
+
+        int mismatches = 0;
+        for (Long productId : productIds) {
+            ProductLiveAgg row = live.get(productId);
+            ProductDailyAgg agg = expected.get(productId);
+            long liveQuantity = row == null ? 0 : row.getSettledQuantity();
+            BigDecimal liveAmount = row == null ? BigDecimal.ZERO : row.getSettledAmount();
+            long aggQuantity = agg == null ? 0 : agg.getQuantity();
+            BigDecimal aggAmount = agg == null ? BigDecimal.ZERO : agg.getAmount();
+
+            if (liveQuantity != aggQuantity || liveAmount.compareTo(aggAmount) != 0) {
+                mismatches++;
+                log.warn("[LiveSales] verify mismatch date={}, productId={}, live=({}, {}), agg=({}, {})",
+                    date, productId, liveQuantity, liveAmount, aggQuantity, aggAmount);
+            }
+        }
+
+        if (mismatches > 0) {
+            mismatchCounter.increment(mismatches);
+            resync(date, productIds);
+            flush();
+        }
+        return mismatches;
+    }
+
+    /**
+     * 오늘 픽업일 카운터를 예약 테이블과 상품별로 대조한다. 당일 매출 화면이 읽는 값이므로 active/settled 모두 본다.
+     * 어긋난 상품은 로그와 지표로 남기고 예약 테이블 값으로 바꾼다.
+     */
+    public int verifyToday() {
+        if (!isServing()) {
+            return 0;
+        }
+
+        LocalDate today = TimeUtil.nowDate();
+        int mismatches = 0;
+        commitGate.writeLock().lock();
+        try {
+            Map<SalesKey, SalesCounter> loaded = load(today, today);
+            Set<SalesKey> keys = new HashSet<>(loaded.keySet());
+            counters.keySet().stream()
+                .filter(key -> key.sellDate().equals(today))
+                .forEach(keys::add);
+
+            for (SalesKey key : keys) {
+                SalesCounter fresh = loaded.getOrDefault(key, new SalesCounter());
+                SalesCounter counter = counters.computeIfAbsent(key, k -> new SalesCounter());
+                ProductLiveAggRow expected = fresh.toRow(key);
+                ProductLiveAggRow actual = counter.toRow(key);
+                if (!sameTotals(actual, expected)) {
+                    mismatches++;
+                    log.warn("[LiveSales] today mismatch productId={}, live={}, reservations={}",
+                        key.productId(), actual, expected);
+                    counter.reset(fresh);
+                }
+            }
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+
+        if (mismatches > 0) {
+            todayMismatchCounter.increment(mismatches);
+        }
+        return mismatches;
+    }
+
+    /**
+     * 해당 픽업일의 active 매출(상품별, 수량이 있는 것만).
+     */
+    public List<ProductLiveAggRow> findActiveByDate(LocalDate date) {
+        List<ProductLiveAggRow> rows = new ArrayList<>();
+        counters.forEach((key, counter) -> {
+            if (key.sellDate().equals(date)) {
+                ProductLiveAggRow row = counter.toRow(key);
+                if (row.activeQuantity() > 0) {
+                    rows.add(row);
+                }
+            }
+        });
+        return rows;
+    }
+
+    /**
+     * 기간 내 픽업일별 settled 매출 합계(수량이 있는 날짜만, 날짜 오름차순).
+     */
+    public List<ProductDailyAggRow> findSettledBetween(LocalDate from, LocalDate to) {
+        Map<LocalDate, LiveSalesDayRow> days = new TreeMap<>();
+        counters.forEach((key, counter) -> {
+            if (key.sellDate().isBefore(from) || key.sellDate().isAfter(to)) {
+                return;
+            }
+            ProductLiveAggRow row = counter.toRow(key);
+            days.merge(key.sellDate(),
+                new LiveSalesDayRow(key.sellDate(), row.settledQuantity(), row.settledAmount()),
+                LiveSalesDayRow::plus);
+        });
+
+        return days.values().stream()
+            .filter(day -> day.getQuantity() != 0)
+            .map(ProductDailyAggRow.class::cast)
+            .toList();
+    }
+
+    // commitGate 의 읽기 잠금을 잡은 채로 호출한다
+    void apply(ReservationSales before, ReservationSales after) {
+        if (!ready.get()) {
+            return;
+        }
+        if (before != null) {
+            add(before, -1);
+        }
+        if (after != null) {
+            add(after, 1);
+        }
+    }
+
+    private CommitBatch currentBatch() {
+        CommitBatch batch = (CommitBatch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new CommitBatch();
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        return batch;
+    }
+
+    // productIds 중 예약 테이블에 없는 상품은 0 으로 맞춰 product_live_agg 의 남은 행도 다음 내려쓰기에서 고친다
+    private void resync(LocalDate date, Set<Long> productIds) {
+        commitGate.writeLock().lock();
+        try {
+            Map<SalesKey, SalesCounter> loaded = load(date, date);
+            Set<SalesKey> keys = new HashSet<>(loaded.keySet());
+            productIds.forEach(productId -> keys.add(new SalesKey(date, productId)));
+            counters.keySet().stream()
+                .filter(key -> key.sellDate().equals(date))
+                .forEach(keys::add);
+            keys.forEach(key -> counters.computeIfAbsent(key, k -> new SalesCounter())
+                .reset(loaded.getOrDefault(key, new SalesCounter())));
+            log.info("[LiveSales] resynced date={}, keys={}", date, keys.size());
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+
+    private static boolean sameTotals(ProductLiveAggRow a, ProductLiveAggRow b) {
+        return a.activeQuantity() == b.activeQuantity()
+            && a.activeAmount().compareTo(b.activeAmount()) == 0
+            && a.settledQuantity() == b.settledQuantity()
+            && a.settledAmount().compareTo(b.settledAmount()) == 0;
+    }
+
+    private Map<SalesKey, SalesCounter> load(LocalDate from, LocalDate to) {
+        Map<SalesKey, SalesCounter> loaded = new HashMap<>();
+        for (ReservationSales sales : reservationService.findSalesByPickupDateBetween(from, to, ACTIVE)) {
+            loaded.computeIfAbsent(SalesKey.of(sales), key -> new SalesCounter()).add(sales, 1);
+        }
+        return loaded;
+    }
+
+    private void add(ReservationSales sales, int sign) {
+        if (!ACTIVE.contains(sales.status()) || sales.pickupDate().isBefore(windowStart())) {
+            return;
+        }
+        counters.computeIfAbsent(SalesKey.of(sales), key -> new SalesCounter()).add(sales, sign);
+    }
+
+    private record SalesChange(ReservationSales before, ReservationSales after) {
+    }
+
+    /**
+     * 한 트랜잭션의 매출 변경 묶음. 트랜잭션 리소스로 걸어 두고 커밋되면 한꺼번에 반영한다.
+     * REQUIRES_NEW 로 안쪽 트랜잭션이 열리면 리소스를 내려 두어 각자 커밋 시점에 반영되게 한다.
+     */
+    private final class CommitBatch implements TransactionSynchronization {
+        final List<SalesChange> changes = new ArrayList<>();
+        boolean gated;
+
+        void enterGate() {
+            commitGate.readLock().lock();
+            gated = true;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(ReservationSalesEngine.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(ReservationSalesEngine.this, this);
+        }
+
+        @Override
+        public void afterCommit() {
+            // 게이트를 못 잡은 경우(커밋 중 뒤늦게 생긴 변경)에도 반영은 읽기 잠금 안에서 한다
+            commitGate.readLock().lock();
+            try {
+                for (SalesChange change : changes) {
+                    apply(change.before(), change.after());
+                }
+            } finally {
+                commitGate.readLock().unlock();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ReservationSalesEngine.this);
+            if (gated) {
+                gated = false;
+                commitGate.readLock().unlock();
+            }
+        }
+    }
+
+    private record SalesKey(LocalDate sellDate, long productId) {
+        static SalesKey of(ReservationSales sales) {
+            return new SalesKey(sales.pickupDate(), sales.productId());
+        }
+    }
+
+    private static final class SalesCounter {
+        long activeQuantity;
+        BigDecimal activeAmount = BigDecimal.ZERO;
+        long settledQuantity;
+        BigDecimal settledAmount = BigDecimal.ZERO;
+        // 처음 만들어진 카운터도 한 번은 내려쓰도록 flushedVersion 을 -1 로 시작한다
+        long version;
+        long flushedVersion = -1;
+
+        synchronized void add(ReservationSales sales, int sign) {
+            long quantity = (long) sales.quantity() * sign;
+            BigDecimal amount = sales.amount().multiply(BigDecimal.valueOf(sign));
+            activeQuantity += quantity;
+            activeAmount = activeAmount.add(amount);
+            if (SETTLED.contains(sales.status())) {
+                settledQuantity += quantity;
+                settledAmount = settledAmount.add(amount);
+            }
+            version++;
+        }
+
+        synchronized void reset(SalesCounter fresh) {
+            activeQuantity = fresh.activeQuantity;
+            activeAmount = fresh.activeAmount;
+            settledQuantity = fresh.settledQuantity;
+            settledAmount = fresh.settledAmount;
+            version++;
+        }
+
+        synchronized boolean isDirty() {
+            return version != flushedVersion;
+        }
+
+        synchronized void markFlushed(long flushed) {
+            flushedVersion = Math.max(flushedVersion, flushed);
+        }
+
+        synchronized ProductLiveAggRow toRow(SalesKey key) {
+            return new ProductLiveAggRow(key.sellDate(), key.productId(), activeQuantity, activeAmount,
+                settledQuantity, settledAmount);
+        }
+    }
+}
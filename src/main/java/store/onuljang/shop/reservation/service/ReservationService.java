@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.shared.exception.NotFoundException;
 import store.onuljang.shop.reservation.repository.ReservationAllRepository;
@@ -49,6 +50,18 @@ public class ReservationService {
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 예약입니다."));
     }
 
+    @Transactional(readOnly = true)
+    public ReservationLockTarget findLockTargetByDisplayCode(String displayCode) {
+        return reservationRepository.findLockTargetByDisplayCode(displayCode)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 예약입니다."));
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationLockTarget findLockTargetById(long id) {
+        return reservationRepository.findLockTargetById(id)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 예약입니다."));
+    }
+
     @Transactional(readOnly = true)
     public List<Reservation> findAllByDisplayCodeInWithUser(Collection<String> displayCodes) {
         return reservationRepository.findAllByDisplayCodeIn(displayCodes);
@@ -61,6 +74,29 @@ public class ReservationService {
         return reservation.getId();
     }
 
+    @Transactional
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        return reservationRepository.saveAll(reservations);
+    }
+
+    /**
+     * 변경 내용을 바로 내려써서 버전 충돌을 트랜잭션 안에서 드러낸다.
+     * 충돌하면 ObjectOptimisticLockingFailureException 이 전파되고 현재 트랜잭션은 롤백 대상이 된다.
+     */
+    @Transactional
+    public void flush() {
+        reservationRepository.flush();
+    }
+
+    /**
+     * 충돌로 롤백될 트랜잭션과 별개로 커밋된 최신 상태를 읽는다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public ReservationVersionState findVersionStateInNewTransaction(long id) {
+        return reservationRepository.findVersionStateById(id)
+                .orElseThrow(() -> new NotFoundException("존재하지 않는 예약입니다."));
+    }
+
     @Transactional
     public long bulkUpdateReservationsStatus(Set<Long> reservationIdSet, ReservationStatus updateStatus,
             LocalDateTime updateTime) {
@@ -106,19 +142,46 @@ public class ReservationService {
         return reservationQueryRepository.findAllByUserAndPickupDateBetweenWithProductAllAndDelivery(user, from, to);
     }
 
+    @Transactional(readOnly = true)
+    public List<ReservationSales> findSalesByIdIn(Collection<Long> reservationIds) {
+        return reservationQueryRepository.findSalesByIdIn(reservationIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationSales> findSalesByPickupDateBetween(LocalDate from, LocalDate to,
+            Collection<ReservationStatus> statuses) {
+        return reservationQueryRepository.findSalesByPickupDateBetweenAndStatusIn(from, to, statuses);
+    }
+
     @Transactional(readOnly = true)
     public List<ReservationSalesRow> findPickupDateSales(Set<ReservationStatus> status, LocalDate date) {
         return reservationAllRepository.findPickupDateSales(status.stream().map(Enum::name).toList(), date);
     }
 
     @Transactional(readOnly = true)
-    public List<Reservation> findFutureReservationsByUserAndPeriod(
-            String uid, ReservationStatus status, LocalDate from, LocalDate to) {
-        return reservationRepository.findByUserUidAndStatusAndPickupDateBetween(uid, status, from, to);
+    public List<RestrictionCancelTarget> findRestrictionCancelTargets(Collection<String> uids,
+            ReservationStatus status, LocalDate from, LocalDate to) {
+        return reservationQueryRepository.findRestrictionCancelTargets(uids, status, from, to);
     }
 
-    public boolean existsByDisplayCode(String displayCode) {
-        return reservationRepository.existsByDisplayCode(displayCode);
+    @Transactional
+    public List<ReservationTransitionRow> findTransitionRowsByIdInWithLock(Collection<Long> reservationIds) {
+        return reservationRepository.findTransitionRowsByIdInWithLock(reservationIds);
+    }
+
+    /**
+     * before 상태인 예약만 after 로 바꾼다. 영속성 컨텍스트를 비우므로 이후에는 엔티티를 다시 조회해야 한다.
+     */
+    @Transactional
+    public int updateStatusWhereIdInAndStatus(Collection<Long> reservationIds, ReservationStatus before,
+            ReservationStatus after, LocalDateTime now) {
+        return reservationRepository.updateStatusByIdInAndStatus(reservationIds, before, after, now);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findFutureReservationProductIds(Collection<String> uids, ReservationStatus status,
+            LocalDate from, LocalDate to) {
+        return reservationRepository.findProductIdsByUserUidInAndStatusAndPickupDateBetween(uids, status, from, to);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,69 @@
+package store.onuljang.shop.reservation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.entity.ReservationVersionState;
+import store.onuljang.shop.reservation.exception.ReservationConflictException;
+
+/**
+ * 락 없이 읽은 예약을 버전으로 검사해 수정한다.
+ *
+ * 화면이 본 버전과 다르거나, 읽은 뒤 커밋 전에 다른 요청이 먼저 바꿨으면 기다리지 않고 409 로 최신 상태를 돌려준다.
+ *
+ *   - reservation.optimistic.update : 버전 검사를 통과해 반영된 수정 수
+ *   - reservation.optimistic.conflict{cause=stale_version|concurrent_update} : 충돌로 거절된 수정 수
+ *
+ * 비관적 락 대기는 reservation.lock.wait 타이머({@link ReservationLockService})와 비교한다.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ReservationVersionGuard {
+    private static final String CONFLICT_MESSAGE = "다른 곳에서 먼저 변경된 예약입니다. 최신 상태를 확인 후 다시 시도해주세요.";
+
+    ReservationService reservationService;
+    Counter updatedCounter;
+    Counter staleVersionCounter;
+    Counter concurrentUpdateCounter;
+
+    public ReservationVersionGuard(ReservationService reservationService, MeterRegistry meterRegistry) {
+        this.reservationService = reservationService;
+        this.updatedCounter = meterRegistry.counter("reservation.optimistic.update");
+        this.staleVersionCounter = meterRegistry.counter("reservation.optimistic.conflict", "cause", "stale_version");
+        this.concurrentUpdateCounter = meterRegistry.counter("reservation.optimistic.conflict",
+            "cause", "concurrent_update");
+    }
+
+    /**
+     * 화면이 보고 있던 버전과 비교한다. expectedVersion 이 없으면 커밋 시 검사만 한다.
+     */
+    public void verify(Reservation reservation, Long expectedVersion) {
+        if (expectedVersion == null || expectedVersion.equals(reservation.getVersion())) {
+            return;
+        }
+
+        staleVersionCounter.increment();
+        throw new ReservationConflictException(CONFLICT_MESSAGE, ReservationVersionState.from(reservation));
+    }
+
+    /**
+     * 변경 내용을 버전 조건과 함께 내려쓴다. 읽은 뒤 다른 트랜잭션이 먼저 커밋했으면 최신 상태를 담아 예외를 던진다.
+     */
+    public void flush(long reservationId) {
+        try {
+            reservationService.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            concurrentUpdateCounter.increment();
+            log.info("[ReservationVersionGuard] reservationId={} concurrent update", reservationId);
+            throw new ReservationConflictException(CONFLICT_MESSAGE,
+                reservationService.findVersionStateInNewTransaction(reservationId));
+        }
+        updatedCounter.increment();
+    }
+}
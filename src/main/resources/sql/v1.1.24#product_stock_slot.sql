@@ -0,0 +1,15 @@
+-- 1) 재고 슬롯 분할 개수 (0 = 사용 안 함)
+ALTER TABLE products ADD COLUMN stock_slot_count INT NOT NULL DEFAULT 0;
+
+-- 2) 분할 재고 슬롯
+CREATE TABLE product_stock_slot (
+    id          BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    product_id  BIGINT UNSIGNED NOT NULL,
+    slot_no     INT             NOT NULL,
+    stock       INT             NOT NULL DEFAULT 0,
+    sold        BIGINT          NOT NULL DEFAULT 0,
+    created_at  DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at  DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_product_stock_slot__product_slot (product_id, slot_no),
+    CONSTRAINT fk_product_stock_slot__product FOREIGN KEY (product_id) REFERENCES products(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
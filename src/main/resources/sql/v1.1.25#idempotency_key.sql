@@ -0,0 +1,14 @@
+-- 예약 API 멱등 키 (응답 재전송용)
+CREATE TABLE idempotency_keys (
+    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_uid        VARCHAR(36)  NOT NULL,
+    idem_key        VARCHAR(64)  NOT NULL,
+    request_hash    CHAR(32)     NOT NULL,
+    status_code     SMALLINT     NULL,
+    response_body   TEXT         NULL,
+    expires_at      DATETIME     NOT NULL,
+    created_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at      DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_idempotency_keys__user_key (user_uid, idem_key),
+    KEY idx_idempotency_keys__expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
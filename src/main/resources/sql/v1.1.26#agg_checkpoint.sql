@@ -0,0 +1,18 @@
+-- 예약 집계 배치 청크 처리 진행 위치
+CREATE TABLE agg_checkpoint (
+    id                  BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_name            VARCHAR(50) NOT NULL,
+    run_uid             CHAR(36)    NOT NULL,
+    status              VARCHAR(16) NOT NULL,
+    last_reservation_id BIGINT      NOT NULL DEFAULT 0,
+    chunk_count         INT         NOT NULL DEFAULT 0,
+    processed_count     BIGINT      NOT NULL DEFAULT 0,
+    started_at          DATETIME    NOT NULL,
+    finished_at         DATETIME    NULL,
+    created_at          DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at          DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_agg_checkpoint__job_name (job_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 청크 경계 탐색 (미처리 행을 reservation_id 순으로 훑는다)
+ALTER TABLE agg_applied ADD KEY idx_processed_reservation (processed, reservation_id);
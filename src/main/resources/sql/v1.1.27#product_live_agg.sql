@@ -0,0 +1,13 @@
+-- 실시간 매출 집계 스냅샷 (메모리 집계기를 주기적으로 덮어씀)
+CREATE TABLE product_live_agg (
+    id               BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sell_date        DATE            NOT NULL,
+    product_id       BIGINT UNSIGNED NOT NULL,
+    active_quantity  BIGINT          NOT NULL DEFAULT 0,
+    active_amount    DECIMAL(18,0)   NOT NULL DEFAULT 0,
+    settled_quantity BIGINT          NOT NULL DEFAULT 0,
+    settled_amount   DECIMAL(18,0)   NOT NULL DEFAULT 0,
+    created_at       DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at       DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uq_live_sell_product (sell_date, product_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
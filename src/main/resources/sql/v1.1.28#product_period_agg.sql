@@ -0,0 +1,23 @@
+-- product_daily_agg 주/월 롤업 (주: 월요일 시작, 월: 1일 시작)
+CREATE TABLE product_period_agg (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    period       VARCHAR(8)      NOT NULL,
+    period_start DATE            NOT NULL,
+    product_id   BIGINT UNSIGNED NOT NULL,
+    quantity     BIGINT          NOT NULL DEFAULT 0,
+    amount       DECIMAL(18,0)   NOT NULL DEFAULT 0,
+    created_at   DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at   DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uq_period_start_product (period, period_start, product_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 기존 일별 집계로 채우기
+INSERT INTO product_period_agg (period, period_start, product_id, quantity, amount)
+SELECT 'WEEK', DATE_SUB(d.sell_date, INTERVAL WEEKDAY(d.sell_date) DAY), d.product_id, SUM(d.quantity), SUM(d.amount)
+FROM product_daily_agg d
+GROUP BY DATE_SUB(d.sell_date, INTERVAL WEEKDAY(d.sell_date) DAY), d.product_id;
+
+INSERT INTO product_period_agg (period, period_start, product_id, quantity, amount)
+SELECT 'MONTH', DATE_FORMAT(d.sell_date, '%Y-%m-01'), d.product_id, SUM(d.quantity), SUM(d.amount)
+FROM product_daily_agg d
+GROUP BY DATE_FORMAT(d.sell_date, '%Y-%m-01'), d.product_id;
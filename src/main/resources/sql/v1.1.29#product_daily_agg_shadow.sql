@@ -0,0 +1,11 @@
+-- product_daily_agg 재구성용 작업 테이블 (날짜별로 채워 검증한 뒤 본 테이블과 교체)
+CREATE TABLE product_daily_agg_shadow (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    sell_date  DATE            NOT NULL,
+    product_id BIGINT UNSIGNED NOT NULL,
+    quantity   INT             NOT NULL,
+    amount     DECIMAL(18,0)   NOT NULL,
+    created_at DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uq_shadow_sell_product (sell_date, product_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
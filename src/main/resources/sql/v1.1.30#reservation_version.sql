@@ -0,0 +1,2 @@
+ALTER TABLE reservations
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER status;
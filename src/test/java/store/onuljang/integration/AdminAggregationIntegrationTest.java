@@ -1,20 +1,26 @@
 package store.onuljang.integration;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import store.onuljang.shared.entity.enums.AggPeriod;
+import store.onuljang.shop.admin.dto.AdminSalesRollupResponse;
 import store.onuljang.shop.admin.dto.AdminReservationSummaryResponse;
 import store.onuljang.shop.admin.dto.AdminReservationDetailsResponse;
 import store.onuljang.shop.admin.entity.Admin;
 import store.onuljang.shop.product.entity.Product;
 import store.onuljang.shared.user.entity.Users;
 import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shop.product.service.ProductPeriodAggService;
 import store.onuljang.support.IntegrationTestBase;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static store.onuljang.shared.util.TimeUtil.nowDate;
@@ -23,10 +29,17 @@ import static store.onuljang.shared.util.TimeUtil.nowDate;
  * 관리자 집계 API 통합 테스트
  *
  * API Spec: - GET /api/admin/agg/summary?from={date}&to={date} - 집계 요약 조회 - GET
+ * /api/admin/agg/summary/rollup?from={date}&to={date} - 월/주/일 구간 매출 조회 - GET
  * /api/admin/agg/sales?date={date} - 일별 판매 상세 조회
  */
 class AdminAggregationIntegrationTest extends IntegrationTestBase {
 
+    @Autowired
+    private ProductPeriodAggService productPeriodAggService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Admin admin;
     private Users user1;
     private Users user2;
@@ -82,6 +95,59 @@ class AdminAggregationIntegrationTest extends IntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/admin/agg/summary/rollup - 월/주/일 구간 매출 조회")
+    class GetSalesRollup {
+
+        private static final LocalDate MARCH = LocalDate.of(2024, 3, 1);
+
+        @BeforeEach
+        void setUpAgg() {
+            Product product = testFixture.createProduct("롤업상품", 10, new BigDecimal("1000"), MARCH, admin);
+            for (LocalDate date : List.of(MARCH, MARCH.plusDays(10), MARCH.plusDays(30))) {
+                entityManager.createNativeQuery("""
+                        INSERT INTO product_daily_agg (sell_date, product_id, quantity, amount)
+                        VALUES (:sellDate, :productId, 2, 2000.00)
+                        """)
+                    .setParameter("sellDate", date)
+                    .setParameter("productId", product.getId())
+                    .executeUpdate();
+            }
+            productPeriodAggService.refreshCovering(List.of(MARCH));
+        }
+
+        @Test
+        @DisplayName("한 달 전체를 조회하면 월 구간 한 행으로 내려감")
+        void getSalesRollup_WholeMonth() throws Exception {
+            // when
+            var response = getAction("/api/admin/shop/agg/summary/rollup?from=2024-03-01&to=2024-03-31",
+                    AdminSalesRollupResponse.class);
+
+            // then
+            assertThat(response.isOk()).isTrue();
+            assertThat(response.body().summary()).singleElement().satisfies(row -> {
+                assertThat(row.period()).isEqualTo(AggPeriod.MONTH);
+                assertThat(row.date()).isEqualTo(MARCH);
+                assertThat(row.endDate()).isEqualTo(LocalDate.of(2024, 3, 31));
+                assertThat(row.quantity()).isEqualTo(6);
+            });
+        }
+
+        @Test
+        @DisplayName("기존 요약 조회는 긴 기간도 그대로 일별 행으로 내려감")
+        void getAggregationSummary_WholeMonth_StaysDaily() throws Exception {
+            // when
+            var response = getAction("/api/admin/shop/agg/summary?from=2024-03-01&to=2024-03-31",
+                    AdminReservationSummaryResponse.class);
+
+            // then
+            assertThat(response.isOk()).isTrue();
+            assertThat(response.body().summary())
+                    .extracting(AdminReservationSummaryResponse.AdminSummaryResponse::date)
+                    .containsExactly(MARCH, MARCH.plusDays(10), MARCH.plusDays(30));
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/admin/agg/sales - 일별 판매 상세 조회")
     class GetDailySales {
@@ -148,7 +148,7 @@ class AdminProductIntegrationTest extends IntegrationTestBase {
 
             AdminUpdateProductDetailsRequest request = new AdminUpdateProductDetailsRequest("수정된상품",
                     new BigDecimal("20000"), 20, "https://example.com/new-image.jpg", nowDate().plusDays(2).toString(),
-                    "수정된 설명", List.of(), LocalTime.of(12, 0), true);
+                    "수정된 설명", List.of(), LocalTime.of(12, 0), true, null);
 
             // when
             var response = patchAction("/api/admin/shop/products/" + product.getId(), request, Void.class);
@@ -163,6 +163,32 @@ class AdminProductIntegrationTest extends IntegrationTestBase {
             assertThat(updatedProduct.getProductCategories()).isEmpty();
         }
 
+        @Test
+        @DisplayName("재고 슬롯 분할 설정 시 슬롯 합계가 재고로 조회됨")
+        void updateProduct_StockSlots_ReportsSumOfSlots() throws Exception {
+            // given
+            Product product = testFixture.createTodayProduct("슬롯상품", 10, new BigDecimal("10000"), admin);
+
+            AdminUpdateProductDetailsRequest request = new AdminUpdateProductDetailsRequest(null, null, 11, null,
+                    null, null, null, null, null, 4);
+
+            // when
+            var response = patchAction("/api/admin/shop/products/" + product.getId(), request, Void.class);
+
+            // then
+            assertThat(response.isOk()).isTrue();
+
+            entityManager.flush();
+            entityManager.clear();
+            Product updatedProduct = productsRepository.findById(product.getId()).orElseThrow();
+            assertThat(updatedProduct.isStockStriped()).isTrue();
+            assertThat(updatedProduct.getStockSlotCount()).isEqualTo(4);
+
+            var detail = getAction("/api/admin/shop/products/" + product.getId(), AdminProductDetailResponse.class);
+            assertThat(detail.body().stock()).isEqualTo(11);
+            assertThat(detail.body().stockSlots()).isEqualTo(4);
+        }
+
     }
 
     @Nested
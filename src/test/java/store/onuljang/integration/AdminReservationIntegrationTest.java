@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import store.onuljang.shop.admin.dto.AdminReservationConflictResponse;
 import store.onuljang.shop.admin.dto.AdminUpdateReservationsRequest;
 import store.onuljang.shop.admin.dto.AdminReservationListResponse;
 import store.onuljang.shop.admin.dto.AdminReservationsTodayResponse;
@@ -21,6 +22,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static store.onuljang.shared.util.TimeUtil.nowDate;
 
 /**
@@ -153,6 +155,74 @@ class AdminReservationIntegrationTest extends IntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("버전 검사 - 화면이 본 버전과 다르면 409")
+    class VersionConflict {
+
+        @Test
+        @DisplayName("같은 버전이면 변경하고 버전을 올림")
+        void updateReservationStatus_MatchingVersion() throws Exception {
+            // given
+            Product product = testFixture.createTodayProduct("상품", 10, new BigDecimal("10000"), admin);
+            Reservation reservation = testFixture.createReservation(user1, product, 2);
+            long version = reservation.getVersion();
+
+            // when
+            var response = performAction(patch("/api/admin/shop/reservations/" + reservation.getId() + "/PICKED")
+                .param("version", String.valueOf(version)), Void.class);
+
+            // then
+            assertThat(response.isOk()).isTrue();
+            Reservation updatedReservation = reservationRepository.findById(reservation.getId()).orElseThrow();
+            assertThat(updatedReservation.getStatus()).isEqualTo(ReservationStatus.PICKED);
+            assertThat(updatedReservation.getVersion()).isEqualTo(version + 1);
+        }
+
+        @Test
+        @DisplayName("다른 곳에서 먼저 바뀐 예약은 409 와 최신 상태를 반환")
+        void updateReservationStatus_StaleVersion() throws Exception {
+            // given - 화면이 본 뒤 다른 곳에서 셀프 수령으로 바꿈
+            Product product = testFixture.createTodayProduct("상품", 10, new BigDecimal("10000"), admin);
+            Reservation reservation = testFixture.createReservation(user1, product, 2);
+            long seenVersion = reservation.getVersion();
+            reservation.changeStatus(ReservationStatus.SELF_PICK);
+            entityManager.flush();
+
+            // when
+            var response = performAction(patch("/api/admin/shop/reservations/" + reservation.getId() + "/PICKED")
+                .param("version", String.valueOf(seenVersion)), AdminReservationConflictResponse.class);
+
+            // then
+            assertThat(response.status()).isEqualTo(409);
+            assertThat(response.body().state()).isEqualTo("RESERVATION_CONFLICT");
+            assertThat(response.body().reservationId()).isEqualTo(reservation.getId());
+            assertThat(response.body().status()).isEqualTo(ReservationStatus.SELF_PICK);
+            assertThat(response.body().quantity()).isEqualTo(2);
+            assertThat(response.body().version()).isEqualTo(seenVersion + 1);
+            assertThat(reservationRepository.findById(reservation.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.SELF_PICK);
+        }
+
+        @Test
+        @DisplayName("노쇼 처리도 오래된 버전이면 409")
+        void handleNoShow_StaleVersion() throws Exception {
+            // given
+            Product product = testFixture.createTodayProduct("상품", 10, new BigDecimal("10000"), admin);
+            Reservation reservation = testFixture.createReservation(user1, product, 2);
+            reservation.changeStatus(ReservationStatus.PICKED);
+            entityManager.flush();
+
+            // when
+            var response = performAction(patch("/api/admin/shop/reservations/" + reservation.getId() + "/no-show")
+                .param("version", "0"), AdminReservationConflictResponse.class);
+
+            // then
+            assertThat(response.status()).isEqualTo(409);
+            assertThat(response.body().status()).isEqualTo(ReservationStatus.PICKED);
+            assertThat(response.body().version()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/admin/reservations/status - 일괄 상태 변경")
     class BulkUpdateStatus {
@@ -0,0 +1,147 @@
+package store.onuljang.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.reservation.appservice.ReservationAppService;
+import store.onuljang.shop.reservation.dto.ReservationRequest;
+import store.onuljang.shop.reservation.exception.ReservationAdmissionException;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.shop.reservation.service.ReservationAdmissionGate;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 오픈 시점 예약 폭주 부하 테스트
+ *
+ * 재고보다 훨씬 많은 요청이 동시에 들어올 때 대기열이 재고만큼만 입장시키고
+ * 나머지는 상품 락을 기다리지 않고 바로 거절하는지 검증합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdmissionBurstIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionBurstIntegrationTest.class);
+
+    private static final int THREAD_COUNT = 64;
+    private static final int REQUEST_COUNT = 2_000;
+    private static final int USER_COUNT = 100;
+    private static final int STOCK = 100;
+
+    @Autowired
+    private ReservationAdmissionGate reservationAdmissionGate;
+
+    @Autowired
+    private ReservationAppService reservationAppService;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        admin = testFixture.createDefaultAdmin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        reservationRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("오픈 시점 폭주 요청 중 재고만큼만 예약되고 나머지는 락 전에 거절")
+    void burstAtSellTime() throws InterruptedException {
+        Product product = testFixture.createTomorrowProduct("오픈상품", STOCK, new BigDecimal("1000"), admin);
+        List<Users> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(testFixture.createUser("오픈유저"));
+        }
+        double rejectedBefore = rejectedBeforeLock();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        AtomicInteger busyCount = new AtomicInteger();
+        AtomicInteger errorCount = new AtomicInteger();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            Users user = users.get(i % USER_COUNT);
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    ReservationRequest request = new ReservationRequest(product.getId(), 1);
+                    reservationAppService.precheck(request);
+                    reservationAdmissionGate.execute(product.getId(), 1,
+                        () -> reservationAppService.reserve(user.getUid(), request));
+                    successCount.incrementAndGet();
+                } catch (ProductExceedException e) {
+                    soldOutCount.incrementAndGet();
+                } catch (ReservationAdmissionException e) {
+                    busyCount.incrementAndGet();
+                } catch (Exception e) {
+                    errorCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await(120, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        executor.shutdown();
+
+        double rejectedBeforeLock = rejectedBeforeLock() - rejectedBefore;
+        log.debug("[BENCH] requests={} success={} soldOut={} busy={} errors={} rejectedBeforeLock={} "
+                + "elapsed={}ms waitP99={}ms", REQUEST_COUNT, successCount.get(), soldOutCount.get(),
+            busyCount.get(), errorCount.get(), rejectedBeforeLock, elapsedMs,
+            meterRegistry.get("reservation.admission.wait").timer().percentile(0.99, TimeUnit.MILLISECONDS));
+
+        Product updated = productsRepository.findById(product.getId()).orElseThrow();
+        assertThat(successCount.get()).isEqualTo(STOCK);
+        assertThat(errorCount.get()).isZero();
+        assertThat(updated.getStock()).isZero();
+        assertThat(updated.getTotalSold()).isEqualTo(STOCK);
+        // 재고를 넘는 요청 대부분은 상품 락을 기다리지 않고 사전 검증이나 대기열에서 거절된다
+        assertThat(rejectedBeforeLock).isGreaterThan((REQUEST_COUNT - STOCK) / 2.0);
+    }
+
+    private double rejectedBeforeLock() {
+        return meterRegistry.get("reservation.precheck").tag("result", "rejected").counter().count()
+            + meterRegistry.get("reservation.admission.rejected").tag("reason", "sold_out").counter().count();
+    }
+}
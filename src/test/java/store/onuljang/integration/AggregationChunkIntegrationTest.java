@@ -0,0 +1,161 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.onuljang.shared.entity.enums.AggCheckpointStatus;
+import store.onuljang.shared.entity.enums.AggPeriod;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.admin.appservice.AdminAggregationAppService;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.AggCheckpoint;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.repository.AggCheckpointRepository;
+import store.onuljang.shop.product.repository.ProductPeriodAggRepository;
+import store.onuljang.shop.product.service.AggAppliedService;
+import store.onuljang.shop.product.service.AggregationChunkService;
+import store.onuljang.shop.product.service.ProductDailyAggService;
+import store.onuljang.shop.reservation.config.AggregationConfigDto;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 집계 청크 처리 통합 테스트
+ *
+ * - reservation_id 범위 청크로 나눠 집계하고 체크포인트에 진행 위치를 남김
+ * - 중간에 멈춘 실행은 체크포인트 다음부터 이어서 처리하고 이미 반영된 청크는 다시 더하지 않음
+ */
+class AggregationChunkIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private AdminAggregationAppService adminAggregationAppService;
+
+    @Autowired
+    private AggregationChunkService aggregationChunkService;
+
+    @Autowired
+    private AggAppliedService aggAppliedService;
+
+    @Autowired
+    private ProductDailyAggService productDailyAggService;
+
+    @Autowired
+    private AggCheckpointRepository aggCheckpointRepository;
+
+    @Autowired
+    private ProductPeriodAggRepository productPeriodAggRepository;
+
+    @Autowired
+    private AggregationConfigDto aggregationConfig;
+
+    private int originalChunkSize;
+    private LocalDate yesterday;
+    private List<Reservation> reservations;
+
+    @BeforeEach
+    void setUp() {
+        originalChunkSize = aggregationConfig.getChunkSize();
+        ReflectionTestUtils.setField(aggregationConfig, "chunkSize", 2);
+
+        Admin admin = testFixture.createDefaultAdmin();
+        Users user = testFixture.createUser("집계유저");
+        Product product = testFixture.createPastProduct("집계상품", 100, new BigDecimal("1000"), 1, admin);
+        yesterday = TimeUtil.yesterdayDate();
+
+        // 수량 1 ~ 5, 합계 15
+        reservations = new ArrayList<>();
+        for (int quantity = 1; quantity <= 5; quantity++) {
+            reservations.add(testFixture.createReservationWithStatus(user, product, quantity,
+                ReservationStatus.PICKED));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(aggregationConfig, "chunkSize", originalChunkSize);
+    }
+
+    @Test
+    @DisplayName("청크 크기만큼 나눠 집계하고 체크포인트를 완료 상태로 남김")
+    void aggregate_InChunks() {
+        adminAggregationAppService.aggregateReservation();
+
+        assertThat(aggregatedQuantity()).isEqualTo(15);
+
+        AggCheckpoint checkpoint = checkpoint();
+        assertThat(checkpoint.getStatus()).isEqualTo(AggCheckpointStatus.COMPLETED);
+        assertThat(checkpoint.getChunkCount()).isEqualTo(3);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(5);
+        assertThat(checkpoint.getLastReservationId()).isEqualTo(reservations.get(4).getId());
+    }
+
+    @Test
+    @DisplayName("중간에 멈춘 실행은 체크포인트 다음 청크부터 이어서 처리")
+    void aggregate_ResumesWithoutDoubleCounting() {
+        // 첫 청크만 커밋된 뒤 멈춘 상태
+        aggAppliedService.markForDay(yesterday);
+        long cursor = aggregationChunkService.startOrResume(TimeUtil.nowDateTime());
+        aggregationChunkService.processChunk(cursor, reservations.get(1).getId(), TimeUtil.nowDateTime());
+        assertThat(aggregatedQuantity()).isEqualTo(3);
+
+        adminAggregationAppService.aggregateReservation();
+
+        assertThat(aggregatedQuantity()).isEqualTo(15);
+
+        AggCheckpoint checkpoint = checkpoint();
+        assertThat(checkpoint.getStatus()).isEqualTo(AggCheckpointStatus.COMPLETED);
+        assertThat(checkpoint.getChunkCount()).isEqualTo(3);
+        assertThat(checkpoint.getProcessedCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("다시 실행해도 이미 처리한 행은 더하지 않음")
+    void aggregate_Twice_DoesNotDoubleCount() {
+        adminAggregationAppService.aggregateReservation();
+        adminAggregationAppService.aggregateReservation();
+
+        assertThat(aggregatedQuantity()).isEqualTo(15);
+        assertThat(checkpoint().getProcessedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("일별 집계와 함께 주/월 롤업도 같은 합계로 갱신")
+    void aggregate_RefreshesWeeklyAndMonthlyRollups() {
+        adminAggregationAppService.aggregateReservation();
+        adminAggregationAppService.aggregateReservation();
+
+        assertThat(rollupQuantity(AggPeriod.WEEK)).isEqualTo(15);
+        assertThat(rollupQuantity(AggPeriod.MONTH)).isEqualTo(15);
+    }
+
+    private long rollupQuantity(AggPeriod period) {
+        return productPeriodAggRepository.findAggByPeriodStartIn(period.name(), List.of(period.startOf(yesterday)))
+            .stream()
+            .mapToLong(ProductDailyAggRow::getQuantity)
+            .sum();
+    }
+
+    private long aggregatedQuantity() {
+        return productDailyAggService.findAggBetween(yesterday, yesterday).stream()
+            .mapToLong(ProductDailyAggRow::getQuantity)
+            .sum();
+    }
+
+    private AggCheckpoint checkpoint() {
+        return aggCheckpointRepository.findByJobNameWithLock(AggregationChunkService.RESERVATION_AGG_JOB)
+            .orElseThrow();
+    }
+}
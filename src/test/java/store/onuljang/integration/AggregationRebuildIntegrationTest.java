@@ -0,0 +1,251 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.entity.enums.AggPeriod;
+import store.onuljang.shared.entity.enums.AggPhase;
+import store.onuljang.shared.entity.enums.AggRebuildStatus;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.user.repository.UserRepository;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.admin.appservice.AdminAggregationAppService;
+import store.onuljang.shop.admin.appservice.AdminAggregationRebuildAppService;
+import store.onuljang.shop.admin.dto.AdminAggRebuildResponse;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.AggRebuildDayResult;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.repository.AggAppliedRepository;
+import store.onuljang.shop.product.repository.AggCheckpointRepository;
+import store.onuljang.shop.product.repository.ProductDailyAggRepository;
+import store.onuljang.shop.product.repository.ProductDailyAggShadowRepository;
+import store.onuljang.shop.product.repository.ProductPeriodAggRepository;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.product.service.AggAppliedService;
+import store.onuljang.shop.product.service.AggregationRebuildService;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * product_daily_agg 재구성 통합 테스트
+ *
+ * 날짜별 작업이 별도 스레드/트랜잭션에서 실행되므로 테스트 트랜잭션 없이 커밋된 데이터로 검증합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AggregationRebuildIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private AdminAggregationRebuildAppService adminAggregationRebuildAppService;
+
+    @Autowired
+    private AdminAggregationAppService adminAggregationAppService;
+
+    @Autowired
+    private AggregationRebuildService aggregationRebuildService;
+
+    @Autowired
+    private AggAppliedService aggAppliedService;
+
+    @Autowired
+    private AggAppliedRepository aggAppliedRepository;
+
+    @Autowired
+    private AggCheckpointRepository aggCheckpointRepository;
+
+    @Autowired
+    private ProductDailyAggRepository productDailyAggRepository;
+
+    @Autowired
+    private ProductPeriodAggRepository productPeriodAggRepository;
+
+    @Autowired
+    private ProductDailyAggShadowRepository productDailyAggShadowRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    private LocalDate threeDaysAgo;
+    private LocalDate twoDaysAgo;
+    private Users user;
+    private Product newer;
+    private List<Reservation> newerReservations;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        Admin admin = testFixture.createDefaultAdmin();
+        user = testFixture.createUser("재구성유저");
+        userIds.add(user.getId());
+
+        threeDaysAgo = TimeUtil.nowDate().minusDays(3);
+        twoDaysAgo = TimeUtil.nowDate().minusDays(2);
+        Product older = testFixture.createProduct("재구성상품1", 100, new BigDecimal("1000"), threeDaysAgo, admin);
+        newer = testFixture.createProduct("재구성상품2", 100, new BigDecimal("1000"), twoDaysAgo, admin);
+
+        testFixture.createReservationWithStatus(user, older, 4, ReservationStatus.PICKED);
+        testFixture.createReservationWithStatus(user, older, 5, ReservationStatus.CANCELED);
+        newerReservations = List.of(
+            testFixture.createReservationWithStatus(user, newer, 2, ReservationStatus.PICKED),
+            testFixture.createReservationWithStatus(user, newer, 3, ReservationStatus.SELF_PICK_READY));
+        // 지난 날짜의 정산 예약은 야간 집계가 표시해 두므로 아직 배치가 더하지 않은 상태로 맞춘다
+        aggAppliedService.markForDay(threeDaysAgo);
+        aggAppliedService.markForDay(twoDaysAgo);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        productPeriodAggRepository.deleteAllInBatch();
+        productDailyAggRepository.deleteAllInBatch();
+        productDailyAggShadowRepository.deleteAllInBatch();
+        aggAppliedRepository.deleteAllInBatch();
+        aggCheckpointRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+        if (!userIds.isEmpty()) {
+            userRepository.deleteAllByIdInBatch(userIds);
+            userIds.clear();
+        }
+    }
+
+    private AdminAggRebuildResponse awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            AdminAggRebuildResponse progress = adminAggregationRebuildAppService.getProgress();
+            if (progress.status() == AggRebuildStatus.COMPLETED || progress.status() == AggRebuildStatus.FAILED) {
+                return progress;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("집계 재구성이 제시간에 끝나지 않았습니다.");
+    }
+
+    private long dailyQuantity(LocalDate date) {
+        return productDailyAggRepository.findAggBetween(date, date).stream()
+            .mapToLong(ProductDailyAggRow::getQuantity)
+            .sum();
+    }
+
+    @Test
+    @DisplayName("날짜별로 다시 계산한 집계로 교체하고 진행 상황을 남김")
+    void rebuild_ReplacesDailyAgg() throws Exception {
+        adminAggregationRebuildAppService.start(threeDaysAgo, TimeUtil.yesterdayDate());
+        AdminAggRebuildResponse result = awaitFinished();
+
+        assertThat(result.status()).isEqualTo(AggRebuildStatus.COMPLETED);
+        assertThat(result.totalDays()).isEqualTo(3);
+        assertThat(result.completedDays()).isEqualTo(3);
+        assertThat(result.rows()).isEqualTo(2);
+
+        assertThat(dailyQuantity(threeDaysAgo)).isEqualTo(4);
+        assertThat(dailyQuantity(twoDaysAgo)).isEqualTo(5);
+        LocalDate month = AggPeriod.MONTH.startOf(twoDaysAgo);
+        long expectedMonthQuantity = AggPeriod.MONTH.startOf(threeDaysAgo).equals(month) ? 9 : 5;
+        assertThat(productPeriodAggRepository.findAggByPeriodStartIn(AggPeriod.MONTH.name(), List.of(month)).stream()
+            .mapToLong(ProductDailyAggRow::getQuantity)
+            .sum())
+            .isEqualTo(expectedMonthQuantity);
+        assertThat(productDailyAggShadowRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("정산 매출이 모두 빠진 날을 재구성하면 그 날이 속한 주/월 롤업에서도 빠짐")
+    void rebuild_DayDroppedToZero_RemovesStaleRollups() throws Exception {
+        adminAggregationRebuildAppService.start(threeDaysAgo, TimeUtil.yesterdayDate());
+        assertThat(awaitFinished().status()).isEqualTo(AggRebuildStatus.COMPLETED);
+        for (Reservation reservation : newerReservations) {
+            reservation.noShow();
+            reservationRepository.save(reservation);
+            aggAppliedService.markSingle(reservation.getId(), AggPhase.NO_SHOW_MINUS);
+        }
+
+        adminAggregationRebuildAppService.start(twoDaysAgo, twoDaysAgo);
+        assertThat(awaitFinished().status()).isEqualTo(AggRebuildStatus.COMPLETED);
+
+        assertThat(dailyQuantity(twoDaysAgo)).isZero();
+        for (AggPeriod period : List.of(AggPeriod.WEEK, AggPeriod.MONTH)) {
+            LocalDate start = period.startOf(twoDaysAgo);
+            long expected = period.startOf(threeDaysAgo).equals(start) ? 4 : 0;
+            assertThat(productPeriodAggRepository.findAggByPeriodStartIn(period.name(), List.of(start)).stream()
+                .mapToLong(ProductDailyAggRow::getQuantity)
+                .sum())
+                .as(period.name())
+                .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("재구성한 기간의 미처리 agg_applied 는 닫혀 다음 집계에서 다시 더하지 않음")
+    void rebuild_ClosesPendingAggApplied() throws Exception {
+        adminAggregationRebuildAppService.start(threeDaysAgo, twoDaysAgo);
+        assertThat(awaitFinished().status()).isEqualTo(AggRebuildStatus.COMPLETED);
+        adminAggregationAppService.aggregateReservation();
+
+        assertThat(dailyQuantity(threeDaysAgo)).isEqualTo(4);
+        assertThat(dailyQuantity(twoDaysAgo)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("예약 상태와 agg_applied 표시가 어긋난 날이 있으면 본 테이블을 바꾸지 않음")
+    void rebuild_MismatchWithAggApplied_Aborts() throws Exception {
+        adminAggregationRebuildAppService.start(threeDaysAgo, TimeUtil.yesterdayDate());
+        assertThat(awaitFinished().status()).isEqualTo(AggRebuildStatus.COMPLETED);
+        // 표시 없이 정산 상태가 된 예약
+        testFixture.createReservationWithStatus(user, newer, 7, ReservationStatus.PICKED);
+
+        adminAggregationRebuildAppService.start(twoDaysAgo, twoDaysAgo);
+        AdminAggRebuildResponse result = awaitFinished();
+
+        assertThat(result.status()).isEqualTo(AggRebuildStatus.FAILED);
+        assertThat(result.error()).contains("productIds=[" + newer.getId() + "]");
+        assertThat(dailyQuantity(twoDaysAgo)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("재구성 뒤에 생긴 agg_applied 는 닫지 않아 다음 집계에서 더함")
+    void swap_KeepsAggAppliedCreatedAfterBuild() {
+        AggRebuildDayResult day = aggregationRebuildService.buildDay(twoDaysAgo);
+        Reservation late = testFixture.createReservationWithStatus(user, newer, 7, ReservationStatus.PICKED);
+        aggAppliedService.markSingle(late.getId(), AggPhase.PICKED_PLUS);
+
+        aggregationRebuildService.swap(twoDaysAgo, twoDaysAgo, Map.of(twoDaysAgo, day.aggAppliedMaxId()),
+            TimeUtil.nowDateTime());
+        assertThat(dailyQuantity(twoDaysAgo)).isEqualTo(5);
+        adminAggregationAppService.aggregateReservation();
+
+        assertThat(dailyQuantity(twoDaysAgo)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("오늘 이후 날짜는 재구성할 수 없음")
+    void rebuild_RejectsToday() {
+        assertThatThrownBy(() -> adminAggregationRebuildAppService.start(threeDaysAgo, TimeUtil.nowDate()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
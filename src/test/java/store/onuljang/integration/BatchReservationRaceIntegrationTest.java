@@ -0,0 +1,141 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.user.repository.UserRepository;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.repository.ProductStockSlotRepository;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.product.service.ProductStockService;
+import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.appservice.ReservationAppService;
+import store.onuljang.shop.reservation.config.ReserveMode;
+import store.onuljang.shop.reservation.dto.ReservationBatchRequest;
+import store.onuljang.shop.reservation.dto.ReservationBatchResponse;
+import store.onuljang.shop.reservation.dto.ReservationRequest;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 일괄 예약과 조건부 차감의 재고 경합 통합 테스트
+ *
+ * 일괄 예약이 상품을 잠그고 재고를 확인한 직후, 상품 행을 잠그지 않는 다른 요청이 같은 슬롯의 재고를 먼저 가져가게 만듭니다.
+ * 각 요청이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션 없이 검증합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BatchReservationRaceIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private ReservationAppService reservationAppService;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @MockitoSpyBean
+    private ProductsService productsService;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private ProductStockSlotRepository productStockSlotRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        admin = testFixture.createDefaultAdmin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        reservationRepository.deleteAllInBatch();
+        productStockSlotRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+        if (!userIds.isEmpty()) {
+            userRepository.deleteAllByIdInBatch(userIds);
+            userIds.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("확인 뒤 다른 요청에 슬롯 재고를 빼앗긴 항목만 실패로 돌리고 나머지는 예약")
+    void reserveAll_LostSlotRace_FailsOnlyThatItem() throws Exception {
+        Product striped = testFixture.createTomorrowProduct("경합상품", 2, new BigDecimal("1000"), admin);
+        transactionTemplate.executeWithoutResult(status -> productStockService.configureSlots(
+            productsRepository.findByIdWithLock(striped.getId()).orElseThrow(), 1));
+        Product plain = testFixture.createTomorrowProduct("여유상품", 10, new BigDecimal("1000"), admin);
+        Users user = testFixture.createUser("일괄예약유저");
+        userIds.add(user.getId());
+
+        AtomicBoolean raced = new AtomicBoolean();
+        AtomicReference<Throwable> competitorError = new AtomicReference<>();
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            Collection<Product> products = invocation.getArgument(0);
+            boolean batchRead = products.stream().anyMatch(product -> product.getId().equals(plain.getId()));
+            if (batchRead && raced.compareAndSet(false, true)) {
+                Thread competitor = new Thread(() -> {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> productStockService.reserve(
+                            productsService.findByIdWithSlotTotals(striped.getId()), 1, ReserveMode.CONDITIONAL_UPDATE));
+                    } catch (Throwable e) {
+                        competitorError.set(e);
+                    }
+                });
+                competitor.start();
+                competitor.join(10_000);
+            }
+            return null;
+        }).when(productsService).fillSlotTotals(anyCollection());
+
+        ReservationBatchResponse response = reservationAppService.reserveAll(user.getUid(), new ReservationBatchRequest(
+            List.of(new ReservationRequest(striped.getId(), 2), new ReservationRequest(plain.getId(), 1)), false));
+
+        assertThat(raced).isTrue();
+        assertThat(competitorError.get()).isNull();
+        assertThat(response.reserved()).extracting(ReservationBatchResponse.ReservedItem::productId)
+            .containsExactly(plain.getId());
+        assertThat(response.failures()).extracting(ReservationBatchResponse.FailedItem::productId)
+            .containsExactly(striped.getId());
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(productsService.findByIdWithSlotTotals(striped.getId()).getStock()).isEqualTo(1);
+        assertThat(productsRepository.findById(plain.getId()).orElseThrow().getStock()).isEqualTo(9);
+    }
+}
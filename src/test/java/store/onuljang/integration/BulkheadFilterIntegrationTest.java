@@ -0,0 +1,105 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import store.onuljang.config.TestS3Config;
+import store.onuljang.shared.bulkhead.BulkheadGroup;
+import store.onuljang.shared.bulkhead.Bulkheads;
+import store.onuljang.support.TestFixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 벌크헤드 필터를 켠 내장 톰캣 테스트
+ *
+ * 실제 톰캣 필터 체인에서 인증 필터와 컨트롤러까지 그대로 처리되고,
+ * 고객 묶음 한도가 모두 찬 동안에는 고객 요청만 503 으로 거절되는지 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "BULKHEAD.ENABLED=true",
+    "BULKHEAD.CUSTOMER.MAX_CONCURRENT=2"
+})
+@ActiveProfiles("test")
+@Import(TestS3Config.class)
+class BulkheadFilterIntegrationTest {
+
+    private static final String CATEGORIES = "/api/store/auth/products/categories";
+    private static final int CUSTOMER_LIMIT = 2;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private Bulkheads bulkheads;
+
+    @Autowired
+    private TestFixture testFixture;
+
+    private HttpEntity<Void> authorized;
+    private int held;
+
+    @BeforeEach
+    void setUp() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(testFixture.createAccessToken("bulkhead-user", "벌크헤드유저"));
+        authorized = new HttpEntity<>(headers);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (; held > 0; held--) {
+            bulkheads.release(BulkheadGroup.CUSTOMER);
+        }
+    }
+
+    @Test
+    @DisplayName("필터를 켜도 고객 요청은 톰캣 스레드에서 인증과 컨트롤러까지 처리됨")
+    void customerRequest_PassesThroughChain() throws Exception {
+        ResponseEntity<String> response = restTemplate.exchange(CATEGORIES, HttpMethod.GET, authorized, String.class);
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        // 처리가 끝나면 자리를 돌려준다
+        assertThat(holdAllCustomerPermits()).isEqualTo(CUSTOMER_LIMIT);
+    }
+
+    @Test
+    @DisplayName("고객 묶음 한도가 모두 차면 고객 요청만 503 + Retry-After, 풀리면 다시 처리")
+    void customerSaturated_RejectsOnlyCustomer() throws Exception {
+        assertThat(holdAllCustomerPermits()).isEqualTo(CUSTOMER_LIMIT);
+
+        ResponseEntity<String> rejected = restTemplate.exchange(CATEGORIES, HttpMethod.GET, authorized, String.class);
+        assertThat(rejected.getStatusCode().value()).isEqualTo(503);
+        assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(rejected.getBody()).contains("OVERLOADED");
+
+        assertThat(restTemplate.getForEntity("/api/health", Void.class).getStatusCode().value()).isEqualTo(200);
+
+        tearDown();
+        ResponseEntity<String> served = restTemplate.exchange(CATEGORIES, HttpMethod.GET, authorized, String.class);
+        assertThat(served.getStatusCode().value()).isEqualTo(200);
+    }
+
+    // 응답을 받은 뒤에도 서버 스레드가 필터를 빠져나오는 중일 수 있어 잠시 기다린다
+    private int holdAllCustomerPermits() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (held < CUSTOMER_LIMIT && System.currentTimeMillis() < deadline) {
+            if (bulkheads.tryAcquire(BulkheadGroup.CUSTOMER)) {
+                held++;
+            } else {
+                Thread.sleep(10);
+            }
+        }
+        return held;
+    }
+}
@@ -0,0 +1,146 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import store.onuljang.shared.idempotency.IdempotencyAspect;
+import store.onuljang.shared.idempotency.entity.IdempotencyKey;
+import store.onuljang.shared.idempotency.repository.IdempotencyKeyRepository;
+import store.onuljang.shared.idempotency.scheduler.IdempotencyKeySweepScheduler;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.reservation.dto.ReservationRequest;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 예약 API Idempotency-Key 통합 테스트
+ */
+class IdempotencyIntegrationTest extends IntegrationTestBase {
+
+    private static final String CREATE_URI = "/api/store/auth/reservations/";
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private IdempotencyKeySweepScheduler idempotencyKeySweepScheduler;
+
+    private Users user;
+    private String accessToken;
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = testFixture.createDefaultAdmin();
+        user = testFixture.createUser("멱등유저");
+        accessToken = testFixture.createAccessToken(user);
+    }
+
+    private MvcResult create(ReservationRequest request, String key) throws Exception {
+        return mockMvc.perform(post(CREATE_URI).contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + accessToken)
+                .header(IdempotencyAspect.HEADER, key)
+                .content(objectMapper.writeValueAsString(request)))
+            .andReturn();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다시 예약하면 새로 예약하지 않고 처음 응답을 돌려줌")
+    void create_SameKey_ReplaysFirstResponse() throws Exception {
+        Product product = testFixture.createTomorrowProduct("멱등상품", 10, new BigDecimal("1000"), admin);
+        ReservationRequest request = new ReservationRequest(product.getId(), 2);
+        String key = UUID.randomUUID().toString();
+
+        MvcResult first = create(request, key);
+        MvcResult retried = create(request, key);
+
+        assertThat(first.getResponse().getStatus()).isEqualTo(200);
+        assertThat(retried.getResponse().getStatus()).isEqualTo(200);
+        assertThat(retried.getResponse().getContentAsString(StandardCharsets.UTF_8))
+            .isEqualTo(first.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertThat(retried.getResponse().getHeader(IdempotencyAspect.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(productsRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 409")
+    void create_SameKeyDifferentBody_Conflict() throws Exception {
+        Product product = testFixture.createTomorrowProduct("멱등상품", 10, new BigDecimal("1000"), admin);
+        String key = UUID.randomUUID().toString();
+
+        create(new ReservationRequest(product.getId(), 1), key);
+        MvcResult reused = create(new ReservationRequest(product.getId(), 3), key);
+
+        assertThat(reused.getResponse().getStatus()).isEqualTo(409);
+        assertThat(productsRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 키를 풀어 같은 키로 다시 시도할 수 있음")
+    void create_Failed_ReleasesKey() throws Exception {
+        Product product = testFixture.createTomorrowProduct("멱등상품", 1, new BigDecimal("1000"), admin);
+        String key = UUID.randomUUID().toString();
+
+        MvcResult failed = create(new ReservationRequest(product.getId(), 5), key);
+
+        assertThat(failed.getResponse().getStatus()).isEqualTo(409);
+        assertThat(idempotencyKeyRepository.findByUserUidAndIdemKey(user.getUid(), key)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 키로 취소를 다시 보내면 이미 취소됨 오류 대신 처음 응답을 돌려줌")
+    void cancel_SameKey_ReplaysFirstResponse() throws Exception {
+        Product product = testFixture.createTomorrowProduct("멱등상품", 10, new BigDecimal("1000"), admin);
+        Reservation reservation = testFixture.createReservation(user, product, 2);
+        String key = UUID.randomUUID().toString();
+
+        int[] statuses = new int[2];
+        for (int i = 0; i < statuses.length; i++) {
+            statuses[i] = mockMvc.perform(patch("/api/store/auth/reservations/cancel/" + reservation.getDisplayCode())
+                    .header("Authorization", "Bearer " + accessToken)
+                    .header(IdempotencyAspect.HEADER, key))
+                .andReturn().getResponse().getStatus();
+        }
+
+        assertThat(statuses).containsExactly(200, 200);
+    }
+
+    @Test
+    @DisplayName("만료된 키는 청크 단위로 모두 정리")
+    void sweep_DeletesExpiredInChunks() {
+        List<IdempotencyKey> keys = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            keys.add(IdempotencyKey.builder().userUid(user.getUid()).idemKey("expired-" + i)
+                .requestHash("0".repeat(32)).expiresAt(TimeUtil.nowDateTime().minusMinutes(1)).build());
+        }
+        keys.add(IdempotencyKey.builder().userUid(user.getUid()).idemKey("alive")
+            .requestHash("0".repeat(32)).expiresAt(TimeUtil.nowDateTime().plusHours(1)).build());
+        idempotencyKeyRepository.saveAll(keys);
+
+        idempotencyKeySweepScheduler.sweepExpired();
+
+        assertThat(idempotencyKeyRepository.findByUserUidAndIdemKey(user.getUid(), "expired-0")).isEmpty();
+        assertThat(idempotencyKeyRepository.findByUserUidAndIdemKey(user.getUid(), "expired-2499")).isEmpty();
+        assertThat(idempotencyKeyRepository.findByUserUidAndIdemKey(user.getUid(), "alive")).isPresent();
+    }
+}
@@ -0,0 +1,148 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.user.repository.UserRepository;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.admin.appservice.AdminReservationAppService;
+import store.onuljang.shop.admin.dto.AdminReservationsTodayResponse;
+import store.onuljang.shop.admin.dto.AdminUpdateReservationsRequest;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductLiveAgg;
+import store.onuljang.shop.product.repository.ProductLiveAggRepository;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.shop.reservation.service.ReservationSalesEngine;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 매출 집계 통합 테스트
+ *
+ * 집계기는 커밋 시점에 반영하므로 테스트 트랜잭션 없이 커밋된 데이터로 검증합니다.
+ */
+@TestPropertySource(properties = "AGGREGATION.LIVE.ENABLED=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LiveSalesIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    private ReservationSalesEngine reservationSalesEngine;
+
+    @Autowired
+    private AdminReservationAppService adminReservationAppService;
+
+    @Autowired
+    private ProductLiveAggRepository productLiveAggRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    private Users user;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        user = testFixture.createUser("실시간매출유저");
+        userIds.add(user.getId());
+        product = testFixture.createTodayProduct("실시간매출상품", 100, new BigDecimal("1000"),
+            testFixture.createDefaultAdmin());
+        reservationSalesEngine.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        productLiveAggRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+        if (!userIds.isEmpty()) {
+            userRepository.deleteAllByIdInBatch(userIds);
+            userIds.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋된 예약 변경이 당일 매출과 product_live_agg 에 반영되고 예약 테이블과 일치")
+    void commits_ServedAndFlushed() {
+        Reservation picked = testFixture.createReservation(user, product, 2);
+        testFixture.createReservation(user, product, 3);
+        testFixture.createReservationWithStatus(user, product, 4, ReservationStatus.CANCELED);
+        adminReservationAppService.bulkUpdateReservationsStatus(
+            new AdminUpdateReservationsRequest(Set.of(picked.getId()), ReservationStatus.PICKED));
+
+        assertThat(reservationSalesEngine.isServing()).isTrue();
+        assertThat(adminReservationAppService.getTodaySales().response())
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.productId()).isEqualTo(product.getId());
+                assertThat(row.quantity()).isEqualTo(5);
+                assertThat(row.amount()).isEqualByComparingTo("5000");
+            });
+        assertThat(reservationSalesEngine.verifyToday()).isZero();
+
+        assertThat(reservationSalesEngine.flush()).isPositive();
+        assertThat(productLiveAggRepository.findAllBySellDate(TimeUtil.nowDate()))
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getActiveQuantity()).isEqualTo(5L);
+                assertThat(row.getSettledQuantity()).isEqualTo(2L);
+                assertThat(row.getSettledAmount()).isEqualByComparingTo("2000");
+            });
+    }
+
+    @Test
+    @DisplayName("집계기를 거치지 않은 변경은 오늘 대조에서 잡아 예약 테이블 값으로 바꿈")
+    void verifyToday_CorrectsDrift() {
+        Reservation reservation = testFixture.createReservation(user, product, 3);
+        // 다른 인스턴스나 직접 수정처럼 이 인스턴스의 커밋 훅을 거치지 않은 변경
+        jdbcTemplate.update("UPDATE reservations SET quantity = 7, amount = 7000 WHERE id = ?", reservation.getId());
+
+        assertThat(adminReservationAppService.getTodaySales().response())
+            .singleElement()
+            .satisfies(row -> assertThat(row.quantity()).isEqualTo(3));
+
+        assertThat(reservationSalesEngine.verifyToday()).isEqualTo(1);
+
+        assertThat(adminReservationAppService.getTodaySales().response())
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.quantity()).isEqualTo(7);
+                assertThat(row.amount()).isEqualByComparingTo("7000");
+            });
+        reservationSalesEngine.flush();
+        assertThat(productLiveAggRepository.findAllBySellDate(TimeUtil.nowDate()))
+            .extracting(ProductLiveAgg::getActiveQuantity)
+            .containsExactly(7L);
+    }
+}
@@ -0,0 +1,150 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.user.repository.UserRepository;
+import store.onuljang.shared.user.repository.UserWarnRepository;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.admin.appservice.AdminReservationAppService;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 노쇼 배치 벤치마크
+ *
+ * 당일 PENDING 예약 10,000건을 노쇼 처리하는 시간을 측정하고,
+ * 집합 단위 UPDATE/INSERT 로 처리한 재고, 유저 누적값, 경고 이력이 정확한지 검증합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NoShowBatchBenchmarkIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(NoShowBatchBenchmarkIntegrationTest.class);
+
+    private static final int PRODUCT_COUNT = 20;
+    private static final int USER_COUNT = 1_000;
+    private static final int RESERVATIONS_PER_USER = 10;
+    private static final int INITIAL_STOCK = 5;
+    private static final BigDecimal PRICE = new BigDecimal("1000");
+
+    @Autowired
+    private AdminReservationAppService adminReservationAppService;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserWarnRepository userWarnRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        admin = testFixture.createDefaultAdmin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        userWarnRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+        if (!userIds.isEmpty()) {
+            userRepository.deleteAllByIdInBatch(userIds);
+            userIds.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("예약 10,000건 노쇼 처리")
+    void processNoShowBatch_10kReservations() {
+        LocalDate today = TimeUtil.nowDate();
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(testFixture.createProduct("노쇼벤치상품-" + i, INITIAL_STOCK, PRICE, today, admin));
+        }
+
+        List<Users> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            Users user = Users.builder().socialId("noshow-bench-" + i).uid(UUID.randomUUID())
+                .name("노쇼벤치유저-" + i).build();
+            user.modifyName("노쇼벤치유저-" + i);
+            user.reserve(RESERVATIONS_PER_USER * 2, PRICE.multiply(BigDecimal.valueOf(RESERVATIONS_PER_USER * 2L)),
+                today);
+            users.add(user);
+        }
+        userRepository.saveAll(users).forEach(user -> userIds.add(user.getId()));
+
+        // 유저마다 수량 2개짜리 10건, 상품마다 500건
+        List<Reservation> reservations = new ArrayList<>();
+        int seq = 0;
+        for (Users user : users) {
+            for (int j = 0; j < RESERVATIONS_PER_USER; j++) {
+                Product product = products.get(seq % PRODUCT_COUNT);
+                reservations.add(Reservation.builder().user(user).product(product).quantity(2)
+                    .amount(PRICE.multiply(BigDecimal.valueOf(2))).sellPrice(PRICE).pickupDate(today)
+                    .displayCode("NB-" + seq++).build());
+            }
+        }
+        reservationRepository.saveAll(reservations);
+
+        long begin = System.nanoTime();
+        long updated = adminReservationAppService.processNoShowBatch(today, TimeUtil.nowDateTime());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        log.debug("[BENCH] noShowBatch reservations={} users={} products={} elapsed={}ms",
+            reservations.size(), USER_COUNT, PRODUCT_COUNT, elapsedMs);
+
+        int expectedTotal = USER_COUNT * RESERVATIONS_PER_USER;
+        assertThat(updated).isEqualTo(expectedTotal);
+        assertThat(reservationRepository.findAll())
+            .allMatch(reservation -> reservation.getStatus() == ReservationStatus.NO_SHOW);
+
+        int restockedPerProduct = expectedTotal / PRODUCT_COUNT * 2;
+        for (Product product : products) {
+            assertThat(productsRepository.findById(product.getId()).orElseThrow().getStock())
+                .isEqualTo(INITIAL_STOCK + restockedPerProduct);
+        }
+
+        assertThat(userWarnRepository.count()).isEqualTo(expectedTotal);
+        for (Users user : userRepository.findAllById(userIds)) {
+            assertThat(user.getTotalRevenue()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(user.getMonthlyWarnCount()).isEqualTo(RESERVATIONS_PER_USER);
+            assertThat(user.getTotalWarnCount()).isEqualTo(RESERVATIONS_PER_USER);
+            assertThat(user.getRestrictedUntil()).isEqualTo(today.plusDays(5));
+        }
+    }
+}
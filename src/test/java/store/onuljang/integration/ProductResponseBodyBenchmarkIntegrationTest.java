@@ -0,0 +1,101 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import store.onuljang.shop.product.dto.ProductListResponse;
+import store.onuljang.shop.product.dto.ProductListResponse.ProductResponse;
+import store.onuljang.shop.product.dto.SerializedBody;
+import store.onuljang.shop.product.service.ProductResponseBodyCache;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 응답 직렬화 벤치마크
+ *
+ * 메시지 컨버터로 매번 직렬화하는 경우와 미리 직렬화한 바이트를 그대로 쓰는 경우를 비교하고,
+ * 두 방식의 본문이 같은지 검증합니다.
+ */
+class ProductResponseBodyBenchmarkIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductResponseBodyBenchmarkIntegrationTest.class);
+
+    private static final int PRODUCT_COUNT = 200;
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter messageConverter;
+
+    @Autowired
+    private ProductResponseBodyCache productResponseBodyCache;
+
+    @Test
+    @DisplayName("미리 직렬화한 바이트 쓰기가 메시지 컨버터 직렬화보다 빠르고 본문은 동일")
+    void serializedBody_FasterThanMessageConverter() throws IOException {
+        ProductListResponse products = products();
+        SerializedBody body = productResponseBodyCache.serialize(products);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        MockHttpServletResponse converted = new MockHttpServletResponse();
+        writeWithConverter(products, converted);
+        assertThat(body.json()).isEqualTo(converted.getContentAsByteArray());
+
+        for (int i = 0; i < WARMUP; i++) {
+            writeWithConverter(products, new MockHttpServletResponse());
+            body.writeTo(request, new MockHttpServletResponse());
+        }
+
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            writeWithConverter(products, new MockHttpServletResponse());
+        }
+        long converterNanos = System.nanoTime() - begin;
+
+        begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            body.writeTo(request, new MockHttpServletResponse());
+        }
+        long cachedNanos = System.nanoTime() - begin;
+
+        log.debug("[BENCH] productListBody products={} iterations={} bytes={} gzipBytes={} "
+                + "converter={}us/op cached={}us/op",
+            PRODUCT_COUNT, ITERATIONS, body.json().length, body.gzip().length,
+            TimeUnit.NANOSECONDS.toMicros(converterNanos / ITERATIONS),
+            TimeUnit.NANOSECONDS.toMicros(cachedNanos / ITERATIONS));
+        assertThat(cachedNanos).isLessThan(converterNanos);
+        assertThat(body.gzip().length).isLessThan(body.json().length);
+    }
+
+    private void writeWithConverter(ProductListResponse products, MockHttpServletResponse response)
+            throws IOException {
+        messageConverter.write(products, MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+    }
+
+    private static ProductListResponse products() {
+        List<ProductResponse> responses = new ArrayList<>();
+        LocalDate sellDate = LocalDate.of(2024, 3, 1);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            responses.add(new ProductResponse((long) i + 1, "벤치상품-" + i, "https://example.com/products/" + i + ".jpg",
+                i % 30, new BigDecimal("12900"), sellDate.plusDays(i % 3), LocalTime.of(10, 0), true, true,
+                i % 2 == 0, i, i * 3L));
+        }
+        return new ProductListResponse(responses);
+    }
+}
@@ -0,0 +1,131 @@
+package store.onuljang.integration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.config.ProductStockStreamConfigDto;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.event.ProductStockChangedEvent;
+import store.onuljang.shop.product.service.ProductStockStreamService;
+import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 재고 스트림 부하 테스트
+ *
+ * - 유휴 구독 수천 개를 붙잡고 있어도 구독 하나가 차지하는 힙이 작음
+ * - 재고가 바뀌면 모든 구독자에게 한 번씩 전달
+ */
+class ProductStockStreamLoadIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductStockStreamLoadIntegrationTest.class);
+
+    private static final int SUBSCRIBERS = 5_000;
+    private static final long MAX_BYTES_PER_CONNECTION = 8 * 1024;
+
+    @Autowired
+    private ProductsService productsService;
+
+    @Autowired
+    private ProductStockStreamConfigDto config;
+
+    // 스프링 빈에 구독이 남지 않도록 테스트마다 따로 만든다
+    private ProductStockStreamService service;
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        service = new ProductStockStreamService(productsService, config, new SimpleMeterRegistry());
+        admin = testFixture.createDefaultAdmin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("유휴 구독 5000개의 구독당 힙이 작고, 재고 변경은 모든 구독자에게 전달")
+    void idleSubscribers_LowMemoryAndBroadcast() throws Exception {
+        Product product = testFixture.createProduct("스트림상품", 10, new BigDecimal("1000"), LocalDate.now(), admin);
+        CountDownLatch delivered = new CountDownLatch(SUBSCRIBERS);
+
+        long baseline = usedHeapAfterGc();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            assertThat(service.register(new CountingEmitter(config.getTimeoutMs(), delivered))).isNotNull();
+        }
+        long retained = usedHeapAfterGc() - baseline;
+
+        long begin = System.nanoTime();
+        service.handle(new ProductStockChangedEvent(List.of(product.getId())));
+        service.flush();
+        assertThat(delivered.await(10, TimeUnit.SECONDS)).isTrue();
+        long broadcastMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        log.debug("[BENCH] stockStream subscribers={} retained={}KB perConnection={}B broadcast={}ms",
+            SUBSCRIBERS, retained / 1024, retained / SUBSCRIBERS, broadcastMs);
+        assertThat(service.getConnections()).isEqualTo(SUBSCRIBERS);
+        assertThat(retained / SUBSCRIBERS).isLessThan(MAX_BYTES_PER_CONNECTION);
+    }
+
+    @Test
+    @DisplayName("로그인 없이 구독하면 이벤트 스트림으로 응답")
+    void stream_WithoutLogin() throws Exception {
+        mockMvc.perform(get("/api/store/products/stream").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 재고 이벤트를 받으면 한 번 세는 emitter. 보낸 이벤트는 실제 emitter 처럼 연결 전 버퍼에 쌓인다.
+     */
+    static class CountingEmitter extends SseEmitter {
+        private final CountDownLatch delivered;
+
+        CountingEmitter(long timeout, CountDownLatch delivered) {
+            super(timeout);
+            this.delivered = delivered;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            // build() 는 호출할 때마다 줄바꿈을 덧붙이므로 한 번만 만든다
+            Set<ResponseBodyEmitter.DataWithMediaType> items = builder.build();
+            boolean stock = items.stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .anyMatch(data -> data instanceof String value && value.contains("event:stock"));
+            super.send(items);
+            if (stock) {
+                delivered.countDown();
+            }
+        }
+    }
+}
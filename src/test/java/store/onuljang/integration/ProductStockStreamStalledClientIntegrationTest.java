@@ -0,0 +1,132 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import store.onuljang.config.TestS3Config;
+import store.onuljang.shop.product.dto.ProductStockChange;
+import store.onuljang.shop.product.service.ProductStockStreamService;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽지 않는 재고 스트림 구독자 테스트
+ *
+ * 실제 톰캣 위의 SseEmitter 에 응답을 읽지 않는 연결을 붙여 쓰기가 막히게 한 뒤,
+ * 쓰기 제한 시간 안에 그 구독이 끊기고 하나뿐인 전송 스레드가 풀려 다른 구독자가 계속 받는지 확인합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "server.tomcat.connection-timeout=1s",
+    "STOCK_STREAM.SEND_TIMEOUT_MS=200",
+    "STOCK_STREAM.SENDER_THREADS=1",
+    "STOCK_STREAM.BUFFER_SIZE=100000"
+})
+@ActiveProfiles("test")
+@Import(TestS3Config.class)
+class ProductStockStreamStalledClientIntegrationTest {
+
+    private static final String STREAM = "/api/store/products/stream";
+    private static final int BATCH_SIZE = 5_000;
+    private static final long MARKER_PRODUCT_ID = 987_654L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductStockStreamService productStockStreamService;
+
+    private final List<Socket> sockets = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Test
+    @DisplayName("응답을 읽지 않는 구독은 쓰기 제한 시간 안에 끊기고, 전송 스레드가 풀려 다른 구독자는 계속 받음")
+    void stalledClient_DroppedAndSenderReleased() throws Exception {
+        CountDownLatch markerReceived = new CountDownLatch(1);
+        Socket reading = connect();
+        Thread reader = new Thread(() -> readUntilMarker(reading, markerReceived));
+        reader.setDaemon(true);
+        reader.start();
+        // 받기 버퍼를 작게 잡고 읽지 않아 서버 쪽 쓰기가 곧 막힌다
+        Socket stalled = new Socket();
+        stalled.setReceiveBufferSize(4 * 1024);
+        connect(stalled);
+        awaitConnections(2);
+
+        List<ProductStockChange> batch = new ArrayList<>();
+        for (long productId = 1; productId <= BATCH_SIZE; productId++) {
+            batch.add(new ProductStockChange(productId, 10, 0, true));
+        }
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (productStockStreamService.getConnections() > 1 && System.currentTimeMillis() < deadline) {
+            productStockStreamService.publish(batch);
+            Thread.sleep(50);
+        }
+        assertThat(productStockStreamService.getConnections()).isEqualTo(1);
+
+        // 전송 스레드가 하나뿐이라 막힌 쓰기가 풀리지 않았다면 읽는 구독자도 받지 못한다
+        productStockStreamService.publish(List.of(new ProductStockChange(MARKER_PRODUCT_ID, 1, 0, true)));
+        assertThat(markerReceived.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Socket connect() throws IOException {
+        return connect(new Socket());
+    }
+
+    // 청크 인코딩 없이 본문을 그대로 받도록 HTTP/1.0 으로 요청한다
+    private Socket connect(Socket socket) throws IOException {
+        sockets.add(socket);
+        socket.connect(new InetSocketAddress("localhost", port), 5_000);
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET " + STREAM + " HTTP/1.0\r\n"
+            + "Host: localhost\r\n"
+            + "Accept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (productStockStreamService.getConnections() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(productStockStreamService.getConnections()).isEqualTo(expected);
+    }
+
+    private static void readUntilMarker(Socket socket, CountDownLatch markerReceived) {
+        try (BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.contains("\"productId\":" + MARKER_PRODUCT_ID)) {
+                    markerReceived.countDown();
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // 테스트가 끝나 소켓을 닫으면 읽기가 끝난다
+        }
+    }
+}
@@ -4,20 +4,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
 import store.onuljang.shop.product.dto.ProductDetailResponse;
 import store.onuljang.shop.product.dto.ProductCategoryResponse;
 import store.onuljang.shop.product.dto.ProductListResponse;
 import store.onuljang.shop.admin.entity.Admin;
 import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+import store.onuljang.shop.product.service.ProductCatalogVersion;
 import store.onuljang.shared.user.entity.Users;
 import store.onuljang.support.IntegrationTestBase;
 import store.onuljang.shared.util.TimeUtil;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static store.onuljang.shared.util.TimeUtil.nowDate;
 
 /**
@@ -33,6 +40,9 @@ class ProductsIntegrationTest extends IntegrationTestBase {
     private String accessToken;
     private Admin admin;
 
+    @Autowired
+    private ProductCatalogVersion productCatalogVersion;
+
     @BeforeEach
     void setUp() {
         admin = testFixture.createDefaultAdmin();
@@ -238,4 +248,90 @@ class ProductsIntegrationTest extends IntegrationTestBase {
             assertThat(response.body().response()).isEmpty();
         }
     }
+
+    @Nested
+    @DisplayName("조건부 GET - ETag / If-None-Match")
+    class ConditionalGet {
+
+        private MockHttpServletResponse perform(String uri, String ifNoneMatch, String acceptEncoding)
+                throws Exception {
+            var request = get(uri).header("Authorization", "Bearer " + accessToken);
+            if (ifNoneMatch != null) {
+                request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+            }
+            if (acceptEncoding != null) {
+                request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+            }
+            return mockMvc.perform(request).andReturn().getResponse();
+        }
+
+        @Test
+        @DisplayName("목록은 ETag 가 같으면 304, 재고가 바뀌면 새 본문")
+        void getProducts_NotModifiedUntilStockChanges() throws Exception {
+            // given
+            testFixture.createTodayProduct("조건부상품", 10, new BigDecimal("10000"), admin);
+            String uri = "/api/store/auth/products?from=" + nowDate() + "&to=" + nowDate();
+
+            MockHttpServletResponse first = perform(uri, null, null);
+            String etag = first.getHeader(HttpHeaders.ETAG);
+            assertThat(first.getStatus()).isEqualTo(200);
+            assertThat(etag).isNotBlank();
+            assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("private, no-cache");
+
+            // when & then - 그대로면 본문 없이 304
+            MockHttpServletResponse notModified = perform(uri, etag, null);
+            assertThat(notModified.getStatus()).isEqualTo(304);
+            assertThat(notModified.getContentAsByteArray()).isEmpty();
+            assertThat(notModified.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+
+            // when & then - 재고 변경이 커밋되면 새 ETag 와 본문
+            productCatalogVersion.bumpStock();
+            MockHttpServletResponse modified = perform(uri, etag, null);
+            assertThat(modified.getStatus()).isEqualTo(200);
+            assertThat(modified.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+            assertThat(modified.getContentAsString(StandardCharsets.UTF_8)).contains("조건부상품");
+        }
+
+        @Test
+        @DisplayName("상세는 재고 변경과 무관하고 카탈로그가 바뀌어야 새 본문")
+        void getProductDetail_DependsOnCatalogOnly() throws Exception {
+            // given
+            Product product = testFixture.createTodayProduct("조건부상세", 10, new BigDecimal("10000"), admin);
+            String uri = "/api/store/auth/products/" + product.getId();
+            String etag = perform(uri, null, null).getHeader(HttpHeaders.ETAG);
+
+            // when & then
+            productCatalogVersion.bumpStock();
+            assertThat(perform(uri, etag, null).getStatus()).isEqualTo(304);
+
+            productCatalogVersion.handle(ProductCatalogChangedEvent.of(product.getId()));
+            assertThat(perform(uri, etag, null).getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("gzip 본문과 JSON 본문은 ETag 가 다름")
+        void getProductCategories_EtagPerEncoding() throws Exception {
+            // given
+            testFixture.createProductCategory("과일");
+            String uri = "/api/store/auth/products/categories";
+
+            MockHttpServletResponse plain = perform(uri, null, null);
+            MockHttpServletResponse gzip = perform(uri, null, "gzip");
+
+            // then
+            assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(gzip.getHeader(HttpHeaders.ETAG)).isNotEqualTo(plain.getHeader(HttpHeaders.ETAG));
+            assertThat(perform(uri, plain.getHeader(HttpHeaders.ETAG), "gzip").getStatus()).isEqualTo(200);
+            assertThat(perform(uri, "W/" + gzip.getHeader(HttpHeaders.ETAG), "gzip").getStatus()).isEqualTo(304);
+        }
+
+        @Test
+        @DisplayName("없는 상품은 ETag 없이 404")
+        void getProductDetail_NotFoundHasNoEtag() throws Exception {
+            MockHttpServletResponse response = perform("/api/store/auth/products/99999", null, null);
+
+            assertThat(response.getStatus()).isEqualTo(404);
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        }
+    }
 }
@@ -4,6 +4,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.reservation.dto.ReservationBatchRequest;
+import store.onuljang.shop.reservation.dto.ReservationBatchResponse;
 import store.onuljang.shop.reservation.dto.ReservationRequest;
 import store.onuljang.shop.reservation.dto.ReservationListResponse;
 import store.onuljang.shop.admin.entity.Admin;
@@ -16,6 +20,7 @@ import store.onuljang.support.IntegrationTestBase;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static store.onuljang.shared.util.TimeUtil.nowDate;
@@ -23,7 +28,7 @@ import static store.onuljang.shared.util.TimeUtil.nowDate;
 /**
  * 예약 API 통합 테스트
  *
- * API Spec: - POST /api/auth/reservations/ - 예약 생성 - PATCH
+ * API Spec: - POST /api/auth/reservations/ - 예약 생성 - POST /api/auth/reservations/batch - 일괄 예약 - PATCH
  * /api/auth/reservations/cancel/{id} - 예약 취소 - PATCH
  * /api/auth/reservations/{id}/quantity?minus={value} - 수량 감소 - PATCH
  * /api/auth/reservations/self-pick/{id} - 셀프 픽업 요청 - GET
@@ -31,6 +36,9 @@ import static store.onuljang.shared.util.TimeUtil.nowDate;
  */
 class ReservationIntegrationTest extends IntegrationTestBase {
 
+    @Autowired
+    private ProductsRepository productsRepository;
+
     private Users user;
     private String accessToken;
     private Admin admin;
@@ -121,6 +129,74 @@ class ReservationIntegrationTest extends IntegrationTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/auth/reservations/batch - 장바구니 일괄 예약")
+    class CreateReservationBatch {
+
+        @Test
+        @DisplayName("여러 상품을 한 번에 예약하고 코드를 모두 반환")
+        void createBatch_Success() throws Exception {
+            // given
+            Product apple = testFixture.createTomorrowProduct("사과", 10, new BigDecimal("10000"), admin);
+            Product pear = testFixture.createTomorrowProduct("배", 10, new BigDecimal("5000"), admin);
+            ReservationBatchRequest request = new ReservationBatchRequest(
+                    List.of(new ReservationRequest(pear.getId(), 1), new ReservationRequest(apple.getId(), 2)), null);
+
+            // when
+            var response = postAction("/api/store/auth/reservations/batch", request, accessToken,
+                    ReservationBatchResponse.class);
+
+            // then
+            assertThat(response.isOk()).isTrue();
+            assertThat(response.body().reserved()).extracting(ReservationBatchResponse.ReservedItem::productId)
+                    .containsExactly(pear.getId(), apple.getId());
+            assertThat(response.body().reserved()).extracting(ReservationBatchResponse.ReservedItem::displayCode)
+                    .doesNotHaveDuplicates();
+            assertThat(response.body().failures()).isEmpty();
+            assertThat(productsRepository.findById(apple.getId()).orElseThrow().getStock()).isEqualTo(8);
+            assertThat(productsRepository.findById(pear.getId()).orElseThrow().getStock()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("allOrNothing 이면 한 상품이라도 재고가 부족할 때 전체 실패")
+        void createBatch_AllOrNothing_InsufficientStock() throws Exception {
+            // given
+            Product apple = testFixture.createTomorrowProduct("사과", 10, new BigDecimal("10000"), admin);
+            Product pear = testFixture.createTomorrowProduct("배", 1, new BigDecimal("5000"), admin);
+            ReservationBatchRequest request = new ReservationBatchRequest(
+                    List.of(new ReservationRequest(apple.getId(), 2), new ReservationRequest(pear.getId(), 3)), true);
+
+            // when
+            var response = postAction("/api/store/auth/reservations/batch", request, accessToken, Void.class);
+
+            // then
+            assertThat(response.status()).isEqualTo(409);
+        }
+
+        @Test
+        @DisplayName("allOrNothing 이 아니면 예약 가능한 상품만 예약하고 실패 항목을 반환")
+        void createBatch_Partial() throws Exception {
+            // given
+            Product apple = testFixture.createTomorrowProduct("사과", 10, new BigDecimal("10000"), admin);
+            Product pear = testFixture.createTomorrowProduct("배", 1, new BigDecimal("5000"), admin);
+            ReservationBatchRequest request = new ReservationBatchRequest(
+                    List.of(new ReservationRequest(apple.getId(), 2), new ReservationRequest(pear.getId(), 3)), false);
+
+            // when
+            var response = postAction("/api/store/auth/reservations/batch", request, accessToken,
+                    ReservationBatchResponse.class);
+
+            // then
+            assertThat(response.isOk()).isTrue();
+            assertThat(response.body().reserved()).extracting(ReservationBatchResponse.ReservedItem::productId)
+                    .containsExactly(apple.getId());
+            assertThat(response.body().failures()).extracting(ReservationBatchResponse.FailedItem::productId)
+                    .containsExactly(pear.getId());
+            assertThat(productsRepository.findById(apple.getId()).orElseThrow().getStock()).isEqualTo(8);
+            assertThat(productsRepository.findById(pear.getId()).orElseThrow().getStock()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/auth/reservations/cancel/{id} - 예약 취소")
     class CancelReservation {
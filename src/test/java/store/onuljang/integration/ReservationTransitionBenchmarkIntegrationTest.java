@@ -0,0 +1,273 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shared.entity.enums.AggPhase;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.shared.user.repository.UserRepository;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.admin.appservice.AdminAggregationAppService;
+import store.onuljang.shop.admin.appservice.AdminReservationAppService;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsRequest;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsResponse;
+import store.onuljang.shop.admin.dto.AdminTransitionReservationsResponse.AdminTransitionResult;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.repository.AggAppliedRepository;
+import store.onuljang.shop.product.repository.AggCheckpointRepository;
+import store.onuljang.shop.product.repository.ProductDailyAggRepository;
+import store.onuljang.shop.product.repository.ProductPeriodAggRepository;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.product.service.AggAppliedService;
+import store.onuljang.shop.product.service.ProductDailyAggService;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 여러 유저 예약 일괄 상태 변경 벤치마크
+ *
+ * 유저 50명의 예약 500건을 한 번에 PICKED 로 바꾸는 시간을 측정하고,
+ * 항목별 결과와 지난 픽업일 예약의 agg_applied 표시가 정확한지 검증합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationTransitionBenchmarkIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationTransitionBenchmarkIntegrationTest.class);
+
+    private static final int PRODUCT_COUNT = 10;
+    private static final int USER_COUNT = 50;
+    private static final int RESERVATION_COUNT = 500;
+    private static final BigDecimal PRICE = new BigDecimal("1000");
+
+    @Autowired
+    private AdminReservationAppService adminReservationAppService;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AggAppliedRepository aggAppliedRepository;
+
+    @Autowired
+    private AdminAggregationAppService adminAggregationAppService;
+
+    @Autowired
+    private AggAppliedService aggAppliedService;
+
+    @Autowired
+    private ProductDailyAggService productDailyAggService;
+
+    @Autowired
+    private ProductDailyAggRepository productDailyAggRepository;
+
+    @Autowired
+    private ProductPeriodAggRepository productPeriodAggRepository;
+
+    @Autowired
+    private AggCheckpointRepository aggCheckpointRepository;
+
+    private final List<Long> userIds = new ArrayList<>();
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        admin = testFixture.createDefaultAdmin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        productPeriodAggRepository.deleteAllInBatch();
+        productDailyAggRepository.deleteAllInBatch();
+        aggCheckpointRepository.deleteAllInBatch();
+        aggAppliedRepository.deleteAllInBatch();
+        reservationRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+        if (!userIds.isEmpty()) {
+            userRepository.deleteAllByIdInBatch(userIds);
+            userIds.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 유저 예약 500건 일괄 수령 처리")
+    void transitionReservations_500AcrossUsers() {
+        LocalDate today = TimeUtil.nowDate();
+        LocalDate yesterday = TimeUtil.yesterdayDate();
+
+        // 상품 2개는 어제 픽업분(늦게 수령 처리)
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(testFixture.createProduct("일괄수령상품-" + i, 100, PRICE, i < 2 ? yesterday : today, admin));
+        }
+
+        List<Users> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            Users user = Users.builder().socialId("transition-bench-" + i).uid(UUID.randomUUID())
+                .name("일괄수령유저-" + i).build();
+            user.modifyName("일괄수령유저-" + i);
+            users.add(user);
+        }
+        userRepository.saveAll(users).forEach(user -> userIds.add(user.getId()));
+
+        // 100건마다 노쇼 1건, 이미 수령 1건을 섞는다
+        List<Reservation> reservations = new ArrayList<>();
+        for (int seq = 0; seq < RESERVATION_COUNT; seq++) {
+            Product product = products.get(seq % PRODUCT_COUNT);
+            Reservation reservation = Reservation.builder().user(users.get(seq % USER_COUNT)).product(product)
+                .quantity(1).amount(PRICE).sellPrice(PRICE).pickupDate(product.getSellDate())
+                .displayCode("TB-" + seq).build();
+            if (seq % 100 == 0) {
+                reservation.changeStatus(ReservationStatus.NO_SHOW);
+            } else if (seq % 100 == 1) {
+                reservation.changeStatus(ReservationStatus.PICKED);
+            }
+            reservations.add(reservation);
+        }
+        reservationRepository.saveAll(reservations);
+
+        List<AdminTransitionReservationsRequest.Item> items = reservations.stream()
+            .map(reservation -> new AdminTransitionReservationsRequest.Item(reservation.getId(),
+                ReservationStatus.PICKED))
+            .toList();
+
+        long begin = System.nanoTime();
+        AdminTransitionReservationsResponse response = adminReservationAppService.transitionReservations(
+            new AdminTransitionReservationsRequest(items));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        log.debug("[BENCH] transitionReservations reservations={} users={} elapsed={}ms",
+            RESERVATION_COUNT, USER_COUNT, elapsedMs);
+
+        int invalid = RESERVATION_COUNT / 100 * 2;
+        assertThat(response.requested()).isEqualTo(RESERVATION_COUNT);
+        assertThat(response.updated()).isEqualTo(RESERVATION_COUNT - invalid);
+        assertThat(response.results())
+            .extracting(AdminTransitionResult::reservationId)
+            .containsExactlyElementsOf(reservations.stream().map(Reservation::getId).toList());
+        assertThat(response.results())
+            .filteredOn(result -> !result.success())
+            .extracting(AdminTransitionResult::message)
+            .containsOnly("노쇼 예약은 변경할 수 없습니다.", "변경하려는 예약의 상태가 동일합니다.")
+            .hasSize(invalid);
+
+        assertThat(reservationRepository.findAll())
+            .filteredOn(reservation -> reservation.getStatus() == ReservationStatus.PICKED)
+            .hasSize(RESERVATION_COUNT - RESERVATION_COUNT / 100);
+
+        // 어제 픽업분 중 이번에 수령 처리된 예약만 집계 대상으로 표시
+        long markedYesterday = response.results().stream()
+            .filter(AdminTransitionResult::success)
+            .filter(result -> reservations.stream()
+                .anyMatch(reservation -> reservation.getId().equals(result.reservationId())
+                    && reservation.getPickupDate().equals(yesterday)))
+            .count();
+        assertThat(markedYesterday).isPositive();
+        assertThat(aggAppliedRepository.count()).isEqualTo(markedYesterday);
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 중복된 예약, 취소/노쇼 대상은 항목별로 실패 처리")
+    void transitionReservations_PerItemFailures() {
+        LocalDate today = TimeUtil.nowDate();
+        Product product = testFixture.createProduct("일괄수령실패상품", 10, PRICE, today, admin);
+        Users user = testFixture.createUser("일괄수령실패유저");
+        userIds.add(user.getId());
+        Reservation pending = testFixture.createReservation(user, product, 1);
+        Reservation selfPick = testFixture.createReservationWithStatus(user, product, 1, ReservationStatus.SELF_PICK);
+
+        AdminTransitionReservationsResponse response = adminReservationAppService.transitionReservations(
+            new AdminTransitionReservationsRequest(List.of(
+                new AdminTransitionReservationsRequest.Item(pending.getId(), ReservationStatus.PICKED),
+                new AdminTransitionReservationsRequest.Item(pending.getId(), ReservationStatus.PICKED),
+                new AdminTransitionReservationsRequest.Item(selfPick.getId(), ReservationStatus.CANCELED),
+                new AdminTransitionReservationsRequest.Item(Long.MAX_VALUE, ReservationStatus.PICKED)
+            )));
+
+        assertThat(response.updated()).isEqualTo(1);
+        assertThat(response.results())
+            .extracting(AdminTransitionResult::success, AdminTransitionResult::message)
+            .containsExactly(
+                tuple(true, null),
+                tuple(false, "같은 예약이 중복되었습니다."),
+                tuple(false, "예약 취소는 한번에 변경이 불가능합니다."),
+                tuple(false, "존재하지 않는 예약입니다.")
+            );
+        assertThat(reservationRepository.findById(pending.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.PICKED);
+        assertThat(reservationRepository.findById(selfPick.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.SELF_PICK);
+        assertThat(aggAppliedRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("집계된 지난 픽업일 수령 예약을 셀프 수령 준비로 바꿔도 일별 집계에 두 번 더하지 않고, 수령 전으로는 되돌리지 않음")
+    void transitionReservations_PastSettledReservation_NotCountedTwice() {
+        LocalDate twoDaysAgo = TimeUtil.nowDate().minusDays(2);
+        Product product = testFixture.createPastProduct("지난수령상품", 10, PRICE, 2, admin);
+        Users user = testFixture.createUser("지난수령유저");
+        userIds.add(user.getId());
+        Reservation picked = testFixture.createReservationWithStatus(user, product, 3, ReservationStatus.PICKED);
+        Reservation reverted = testFixture.createReservationWithStatus(user, product, 2, ReservationStatus.PICKED);
+
+        // 당일 야간 집계가 이미 끝난 상태
+        aggAppliedService.markMany(Set.of(picked.getId(), reverted.getId()), AggPhase.PICKED_PLUS);
+        adminAggregationAppService.aggregateReservation();
+        assertThat(dailyQuantity(twoDaysAgo)).isEqualTo(5);
+
+        AdminTransitionReservationsResponse response = adminReservationAppService.transitionReservations(
+            new AdminTransitionReservationsRequest(List.of(
+                new AdminTransitionReservationsRequest.Item(picked.getId(), ReservationStatus.SELF_PICK_READY),
+                new AdminTransitionReservationsRequest.Item(reverted.getId(), ReservationStatus.PENDING)
+            )));
+        adminAggregationAppService.aggregateReservation();
+
+        assertThat(response.results())
+            .extracting(AdminTransitionResult::success, AdminTransitionResult::message)
+            .containsExactly(
+                tuple(true, null),
+                tuple(false, "집계된 지난 픽업일 예약은 수령 전 상태로 되돌릴 수 없습니다.")
+            );
+        assertThat(reservationRepository.findById(reverted.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.PICKED);
+        assertThat(aggAppliedRepository.count()).isEqualTo(2);
+        assertThat(dailyQuantity(twoDaysAgo)).isEqualTo(5);
+    }
+
+    private long dailyQuantity(LocalDate date) {
+        return productDailyAggService.findAggBetween(date, date).stream()
+            .mapToLong(ProductDailyAggRow::getQuantity)
+            .sum();
+    }
+}
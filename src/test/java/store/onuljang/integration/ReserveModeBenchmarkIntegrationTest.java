@@ -0,0 +1,168 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.reservation.appservice.ReservationAppService;
+import store.onuljang.shop.reservation.config.ReserveMode;
+import store.onuljang.shop.reservation.dto.ReservationRequest;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 차감 방식별 동시 예약 벤치마크
+ *
+ * 같은 상품에 요청이 몰릴 때 PESSIMISTIC_LOCK 과 CONDITIONAL_UPDATE 의 처리량과 p99 지연을 비교하고,
+ * 두 방식 모두 재고가 정확하게 차감되는지 검증합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReserveModeBenchmarkIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(ReserveModeBenchmarkIntegrationTest.class);
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 200;
+
+    @Autowired
+    private ReservationAppService reservationAppService;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        admin = testFixture.createDefaultAdmin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        reservationRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("재고가 충분할 때 두 방식의 처리량과 p99 비교")
+    void compareThroughputAndP99() throws InterruptedException {
+        BenchmarkResult lock = run(ReserveMode.PESSIMISTIC_LOCK, REQUEST_COUNT);
+        BenchmarkResult conditional = run(ReserveMode.CONDITIONAL_UPDATE, REQUEST_COUNT);
+
+        log.debug("[BENCH] {}", lock);
+        log.debug("[BENCH] {}", conditional);
+
+        assertThat(lock.successCount()).isEqualTo(REQUEST_COUNT);
+        assertThat(conditional.successCount()).isEqualTo(REQUEST_COUNT);
+        assertThat(lock.remainingStock()).isZero();
+        assertThat(conditional.remainingStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("품절 상황에서도 조건부 UPDATE 는 재고만큼만 성공")
+    void conditionalUpdate_SoldOut_NeverOversells() throws InterruptedException {
+        int stock = 50;
+
+        BenchmarkResult result = run(ReserveMode.CONDITIONAL_UPDATE, stock);
+
+        log.debug("[BENCH] {}", result);
+
+        assertThat(result.successCount()).isEqualTo(stock);
+        assertThat(result.soldOutCount()).isEqualTo(REQUEST_COUNT - stock);
+        assertThat(result.errors()).isZero();
+        assertThat(result.remainingStock()).isZero();
+        assertThat(result.totalSold()).isEqualTo(stock);
+    }
+
+    private BenchmarkResult run(ReserveMode mode, int stock) throws InterruptedException {
+        Product product = testFixture.createTomorrowProduct("벤치마크상품-" + mode, stock, new BigDecimal("1000"), admin);
+        List<Users> users = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            users.add(testFixture.createUser("벤치유저"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        AtomicInteger errorCount = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        for (Users user : users) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    long start = System.nanoTime();
+                    try {
+                        reservationAppService.reserve(user.getUid(), new ReservationRequest(product.getId(), 1), mode);
+                        successCount.incrementAndGet();
+                    } finally {
+                        latencies.add(System.nanoTime() - start);
+                    }
+                } catch (ProductExceedException e) {
+                    soldOutCount.incrementAndGet();
+                } catch (Exception e) {
+                    errorCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await(60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        Product updated = productsRepository.findById(product.getId()).orElseThrow();
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99 = sorted.isEmpty() ? 0 : sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+
+        return new BenchmarkResult(mode, successCount.get(), soldOutCount.get(), errorCount.get(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), TimeUnit.NANOSECONDS.toMillis(p99),
+            updated.getStock(), updated.getTotalSold());
+    }
+
+    private record BenchmarkResult(ReserveMode mode, int successCount, int soldOutCount, int errors,
+                                   long elapsedMs, long p99Ms, int remainingStock, long totalSold) {
+        double throughput() {
+            return elapsedMs == 0 ? successCount : successCount * 1000.0 / elapsedMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("mode=%s success=%d soldOut=%d errors=%d elapsed=%dms throughput=%.1f/s p99=%dms",
+                mode, successCount, soldOutCount, errors, elapsedMs, throughput(), p99Ms);
+        }
+    }
+}
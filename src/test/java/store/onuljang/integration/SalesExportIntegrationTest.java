@@ -0,0 +1,166 @@
+package store.onuljang.integration;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import store.onuljang.shop.admin.appservice.AdminAggregationAppService;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 매출 CSV 내보내기 통합 테스트
+ *
+ * - 여러 해에 걸친 기간도 커서로 한 행씩 읽어 바로 쓰므로 내보내는 도중 힙에 남는 양이 행 수에 비례하지 않음
+ * - gzip 요청은 압축해서 내려주고 풀면 같은 CSV
+ */
+class SalesExportIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesExportIntegrationTest.class);
+
+    private static final int PRODUCT_COUNT = 200;
+    private static final LocalDate FROM = LocalDate.of(2022, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+    private static final long MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private AdminAggregationAppService adminAggregationAppService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        admin = testFixture.createDefaultAdmin();
+        setAdminAuthentication(admin);
+    }
+
+    @Test
+    @DisplayName("3년치 일별 매출을 내보내는 동안 힙에 남는 양이 일정 수준을 넘지 않음")
+    void exportSales_MultiYearRange() throws IOException {
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            testFixture.createProduct("내보내기상품-" + i, 10, new BigDecimal("1000"), FROM, admin);
+        }
+        long days = FROM.datesUntil(TO.plusDays(1)).count();
+        int inserted = entityManager.createNativeQuery("""
+                INSERT INTO product_daily_agg (sell_date, product_id, quantity, amount)
+                    SELECT DATEADD(DAY, d.X, DATE '2022-01-01'), p.id, 1 + MOD(d.X, 7), (1 + MOD(d.X, 7)) * 1000
+                    FROM SYSTEM_RANGE(0, :lastDay) d
+                        CROSS JOIN products p
+                    WHERE p.name LIKE '내보내기상품-%'
+                """)
+            .setParameter("lastDay", days - 1)
+            .executeUpdate();
+        long expectedRows = days * PRODUCT_COUNT;
+        assertThat((long) inserted).isEqualTo(expectedRows);
+
+        long baseline = usedHeapAfterGc();
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(expectedRows / 2);
+
+        long exported = adminAggregationAppService.exportSales(FROM, TO, out);
+
+        log.debug("[BENCH] salesExport rows={} bytes={} retainedAtMidpoint={}KB",
+            exported, out.bytes, (out.usedAtMidpoint - baseline) / 1024);
+        assertThat(exported).isEqualTo(expectedRows);
+        // 헤더 한 줄 + 데이터 행
+        assertThat(out.lines).isEqualTo(expectedRows + 1);
+        assertThat(out.usedAtMidpoint).isPositive();
+        assertThat(out.usedAtMidpoint - baseline).isLessThan(MAX_RETAINED_BYTES);
+    }
+
+    @Test
+    @DisplayName("gzip 으로 내려받아 풀면 헤더와 이스케이프된 상품명이 그대로")
+    void exportSales_Gzip() throws Exception {
+        LocalDate date = LocalDate.of(2024, 3, 1);
+        var product = testFixture.createProduct("사과, \"특가\"", 10, new BigDecimal("1000"), date, admin);
+        entityManager.createNativeQuery("""
+                INSERT INTO product_daily_agg (sell_date, product_id, quantity, amount)
+                VALUES (DATE '2024-03-01', :productId, 3, 3000.00)
+                """)
+            .setParameter("productId", product.getId())
+            .executeUpdate();
+
+        MockHttpServletResponse response = mockMvc.perform(get("/api/admin/shop/agg/export")
+                .param("from", "2024-03-01")
+                .param("to", "2024-03-31")
+                .param("gzip", "true"))
+            .andReturn()
+            .getResponse();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("application/gzip");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+            .contains("sales_2024-03-01_2024-03-31.csv.gz");
+
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        assertThat(csv).isEqualTo("\uFEFFsell_date,product_id,product_name,quantity,amount\n"
+            + "2024-03-01," + product.getId() + ",\"사과, \"\"특가\"\"\",3,3000.00\n");
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 예외")
+    void exportSales_InvalidRange() {
+        assertThatThrownBy(() -> adminAggregationAppService.exportSales(TO, FROM, OutputStream.nullOutputStream()))
+            .hasMessageContaining("시작일이 종료일보다 늦습니다");
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 버리면서 줄 수를 세고, 절반쯤 썼을 때 GC 후 힙 사용량을 기록한다.
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+        private final long sampleAtLine;
+        private long lines;
+        private long bytes;
+        private long usedAtMidpoint;
+
+        HeapSamplingOutputStream(long sampleAtLine) {
+            this.sampleAtLine = sampleAtLine;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+            if (usedAtMidpoint == 0 && lines >= sampleAtLine) {
+                usedAtMidpoint = usedHeapAfterGc();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package store.onuljang.integration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.repository.ProductStockSlotRepository;
+import store.onuljang.shop.product.repository.ProductsRepository;
+import store.onuljang.shop.product.service.ProductStockService;
+import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.appservice.ReservationAppService;
+import store.onuljang.shop.reservation.config.ReserveMode;
+import store.onuljang.shop.reservation.dto.ReservationRequest;
+import store.onuljang.shop.reservation.repository.ReservationRepository;
+import store.onuljang.shared.user.entity.Users;
+import store.onuljang.support.IntegrationTestBase;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 슬롯 분할 벤치마크
+ *
+ * 슬롯 개수(1, 4, 8)에 따라 같은 상품 예약 처리량이 어떻게 변하는지 측정하고,
+ * 슬롯 분할 상태에서도 재고가 초과 판매되지 않는지 검증합니다.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StripedStockBenchmarkIntegrationTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedStockBenchmarkIntegrationTest.class);
+
+    private static final int THREAD_COUNT = 16;
+    private static final int REQUEST_COUNT = 200;
+
+    @Autowired
+    private ReservationAppService reservationAppService;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductsService productsService;
+
+    @Autowired
+    private ProductsRepository productsRepository;
+
+    @Autowired
+    private ProductStockSlotRepository productStockSlotRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Admin admin;
+
+    @BeforeEach
+    void setUp() {
+        cleanup();
+        admin = testFixture.createDefaultAdmin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanup();
+    }
+
+    private void cleanup() {
+        reservationRepository.deleteAllInBatch();
+        productStockSlotRepository.deleteAllInBatch();
+        productsRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("슬롯 개수별 예약 처리량 비교")
+    void throughputBySlotCount() throws InterruptedException {
+        for (int slotCount : new int[] {1, 4, 8}) {
+            BenchmarkResult result = run(slotCount, REQUEST_COUNT);
+            log.debug("[BENCH] {}", result);
+
+            assertThat(result.successCount()).isEqualTo(REQUEST_COUNT);
+            assertThat(result.remainingStock()).isZero();
+            assertThat(result.totalSold()).isEqualTo(REQUEST_COUNT);
+        }
+    }
+
+    @Test
+    @DisplayName("슬롯 분할 상태에서 품절 시 재고만큼만 성공")
+    void striped_SoldOut_NeverOversells() throws InterruptedException {
+        int stock = 50;
+
+        BenchmarkResult result = run(8, stock);
+        log.debug("[BENCH] {}", result);
+
+        assertThat(result.successCount()).isEqualTo(stock);
+        assertThat(result.soldOutCount()).isEqualTo(REQUEST_COUNT - stock);
+        assertThat(result.remainingStock()).isZero();
+        assertThat(result.totalSold()).isEqualTo(stock);
+    }
+
+    private BenchmarkResult run(int slotCount, int stock) throws InterruptedException {
+        Product product = testFixture.createTomorrowProduct("슬롯벤치상품-" + slotCount, stock,
+            new BigDecimal("1000"), admin);
+        transactionTemplate.executeWithoutResult(status -> productStockService.configureSlots(
+            productsRepository.findByIdWithLock(product.getId()).orElseThrow(), slotCount));
+
+        List<Users> users = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            users.add(testFixture.createUser("슬롯벤치유저"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger soldOutCount = new AtomicInteger();
+        AtomicInteger errorCount = new AtomicInteger();
+
+        for (Users user : users) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    reservationAppService.reserve(user.getUid(), new ReservationRequest(product.getId(), 1),
+                        ReserveMode.CONDITIONAL_UPDATE);
+                    successCount.incrementAndGet();
+                } catch (ProductExceedException e) {
+                    soldOutCount.incrementAndGet();
+                } catch (Exception e) {
+                    errorCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        startLatch.countDown();
+        endLatch.await(60, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+        executor.shutdown();
+
+        Product updated = productsService.findByIdWithSlotTotals(product.getId());
+        return new BenchmarkResult(slotCount, successCount.get(), soldOutCount.get(), errorCount.get(), elapsedMs,
+            updated.getStock(), updated.getTotalSold());
+    }
+
+    private record BenchmarkResult(int slotCount, int successCount, int soldOutCount, int errors, long elapsedMs,
+                                   int remainingStock, long totalSold) {
+        @Override
+        public String toString() {
+            double throughput = elapsedMs == 0 ? successCount : successCount * 1000.0 / elapsedMs;
+            return String.format("slots=%d success=%d soldOut=%d errors=%d elapsed=%dms throughput=%.1f/s",
+                slotCount, successCount, soldOutCount, errors, elapsedMs, throughput);
+        }
+    }
+}
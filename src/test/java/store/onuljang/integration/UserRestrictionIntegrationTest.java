@@ -162,6 +162,63 @@ class UserRestrictionIntegrationTest extends IntegrationTestBase {
             assertThat(updatedTomorrow.getStock()).isEqualTo(tomorrowStockBefore + 3);
             assertThat(updatedDayAfter.getStock()).isEqualTo(dayAfterStockBefore + 2);
         }
+
+        @Test
+        @DisplayName("여러 유저가 같은 상품을 예약했어도 상품별 합계로 재고를 복원하고 유저별 제한 기간만큼만 취소")
+        void noShowBatch_restriction_multipleUsersSharingProducts() {
+            // Arrange
+            LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+            Users twoDayUser = testFixture.createUserWithWarns("2일제한유저", 1);
+            Users fiveDayUser = testFixture.createUserWithWarns("5일제한유저", 2);
+            twoDayUser.reserve(10, new BigDecimal("100000"), today);
+            fiveDayUser.reserve(10, new BigDecimal("100000"), today);
+
+            Product todayProduct = testFixture.createProduct("오늘상품", 10, new BigDecimal("10000"), today, admin);
+            testFixture.createReservation(twoDayUser, todayProduct, 1);
+            testFixture.createReservation(fiveDayUser, todayProduct, 1);
+
+            Product sharedProduct = testFixture.createProduct("공유상품", 5, new BigDecimal("15000"),
+                    today.plusDays(1), admin);
+            Reservation shared1 = testFixture.createReservation(twoDayUser, sharedProduct, 1);
+            Reservation shared2 = testFixture.createReservation(twoDayUser, sharedProduct, 2);
+            Reservation shared3 = testFixture.createReservation(fiveDayUser, sharedProduct, 4);
+
+            // 2일 제한 유저 예약은 범위 밖이라 남고 5일 제한 유저 예약만 취소
+            Product laterProduct = testFixture.createProduct("나흘뒤상품", 8, new BigDecimal("20000"),
+                    today.plusDays(4), admin);
+            Reservation laterKept = testFixture.createReservation(twoDayUser, laterProduct, 2);
+            Reservation laterCanceled = testFixture.createReservation(fiveDayUser, laterProduct, 1);
+
+            int sharedStockBefore = sharedProduct.getStock();
+            int laterStockBefore = laterProduct.getStock();
+
+            // Act
+            adminReservationAppService.processNoShowBatch(today, LocalDateTime.now());
+            entityManager.flush();
+            entityManager.clear();
+
+            // Assert - 예약 상태
+            assertThat(reservationRepository.findAllById(
+                    java.util.List.of(shared1.getId(), shared2.getId(), shared3.getId(), laterCanceled.getId())))
+                .extracting(Reservation::getStatus)
+                .containsOnly(ReservationStatus.CANCELED);
+            assertThat(reservationRepository.findById(laterKept.getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.PENDING);
+
+            // Assert - 재고 복원 (상품별 합계)
+            assertThat(entityManager.find(Product.class, sharedProduct.getId()).getStock())
+                .isEqualTo(sharedStockBefore + 7);
+            assertThat(entityManager.find(Product.class, laterProduct.getId()).getStock())
+                .isEqualTo(laterStockBefore + 1);
+
+            // Assert - 제한 기간과 매출 롤백 (노쇼 1건 + 취소된 미래 예약)
+            Users updatedTwoDay = userRepository.findByUid(twoDayUser.getUid()).orElseThrow();
+            Users updatedFiveDay = userRepository.findByUid(fiveDayUser.getUid()).orElseThrow();
+            assertThat(updatedTwoDay.getRestrictedUntil()).isEqualTo(today.plusDays(2));
+            assertThat(updatedFiveDay.getRestrictedUntil()).isEqualTo(today.plusDays(5));
+            assertThat(updatedTwoDay.getTotalRevenue()).isEqualByComparingTo("45000");
+            assertThat(updatedFiveDay.getTotalRevenue()).isEqualByComparingTo("10000");
+        }
     }
 
     @Nested
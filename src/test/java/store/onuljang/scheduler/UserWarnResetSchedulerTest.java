@@ -6,19 +6,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 import store.onuljang.config.TestS3Config;
+import store.onuljang.shared.config.WarnResetConfigDto;
+import store.onuljang.shared.user.entity.WarnResetChunk;
+import store.onuljang.shared.user.service.UserService;
 import store.onuljang.shop.reservation.scheduler.UserWarnResetScheduler;
 import store.onuljang.shared.user.repository.UserRepository;
 import store.onuljang.shared.user.entity.Users;
 import store.onuljang.support.TestFixture;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * UserWarnResetScheduler 테스트
  *
- * 매달 1일 00:00에 모든 사용자의 경고 횟수를 0으로 초기화
+ * 매달 1일 00:00에 경고가 있는 사용자만 청크 단위로 경고 횟수를 0으로 초기화
  */
 @SpringBootTest
 @ActiveProfiles("test")
@@ -32,6 +39,12 @@ class UserWarnResetSchedulerTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WarnResetConfigDto warnResetConfig;
+
     @Autowired
     private TestFixture testFixture;
 
@@ -60,6 +73,52 @@ class UserWarnResetSchedulerTest {
         assertThat(updatedUser3.getMonthlyWarnCount()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("청크 크기보다 많은 경고 유저도 청크를 나눠 모두 초기화")
+    void resetMonthlyWarnCount_InChunks() {
+        // given
+        int originalChunkSize = warnResetConfig.getChunkSize();
+        ReflectionTestUtils.setField(warnResetConfig, "chunkSize", 2);
+        List<Users> warned = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            warned.add(testFixture.createUserWithWarns("경고유저" + i, i));
+        }
+        Users clean = testFixture.createUser("경고없는유저");
+
+        try {
+            // when
+            userWarnResetScheduler.resetMonthlyWarnCount();
+        } finally {
+            ReflectionTestUtils.setField(warnResetConfig, "chunkSize", originalChunkSize);
+        }
+
+        // then
+        assertThat(userRepository.findAllById(warned.stream().map(Users::getId).toList()))
+            .extracting(Users::getMonthlyWarnCount)
+            .containsOnly(0);
+        assertThat(userRepository.findById(clean.getId()).orElseThrow().getMonthlyWarnCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("청크는 경고가 있는 유저만 id 순서로 골라 마지막 id 를 돌려줌")
+    void resetMonthlyWarnCountChunk_SkipsCleanUsers() {
+        // given
+        Users first = testFixture.createUserWithWarns("경고유저A", 1);
+        testFixture.createUser("경고없는유저A");
+        Users second = testFixture.createUserWithWarns("경고유저B", 2);
+        long afterId = first.getId() - 1;
+
+        // when
+        WarnResetChunk chunk = userService.resetMonthlyWarnCountChunk(afterId, 10);
+        WarnResetChunk next = userService.resetMonthlyWarnCountChunk(chunk.lastUserId(), 10);
+
+        // then
+        assertThat(chunk.scanned()).isEqualTo(2);
+        assertThat(chunk.updated()).isEqualTo(2);
+        assertThat(chunk.lastUserId()).isEqualTo(second.getId());
+        assertThat(next.isEmpty()).isTrue();
+    }
+
     @Test
     @DisplayName("사용자가 없는 경우에도 정상 동작")
     void resetMonthlyWarnCount_NoUsers() {
@@ -9,8 +9,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import store.onuljang.shared.exception.NotFoundException;
 import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.product.repository.ProductStockSlotRepository;
 import store.onuljang.shop.product.repository.ProductsRepository;
 import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductStockSlotTotalRow;
 
 import java.time.LocalDate;
 import java.util.Collection;
@@ -27,6 +29,9 @@ class ProductsServiceTest {
     @Mock
     private ProductsRepository productsRepository;
 
+    @Mock
+    private ProductStockSlotRepository productStockSlotRepository;
+
     @InjectMocks
     private ProductsService productsService;
 
@@ -211,4 +216,33 @@ class ProductsServiceTest {
         // then
         assertThat(result).hasSize(1);
     }
+
+    @Test
+    @DisplayName("fillSlotTotals - 슬롯 분할 상품만 슬롯 합계를 한 번에 조회해 채움")
+    void fillSlotTotals_OnlyStripedProducts() {
+        // given
+        Product plain = mock(Product.class);
+        Product striped = mock(Product.class);
+        when(striped.isStockStriped()).thenReturn(true);
+        when(striped.getId()).thenReturn(2L);
+        when(productStockSlotRepository.sumByProductIdIn(List.of(2L)))
+                .thenReturn(List.of(new ProductStockSlotTotalRow(2L, 7L, 3L)));
+
+        // when
+        productsService.fillSlotTotals(List.of(plain, striped));
+
+        // then
+        verify(striped).applySlotTotals(7, 3L);
+        verify(plain, never()).applySlotTotals(anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("fillSlotTotals - 슬롯 분할 상품이 없으면 조회하지 않음")
+    void fillSlotTotals_NoStripedProducts_NoQuery() {
+        // when
+        productsService.fillSlotTotals(List.of(testProduct));
+
+        // then
+        verifyNoInteractions(productStockSlotRepository);
+    }
 }
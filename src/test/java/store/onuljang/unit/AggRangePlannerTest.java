@@ -0,0 +1,91 @@
+package store.onuljang.unit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.onuljang.shared.entity.enums.AggPeriod;
+import store.onuljang.shop.product.entity.AggSegment;
+import store.onuljang.shop.product.service.AggRangePlanner;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AggRangePlanner 단위 테스트
+ */
+class AggRangePlannerTest {
+
+    private void assertCoversExactly(List<AggSegment> segments, LocalDate from, LocalDate to) {
+        LocalDate expected = from;
+        for (AggSegment segment : segments) {
+            assertThat(segment.from()).isEqualTo(expected);
+            assertThat(segment.to()).isEqualTo(segment.period().endOf(segment.from()));
+            expected = segment.to().plusDays(1);
+        }
+        assertThat(expected).isEqualTo(to.plusDays(1));
+    }
+
+    @Test
+    @DisplayName("일주일 미만 기간은 일 단위로 나눔")
+    void plan_ShortRange_Days() {
+        // 2025-06-04 수요일
+        LocalDate from = LocalDate.of(2025, 6, 4);
+        LocalDate to = LocalDate.of(2025, 6, 6);
+
+        List<AggSegment> segments = AggRangePlanner.plan(from, to);
+
+        assertThat(segments).extracting(AggSegment::period)
+            .containsExactly(AggPeriod.DAY, AggPeriod.DAY, AggPeriod.DAY);
+        assertCoversExactly(segments, from, to);
+    }
+
+    @Test
+    @DisplayName("월요일부터 통째로 들어가는 주는 주 단위로 묶음")
+    void plan_Weeks() {
+        // 2025-06-01 일요일 ~ 2025-06-17 화요일
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 17);
+
+        List<AggSegment> segments = AggRangePlanner.plan(from, to);
+
+        assertThat(segments).extracting(AggSegment::period).containsExactly(
+            AggPeriod.DAY, AggPeriod.WEEK, AggPeriod.WEEK, AggPeriod.DAY, AggPeriod.DAY);
+        assertCoversExactly(segments, from, to);
+    }
+
+    @Test
+    @DisplayName("1년 기간은 통째로 들어가는 달을 월 단위로 묶어 행 수를 줄임")
+    void plan_Year_UsesMonths() {
+        LocalDate from = LocalDate.of(2024, 6, 15);
+        LocalDate to = LocalDate.of(2025, 6, 14);
+
+        List<AggSegment> segments = AggRangePlanner.plan(from, to);
+
+        assertCoversExactly(segments, from, to);
+        assertThat(segments).filteredOn(segment -> segment.period() == AggPeriod.MONTH).hasSize(11);
+        assertThat(segments.size()).isLessThan(30);
+        assertThat(ChronoUnit.DAYS.between(from, to) + 1).isEqualTo(365);
+    }
+
+    @Test
+    @DisplayName("달 경계에 걸친 주는 쪼개서 월 롤업과 겹치지 않게 함")
+    void plan_WeekAcrossMonthBoundary() {
+        // 2024-01-29 월요일 ~ 2024-02-29
+        LocalDate from = LocalDate.of(2024, 1, 29);
+        LocalDate to = LocalDate.of(2024, 2, 29);
+
+        List<AggSegment> segments = AggRangePlanner.plan(from, to);
+
+        assertThat(segments).extracting(AggSegment::period)
+            .containsExactly(AggPeriod.DAY, AggPeriod.DAY, AggPeriod.DAY, AggPeriod.MONTH);
+        assertCoversExactly(segments, from, to);
+    }
+
+    @Test
+    @DisplayName("시작일이 종료일보다 늦으면 빈 계획")
+    void plan_Empty() {
+        assertThat(AggRangePlanner.plan(LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 1))).isEmpty();
+    }
+}
@@ -0,0 +1,197 @@
+package store.onuljang.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import store.onuljang.shared.bulkhead.BulkheadFilter;
+import store.onuljang.shared.bulkhead.Bulkheads;
+import store.onuljang.shared.config.BulkheadConfigDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 경로 묶음별 동시 처리 한도(벌크헤드) 필터 테스트
+ *
+ * 고객 묶음 한도만큼 요청이 막혀 있는 상태에서도 관리자 요청은 바로 처리되는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkheadFilterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkheadFilterTest.class);
+
+    private static final int CUSTOMER_LIMIT = 4;
+    private static final int CUSTOMER_OVERFLOW = 10;
+    private static final long MAX_ADMIN_LATENCY_MS = 200;
+
+    @Mock
+    private BulkheadConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkheads bulkheads;
+    private BulkheadFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        given(config.isEnabled()).willReturn(true);
+        given(config.getCustomerMaxConcurrent()).willReturn(CUSTOMER_LIMIT);
+        given(config.getAdminMaxConcurrent()).willReturn(2);
+        given(config.getPaymentCallbackMaxConcurrent()).willReturn(2);
+        given(config.getRetryAfterSeconds()).willReturn(1);
+        meterRegistry = new SimpleMeterRegistry();
+        bulkheads = new Bulkheads(config, meterRegistry);
+        filter = new BulkheadFilter(bulkheads, config, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("고객 묶음이 한도에 닿아도 관리자 요청 지연은 늘지 않고, 넘친 고객 요청은 바로 503")
+    void customerSaturation_DoesNotDelayAdmin() throws Exception {
+        long baselineMs = adminLatencyMs();
+
+        // 톰캣 스레드처럼 요청마다 스레드 하나가 필터 체인 끝까지 붙잡힌다
+        ExecutorService tomcatThreads = Executors.newFixedThreadPool(CUSTOMER_LIMIT);
+        CountDownLatch releaseCustomers = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> blocked = new ArrayList<>();
+        try {
+            for (int i = 0; i < CUSTOMER_LIMIT; i++) {
+                blocked.add(tomcatThreads.submit(() -> dispatch("POST", "/api/store/auth/reservations/",
+                    (req, res) -> await(releaseCustomers))));
+            }
+            awaitUntil(() -> meterRegistry.get("bulkhead.active").tag("group", "customer").gauge()
+                .value() == CUSTOMER_LIMIT);
+
+            List<MockHttpServletResponse> overflow = new ArrayList<>();
+            for (int i = 0; i < CUSTOMER_OVERFLOW; i++) {
+                overflow.add(dispatch("POST", "/api/store/auth/reservations/", (req, res) -> { }));
+            }
+            long saturatedMs = adminLatencyMs();
+
+            log.debug("[BENCH] bulkhead adminLatency baseline={}ms customerSaturated={}ms",
+                baselineMs, saturatedMs);
+            assertThat(saturatedMs).isLessThan(MAX_ADMIN_LATENCY_MS);
+            assertThat(overflow)
+                .allSatisfy(response -> {
+                    assertThat(response.getStatus()).isEqualTo(503);
+                    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                });
+            assertThat(meterRegistry.get("bulkhead.rejected").tag("group", "customer").counter().count())
+                .isEqualTo(CUSTOMER_OVERFLOW);
+        } finally {
+            releaseCustomers.countDown();
+            tomcatThreads.shutdown();
+        }
+
+        for (Future<MockHttpServletResponse> response : blocked) {
+            assertThat(response.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        }
+        assertThat(meterRegistry.get("bulkhead.active").tag("group", "customer").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("결제 콜백은 자기 묶음 한도를 쓰고, SSE 와 헬스체크는 제한하지 않음")
+    void routesToGroups() throws Exception {
+        AtomicReference<Double> paymentActive = new AtomicReference<>();
+        FilterChain recordActive = (req, res) -> paymentActive.set(
+            meterRegistry.get("bulkhead.active").tag("group", "payment-callback").gauge().value());
+
+        dispatch("GET", "/api/store/auth/deliveries/approve", recordActive);
+        assertThat(paymentActive.get()).isEqualTo(1.0);
+
+        MockHttpServletRequest sse = request("GET", "/api/admin/shop/deliveries/stream");
+        sse.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+        filter.doFilter(sse, new MockHttpServletResponse(), recordActive);
+        assertThat(paymentActive.get()).isZero();
+
+        paymentActive.set(null);
+        filter.doFilter(request("GET", "/api/store/products/stream"), new MockHttpServletResponse(), recordActive);
+        assertThat(paymentActive.get()).isZero();
+
+        paymentActive.set(null);
+        filter.doFilter(request("GET", "/api/health"), new MockHttpServletResponse(), recordActive);
+        assertThat(paymentActive.get()).isZero();
+        assertThat(meterRegistry.get("bulkhead.active").tag("group", "admin").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("SSE 경로가 아니면 Accept: text/event-stream 을 붙여도 묶음 한도에 포함")
+    void eventStreamAccept_OnOrdinaryPath_StillLimited() throws Exception {
+        AtomicReference<Double> customerActive = new AtomicReference<>();
+        MockHttpServletRequest disguised = request("GET", "/api/store/products");
+        disguised.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+
+        filter.doFilter(disguised, new MockHttpServletResponse(), (req, res) -> customerActive.set(
+            meterRegistry.get("bulkhead.active").tag("group", "customer").gauge().value()));
+
+        assertThat(customerActive.get()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외가 나도 자리를 돌려줌")
+    void chainFailure_ReleasesPermit() {
+        assertThatThrownBy(() -> dispatch("GET", "/api/admin/shop/reservations", (req, res) -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("bulkhead.active").tag("group", "admin").gauge().value()).isZero();
+    }
+
+    private long adminLatencyMs() throws Exception {
+        long start = System.nanoTime();
+        MockHttpServletResponse response = dispatch("GET", "/api/admin/shop/reservations", (req, res) -> { });
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private MockHttpServletResponse dispatch(String method, String uri, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(method, uri), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
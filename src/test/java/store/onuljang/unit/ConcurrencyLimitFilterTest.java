@@ -0,0 +1,165 @@
+package store.onuljang.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import store.onuljang.shared.config.ConcurrencyLimitConfigDto;
+import store.onuljang.shared.limiter.ConcurrencyLimitFilter;
+import store.onuljang.shared.limiter.ConcurrencyLimiterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 동시 처리 제한 필터 부하 테스트
+ *
+ * 톰캣 스레드 풀을 고정 크기 풀로 흉내 내고, 락 대기로 느려진 예약 요청을 몰아넣은 뒤
+ * 같은 풀에 들어온 관리자 요청이 얼마나 기다리는지 비교합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ConcurrencyLimitFilterTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitFilterTest.class);
+
+    private static final int WORKER_THREADS = 16;
+    private static final int RESERVATION_REQUESTS = 60;
+    private static final long SLOW_MS = 300;
+    private static final int LIMIT = 4;
+
+    @Mock
+    private ConcurrencyLimitConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        given(config.isEnabled()).willReturn(true);
+        given(config.getInitialLimit()).willReturn(LIMIT);
+        given(config.getMinLimit()).willReturn(LIMIT);
+        given(config.getMaxLimit()).willReturn(LIMIT);
+        given(config.getTolerance()).willReturn(1.5);
+        given(config.getSmoothing()).willReturn(0.2);
+        given(config.getShortWindow()).willReturn(10);
+        given(config.getLongWindow()).willReturn(600);
+        given(config.getRetryAfterSeconds()).willReturn(1);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ConcurrencyLimitFilter(new ConcurrencyLimiterRegistry(config, meterRegistry), config,
+            new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 예약 요청은 503 + Retry-After 로 바로 거절하고 관리자 요청은 기다리지 않음")
+    void slowReservations_AdminStaysResponsive() throws Exception {
+        LoadResult result = runLoad();
+
+        log.debug("[BENCH] concurrencyLimit enabled rejected={} adminWait={}ms",
+            result.rejected, result.adminWaitMs);
+        assertThat(result.rejected).isEqualTo(RESERVATION_REQUESTS - LIMIT);
+        assertThat(result.retryAfter).isEqualTo("1");
+        assertThat(result.adminWaitMs).isLessThan(SLOW_MS);
+        assertThat(meterRegistry.get("http.concurrency.rejected").tag("route", "reservations")
+            .functionCounter().count()).isEqualTo(RESERVATION_REQUESTS - LIMIT);
+        assertThat(meterRegistry.get("http.concurrency.limit").tag("route", "reservations")
+            .gauge().value()).isEqualTo(LIMIT);
+    }
+
+    @Test
+    @DisplayName("제한을 끄면 느린 예약 요청이 스레드를 모두 차지해 관리자 요청이 밀림")
+    void slowReservations_WithoutLimit() throws Exception {
+        given(config.isEnabled()).willReturn(false);
+
+        LoadResult result = runLoad();
+
+        log.debug("[BENCH] concurrencyLimit disabled rejected={} adminWait={}ms",
+            result.rejected, result.adminWaitMs);
+        assertThat(result.rejected).isZero();
+        assertThat(result.adminWaitMs).isGreaterThanOrEqualTo(SLOW_MS * 2);
+    }
+
+    @Test
+    @DisplayName("조회와 대상이 아닌 경로는 제한하지 않음")
+    void shouldNotFilter_OtherRoutes() throws Exception {
+        for (MockHttpServletRequest request : List.of(
+                new MockHttpServletRequest("GET", "/api/store/auth/reservations/"),
+                new MockHttpServletRequest("POST", "/api/store/auth/deliveries/info"),
+                new MockHttpServletRequest("GET", "/api/health"))) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, (req, res) -> { });
+
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+        assertThat(meterRegistry.find("http.concurrency.limit").gauges()).isEmpty();
+    }
+
+    private LoadResult runLoad() throws Exception {
+        ExecutorService tomcat = Executors.newFixedThreadPool(WORKER_THREADS);
+        try {
+            FilterChain slowChain = (req, res) -> {
+                try {
+                    Thread.sleep(SLOW_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+
+            List<Future<MockHttpServletResponse>> reservations = new ArrayList<>();
+            for (int i = 0; i < RESERVATION_REQUESTS; i++) {
+                reservations.add(tomcat.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    filter.doFilter(new MockHttpServletRequest("POST", "/api/store/auth/reservations/"), response,
+                        slowChain);
+                    return response;
+                }));
+            }
+
+            long submittedAt = System.nanoTime();
+            Future<Long> admin = tomcat.submit(() -> {
+                long waitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/admin/shop/reservations"),
+                    new MockHttpServletResponse(), (req, res) -> { });
+                return waitMs;
+            });
+
+            LoadResult result = new LoadResult();
+            result.adminWaitMs = admin.get(30, TimeUnit.SECONDS);
+            for (Future<MockHttpServletResponse> future : reservations) {
+                MockHttpServletResponse response = future.get(30, TimeUnit.SECONDS);
+                if (response.getStatus() == 503) {
+                    result.rejected++;
+                    result.retryAfter = response.getHeader(HttpHeaders.RETRY_AFTER);
+                }
+            }
+            return result;
+        } finally {
+            tomcat.shutdownNow();
+        }
+    }
+
+    private static class LoadResult {
+        private int rejected;
+        private String retryAfter;
+        private long adminWaitMs;
+    }
+}
@@ -2,108 +2,114 @@ package store.onuljang.unit;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import store.onuljang.shared.util.DisplayCodeGenerator;
 
 import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class DisplayCodeGeneratorTest {
 
-    private static final LocalDateTime FIXED_TIME = LocalDateTime.of(2026, 2, 12, 14, 30);
+    private static final Logger log = LoggerFactory.getLogger(DisplayCodeGeneratorTest.class);
 
-    @Test
-    @DisplayName("generate - R prefix로 올바른 포맷 생성 (YYMMHHMM-XXXXX)")
-    void generate_reservationPrefix_returnsCorrectFormat() {
-        // when
-        String code = DisplayCodeGenerator.generate("R", FIXED_TIME);
-
-        // then
-        assertThat(code).matches("R-26021430-[23456789ABCDEFGHJKMNPQRSTUVWXYZ]{5}");
-    }
+    private static final String CODE_REGEX = "[RD]-\\d{8}-[23456789ABCDEFGHJKMNPQRSTUVWXYZ]{5,6}";
 
     @Test
-    @DisplayName("generate - D prefix로 올바른 포맷 생성")
-    void generate_deliveryPrefix_returnsCorrectFormat() {
+    @DisplayName("next - 기존 코드 형식을 유지하고 일/시퀀스 순서대로 발급")
+    void next_keepsFormatAndSequence() {
         // given
-        LocalDateTime time = LocalDateTime.of(2026, 9, 5, 9, 5);
+        LocalDateTime time = LocalDateTime.of(2026, 2, 12, 14, 31);
 
         // when
-        String code = DisplayCodeGenerator.generate("D", time);
+        String first = DisplayCodeGenerator.next("R", time);
+        String second = DisplayCodeGenerator.next("R", time);
 
-        // then
-        assertThat(code).matches("D-26090905-[23456789ABCDEFGHJKMNPQRSTUVWXYZ]{5}");
+        // then - 12일 = SAFE_CHARS[11] = 'D', 노드 0 = '2', 시퀀스 0/1 = "222"/"223"
+        assertThat(first).isEqualTo("R-26021431-D2222");
+        assertThat(second).isEqualTo("R-26021431-D2223");
+        assertThat(DisplayCodeGenerator.resolveCode("R", first)).isEqualTo(first);
     }
 
     @Test
-    @DisplayName("generateFallback - 6자리 랜덤 문자열 생성")
-    void generateFallback_returnsCorrectFormat() {
-        // when
-        String code = DisplayCodeGenerator.generateFallback("R", FIXED_TIME);
-
-        // then
-        assertThat(code).matches("R-26021430-[23456789ABCDEFGHJKMNPQRSTUVWXYZ]{6}");
-    }
-
-    @Test
-    @DisplayName("generate - 안전 문자셋만 사용")
-    void generate_usesSafeCharsetOnly() {
-        // given
-        String safeChars = "23456789ABCDEFGHJKMNPQRSTUVWXYZ";
+    @DisplayName("next - 여러 스레드에서 분당 한도를 넘겨 발급해도 중복 없음")
+    void next_concurrentUnique() throws InterruptedException {
+        // given - 5자리 한도(29,791)를 넘기도록 발급해 6자리 확장 형식까지 검증
+        LocalDateTime time = LocalDateTime.of(2026, 2, 12, 15, 0);
+        int threadCount = 8;
+        int perThread = 10_000;
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
 
         // when
-        String code = DisplayCodeGenerator.generate("R", LocalDateTime.of(2026, 1, 1, 12, 0));
-        String randomPart = code.substring(code.lastIndexOf('-') + 1);
-
-        // then
-        for (char c : randomPart.toCharArray()) {
-            assertThat(safeChars).contains(String.valueOf(c));
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int j = 0; j < perThread; j++) {
+                        codes.add(DisplayCodeGenerator.next("D", time));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
         }
-    }
-
-    @Test
-    @DisplayName("generate - 여러 번 호출해도 유일한 코드 생성")
-    void generate_multipleCallsProduceDifferentCodes() {
-        // when
-        String code1 = DisplayCodeGenerator.generate("R", FIXED_TIME);
+        startLatch.countDown();
+        endLatch.await(30, TimeUnit.SECONDS);
+        executor.shutdown();
 
         // then
-        boolean foundDifferent = false;
-        for (int i = 0; i < 10; i++) {
-            if (!DisplayCodeGenerator.generate("R", FIXED_TIME).equals(code1)) {
-                foundDifferent = true;
-                break;
-            }
-        }
-        assertThat(foundDifferent).isTrue();
+        assertThat(codes).hasSize(threadCount * perThread);
+        assertThat(codes).allSatisfy(code -> assertThat(code).matches(CODE_REGEX));
+        assertThat(codes).anySatisfy(code -> assertThat(code).hasSize(17));
     }
 
     @Test
-    @DisplayName("generateUnique - 충돌 시 fallback으로 재생성")
-    void generateUnique_collisionRetry() {
-        // given - 처음 2번 충돌, 3번째 성공
-        int[] callCount = {0};
-
-        // when
-        String code = DisplayCodeGenerator.generateUnique("R", FIXED_TIME, c -> {
-            callCount[0]++;
-            return callCount[0] <= 2;
-        });
+    @DisplayName("next - 시계가 보관 범위보다 더 되돌아가 밀려난 분이 오면 발급하지 않음")
+    void next_clockStepBackBeyondTrackedMinutes_Throws() {
+        // given - 다른 테스트의 분보다 앞선 시각으로 61개 분을 발급해 첫 분을 보관에서 밀어냄
+        LocalDateTime base = LocalDateTime.of(2001, 1, 1, 0, 0);
+        for (int i = 0; i <= 60; i++) {
+            DisplayCodeGenerator.next("R", base.plusMinutes(i));
+        }
 
-        // then
-        assertThat(code).matches("R-26021430-[23456789ABCDEFGHJKMNPQRSTUVWXYZ]{6}");
-        assertThat(callCount[0]).isEqualTo(3);
+        // when & then
+        assertThatThrownBy(() -> DisplayCodeGenerator.next("R", base))
+                .isInstanceOf(IllegalStateException.class);
     }
 
     @Test
-    @DisplayName("generateUnique - 충돌 없으면 첫 번째 코드 반환")
-    void generateUnique_noCollision() {
+    @DisplayName("next - 발급 비용 측정")
+    void next_microbenchmark() {
+        // given
+        int iterations = 20_000;
+        LocalDateTime time = LocalDateTime.of(2026, 2, 12, 16, 0);
+        for (int i = 0; i < 1_000; i++) {
+            DisplayCodeGenerator.next("R", time.plusMinutes(1));
+        }
+
         // when
-        String code = DisplayCodeGenerator.generateUnique("R", FIXED_TIME, c -> false);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            DisplayCodeGenerator.next("R", time);
+        }
+        long sequenceNanos = (System.nanoTime() - start) / iterations;
 
         // then
-        assertThat(code).matches("R-26021430-[23456789ABCDEFGHJKMNPQRSTUVWXYZ]{5}");
+        log.debug("[BENCH] next={}ns/op", sequenceNanos);
+        assertThat(sequenceNanos).isLessThan(200_000);
     }
 
     @Test
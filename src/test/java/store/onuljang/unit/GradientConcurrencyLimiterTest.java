@@ -0,0 +1,75 @@
+package store.onuljang.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.onuljang.shared.limiter.GradientConcurrencyLimiter;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GradientConcurrencyLimiter 단위 테스트
+ */
+class GradientConcurrencyLimiterTest {
+
+    private GradientConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new GradientConcurrencyLimiter(20, 4, 100, 1.5, 0.2, 10, 600);
+    }
+
+    @Test
+    @DisplayName("한도만큼만 받고 나머지는 기다리지 않고 거절")
+    void tryAcquire_RejectsOverLimit() {
+        fill();
+
+        assertThat(limiter.getInflight()).isEqualTo(20);
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답시간이 늘어나면 한도를 줄이고 돌아오면 다시 늘림")
+    void release_ShrinksOnLatencyAndRecovers() {
+        sample(10, 100);
+        int steady = limiter.getLimit();
+
+        sample(100, 30);
+        int congested = limiter.getLimit();
+
+        sample(10, 100);
+        int recovered = limiter.getLimit();
+
+        assertThat(steady).isGreaterThan(20);
+        assertThat(congested).isLessThan(steady / 2).isGreaterThanOrEqualTo(4);
+        assertThat(recovered).isGreaterThan(congested);
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않는 동안에는 한도를 바꾸지 않음")
+    void release_AppLimitedKeepsLimit() {
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(i % 2 == 0 ? 10 : 500));
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    // 한도를 채운 상태에서 하나씩 반납하며 응답시간 표본을 넣는다
+    private void sample(long rttMillis, int times) {
+        for (int i = 0; i < times; i++) {
+            fill();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        }
+    }
+
+    private void fill() {
+        while (limiter.tryAcquire()) {
+            // 한도까지 채운다
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.SerializedBody;
+import store.onuljang.shop.product.service.ProductConditionalResponder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ProductConditionalResponder 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductConditionalResponderTest {
+
+    private static final byte[] JSON = "{\"response\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private ProductListCacheConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductConditionalResponder responder;
+    private AtomicInteger bodies;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(config.getMaxEntries()).willReturn(16);
+        responder = new ProductConditionalResponder(config, meterRegistry);
+        bodies = new AtomicInteger();
+    }
+
+    private MockHttpServletResponse respond(String tag, String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responder.respond("list", "products", tag, request, response, () -> {
+            bodies.incrementAndGet();
+            return new SerializedBody(JSON);
+        });
+        return response;
+    }
+
+    @Test
+    @DisplayName("ETag 가 같으면 본문을 만들지 않고 304, 아낀 바이트와 304 비율을 기록")
+    void respond_NotModified() throws Exception {
+        MockHttpServletResponse first = respond("v1", null);
+        MockHttpServletResponse second = respond("v1", "\"other\", " + first.getHeader(HttpHeaders.ETAG));
+
+        assertThat(first.getHeader(HttpHeaders.ETAG)).isEqualTo("\"v1\"");
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(bodies).hasValue(1);
+        assertThat(meterRegistry.counter("product.conditional.saved.bytes", "endpoint", "list").count())
+            .isEqualTo(JSON.length);
+        assertThat(meterRegistry.get("product.conditional.not_modified.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 본문으로 응답하고 \"*\" 는 304 로 처리하지 않음")
+    void respond_Modified() throws Exception {
+        MockHttpServletResponse changed = respond("v2", "\"v1\"");
+        MockHttpServletResponse wildcard = respond("v2", "*");
+
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getContentAsByteArray()).isEqualTo(JSON);
+        assertThat(wildcard.getStatus()).isEqualTo(200);
+        assertThat(bodies).hasValue(2);
+    }
+}
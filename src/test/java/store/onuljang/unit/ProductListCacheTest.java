@@ -0,0 +1,120 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.ProductListResponse;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+import store.onuljang.shop.product.service.ProductListCache;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ProductListCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductListCacheTest {
+
+    @Mock
+    private ProductListCacheConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductListCache cache;
+    private AtomicInteger loads;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(config.getTtlMs()).willReturn(60_000L);
+        given(config.getMaxEntries()).willReturn(2);
+        cache = new ProductListCache(config, meterRegistry);
+        loads = new AtomicInteger();
+        today = LocalDate.now();
+    }
+
+    private Supplier<ProductListResponse> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new ProductListResponse(List.of());
+        };
+    }
+
+    @Test
+    @DisplayName("같은 기간/카테고리는 TTL 안에서 다시 읽지 않음")
+    void get_WithinTtl_ReturnsCached() {
+        ProductListResponse first = cache.get(today, today, null, loader());
+        ProductListResponse second = cache.get(today, today, null, loader());
+        cache.get(today, today, 1L, loader());
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.counter("product.list.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("product.list.cache", "result", "miss").count()).isEqualTo(2);
+        assertThat(meterRegistry.get("product.list.cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get("product.list.cache.load").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트를 받으면 모든 키를 비움")
+    void handle_InvalidatesAll() {
+        cache.get(today, today, null, loader());
+        cache.get(today, today, 1L, loader());
+
+        cache.handle(ProductCatalogChangedEvent.of(1L));
+        cache.get(today, today, null, loader());
+        cache.get(today, today, 1L, loader());
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("로딩 중에 비워지면 읽은 값을 캐시에 넣지 않음")
+    void get_InvalidatedWhileLoading_NotCached() {
+        cache.get(today, today, null, () -> {
+            cache.invalidateAll();
+            return new ProductListResponse(List.of());
+        });
+        cache.get(today, today, null, loader());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("키 수가 최대치에 닿으면 비우고 다시 채움")
+    void get_MaxEntries_Clears() {
+        cache.get(today, today, null, loader());
+        cache.get(today, today, 1L, loader());
+        cache.get(today, today, 2L, loader());
+        cache.get(today, today, 2L, loader());
+        cache.get(today, today, null, loader());
+
+        assertThat(loads).hasValue(4);
+        assertThat(meterRegistry.get("product.list.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("TTL 이 0 이면 캐시하지 않음")
+    void get_ZeroTtl_AlwaysLoads() {
+        given(config.getTtlMs()).willReturn(0L);
+
+        cache.get(today, today, null, loader());
+        cache.get(today, today, null, loader());
+
+        assertThat(loads).hasValue(2);
+    }
+}
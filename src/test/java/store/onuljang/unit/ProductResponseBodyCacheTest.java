@@ -0,0 +1,157 @@
+package store.onuljang.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.ProductCategoryResponse;
+import store.onuljang.shop.product.dto.SerializedBody;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+import store.onuljang.shop.product.service.ProductCatalogVersion;
+import store.onuljang.shop.product.service.ProductResponseBodyCache;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ProductResponseBodyCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductResponseBodyCacheTest {
+
+    @Mock
+    private ProductListCacheConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCatalogVersion productCatalogVersion;
+    private ProductResponseBodyCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(config.getTtlMs()).willReturn(60_000L);
+        given(config.getMaxEntries()).willReturn(16);
+        ObjectMapper objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        productCatalogVersion = new ProductCatalogVersion(config);
+        cache = new ProductResponseBodyCache(objectMapper, config, productCatalogVersion, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private ProductCategoryResponse categories(String name) {
+        return new ProductCategoryResponse(List.of(
+            new ProductCategoryResponse.ProductCategoryItem(1L, name, "https://example.com/c.jpg", 0, List.of(1L))));
+    }
+
+    private ProductCategoryResponse load() {
+        loads.incrementAndGet();
+        return categories("과일");
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 같으면 조회 없이 같은 바이트를 돌려줌")
+    void getOrLoad_SameVersion_ReturnsCached() {
+        SerializedBody first = cache.getOrLoad("categories", this::load);
+        SerializedBody second = cache.getOrLoad("categories", this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(new String(first.json(), StandardCharsets.UTF_8))
+            .contains("\"image_url\":\"https://example.com/c.jpg\"", "\"sort_order\":0");
+        assertThat(meterRegistry.counter("product.body.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.body.cache.serialize").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트로 버전이 오르면 다시 조회하고 직렬화")
+    void getOrLoad_VersionBumped_Reloads() {
+        cache.getOrLoad("categories", this::load);
+
+        ProductCatalogChangedEvent event = new ProductCatalogChangedEvent(List.of());
+        productCatalogVersion.handle(event);
+        cache.handle(event);
+        cache.getOrLoad("categories", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("직렬화하는 사이 버전이 바뀌면 보관하지 않음")
+    void getOrLoad_VersionBumpedWhileLoading_NotCached() {
+        cache.getOrLoad("categories", () -> {
+            productCatalogVersion.handle(new ProductCatalogChangedEvent(List.of()));
+            return load();
+        });
+        cache.getOrLoad("categories", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("재고가 담긴 응답은 보관하지 않고 매번 직렬화")
+    void serialize_DoesNotStore() {
+        SerializedBody first = cache.serialize(categories("과일"));
+        SerializedBody changed = cache.serialize(categories("채소"));
+
+        assertThat(changed).isNotSameAs(first);
+        assertThat(new String(changed.json(), StandardCharsets.UTF_8)).contains("채소");
+        assertThat(meterRegistry.counter("product.body.cache", "result", "hit").count()).isZero();
+        assertThat(meterRegistry.get("product.body.cache.serialize").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gzip 본문은 처음 쓸 때 한 번만 만듦")
+    void gzip_BuiltLazilyOnce() {
+        SerializedBody body = cache.getOrLoad("categories", this::load);
+
+        assertThat(ReflectionTestUtils.getField(body, "gzip")).isNull();
+        byte[] gzip = body.gzip();
+        assertThat(body.gzip()).isSameAs(gzip);
+        assertThat(cache.getOrLoad("categories", this::load).gzip()).isSameAs(gzip);
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 요청에는 압축 본문을, 아니면 JSON 본문을 씀")
+    void writeTo_NegotiatesGzip() throws Exception {
+        SerializedBody body = cache.getOrLoad("categories", this::load);
+
+        MockHttpServletRequest gzipRequest = new MockHttpServletRequest();
+        gzipRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8");
+        MockHttpServletResponse gzipResponse = new MockHttpServletResponse();
+        body.writeTo(gzipRequest, gzipResponse);
+
+        assertThat(gzipResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipResponse.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipResponse.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(body.json());
+        }
+
+        MockHttpServletRequest refusedRequest = new MockHttpServletRequest();
+        refusedRequest.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0");
+        MockHttpServletResponse plainResponse = new MockHttpServletResponse();
+        body.writeTo(refusedRequest, plainResponse);
+
+        assertThat(plainResponse.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plainResponse.getContentType()).isEqualTo("application/json");
+        assertThat(plainResponse.getContentAsByteArray()).isEqualTo(body.json());
+    }
+}
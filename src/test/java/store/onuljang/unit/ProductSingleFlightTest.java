@@ -0,0 +1,177 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import store.onuljang.shared.exception.NotFoundException;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.service.ProductSingleFlight;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ProductSingleFlight 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductSingleFlightTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSingleFlightTest.class);
+
+    private static final int REQUESTS = 1_000;
+    private static final long LOAD_MS = 200;
+    private static final int MAX_LOADS = 5;
+
+    @Mock
+    private ProductListCacheConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductSingleFlight singleFlight;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(config.getSingleFlightMaxWaitMs()).willReturn(3_000L);
+        singleFlight = new ProductSingleFlight(config, meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private String slowLoad(long millis) {
+        loads.incrementAndGet();
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "products";
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 1000건이 들어와도 조회는 몇 번만 하고 나머지는 결과를 함께 받음")
+    void load_Burst_CoalescesIdenticalRequests() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch ready = new CountDownLatch(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return singleFlight.load("products:2024-03-01:2024-03-03:null:0:0", () -> slowLoad(LOAD_MS));
+                }));
+            }
+            assertThat(ready.await(10, TimeUnit.SECONDS)).isTrue();
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("products");
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+            double saved = meterRegistry.counter("product.singleflight.saved").count();
+            log.debug("[BENCH] singleFlight requests={} loads={} saved={} elapsed={}ms",
+                REQUESTS, loads.get(), saved, elapsedMs);
+            assertThat(loads.get()).isBetween(1, MAX_LOADS);
+            assertThat(saved).isEqualTo(REQUESTS - loads.get());
+            assertThat(meterRegistry.get("product.singleflight.in_flight").gauge().value()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회가 끝나면 결과를 보관하지 않고, 실패는 기다리던 요청도 같은 예외로 받음")
+    void load_SharesFailureAndForgetsResult() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> leader = executor.submit(() -> singleFlight.load("detail:1", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                throw new NotFoundException("존재하지 않는 제품");
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            AtomicReference<Throwable> followerError = new AtomicReference<>();
+            Thread follower = new Thread(() -> {
+                try {
+                    singleFlight.load("detail:1", () -> slowLoad(0));
+                } catch (Throwable e) {
+                    followerError.set(e);
+                }
+            });
+            follower.start();
+            // 진행 중인 조회를 기다리기 시작할 때까지
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (follower.getState() != Thread.State.TIMED_WAITING && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            follower.join(5_000);
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(NotFoundException.class);
+            assertThat(followerError.get()).isInstanceOf(NotFoundException.class);
+
+            assertThat(singleFlight.load("detail:1", () -> slowLoad(0))).isEqualTo("products");
+            assertThat(loads).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간을 넘기면 기다리던 요청이 직접 조회")
+    void load_MaxWaitExceeded_LoadsItself() throws Exception {
+        given(config.getSingleFlightMaxWaitMs()).willReturn(50L);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> singleFlight.load("products", () -> {
+                loading.countDown();
+                await(release);
+                return "stale";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(singleFlight.load("products", () -> slowLoad(0))).isEqualTo("products");
+            assertThat(meterRegistry.counter("product.singleflight.timeout").count()).isEqualTo(1);
+            assertThat(meterRegistry.counter("product.singleflight.saved").count()).isZero();
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductSnapshot;
+import store.onuljang.shop.product.service.ProductCatalogVersion;
+import store.onuljang.shop.product.service.ProductSnapshotCache;
+import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.config.ReservationConfigDto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProductSnapshotCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductSnapshotCacheTest {
+
+    @Mock
+    private ProductsService productsService;
+
+    @Mock
+    private ReservationConfigDto reservationConfig;
+
+    @Mock
+    private ProductCatalogVersion productCatalogVersion;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductSnapshotCache cache;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(reservationConfig.getSnapshotTtlMs()).willReturn(60_000L);
+        cache = new ProductSnapshotCache(productsService, reservationConfig, productCatalogVersion, meterRegistry);
+
+        Admin admin = Admin.builder().name("테스트관리자").email("admin@test.com").password("password").build();
+        product = Product.builder().name("테스트상품").stock(5).price(new BigDecimal("1000"))
+                .sellDate(LocalDate.now().plusDays(1)).productUrl("https://example.com/image.jpg").visible(true)
+                .registeredAdmin(admin).build();
+        ReflectionTestUtils.setField(product, "id", 1L);
+        given(productsService.findByIdWithSlotTotals(1L)).willReturn(product);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 DB 를 다시 읽지 않음")
+    void get_WithinTtl_ReturnsCached() {
+        ProductSnapshot first = cache.get(1L);
+        ProductSnapshot second = cache.get(1L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.stock()).isEqualTo(5);
+        verify(productsService, times(1)).findByIdWithSlotTotals(1L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋된 뒤에만 스냅샷을 비움")
+    void evictAfterCommit_WaitsForCommit() {
+        cache.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAfterCommit(1L);
+        product.setStock(0);
+        assertThat(cache.get(1L).stock()).isEqualTo(5);
+        verify(productCatalogVersion, never()).bumpStock();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get(1L).stock()).isZero();
+        verify(productCatalogVersion).bumpStock();
+    }
+
+    @Test
+    @DisplayName("로딩 중 변경이 커밋되면 읽은 값을 캐시에 넣지 않음")
+    void get_EvictedWhileLoading_DoesNotCache() {
+        given(productsService.findByIdWithSlotTotals(1L)).willAnswer(invocation -> {
+            cache.evictAfterCommit(1L);
+            return product;
+        });
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(productsService, times(2)).findByIdWithSlotTotals(1L);
+    }
+
+    @Test
+    @DisplayName("다른 상품의 변경이 커밋돼도 로딩한 스냅샷은 캐시에 넣음")
+    void get_OtherProductEvictedWhileLoading_Caches() {
+        given(productsService.findByIdWithSlotTotals(1L)).willAnswer(invocation -> {
+            cache.evictAfterCommit(2L);
+            return product;
+        });
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(productsService, times(1)).findByIdWithSlotTotals(1L);
+    }
+
+    @Test
+    @DisplayName("예약/취소의 재고 증감은 커밋된 뒤 스냅샷 재고만 고치고 다시 읽지 않음")
+    void applyStockDeltaAfterCommit_UpdatesInPlace() {
+        cache.get(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.applyStockDeltaAfterCommit(1L, -2);
+        assertThat(cache.get(1L).stock()).isEqualTo(5);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        cache.applyStockDeltaAfterCommit(1L, 1);
+
+        assertThat(cache.get(1L).stock()).isEqualTo(4);
+        verify(productsService, times(1)).findByIdWithSlotTotals(1L);
+        verify(productCatalogVersion, times(2)).bumpStock();
+    }
+
+    @Test
+    @DisplayName("로딩 중 같은 상품의 재고 증감이 커밋되면 읽은 값을 캐시에 넣지 않음")
+    void get_DeltaAppliedWhileLoading_DoesNotCache() {
+        given(productsService.findByIdWithSlotTotals(1L)).willAnswer(invocation -> {
+            cache.applyStockDeltaAfterCommit(1L, -1);
+            return product;
+        });
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(productsService, times(2)).findByIdWithSlotTotals(1L);
+    }
+
+    @Test
+    @DisplayName("사전 검증 거절 비율을 게이지로 노출")
+    void recordPrecheck_ExposesRejectedRatio() {
+        cache.recordPrecheck(true);
+        cache.recordPrecheck(true);
+        cache.recordPrecheck(true);
+        cache.recordPrecheck(false);
+
+        assertThat(meterRegistry.get("reservation.precheck.rejected.ratio").gauge().value()).isEqualTo(0.75);
+    }
+}
@@ -0,0 +1,184 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.onuljang.shop.product.config.ProductListCacheConfigDto;
+import store.onuljang.shop.product.dto.ProductStockChange;
+import store.onuljang.shop.product.entity.ProductStockRow;
+import store.onuljang.shop.product.event.ProductCatalogChangedEvent;
+import store.onuljang.shop.product.service.ProductStockBoard;
+import store.onuljang.shop.product.service.ProductsService;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ProductStockBoard 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductStockBoardTest {
+
+    @Mock
+    private ProductsService productsService;
+
+    @Mock
+    private ProductListCacheConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductStockBoard board;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(config.getStockTtlMs()).willReturn(60_000L);
+        board = new ProductStockBoard(productsService, config, meterRegistry);
+        given(productsService.findStockRowsByIdIn(anyCollection())).willReturn(List.of(row(1L, 10, 2L)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ProductStockRow row(long productId, int stock, long totalSold) {
+        return new ProductStockRow() {
+            public Long getProductId() { return productId; }
+            public Integer getStock() { return stock; }
+            public Long getTotalSold() { return totalSold; }
+            public Boolean getVisible() { return true; }
+        };
+    }
+
+    @Test
+    @DisplayName("처음 보는 상품만 DB 에서 읽고, 이후 요청은 메모리에서 돌려줌")
+    void getAll_LoadsOnlyMisses() {
+        board.getAll(List.of(1L));
+        board.getAll(List.of(1L));
+
+        assertThat(board.getAll(List.of(1L))).containsEntry(1L, new ProductStockChange(1L, 10, 2L, true));
+        verify(productsService, times(1)).findStockRowsByIdIn(anyCollection());
+        assertThat(meterRegistry.counter("product.stock.board", "result", "hit").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("product.stock.board", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약/취소의 재고 증감은 커밋된 뒤 재고와 판매량만 고치고 다시 읽지 않음")
+    void applyStockDeltaAfterCommit_UpdatesInPlace() {
+        board.getAll(List.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        board.applyStockDeltaAfterCommit(1L, -3);
+        assertThat(board.getAll(List.of(1L)).get(1L).stock()).isEqualTo(10);
+
+        commit();
+        assertThat(board.getAll(List.of(1L)).get(1L)).isEqualTo(new ProductStockChange(1L, 7, 5L, true));
+        verify(productsService, times(1)).findStockRowsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("커밋 후 반영 전에 다시 읽은 값에는 증감을 한 번 더 더하지 않음")
+    void applyStockDeltaAfterCommit_ReloadedBeforeCallback_NotAppliedTwice() {
+        TransactionSynchronizationManager.initSynchronization();
+        board.applyStockDeltaAfterCommit(1L, -3);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        // DB 커밋이 끝나 증감이 이미 들어간 값을 반영 콜백보다 먼저 읽은 경우
+        given(productsService.findStockRowsByIdIn(anyCollection())).willReturn(List.of(row(1L, 7, 5L)));
+        assertThat(board.getAll(List.of(1L)).get(1L).stock()).isEqualTo(7);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(board.getAll(List.of(1L)).get(1L).stock()).isEqualTo(7);
+        assertThat(board.getAll(List.of(1L)).get(1L).stock()).isEqualTo(7);
+        verify(productsService, times(2)).findStockRowsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("롤백된 증감은 반영하지 않고 반영 대기만 푼다")
+    void applyStockDeltaAfterCommit_RolledBack_Ignored() {
+        board.getAll(List.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+        board.applyStockDeltaAfterCommit(1L, -3);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(board.getAll(List.of(1L)).get(1L).stock()).isEqualTo(10);
+        verify(productsService, times(1)).findStockRowsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 정리해 메모리에 쌓이지 않음")
+    void getAll_SweepsExpiredEntries() throws Exception {
+        given(config.getStockTtlMs()).willReturn(20L);
+        board = new ProductStockBoard(productsService, config, meterRegistry);
+        given(productsService.findStockRowsByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> row(id, 10, 0L)).toList();
+        });
+        board.getAll(List.of(1L, 2L, 3L));
+        board.evictAfterCommit(List.of(4L));
+        assertThat(entries()).hasSize(4);
+
+        Thread.sleep(30);
+        board.getAll(List.of(5L));
+
+        assertThat(entries()).containsOnlyKeys(5L);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private Map<?, ?> entries() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(board, "entries");
+    }
+
+    @Test
+    @DisplayName("관리자 상품 변경이 커밋되면 다음 조회 때 다시 읽음")
+    void handleCatalogChanged_Evicts() {
+        board.getAll(List.of(1L));
+        board.handle(ProductCatalogChangedEvent.of(1L));
+        board.getAll(List.of(1L));
+
+        verify(productsService, times(2)).findStockRowsByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("읽는 중에 같은 상품의 변경이 커밋되면 읽은 값을 넣지 않음")
+    void getAll_ChangedWhileLoading_DoesNotStore() {
+        given(productsService.findStockRowsByIdIn(anyCollection())).willAnswer(invocation -> {
+            board.applyStockDeltaAfterCommit(1L, -1);
+            return List.of(row(1L, 10, 2L));
+        });
+
+        board.getAll(List.of(1L));
+        board.getAll(List.of(1L));
+
+        verify(productsService, times(2)).findStockRowsByIdIn(anyCollection());
+    }
+}
@@ -0,0 +1,199 @@
+package store.onuljang.unit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import store.onuljang.shop.admin.entity.Admin;
+import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductStockSlot;
+import store.onuljang.shop.product.entity.ProductStockSlotRow;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.repository.ProductStockSlotRepository;
+import store.onuljang.shop.product.service.ProductSnapshotCache;
+import store.onuljang.shop.product.service.ProductStockBoard;
+import store.onuljang.shop.product.service.ProductStockService;
+import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.config.ReserveMode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ProductStockService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductStockServiceTest {
+
+    @InjectMocks
+    private ProductStockService productStockService;
+
+    @Mock
+    private ProductsService productsService;
+
+    @Mock
+    private ProductStockSlotRepository productStockSlotRepository;
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    @Mock
+    private ProductStockBoard productStockBoard;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Admin admin = Admin.builder().name("테스트관리자").email("admin@test.com").password("password").build();
+        product = Product.builder().name("테스트상품").stock(10).price(new BigDecimal("10000"))
+                .sellDate(LocalDate.now().plusDays(1)).productUrl("https://example.com/image.jpg").visible(true)
+                .registeredAdmin(admin).build();
+        ReflectionTestUtils.setField(product, "id", 1L);
+    }
+
+    private List<ProductStockSlot> slots(int... stocks) {
+        return java.util.stream.IntStream.range(0, stocks.length)
+                .mapToObj(i -> ProductStockSlot.builder().product(product).slotNo(i).stock(stocks[i]).build())
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("일반 상품")
+    class PlainProduct {
+
+        @Test
+        @DisplayName("잠금 모드 예약은 엔티티 재고를 차감")
+        void reserve_Locked_DeductsEntityStock() {
+            productStockService.reserve(product, 3, ReserveMode.PESSIMISTIC_LOCK);
+
+            assertThat(product.getStock()).isEqualTo(7);
+            assertThat(product.getTotalSold()).isEqualTo(3L);
+            verify(productSnapshotCache).applyStockDeltaAfterCommit(1L, -3);
+            verify(productSnapshotCache, never()).evictAfterCommit(anyCollection());
+            verify(productStockBoard).applyStockDeltaAfterCommit(1L, -3);
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 가 실패하면 재고 부족 예외")
+        void reserve_Conditional_NoAffectedRow_Throws() {
+            given(productsService.decreaseStockIfAvailable(1L, 3)).willReturn(false);
+
+            assertThatThrownBy(() -> productStockService.reserve(product, 3, ReserveMode.CONDITIONAL_UPDATE))
+                    .isInstanceOf(ProductExceedException.class);
+            verify(productSnapshotCache, never()).applyStockDeltaAfterCommit(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("취소 시 재고와 판매량 복원")
+        void cancel_RestoresStock() {
+            product.reserve(4);
+
+            productStockService.cancel(product, 4);
+
+            assertThat(product.getStock()).isEqualTo(10);
+            assertThat(product.getTotalSold()).isZero();
+            verifyNoInteractions(productStockSlotRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("슬롯 분할 상품")
+    class StripedProduct {
+
+        @Test
+        @DisplayName("슬롯 활성화 시 기존 재고를 슬롯에 고르게 분배")
+        void configureSlots_DistributesStock() {
+            given(productStockSlotRepository.findAllByProductIdWithLock(1L)).willReturn(List.of());
+            given(productStockSlotRepository.save(any(ProductStockSlot.class)))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            productStockService.configureSlots(product, 3);
+
+            assertThat(product.isStockStriped()).isTrue();
+            assertThat(product.getStock()).isEqualTo(10);
+            verify(productStockSlotRepository, times(3)).save(any(ProductStockSlot.class));
+        }
+
+        @Test
+        @DisplayName("임의 슬롯 차감이 성공하면 슬롯 전체를 잠그지 않음")
+        void reserve_SingleSlot_NoFullLock() {
+            product.enableStockSlots(2);
+            given(productStockSlotRepository.findAllRowsByProductId(1L))
+                    .willReturn(List.of(new ProductStockSlotRow(0, 5), new ProductStockSlotRow(1, 5)));
+            given(productStockSlotRepository.decreaseStockIfAvailable(eq(1L), anyInt(), eq(2))).willReturn(1);
+
+            product.applySlotTotals(10, 0);
+
+            productStockService.reserve(product, 2, ReserveMode.CONDITIONAL_UPDATE);
+
+            verify(productStockSlotRepository, never()).findAllByProductIdWithLock(anyLong());
+            assertThat(product.getStock()).isEqualTo(8);
+            assertThat(product.getTotalSold()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("슬롯 합계를 읽지 않은 슬롯 분할 상품의 재고를 읽으면 예외")
+        void getStock_SlotTotalsNotLoaded_Throws() {
+            product.enableStockSlots(2);
+
+            assertThatThrownBy(() -> product.getStock()).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("한 슬롯으로 부족하면 여러 슬롯에서 나눠 차감")
+        void reserve_Fragmented_DrainsAcrossSlots() {
+            product.enableStockSlots(3);
+            List<ProductStockSlot> slots = slots(1, 1, 1);
+            given(productStockSlotRepository.findAllRowsByProductId(1L)).willReturn(
+                    List.of(new ProductStockSlotRow(0, 1), new ProductStockSlotRow(1, 1), new ProductStockSlotRow(2, 1)));
+            given(productStockSlotRepository.findAllByProductIdWithLock(1L)).willReturn(slots);
+
+            productStockService.reserve(product, 3, ReserveMode.CONDITIONAL_UPDATE);
+
+            assertThat(slots).allSatisfy(slot -> assertThat(slot.getStock()).isZero());
+            assertThat(slots.stream().mapToLong(ProductStockSlot::getSold).sum()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("슬롯 합계가 부족하면 잠금 없이 재고 부족 예외")
+        void reserve_SoldOut_ThrowsWithoutLock() {
+            product.enableStockSlots(2);
+            given(productStockSlotRepository.findAllRowsByProductId(1L))
+                    .willReturn(List.of(new ProductStockSlotRow(0, 0), new ProductStockSlotRow(1, 1)));
+
+            assertThatThrownBy(() -> productStockService.reserve(product, 2, ReserveMode.CONDITIONAL_UPDATE))
+                    .isInstanceOf(ProductExceedException.class);
+            verify(productStockSlotRepository, never()).findAllByProductIdWithLock(anyLong());
+        }
+
+        @Test
+        @DisplayName("재고 복원 시 슬롯을 다시 균등 분배")
+        void addStock_Rebalances() {
+            product.enableStockSlots(2);
+            List<ProductStockSlot> slots = slots(0, 4);
+            given(productStockSlotRepository.findAllByProductIdWithLock(1L)).willReturn(slots);
+
+            productStockService.addStock(product, 3);
+
+            assertThat(slots.get(0).getStock()).isEqualTo(4);
+            assertThat(slots.get(1).getStock()).isEqualTo(3);
+            assertThat(product.getStock()).isEqualTo(7);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import store.onuljang.shop.product.config.ProductStockStreamConfigDto;
+import store.onuljang.shop.product.dto.ProductStockChange;
+import store.onuljang.shop.product.entity.ProductStockRow;
+import store.onuljang.shop.product.event.ProductStockChangedEvent;
+import store.onuljang.shop.product.service.ProductStockStreamService;
+import store.onuljang.shop.product.service.ProductsService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ProductStockStreamService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductStockStreamServiceTest {
+
+    @Mock
+    private ProductsService productsService;
+
+    @Mock
+    private ProductStockStreamConfigDto config;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductStockStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(config.isEnabled()).willReturn(true);
+        given(config.getMaxConnections()).willReturn(10);
+        given(config.getBufferSize()).willReturn(3);
+        given(config.getSenderThreads()).willReturn(2);
+        given(config.getTimeoutMs()).willReturn(60_000L);
+        given(config.getSendTimeoutMs()).willReturn(60_000L);
+        service = new ProductStockStreamService(productsService, config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private static ProductStockRow row(long productId, int stock) {
+        return new ProductStockRow() {
+            public Long getProductId() { return productId; }
+            public Integer getStock() { return stock; }
+            public Long getTotalSold() { return 0L; }
+            public Boolean getVisible() { return true; }
+        };
+    }
+
+    private static ProductStockChange change(long productId, int stock) {
+        return new ProductStockChange(productId, stock, 0, true);
+    }
+
+    @Test
+    @DisplayName("같은 구간에 여러 번 바뀐 상품은 한 번 조회해 한 이벤트로 보내고, 없어진 상품은 비노출로 보냄")
+    void flush_CoalescesChanges() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(emitter);
+        given(productsService.findStockRowsByIdIn(anyCollection())).willReturn(List.of(row(1L, 5), row(2L, 7)));
+
+        service.handle(new ProductStockChangedEvent(List.of(1L)));
+        service.handle(new ProductStockChangedEvent(List.of(1L, 2L)));
+        service.handle(new ProductStockChangedEvent(List.of(3L)));
+        service.flush();
+        service.flush();
+
+        emitter.await(2);
+        verify(productsService, times(1)).findStockRowsByIdIn(anyCollection());
+        assertThat(emitter.events).containsExactly("connect", "stock");
+        assertThat((List<?>) emitter.payloads.get(0)).containsExactlyInAnyOrder(
+            change(1L, 5), change(2L, 7), ProductStockChange.removed(3L));
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 상품별 최신 값만 받고 다른 구독자를 막지 않음, 버퍼가 넘치면 resync")
+    void publish_SlowSubscriber() throws Exception {
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.block = new CountDownLatch(1);
+        RecordingEmitter fast = new RecordingEmitter();
+        service.register(slow);
+        service.register(fast);
+
+        service.publish(List.of(change(1L, 9)));
+        slow.awaitSending();
+        service.publish(List.of(change(1L, 8)));
+        service.publish(List.of(change(1L, 7)));
+
+        // 느린 구독자가 막혀 있어도 빠른 구독자는 최신 값까지 받음
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!fast.payloads.contains(List.of(change(1L, 7))) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(fast.payloads).contains(List.of(change(1L, 7)));
+        assertThat(slow.events).containsExactly("connect");
+
+        slow.block.countDown();
+        slow.await(3);
+        assertThat(slow.payloads).containsExactly(List.of(change(1L, 9)), List.of(change(1L, 7)));
+
+        RecordingEmitter overflowed = new RecordingEmitter();
+        overflowed.block = new CountDownLatch(1);
+        service.register(overflowed);
+        service.publish(List.of(change(1L, 1)));
+        overflowed.awaitSending();
+        service.publish(List.of(change(2L, 1), change(3L, 1), change(4L, 1), change(5L, 1)));
+        service.publish(List.of(change(6L, 1)));
+        overflowed.block.countDown();
+        overflowed.await(4);
+
+        assertThat(overflowed.events).containsExactly("connect", "stock", "resync", "stock");
+        assertThat(overflowed.payloads.get(1)).isEqualTo(List.of(change(6L, 1)));
+        assertThat(meterRegistry.counter("product.stock.stream.resync").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("구독 수 상한을 넘으면 거절하고, 전송이 실패한 구독은 정리")
+    void register_RejectsOverCapacity() throws Exception {
+        given(config.getMaxConnections()).willReturn(1);
+        RecordingEmitter broken = new RecordingEmitter();
+
+        assertThat(service.register(broken)).isSameAs(broken);
+        assertThat(service.register(new RecordingEmitter())).isNull();
+        assertThat(meterRegistry.counter("product.stock.stream.rejected").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.stock.stream.connections").gauge().value()).isEqualTo(1);
+
+        broken.fail = true;
+        service.publish(List.of(change(1L, 1)));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (service.getConnections() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(service.getConnections()).isZero();
+        assertThat(service.register(new RecordingEmitter())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("쓰기가 제한 시간을 넘긴 구독은 끊고, 다른 구독자는 계속 받음")
+    void expireSlowSenders_DropsStuckSubscriber() throws Exception {
+        given(config.getSendTimeoutMs()).willReturn(50L);
+        RecordingEmitter stuck = new RecordingEmitter();
+        stuck.block = new CountDownLatch(1);
+        RecordingEmitter fast = new RecordingEmitter();
+        service.register(stuck);
+        service.register(fast);
+
+        try {
+            service.publish(List.of(change(1L, 9)));
+            stuck.awaitSending();
+            Thread.sleep(100);
+            service.expireSlowSenders();
+            service.expireSlowSenders();
+
+            assertThat(service.getConnections()).isEqualTo(1);
+            assertThat(meterRegistry.counter("product.stock.stream.send_timeout").count()).isEqualTo(1);
+            service.publish(List.of(change(1L, 8)));
+            fast.await(3);
+            assertThat(fast.payloads).containsExactly(List.of(change(1L, 9)), List.of(change(1L, 8)));
+        } finally {
+            stuck.block.countDown();
+        }
+    }
+
+    /**
+     * 보낸 이벤트 이름과 본문을 기록하는 emitter. block 이 있으면 stock 이벤트 전송에서 멈춘다.
+     */
+    static class RecordingEmitter extends SseEmitter {
+        private static final Pattern EVENT_NAME = Pattern.compile("event:(\\w+)");
+
+        final List<String> events = new CopyOnWriteArrayList<>();
+        final List<Object> payloads = new CopyOnWriteArrayList<>();
+        final CountDownLatch sending = new CountDownLatch(1);
+        volatile CountDownLatch block;
+        volatile boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            StringBuilder text = new StringBuilder();
+            Object payload = null;
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof String value) {
+                    text.append(value);
+                } else {
+                    payload = data.getData();
+                }
+            }
+            Matcher matcher = EVENT_NAME.matcher(text);
+            String name = matcher.find() ? matcher.group(1) : "comment";
+            if (fail && !"connect".equals(name)) {
+                throw new IOException("broken pipe");
+            }
+            if ("stock".equals(name)) {
+                sending.countDown();
+                if (block != null) {
+                    try {
+                        block.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            if (payload != null) {
+                payloads.add(payload);
+            }
+            events.add(name);
+        }
+
+        void awaitSending() throws InterruptedException {
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void await(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (events.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(events).hasSize(count);
+        }
+    }
+}
@@ -8,22 +8,34 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import store.onuljang.shop.product.appservice.ProductsAppService;
 import store.onuljang.shop.product.dto.ProductCategoryResponse;
 import store.onuljang.shop.product.dto.ProductDetailResponse;
 import store.onuljang.shop.product.dto.ProductListResponse;
+import store.onuljang.shop.product.dto.ProductStockChange;
 import store.onuljang.shop.admin.entity.Admin;
 import store.onuljang.shop.product.entity.Product;
 import store.onuljang.shop.product.entity.ProductCategory;
+import store.onuljang.shop.product.service.ProductCatalogVersion;
 import store.onuljang.shop.product.service.ProductCategoryService;
+import store.onuljang.shop.product.service.ProductListCache;
+import store.onuljang.shop.product.service.ProductSingleFlight;
+import store.onuljang.shop.product.service.ProductStockBoard;
 import store.onuljang.shop.product.service.ProductsService;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
 
 /**
  * ProductsAppService 단위 테스트
@@ -40,10 +52,25 @@ class ProductsAppServiceTest {
     @Mock
     private ProductCategoryService productCategoryService;
 
+    @Mock
+    private ProductListCache productListCache;
+
+    @Mock
+    private ProductSingleFlight productSingleFlight;
+
+    @Mock
+    private ProductCatalogVersion productCatalogVersion;
+
+    @Mock
+    private ProductStockBoard productStockBoard;
+
     private Admin testAdmin;
 
     @BeforeEach
     void setUp() {
+        // 합치기는 ProductSingleFlightTest 에서 검증하고 여기서는 로더를 그대로 실행
+        lenient().when(productSingleFlight.load(anyString(), any())).thenAnswer(invocation ->
+            invocation.<Supplier<?>>getArgument(1).get());
         testAdmin = Admin.builder().name("테스트관리자").email("admin@test.com").password("password").build();
     }
 
@@ -51,6 +78,13 @@ class ProductsAppServiceTest {
     @DisplayName("getProducts - 상품 목록 조회")
     class GetProducts {
 
+        @BeforeEach
+        void setUp() {
+            // 캐시는 항상 미스로 두고 로더를 그대로 실행
+            given(productListCache.get(any(), any(), any(), any())).willAnswer(invocation ->
+                invocation.<Supplier<ProductListResponse>>getArgument(3).get());
+        }
+
         @Test
         @DisplayName("날짜 범위로 공개 상품 목록 조회")
         void getProducts_ReturnsVisibleProducts() {
@@ -115,6 +149,32 @@ class ProductsAppServiceTest {
             assertThat(result.response()).hasSize(1);
             assertThat(result.response().get(0).name()).isEqualTo("상품1");
         }
+
+        @Test
+        @DisplayName("캐시된 목록의 재고와 판매량은 최신 값으로 덮어씀")
+        void getProducts_OverlaysStock() {
+            // given
+            LocalDate from = LocalDate.now();
+            LocalDate to = LocalDate.now();
+
+            Product product = Product.builder().name("상품1").stock(10).price(new BigDecimal("10000"))
+                    .sellDate(LocalDate.now()).productUrl("https://example.com/img1.jpg").visible(true).selfPick(true)
+                    .registeredAdmin(testAdmin).build();
+            ReflectionTestUtils.setField(product, "id", 1L);
+
+            given(productsService.findAllVisibleBetween(from, to, true)).willReturn(List.of(product));
+            given(productStockBoard.getAll(anyList())).willReturn(Map.of(1L, new ProductStockChange(1L, 3, 7L, true)));
+
+            // when
+            ProductListResponse result = productsAppService.getProducts(from, to, null);
+
+            // then
+            assertThat(result.response()).singleElement().satisfies(response -> {
+                assertThat(response.name()).isEqualTo("상품1");
+                assertThat(response.stock()).isEqualTo(3);
+                assertThat(response.totalSold()).isEqualTo(7L);
+            });
+        }
     }
 
     @Nested
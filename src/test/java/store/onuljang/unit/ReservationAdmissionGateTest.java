@@ -0,0 +1,172 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import store.onuljang.shop.product.entity.ProductSnapshot;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.service.ProductSnapshotCache;
+import store.onuljang.shop.reservation.config.ReservationConfigDto;
+import store.onuljang.shop.reservation.exception.ReservationAdmissionException;
+import store.onuljang.shop.reservation.service.ReservationAdmissionGate;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReservationAdmissionGate 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReservationAdmissionGateTest {
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    @Mock
+    private ReservationConfigDto reservationConfig;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationAdmissionGate gate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(reservationConfig.isAdmissionEnabled()).willReturn(true);
+        given(reservationConfig.getAdmissionConcurrency()).willReturn(1);
+        given(reservationConfig.getAdmissionWaitTimeoutMs()).willReturn(100L);
+        gate = new ReservationAdmissionGate(productSnapshotCache, reservationConfig, meterRegistry);
+    }
+
+    private void stock(int stock) {
+        given(productSnapshotCache.get(1L)).willReturn(
+                new ProductSnapshot(LocalDate.now().plusDays(1), null, true, stock, System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("예약이 성공하면 스냅샷이 바뀌기 전까지 재고 힌트를 직접 차감해 이후 요청을 거절")
+    void execute_SoldOutAfterSuccess_RejectsUntilSnapshotChanges() {
+        stock(2);
+
+        gate.execute(1L, 2, () -> "R-1");
+
+        assertThatThrownBy(() -> gate.execute(1L, 1, () -> "R-2"))
+                .isInstanceOf(ProductExceedException.class);
+        assertThat(meterRegistry.get("reservation.admission.rejected").tag("reason", "sold_out").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재고 변경으로 스냅샷이 다시 로딩되면 남은 재고를 다시 맞춤")
+    void execute_NewSnapshot_Resyncs() {
+        stock(1);
+        gate.execute(1L, 1, () -> "R-1");
+
+        stock(1);
+
+        assertThat(gate.execute(1L, 1, () -> "R-2")).isEqualTo("R-2");
+    }
+
+    @Test
+    @DisplayName("진행 중인 토큰이 남은 재고를 넘으면 즉시 거절하고, 실패한 요청의 토큰은 반환")
+    void execute_OutstandingExceedsStock_Rejects() throws Exception {
+        stock(1);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> gate.execute(1L, 1, () -> {
+            entered.countDown();
+            await(finish);
+            throw new IllegalStateException("락 안에서 실패");
+        }));
+        entered.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> gate.execute(1L, 1, () -> "R-2")).isInstanceOf(ProductExceedException.class);
+
+        finish.countDown();
+        assertThatThrownBy(inFlight::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(gate.execute(1L, 1, () -> "R-3")).isEqualTo("R-3");
+    }
+
+    @Test
+    @DisplayName("동시 실행 슬롯을 기다리다 시간이 지나면 대기 초과로 거절")
+    void execute_WaitTimeout_Rejects() throws Exception {
+        stock(10);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> gate.execute(1L, 1, () -> {
+            entered.countDown();
+            await(finish);
+            return "R-1";
+        }));
+        entered.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> gate.execute(1L, 1, () -> "R-2")).isInstanceOf(ReservationAdmissionException.class);
+
+        finish.countDown();
+        assertThat(inFlight.join()).isEqualTo("R-1");
+        assertThat(meterRegistry.get("reservation.admission.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("받은 대기열이 입장 전에 정리되면 새 대기열로 다시 받아, 한 상품에 대기열이 둘 생기지 않음")
+    void execute_GateEvictedBeforeAdmit_RetriesOnLiveGate() throws Exception {
+        AtomicBoolean evicting = new AtomicBoolean();
+        given(productSnapshotCache.get(anyLong())).willAnswer(invocation -> {
+            long productId = invocation.getArgument(0);
+            // 상품 1 의 첫 조회 도중 다른 상품 요청이 몰려 유휴 대기열 정리가 돈다
+            if (productId == 1L && evicting.compareAndSet(false, true)) {
+                for (long other = 2; other <= 1_002; other++) {
+                    gate.execute(other, 1, () -> "R");
+                }
+            }
+            return new ProductSnapshot(LocalDate.now().plusDays(1), null, true, 10, System.currentTimeMillis());
+        });
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> gate.execute(1L, 1, () -> {
+            entered.countDown();
+            await(finish);
+            return "R-1";
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 같은 대기열의 동시 실행 슬롯(1)을 기다리므로 대기 초과
+        assertThatThrownBy(() -> gate.execute(1L, 1, () -> "R-2")).isInstanceOf(ReservationAdmissionException.class);
+
+        finish.countDown();
+        assertThat(inFlight.join()).isEqualTo("R-1");
+    }
+
+    @Test
+    @DisplayName("대기열을 끄면 재고를 조회하지 않고 그대로 실행")
+    void execute_Disabled_PassesThrough() {
+        given(reservationConfig.isAdmissionEnabled()).willReturn(false);
+
+        assertThat(gate.execute(1L, 1, () -> "R-1")).isEqualTo("R-1");
+        verifyNoInteractions(productSnapshotCache);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -5,20 +5,30 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.product.exception.ProductUnavailableException;
 import store.onuljang.shop.reservation.appservice.ReservationAppService;
+import store.onuljang.shop.reservation.config.ReservationConfigDto;
+import store.onuljang.shop.reservation.config.ReserveMode;
 import store.onuljang.shop.reservation.dto.ReservationRequest;
 import store.onuljang.shared.exception.UserValidateException;
 import store.onuljang.shop.admin.entity.Admin;
 import store.onuljang.shop.product.entity.Product;
+import store.onuljang.shop.product.entity.ProductSnapshot;
 import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.entity.ReservationLocks;
 import store.onuljang.shared.user.entity.Users;
 import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shop.product.service.ProductSnapshotCache;
+import store.onuljang.shop.product.service.ProductStockService;
 import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.service.ReservationLockService;
 import store.onuljang.shop.reservation.service.ReservationService;
 import store.onuljang.shared.user.service.UserService;
 import store.onuljang.shop.delivery.service.DeliveryOrderService;
@@ -32,6 +42,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 /**
@@ -52,12 +63,24 @@ class ReservationAppServiceTest {
     @Mock
     private ProductsService productsService;
 
+    @Mock
+    private ProductStockService productStockService;
+
+    @Mock
+    private ProductSnapshotCache productSnapshotCache;
+
+    @Mock
+    private ReservationLockService reservationLockService;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
     @Mock
     private DeliveryOrderService deliveryOrderService;
 
+    @Mock
+    private ReservationConfigDto reservationConfig;
+
     private Users testUser;
     private Product testProduct;
     private Admin testAdmin;
@@ -85,11 +108,11 @@ class ReservationAppServiceTest {
         @DisplayName("예약 생성 성공 시 상품 재고 차감")
         void reserve_DeductsStock() {
             // given
-            int initialStock = testProduct.getStock();
             int quantity = 3;
             String uid = testUser.getUid();
             ReservationRequest request = new ReservationRequest(1L, quantity);
 
+            given(reservationConfig.getReserveMode()).willReturn(ReserveMode.PESSIMISTIC_LOCK);
             given(productsService.findByIdWithLock(1L)).willReturn(testProduct);
             given(userService.findByUidWithLock(uid)).willReturn(testUser);
             given(reservationService.save(any(Reservation.class))).willAnswer(invocation -> {
@@ -102,7 +125,7 @@ class ReservationAppServiceTest {
             reservationAppService.reserve(uid, request);
 
             // then
-            assertThat(testProduct.getStock()).isEqualTo(initialStock - quantity);
+            verify(productStockService).reserve(testProduct, quantity, ReserveMode.PESSIMISTIC_LOCK);
             verify(reservationService).save(any(Reservation.class));
         }
 
@@ -114,6 +137,7 @@ class ReservationAppServiceTest {
             ReflectionTestUtils.setField(newUser, "id", 2L);
 
             ReservationRequest request = new ReservationRequest(1L, 1);
+            given(reservationConfig.getReserveMode()).willReturn(ReserveMode.PESSIMISTIC_LOCK);
             given(productsService.findByIdWithLock(1L)).willReturn(testProduct);
             given(userService.findByUidWithLock(newUser.getUid())).willReturn(newUser);
 
@@ -121,6 +145,85 @@ class ReservationAppServiceTest {
             assertThatThrownBy(() -> reservationAppService.reserve(newUser.getUid(), request))
                     .isInstanceOf(UserValidateException.class).hasMessageContaining("닉네임 변경 후");
         }
+
+        @Test
+        @DisplayName("조건부 UPDATE 모드 - 영향받은 행이 없으면 재고 부족 예외")
+        void reserve_ConditionalUpdate_NoAffectedRow_ThrowsException() {
+            // given
+            ReservationRequest request = new ReservationRequest(1L, 3);
+            given(productsService.findById(1L)).willReturn(testProduct);
+            willThrow(new ProductExceedException("상품의 재고가 부족합니다.")).given(productStockService)
+                    .reserve(testProduct, 3, ReserveMode.CONDITIONAL_UPDATE);
+
+            // when & then
+            assertThatThrownBy(
+                    () -> reservationAppService.reserve(testUser.getUid(), request, ReserveMode.CONDITIONAL_UPDATE))
+                    .isInstanceOf(ProductExceedException.class).hasMessageContaining("재고가 부족");
+            verify(productsService, never()).findByIdWithLock(anyLong());
+            verify(userService, never()).findByUidWithLock(any());
+        }
+
+        @Test
+        @DisplayName("조건부 UPDATE 모드 - 슬롯 분할 상품은 슬롯을 잠그기 전에 유저를 먼저 잠금")
+        void reserve_ConditionalUpdate_StripedProduct_LocksUserBeforeSlots() {
+            // given
+            ReflectionTestUtils.setField(testProduct, "stockSlotCount", 4);
+            ReservationRequest request = new ReservationRequest(1L, 3);
+            given(productsService.findById(1L)).willReturn(testProduct);
+            given(userService.findByUidWithLock(testUser.getUid())).willReturn(testUser);
+            willThrow(new ProductExceedException("상품의 재고가 부족합니다.")).given(productStockService)
+                    .reserve(testProduct, 3, ReserveMode.CONDITIONAL_UPDATE);
+
+            // when
+            assertThatThrownBy(
+                    () -> reservationAppService.reserve(testUser.getUid(), request, ReserveMode.CONDITIONAL_UPDATE))
+                    .isInstanceOf(ProductExceedException.class);
+
+            // then
+            InOrder inOrder = inOrder(userService, productStockService);
+            inOrder.verify(userService).findByUidWithLock(testUser.getUid());
+            inOrder.verify(productStockService).reserve(testProduct, 3, ReserveMode.CONDITIONAL_UPDATE);
+        }
+    }
+
+    @Nested
+    @DisplayName("precheck - 락 전 사전 검증")
+    class Precheck {
+
+        private ProductSnapshot snapshot(boolean visible, int stock) {
+            return new ProductSnapshot(LocalDate.now().plusDays(1), null, visible, stock, System.currentTimeMillis());
+        }
+
+        @Test
+        @DisplayName("재고 힌트가 부족하면 락 없이 거절하고 거절 수 기록")
+        void precheck_SoldOut_Rejects() {
+            given(productSnapshotCache.get(1L)).willReturn(snapshot(true, 2));
+
+            assertThatThrownBy(() -> reservationAppService.precheck(new ReservationRequest(1L, 3)))
+                    .isInstanceOf(ProductExceedException.class);
+            verify(productSnapshotCache).recordPrecheck(true);
+            verifyNoInteractions(productsService, productStockService, userService);
+        }
+
+        @Test
+        @DisplayName("판매 중단 상품은 락 없이 거절")
+        void precheck_Hidden_Rejects() {
+            given(productSnapshotCache.get(1L)).willReturn(snapshot(false, 10));
+
+            assertThatThrownBy(() -> reservationAppService.precheck(new ReservationRequest(1L, 1)))
+                    .isInstanceOf(ProductUnavailableException.class);
+            verify(productSnapshotCache).recordPrecheck(true);
+        }
+
+        @Test
+        @DisplayName("예약 가능한 상품은 통과 수 기록")
+        void precheck_Reservable_Passes() {
+            given(productSnapshotCache.get(1L)).willReturn(snapshot(true, 10));
+
+            reservationAppService.precheck(new ReservationRequest(1L, 3));
+
+            verify(productSnapshotCache).recordPrecheck(false);
+        }
     }
 
     @Nested
@@ -132,23 +235,19 @@ class ReservationAppServiceTest {
         void cancel_RestoresStock() {
             // given
             int quantity = 3;
-            testProduct.reserve(quantity);
-            int stockAfterReserve = testProduct.getStock();
-
             Reservation reservation = Reservation.builder().user(testUser).product(testProduct).quantity(quantity)
                     .amount(new BigDecimal("30000")).sellPrice(new BigDecimal("10000"))
                     .pickupDate(LocalDate.now().plusDays(1)).displayCode("R-1").build();
             ReflectionTestUtils.setField(reservation, "id", 1L);
 
-            given(reservationService.findByDisplayCodeWithLock("R-1")).willReturn(reservation);
-            given(productsService.findByIdWithLock(1L)).willReturn(testProduct);
-            given(userService.findByUidWithLock(testUser.getUid())).willReturn(testUser);
+            given(reservationLockService.lockByDisplayCode("R-1"))
+                    .willReturn(new ReservationLocks(reservation, testProduct, testUser));
 
             // when
             reservationAppService.cancel(testUser.getUid(), "R-1");
 
             // then
-            assertThat(testProduct.getStock()).isEqualTo(stockAfterReserve + quantity);
+            verify(productStockService).cancel(testProduct, quantity);
             assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELED);
         }
 
@@ -165,8 +264,8 @@ class ReservationAppServiceTest {
                     .displayCode("R-2").build();
             ReflectionTestUtils.setField(reservation, "id", 1L);
 
-            given(reservationService.findByDisplayCodeWithLock("R-2")).willReturn(reservation);
-            given(userService.findByUidWithLock(testUser.getUid())).willReturn(testUser);
+            given(reservationLockService.lockByDisplayCode("R-2"))
+                    .willReturn(new ReservationLocks(reservation, testProduct, otherUser));
 
             // when & then
             assertThatThrownBy(() -> reservationAppService.cancel(testUser.getUid(), "R-2"))
@@ -0,0 +1,74 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.context.RetryContextSupport;
+import store.onuljang.shop.product.exception.ProductExceedException;
+import store.onuljang.shop.reservation.config.ReservationLockRetryListener;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReservationLockRetryListener 단위 테스트
+ */
+class ReservationLockRetryListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationLockRetryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new ReservationLockRetryListener(meterRegistry);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).counter().count();
+    }
+
+    @Test
+    @DisplayName("데드락과 락 대기 실패를 구분해서 집계")
+    void onError_SeparatesDeadlockAndLockWait() {
+        RetryContext context = new RetryContextSupport(null);
+        CannotAcquireLockException deadlock = new CannotAcquireLockException("deadlock",
+                new SQLException("Deadlock found when trying to get lock", "40001", 1213));
+        CannotAcquireLockException lockWait = new CannotAcquireLockException("timeout",
+                new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+
+        listener.onError(context, null, deadlock);
+        listener.onError(context, null, lockWait);
+
+        assertThat(count("reservation.lock.failure", "cause", "deadlock")).isEqualTo(1.0);
+        assertThat(count("reservation.lock.failure", "cause", "lock_wait")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("락 충돌이 아닌 예외는 집계하지 않음")
+    void onError_IgnoresBusinessException() {
+        listener.onError(new RetryContextSupport(null), null, new ProductExceedException("재고 부족"));
+
+        assertThat(count("reservation.lock.failure", "cause", "lock_wait")).isZero();
+        assertThat(count("reservation.lock.failure", "cause", "deadlock")).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 후 성공과 재시도 소진을 집계")
+    void close_CountsRecoveredAndExhausted() {
+        RetryContextSupport recovered = new RetryContextSupport(null);
+        recovered.registerThrowable(new CannotAcquireLockException("timeout"));
+        RetryContextSupport exhausted = new RetryContextSupport(null);
+        exhausted.registerThrowable(new CannotAcquireLockException("timeout"));
+
+        listener.close(recovered, null, null);
+        listener.close(exhausted, null, new CannotAcquireLockException("timeout"));
+
+        assertThat(count("reservation.lock.retry.recovered")).isEqualTo(1.0);
+        assertThat(count("reservation.lock.retry.exhausted")).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,114 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import store.onuljang.shared.user.service.UserService;
+import store.onuljang.shop.product.service.ProductsService;
+import store.onuljang.shop.reservation.entity.ReservationLockTarget;
+import store.onuljang.shop.reservation.service.ReservationLockService;
+import store.onuljang.shop.reservation.service.ReservationService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReservationLockService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationLockServiceTest {
+
+    private ReservationLockService reservationLockService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @Mock
+    private ProductsService productsService;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private ReservationService reservationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reservationLockService = new ReservationLockService(productsService, userService, reservationService,
+            meterRegistry);
+    }
+
+    @Test
+    @DisplayName("예약 단건 락은 상품 → 유저 → 예약 순서로 획득")
+    void lockByDisplayCode_LocksInGlobalOrder() {
+        given(reservationService.findLockTargetByDisplayCode("R-1"))
+                .willReturn(new ReservationLockTarget(10L, 3L, "uid-1"));
+
+        reservationLockService.lockByDisplayCode("R-1");
+
+        InOrder inOrder = inOrder(productsService, userService, reservationService);
+        inOrder.verify(productsService).findByIdWithLock(3L);
+        inOrder.verify(userService).findByUidWithLock("uid-1");
+        inOrder.verify(reservationService).findByIdWithLock(10L);
+    }
+
+    @Test
+    @DisplayName("버전 검사 수정은 상품 → 유저만 잠그고 예약은 락 없이 읽음")
+    void lockForVersionedEdit_SkipsReservationLock() {
+        given(reservationService.findLockTargetById(10L)).willReturn(new ReservationLockTarget(10L, 3L, "uid-1"));
+
+        reservationLockService.lockForVersionedEdit(10L);
+
+        InOrder inOrder = inOrder(productsService, userService, reservationService);
+        inOrder.verify(productsService).findByIdWithLock(3L);
+        inOrder.verify(userService).findByUidWithLock("uid-1");
+        inOrder.verify(reservationService).findById(10L);
+        verify(reservationService, never()).findByIdWithLock(anyLong());
+        assertThat(meterRegistry.timer("reservation.lock.wait", "mode", "versioned").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 상품은 id 오름차순으로 한 번에 잠금")
+    @SuppressWarnings("unchecked")
+    void lockProducts_SortsIds() {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        given(productsService.findAllByIdInWithLock(captor.capture())).willReturn(List.of());
+
+        reservationLockService.lockProducts(Set.of(5L, 1L, 3L));
+
+        assertThat(new ArrayList<>(captor.getValue())).containsExactly(1L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("여러 유저는 uid 오름차순으로 한 번에 잠금")
+    @SuppressWarnings("unchecked")
+    void lockUsers_SortsUids() {
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        given(userService.findAllByUidInWithLock(captor.capture())).willReturn(List.of());
+
+        reservationLockService.lockUsers(List.of("c", "a", "b"));
+
+        assertThat(new ArrayList<>(captor.getValue())).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("잠글 대상이 없으면 조회하지 않음")
+    void lockProducts_Empty_NoQuery() {
+        assertThat(reservationLockService.lockProducts(Set.of())).isEmpty();
+        assertThat(reservationLockService.lockUsers(Set.of())).isEmpty();
+
+        verifyNoInteractions(productsService, userService);
+    }
+}
@@ -0,0 +1,310 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shared.util.TimeUtil;
+import store.onuljang.shop.product.entity.ProductDailyAgg;
+import store.onuljang.shop.product.entity.ProductDailyAggRow;
+import store.onuljang.shop.product.entity.ProductLiveAgg;
+import store.onuljang.shop.product.entity.ProductLiveAggRow;
+import store.onuljang.shop.product.service.ProductDailyAggService;
+import store.onuljang.shop.product.service.ProductLiveAggService;
+import store.onuljang.shop.reservation.config.AggregationConfigDto;
+import store.onuljang.shop.reservation.entity.ReservationSales;
+import store.onuljang.shop.reservation.service.ReservationSalesEngine;
+import store.onuljang.shop.reservation.service.ReservationService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReservationSalesEngine 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReservationSalesEngineTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private ProductLiveAggService productLiveAggService;
+
+    @Mock
+    private ProductDailyAggService productDailyAggService;
+
+    @Mock
+    private AggregationConfigDto aggregationConfig;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationSalesEngine engine;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(aggregationConfig.isLiveEnabled()).willReturn(true);
+        given(aggregationConfig.getLiveWindowDays()).willReturn(62);
+        given(reservationService.findSalesByPickupDateBetween(any(), any(), any())).willReturn(List.of());
+        engine = new ReservationSalesEngine(reservationService, productLiveAggService, productDailyAggService,
+            aggregationConfig, meterRegistry);
+        today = TimeUtil.nowDate();
+    }
+
+    private ReservationSales sales(LocalDate date, long productId, ReservationStatus status, int quantity) {
+        return new ReservationSales(date, productId, status, quantity,
+            new BigDecimal("1000").multiply(BigDecimal.valueOf(quantity)));
+    }
+
+    @Test
+    @DisplayName("재구성 전에는 집계값을 제공하지 않음")
+    void isServing_BeforeRebuild() {
+        assertThat(engine.isServing()).isFalse();
+
+        engine.rebuild();
+
+        assertThat(engine.isServing()).isTrue();
+    }
+
+    @Test
+    @DisplayName("예약 생성, 수량 변경, 취소를 차이만큼 반영")
+    void apply_Deltas() {
+        engine.rebuild();
+        ReservationSales created = sales(today, 1L, ReservationStatus.PENDING, 3);
+        ReservationSales reduced = sales(today, 1L, ReservationStatus.PENDING, 2);
+
+        engine.applyAfterCommit(null, created);
+        engine.applyAfterCommit(created, reduced);
+        engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 4));
+        engine.applyAfterCommit(reduced, reduced.withStatus(ReservationStatus.CANCELED));
+
+        List<ProductLiveAggRow> rows = engine.findActiveByDate(today);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).activeQuantity()).isEqualTo(4);
+        assertThat(rows.get(0).activeAmount()).isEqualByComparingTo("4000");
+        assertThat(rows.get(0).settledQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("수령 완료는 정산 매출에 더하고 노쇼는 당일 매출에서 뺌")
+    void apply_StatusTransitions() {
+        engine.rebuild();
+        ReservationSales picked = sales(today, 1L, ReservationStatus.PENDING, 2);
+        ReservationSales noShow = sales(today, 2L, ReservationStatus.PENDING, 5);
+        engine.applyAfterCommit(null, picked);
+        engine.applyAfterCommit(null, noShow);
+
+        engine.applyAfterCommit(picked, picked.withStatus(ReservationStatus.PICKED));
+        engine.applyAfterCommit(noShow, noShow.withStatus(ReservationStatus.NO_SHOW));
+
+        List<ProductLiveAggRow> rows = engine.findActiveByDate(today);
+        assertThat(rows).extracting(ProductLiveAggRow::productId).containsExactly(1L);
+        assertThat(rows.get(0).settledQuantity()).isEqualTo(2);
+
+        List<ProductDailyAggRow> summary = engine.findSettledBetween(today, today);
+        assertThat(summary).hasSize(1);
+        assertThat(summary.get(0).getQuantity()).isEqualTo(2);
+        assertThat(summary.get(0).getAmount()).isEqualByComparingTo("2000");
+    }
+
+    @Test
+    @DisplayName("꺼져 있으면 반영하지 않음")
+    void apply_Disabled() {
+        engine.rebuild();
+        given(aggregationConfig.isLiveEnabled()).willReturn(false);
+
+        engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 3));
+
+        assertThat(engine.findActiveByDate(today)).isEmpty();
+        assertThat(engine.isServing()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성은 예약 테이블의 상태별 합계로 카운터를 교체")
+    void rebuild_ReplacesCounters() {
+        engine.rebuild();
+        engine.applyAfterCommit(null, sales(today, 9L, ReservationStatus.PENDING, 1));
+        given(reservationService.findSalesByPickupDateBetween(any(), any(), any())).willReturn(List.of(
+            sales(today, 1L, ReservationStatus.PENDING, 3),
+            sales(today, 1L, ReservationStatus.PICKED, 2),
+            sales(today.minusDays(1), 1L, ReservationStatus.SELF_PICK_READY, 4)
+        ));
+
+        engine.rebuild();
+
+        List<ProductLiveAggRow> rows = engine.findActiveByDate(today);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).activeQuantity()).isEqualTo(5);
+        assertThat(rows.get(0).settledQuantity()).isEqualTo(2);
+        assertThat(engine.findSettledBetween(today.minusDays(1), today))
+            .extracting(ProductDailyAggRow::getQuantity)
+            .containsExactly(4, 2);
+    }
+
+    @Test
+    @DisplayName("재구성이 예약 테이블을 읽는 동안 커밋은 기다렸다가 교체한 카운터에 한 번만 반영")
+    void rebuild_BlocksCommitsWhileLoading() throws Exception {
+        ReservationSales loaded = sales(today, 1L, ReservationStatus.PENDING, 3);
+        Thread committer = new Thread(() ->
+            engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 2)));
+        given(reservationService.findSalesByPickupDateBetween(any(), any(), any())).willAnswer(invocation -> {
+            committer.start();
+            committer.join(200);
+            assertThat(committer.isAlive()).isTrue();
+            return List.of(loaded);
+        });
+
+        engine.rebuild();
+        committer.join(5_000);
+
+        assertThat(committer.isAlive()).isFalse();
+        assertThat(engine.findActiveByDate(today))
+            .singleElement()
+            .satisfies(row -> assertThat(row.activeQuantity()).isEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("재구성 읽기가 실패하면 기존 카운터를 유지하고 커밋을 다시 받음")
+    void rebuild_LoadFails_KeepsCounters() {
+        engine.rebuild();
+        engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 2));
+        given(reservationService.findSalesByPickupDateBetween(any(), any(), any()))
+            .willThrow(new IllegalStateException("DB 오류"));
+
+        assertThatThrownBy(() -> engine.rebuild()).isInstanceOf(IllegalStateException.class);
+        engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 1));
+
+        assertThat(engine.findActiveByDate(today))
+            .singleElement()
+            .satisfies(row -> assertThat(row.activeQuantity()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("예약을 바꾼 트랜잭션은 커밋 직전부터 반영이 끝날 때까지 재구성을 막음")
+    void beforeCommit_HoldsGateUntilCompletion() throws Exception {
+        engine.rebuild();
+        given(reservationService.findSalesByPickupDateBetween(any(), any(), any()))
+            .willReturn(List.of(sales(today, 1L, ReservationStatus.PENDING, 3)));
+        TransactionStatus status = mock(TransactionStatus.class);
+        Thread rebuilder = new Thread(() -> engine.rebuild());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 3));
+            engine.beforeCommit(status);
+            verify(status).flush();
+
+            rebuilder.start();
+            rebuilder.join(200);
+            assertThat(rebuilder.isAlive()).isTrue();
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        rebuilder.join(5_000);
+
+        assertThat(rebuilder.isAlive()).isFalse();
+        assertThat(engine.findActiveByDate(today))
+            .singleElement()
+            .satisfies(row -> assertThat(row.activeQuantity()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("내려쓰기는 마지막 내려쓰기 이후 바뀐 카운터만 저장")
+    @SuppressWarnings("unchecked")
+    void flush_OnlyDirty() {
+        engine.rebuild();
+        engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 1));
+        engine.applyAfterCommit(null, sales(today, 2L, ReservationStatus.PENDING, 1));
+
+        assertThat(engine.flush()).isEqualTo(2);
+        assertThat(engine.flush()).isZero();
+
+        engine.applyAfterCommit(null, sales(today, 2L, ReservationStatus.PENDING, 1));
+        assertThat(engine.flush()).isEqualTo(1);
+
+        ArgumentCaptor<Collection<ProductLiveAggRow>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(productLiveAggService, times(2)).upsertAll(captor.capture());
+        assertThat(captor.getAllValues().get(1))
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.productId()).isEqualTo(2L);
+                assertThat(row.activeQuantity()).isEqualTo(2);
+            });
+    }
+
+    @Test
+    @DisplayName("일별 집계와 다르면 지표를 올리고 그날 카운터를 다시 맞춤")
+    void verify_MismatchResyncs() {
+        LocalDate yesterday = today.minusDays(1);
+        engine.rebuild();
+        engine.applyAfterCommit(null, sales(yesterday, 1L, ReservationStatus.PICKED, 5));
+
+        ProductLiveAgg drifted = mock(ProductLiveAgg.class);
+        given(drifted.getProductId()).willReturn(1L);
+        given(drifted.getSettledQuantity()).willReturn(5L);
+        given(drifted.getSettledAmount()).willReturn(new BigDecimal("5000"));
+        ProductLiveAgg fixed = mock(ProductLiveAgg.class);
+        given(fixed.getProductId()).willReturn(1L);
+        given(fixed.getSettledQuantity()).willReturn(3L);
+        given(fixed.getSettledAmount()).willReturn(new BigDecimal("3000"));
+        given(productLiveAggService.findAllBySellDate(yesterday)).willReturn(List.of(drifted), List.of(fixed));
+
+        ProductDailyAgg agg = mock(ProductDailyAgg.class);
+        given(agg.getProductId()).willReturn(1L);
+        given(agg.getQuantity()).willReturn(3);
+        given(agg.getAmount()).willReturn(new BigDecimal("3000"));
+        given(productDailyAggService.findDetailBySellDateWithProduct(yesterday)).willReturn(List.of(agg));
+        given(reservationService.findSalesByPickupDateBetween(eq(yesterday), eq(yesterday), any()))
+            .willReturn(List.of(sales(yesterday, 1L, ReservationStatus.PICKED, 3)));
+
+        assertThat(engine.verify(yesterday)).isEqualTo(1);
+        assertThat(meterRegistry.counter("sales.live.verify.mismatch").count()).isEqualTo(1);
+        assertThat(engine.findSettledBetween(yesterday, yesterday))
+            .extracting(ProductDailyAggRow::getQuantity)
+            .containsExactly(3);
+
+        assertThat(engine.verify(yesterday)).isZero();
+    }
+
+    @Test
+    @DisplayName("오늘 카운터가 예약 테이블과 다르면 지표를 올리고 예약 테이블 값으로 바꿈")
+    void verifyToday_MismatchReplaces() {
+        engine.rebuild();
+        engine.applyAfterCommit(null, sales(today, 1L, ReservationStatus.PENDING, 2));
+        given(reservationService.findSalesByPickupDateBetween(eq(today), eq(today), any()))
+            .willReturn(List.of(sales(today, 1L, ReservationStatus.PENDING, 3)));
+
+        assertThat(engine.verifyToday()).isEqualTo(1);
+        assertThat(meterRegistry.counter("sales.live.verify.today_mismatch").count()).isEqualTo(1);
+        assertThat(engine.findActiveByDate(today))
+            .singleElement()
+            .satisfies(row -> assertThat(row.activeQuantity()).isEqualTo(3));
+
+        assertThat(engine.verifyToday()).isZero();
+    }
+}
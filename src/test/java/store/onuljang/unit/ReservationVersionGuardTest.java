@@ -0,0 +1,90 @@
+package store.onuljang.unit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import store.onuljang.shared.entity.enums.ReservationStatus;
+import store.onuljang.shop.reservation.entity.Reservation;
+import store.onuljang.shop.reservation.entity.ReservationVersionState;
+import store.onuljang.shop.reservation.exception.ReservationConflictException;
+import store.onuljang.shop.reservation.service.ReservationService;
+import store.onuljang.shop.reservation.service.ReservationVersionGuard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ReservationVersionGuard 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReservationVersionGuardTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReservationVersionGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new ReservationVersionGuard(reservationService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("화면이 본 버전과 다르면 현재 상태를 담아 충돌")
+    void verify_StaleVersion() {
+        Reservation reservation = mock(Reservation.class);
+        given(reservation.getId()).willReturn(1L);
+        given(reservation.getStatus()).willReturn(ReservationStatus.SELF_PICK);
+        given(reservation.getQuantity()).willReturn(2);
+        given(reservation.getVersion()).willReturn(3L);
+
+        assertThatThrownBy(() -> guard.verify(reservation, 2L))
+            .isInstanceOfSatisfying(ReservationConflictException.class, e -> assertThat(e.getCurrent())
+                .isEqualTo(new ReservationVersionState(1L, ReservationStatus.SELF_PICK, 2, 3L)));
+        assertThat(meterRegistry.counter("reservation.optimistic.conflict", "cause", "stale_version").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전을 보내지 않으면 커밋 시 검사에 맡김")
+    void verify_WithoutExpectedVersion() {
+        guard.verify(mock(Reservation.class), null);
+
+        assertThat(meterRegistry.counter("reservation.optimistic.conflict", "cause", "stale_version").count())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("읽은 뒤 다른 트랜잭션이 먼저 커밋했으면 새 트랜잭션으로 읽은 최신 상태를 담아 충돌")
+    void flush_ConcurrentUpdate() {
+        ReservationVersionState fresh = new ReservationVersionState(1L, ReservationStatus.CANCELED, 2, 4L);
+        willThrow(new ObjectOptimisticLockingFailureException(Reservation.class, 1L))
+            .given(reservationService).flush();
+        given(reservationService.findVersionStateInNewTransaction(1L)).willReturn(fresh);
+
+        assertThatThrownBy(() -> guard.flush(1L))
+            .isInstanceOfSatisfying(ReservationConflictException.class, e ->
+                assertThat(e.getCurrent()).isEqualTo(fresh));
+        assertThat(meterRegistry.counter("reservation.optimistic.conflict", "cause", "concurrent_update").count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.counter("reservation.optimistic.update").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("충돌이 없으면 반영 수만 올림")
+    void flush_Success() {
+        guard.flush(1L);
+
+        assertThat(meterRegistry.counter("reservation.optimistic.update").count()).isEqualTo(1);
+    }
+}